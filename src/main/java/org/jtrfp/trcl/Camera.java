@@ -14,6 +14,7 @@ package org.jtrfp.trcl;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
 import java.util.HashSet;
 
 import org.apache.commons.collections4.Predicate;
@@ -29,12 +30,16 @@ import org.jtrfp.trcl.beh.SkyCubeCloudModeUpdateBehavior;
 import org.jtrfp.trcl.coll.CachedAdapter;
 import org.jtrfp.trcl.coll.CollectionActionDispatcher;
 import org.jtrfp.trcl.coll.CollectionActionUnpacker;
+import org.jtrfp.trcl.coll.CollectionEpoch;
 import org.jtrfp.trcl.coll.PredicatedORCollectionActionFilter;
 import org.jtrfp.trcl.coll.ThreadEnforcementCollection;
 import org.jtrfp.trcl.core.CubeCoordinate;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.TRFactory;
+import org.jtrfp.trcl.core.ThreadManager;
 import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
+import org.jtrfp.trcl.obj.PositionListenable;
+import org.jtrfp.trcl.obj.PositionListener;
 import org.jtrfp.trcl.obj.Positionable;
 import org.jtrfp.trcl.obj.PositionedRenderable;
 import org.jtrfp.trcl.obj.RelevantEverywhere;
@@ -84,6 +89,13 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 	private final CollectionAdapter<CollectionActionDispatcher<Positionable>,Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> pairStripper = 
 		new CollectionAdapter<CollectionActionDispatcher<Positionable>,Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(relevanceCollections, strippingAdapter.inverse());
 	private final CollectionActionDispatcher<Positionable> flatRelevanceCollection = new CollectionActionDispatcher<Positionable>(new HashSet<Positionable>());
+	private final CubeRelevanceIndex<CollectionActionDispatcher<Positionable>> relevanceIndex = 
+		new CubeRelevanceIndex<CollectionActionDispatcher<Positionable>>(World.WORLD_WIDTH_CUBES);
+	private final ArrayList<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> transitionCandidates = 
+		new ArrayList<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>();
+	private CubeCoordinate evaluatedCenterCube;//Relevance thread only
+	private int            evaluatedRadiusCubes = -1;
+	private volatile int   cubesReEvaluatedLastTransition;
 	//private static double relevanceRadius = TR.visibilityDiameterInMapSquares*TR.mapSquareSize;
 	private int relevanceRadiusCubes = (int)(relevanceRadius/World.CUBE_GRANULARITY);
 	private SpacePartitioningGrid<PositionedRenderable> rootGrid;
@@ -94,6 +106,9 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 	@SuppressWarnings("unused")
 	private final CameraPositionHandler cameraPositionHandler;
 	private final Reporter reporter;
+	private final double [] interpolatedEyePosition = new double[3];
+	private volatile double interpolationAlpha = 1;
+	private volatile long   interpolationStep  = ThreadManager.NO_INTERPOLATION_STEP;
 
     Camera() {
 	super();
@@ -123,7 +138,7 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 	addBehavior(new SkyCubeCloudModeUpdateBehavior());
 	
 	addPropertyChangeListener(CENTER_CUBE, centerCubeHandler = new CenterCubeHandler());
-	addPropertyChangeListener(WorldObject.POSITION,cameraPositionHandler = new CameraPositionHandler());
+	addPositionListener(cameraPositionHandler = new CameraPositionHandler());
 	reporter = Features.get(getTr(), Reporter.class);
     }//end constructor
     
@@ -173,33 +188,37 @@ public class Camera extends WorldObject implements RelevantEverywhere{
     }
     
     public void addGridUnsafe(final SpacePartitioningGrid<?> toAdd){
-	toAdd.getPackedObjectsDispatcher().addTarget(visibilityFilter.input, true);
+	CollectionEpoch.begin();
+	try{toAdd.getPackedObjectsDispatcher().addTarget(visibilityFilter.input, true);
+	    toAdd.getPackedObjectsDispatcher().addTarget(relevanceIndex, true);}
+	finally{CollectionEpoch.end();}
     }
     
     public void removeGridUnsafe(final SpacePartitioningGrid<?> toRemove){
-	toRemove.getPackedObjectsDispatcher().removeTarget(visibilityFilter.input, true);
+	CollectionEpoch.begin();
+	try{toRemove.getPackedObjectsDispatcher().removeTarget(visibilityFilter.input, true);
+	    toRemove.getPackedObjectsDispatcher().removeTarget(relevanceIndex, true);}
+	finally{CollectionEpoch.end();}
     }
     
-    private final class CameraPositionHandler implements PropertyChangeListener{
+    private final class CameraPositionHandler implements PositionListener{
+	private long lastCenterCube = Long.MIN_VALUE;//Outside the packed range; guarded by this camera's lock
+	
 	@Override
-	public void propertyChange(PropertyChangeEvent evt) {
-	    final String propertyName = evt.getPropertyName();
-	    if(propertyName==WorldObject.POSITION){
-		final Object src = evt.getSource();
-		if(!(src instanceof WorldObject))
-		    throw new IllegalArgumentException("Source is not a WorldObject. Got "+src);
-		final WorldObject wo = (WorldObject)src;
-		final Vector3D pHeading = wo.getHeading().scalarMultiply(TRFactory.visibilityDiameterInMapSquares*TRFactory.mapSquareSize/5);
-		final double [] newValue = ((double [])evt.getNewValue());
-		final int granularity = World.CUBE_GRANULARITY;
-		final CubeCoordinate newCenterCube = new CubeCoordinate(
-			(int)posZero(Math.rint((newValue[0]+pHeading.getX())/granularity)),
-			(int)posZero(Math.rint((newValue[1]+pHeading.getY())/granularity)),
-			(int)posZero(Math.rint((newValue[2]+pHeading.getZ())/granularity)));
-		final CubeCoordinate oldCenterCube = centerCube;
-		pcs.firePropertyChange(CENTER_CUBE, oldCenterCube, newCenterCube);
-	    }//end if(POSITION)
-	}//end if propertyChange()
+	public void positionChanged(PositionListenable objectWithPosition, double x, double y, double z) {
+	    final double [] heading = getHeadingArray();
+	    final double headingScalar = TRFactory.visibilityDiameterInMapSquares*TRFactory.mapSquareSize/5;
+	    final int granularity = World.CUBE_GRANULARITY;
+	    final int cubeX = (int)posZero(Math.rint((x+heading[0]*headingScalar)/granularity)),
+		      cubeY = (int)posZero(Math.rint((y+heading[1]*headingScalar)/granularity)),
+		      cubeZ = (int)posZero(Math.rint((z+heading[2]*headingScalar)/granularity));
+	    final long packed = CubeCoordinate.pack(cubeX, cubeY, cubeZ);
+	    if(packed == lastCenterCube)
+		return;//Still in the same cube; spare the coordinate and the event
+	    lastCenterCube = packed;
+	    final CubeCoordinate oldCenterCube = centerCube;
+	    pcs.firePropertyChange(CENTER_CUBE, oldCenterCube, new CubeCoordinate(cubeX, cubeY, cubeZ));
+	}//end positionChanged(...)
     }//end CameraPositionHandler
     
     /**
@@ -220,10 +239,41 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 		@Override
 		public void run() {
 		    centerCube=(CubeCoordinate)evt.getNewValue();
-		    visibilityFilter.reEvaluatePredicates();
+		    //Whole cubes enter and leave at once; hand each render list one net change instead of one per cube
+		    CollectionEpoch.begin();
+		    try{updateRelevance();}
+		    finally{CollectionEpoch.end();}
 		}});
 	}//end propertyChange(...)
     }//end CenterCubeHandler
+    
+    /**
+     * Re-evaluates only the cubes entering or leaving the relevance disk since the last update, falling back to
+     * every cube if the radius changed or the move can't be expressed as a ring. Relevance thread only.
+     */
+    private void updateRelevance(){
+	final CubeCoordinate newCenterCube = centerCube;
+	final int radiusCubes = getRelevanceRadiusCubes();
+	if(evaluatedCenterCube != null && radiusCubes == evaluatedRadiusCubes &&
+		relevanceIndex.gatherTransitionCandidates(evaluatedCenterCube, newCenterCube, radiusCubes, transitionCandidates)){
+	    cubesReEvaluatedLastTransition = transitionCandidates.size();
+	    visibilityFilter.reEvaluatePredicates(transitionCandidates);
+	    transitionCandidates.clear();
+	}else{
+	    cubesReEvaluatedLastTransition = visibilityFilter.input.size();
+	    visibilityFilter.reEvaluatePredicates();
+	}
+	evaluatedCenterCube  = newCenterCube;
+	evaluatedRadiusCubes = radiusCubes;
+    }//end updateRelevance()
+    
+    /**
+     * @return Number of cube pairs whose relevance was re-evaluated by the most recent center cube change.
+     * @since Oct 18, 2026
+     */
+    public int getCubesReEvaluatedLastTransition(){
+	return cubesReEvaluatedLastTransition;
+    }
 
 	private void updateProjectionMatrix(){
 		final float zF = (float) (viewDepth * 1.5);
@@ -285,9 +335,21 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 	//cameraMatrix = null;
     }
 	
+	/**
+	 * Sets the instant to which the eye position is interpolated when building the camera matrix.
+	 * Called by the owning {@link org.jtrfp.trcl.gpu.Renderer} once per frame.
+	 * @param alpha Fraction of a step elapsed since the most recent simulation step, [0,1]
+	 * @param step The most recent simulation step, as sampled along with alpha.
+	 * @since Oct 18, 2026
+	 */
+	public void setInterpolation(double alpha, long step){
+	    interpolationStep  = step;
+	    interpolationAlpha = alpha;
+	}
+	
 	private RealMatrix applyMatrix(){//TODO: Optimize. This gets called a lot!
 	        try{
-		 Vector3D eyeLoc = getCameraPosition();
+		 final double [] eyeLoc = getInterpolatedPosition(interpolationAlpha, interpolationStep, interpolatedEyePosition);
 		 Vector3D aZ = getLookAtVector().negate();
 		 Vector3D aX = getUpVector().crossProduct(aZ).normalize();
 		 Vector3D aY = getUpVector();
@@ -317,9 +379,9 @@ public class Camera extends WorldObject implements RelevantEverywhere{
 				{ 0, 0, 0, 1 } });
 		 */
 
-		 translationMatrix.setEntry(0, 3, -eyeLoc.getX());
-		 translationMatrix.setEntry(1, 3, -eyeLoc.getY());
-		 translationMatrix.setEntry(2, 3, -eyeLoc.getZ());
+		 translationMatrix.setEntry(0, 3, -eyeLoc[0]);
+		 translationMatrix.setEntry(1, 3, -eyeLoc[1]);
+		 translationMatrix.setEntry(2, 3, -eyeLoc[2]);
 		 /*
 		 RealMatrix tM = new Array2DRowRealMatrix(new double[][]
 			{ new double[]
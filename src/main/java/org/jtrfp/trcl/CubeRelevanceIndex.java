@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jtrfp.trcl.core.CubeCoordinate;
+
+import com.ochafik.util.listenable.Pair;
+
+/**
+ * Buckets cube pairs by their horizontal cube so that, when a relevance disk's center moves, only the pairs in the
+ * ring of cubes entering or leaving the disk need re-evaluation.<br><br>
+ * Relevance is taken to be the Camera's: horizontal distance, with each axis wrapped around a world
+ * {@code worldWidthCubes} wide, strictly less than the radius. Pairs outside the world's bounds, where wrapping is
+ * ambiguous, are returned as candidates on every transition. Pairs relevant everywhere are never candidates.
+ * Not thread-safe.
+ * @author Chuck Ritola
+ *
+ */
+
+final class CubeRelevanceIndex<V> extends AbstractCollection<Pair<CubeCoordinate,V>> {
+    private final int worldWidthCubes;
+    private final Map<Long,List<Pair<CubeCoordinate,V>>> buckets = new HashMap<Long,List<Pair<CubeCoordinate,V>>>();
+    private final List<Pair<CubeCoordinate,V>> unindexed = new ArrayList<Pair<CubeCoordinate,V>>();
+    private final List<Pair<CubeCoordinate,V>> everywhere = new ArrayList<Pair<CubeCoordinate,V>>();
+    private int size;
+    private int      diskRadius = -1;
+    private int []   diskOffsets;//Interleaved dx,dz of every cube in the disk
+    private boolean [] inDisk;   //(2r+1)^2, row-major by dx
+
+    CubeRelevanceIndex(int worldWidthCubes){
+	this.worldWidthCubes = worldWidthCubes;
+    }
+
+    @Override
+    public boolean add(Pair<CubeCoordinate,V> pair){
+	listOf(pair.getKey(), true).add(pair);
+	size++;
+	return true;
+    }
+
+    @Override
+    public boolean remove(Object o){
+	if(!(o instanceof Pair))
+	    return false;
+	final Object key = ((Pair<?,?>)o).getKey();
+	if(!(key instanceof CubeCoordinate))
+	    return false;
+	final List<Pair<CubeCoordinate,V>> list = listOf((CubeCoordinate)key, false);
+	if(list == null || !list.remove(o))
+	    return false;
+	if(list.isEmpty() && list != unindexed && list != everywhere)
+	    buckets.remove(bucketKey((CubeCoordinate)key));
+	size--;
+	return true;
+    }//end remove(...)
+
+    @Override
+    public boolean removeAll(Collection<?> c){
+	boolean result = false;
+	for(Object o:c)
+	    result |= remove(o);
+	return result;
+    }
+
+    @Override
+    public void clear(){
+	buckets.clear();
+	unindexed.clear();
+	everywhere.clear();
+	size = 0;
+    }
+
+    @Override
+    public Iterator<Pair<CubeCoordinate,V>> iterator(){
+	final ArrayList<Pair<CubeCoordinate,V>> result = new ArrayList<Pair<CubeCoordinate,V>>(size);
+	for(List<Pair<CubeCoordinate,V>> bucket:buckets.values())
+	    result.addAll(bucket);
+	result.addAll(unindexed);
+	result.addAll(everywhere);
+	return result.iterator();
+    }//end iterator()
+
+    @Override
+    public int size(){
+	return size;
+    }
+
+    private List<Pair<CubeCoordinate,V>> listOf(CubeCoordinate coordinate, boolean create){
+	if(coordinate.equals(CubeCoordinate.RELEVANT_EVERYWHERE))
+	    return everywhere;
+	if(!isInWorld(coordinate.getX()) || !isInWorld(coordinate.getZ()))
+	    return unindexed;
+	final Long key = bucketKey(coordinate);
+	List<Pair<CubeCoordinate,V>> result = buckets.get(key);
+	if(result == null && create)
+	    buckets.put(key, result = new ArrayList<Pair<CubeCoordinate,V>>(4));
+	return result;
+    }//end listOf(...)
+
+    private boolean isInWorld(int cube){
+	return cube >= 0 && cube <= worldWidthCubes;//The far edge is the near edge, wrapped
+    }
+
+    private Long bucketKey(CubeCoordinate coordinate){
+	return bucketKey(coordinate.getX(), coordinate.getZ());
+    }
+
+    private Long bucketKey(int x, int z){
+	return CubeCoordinate.pack(Math.floorMod(x, worldWidthCubes), 0, Math.floorMod(z, worldWidthCubes));
+    }
+
+    /**
+     * Wraps an axis difference to the shortest signed distance around the world.
+     */
+    private int wrap(int delta){
+	delta = Math.floorMod(delta, worldWidthCubes);
+	return delta > worldWidthCubes / 2?delta - worldWidthCubes:delta;
+    }
+
+    private void ensureDisk(int radius){
+	if(diskRadius == radius)
+	    return;
+	final int diameter = 2 * radius + 1;
+	final boolean [] newInDisk = new boolean[diameter * diameter];
+	final ArrayList<int[]> offsets = new ArrayList<int[]>();
+	for(int dx = -radius; dx <= radius; dx++)
+	    for(int dz = -radius; dz <= radius; dz++)
+		if(Math.sqrt(dx*dx+dz*dz) < radius){
+		    newInDisk[(dx + radius) * diameter + dz + radius] = true;
+		    offsets.add(new int[]{dx,dz});
+		}
+	diskOffsets = new int[offsets.size() * 2];
+	for(int i = 0; i < offsets.size(); i++){
+	    diskOffsets[i * 2]     = offsets.get(i)[0];
+	    diskOffsets[i * 2 + 1] = offsets.get(i)[1];
+	}
+	inDisk     = newInDisk;
+	diskRadius = radius;
+    }//end ensureDisk(...)
+
+    private boolean isInDisk(int dx, int dz){
+	final int radius = diskRadius;
+	if(dx < -radius || dx > radius || dz < -radius || dz > radius)
+	    return false;
+	return inDisk[(dx + radius) * (2 * radius + 1) + dz + radius];
+    }
+
+    /**
+     * Adds to dest every pair whose relevance may differ between the two centers: those in cubes of one disk but
+     * not the other, plus any outside the world's bounds.
+     * @return false if the transition can't be expressed as a ring, in which case dest is left untouched and
+     * everything must be re-evaluated. This happens if either center is outside the world or the disk wraps onto itself.
+     * @since Oct 18, 2026
+     */
+    boolean gatherTransitionCandidates(CubeCoordinate oldCenter, CubeCoordinate newCenter, int radiusCubes, Collection<? super Pair<CubeCoordinate,V>> dest){
+	if(radiusCubes < 0 || 2 * radiusCubes >= worldWidthCubes)
+	    return false;
+	final int oldX = oldCenter.getX(), oldZ = oldCenter.getZ(), newX = newCenter.getX(), newZ = newCenter.getZ();
+	if(!isInWorld(oldX) || !isInWorld(oldZ) || !isInWorld(newX) || !isInWorld(newZ))
+	    return false;
+	ensureDisk(radiusCubes);
+	gatherExclusive(newX, newZ, oldX, oldZ, dest);//Entering
+	gatherExclusive(oldX, oldZ, newX, newZ, dest);//Leaving
+	dest.addAll(unindexed);
+	return true;
+    }//end gatherTransitionCandidates(...)
+
+    private void gatherExclusive(int x, int z, int otherX, int otherZ, Collection<? super Pair<CubeCoordinate,V>> dest){
+	final int [] offsets = diskOffsets;
+	final int shiftX = wrap(x - otherX), shiftZ = wrap(z - otherZ);
+	for(int i = 0; i < offsets.length; i += 2){
+	    final int dx = offsets[i], dz = offsets[i + 1];
+	    if(isInDisk(wrap(dx + shiftX), wrap(dz + shiftZ)))
+		continue;
+	    final List<Pair<CubeCoordinate,V>> bucket = buckets.get(bucketKey(x + dx, z + dz));
+	    if(bucket != null)
+		dest.addAll(bucket);
+	}//end for(offsets)
+    }//end gatherExclusive(...)
+}//end CubeRelevanceIndex
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.jtrfp.trcl.obj.PositionListenable;
+import org.jtrfp.trcl.obj.PositionListener;
+import org.jtrfp.trcl.obj.Positionable;
+import org.jtrfp.trcl.obj.RelevantEverywhere;
+
+import com.ochafik.util.listenable.Pair;
+
+/**
+ * Tags each added Positionable with the cube it occupies, passing the (cube,element) pairs to a delegate and
+ * re-tagging elements as they move between cubes.<br><br>
+ * Movement is observed through the {@link PositionListener} fast path where available. On the moving thread,
+ * the new position is quantized and packed into a long and compared with the element's last; nothing is
+ * allocated or handed to the executor unless the packed cube changed. Re-tagging then runs on the executor,
+ * where a burst of cube changes by one element collapses into one re-tag to its latest cube.
+ * Elements which are {@link RelevantEverywhere} are tagged once and never observed. Others fall back to
+ * listening for the {@link Positionable#POSITION} property.<br><br>
+ * All but the position callbacks must be called on the executor's thread.
+ * @author Chuck Ritola
+ *
+ */
+
+final class CubeTagger extends AbstractCollection<Positionable> {
+    private final Collection<Pair<CubeCoordinate,Positionable>> delegate;
+    private final ExecutorService executor;
+    private final HashMap<Positionable,Tag> tags = new HashMap<Positionable,Tag>();
+    private long retagCount;
+
+    CubeTagger(Collection<Pair<CubeCoordinate,Positionable>> delegate, ExecutorService executor){
+	this.delegate = delegate;
+	this.executor = executor;
+    }
+
+    private final class Tag implements PositionListener, PropertyChangeListener, Runnable {
+	private final Positionable element;
+	private volatile long packedCube;//Latest seen; written by the moving thread
+	private long taggedCube;         //As of the current pair; executor thread only
+	private Pair<CubeCoordinate,Positionable> pair;
+
+	Tag(Positionable element, long packedCube, Pair<CubeCoordinate,Positionable> pair){
+	    this.element    = element;
+	    this.packedCube = packedCube;
+	    this.taggedCube = packedCube;
+	    this.pair       = pair;
+	}
+
+	@Override
+	public void positionChanged(PositionListenable objectWithPosition, double x, double y, double z) {
+	    final long newCube = CubeCoordinate.pack(quantize(x), quantize(y), quantize(z));
+	    if(newCube == packedCube)
+		return;
+	    packedCube = newCube;
+	    if(executor == null)
+		run();
+	    else
+		executor.execute(this);//No Future wrapper
+	}//end positionChanged(...)
+
+	@Override
+	public void propertyChange(PropertyChangeEvent evt) {
+	    final double [] newPosition = (double[])evt.getNewValue();
+	    positionChanged(null, newPosition[0], newPosition[1], newPosition[2]);
+	}
+
+	@Override
+	public void run() {//Re-tag
+	    if(tags.get(element) != this)
+		return;//Removed since
+	    final long latest = packedCube;
+	    if(latest == taggedCube)
+		return;//Already re-tagged by an earlier submission, or moved back
+	    final double [] position = element.getPosition();
+	    final Pair<CubeCoordinate,Positionable> newPair = new Pair<CubeCoordinate,Positionable>(
+		    new CubeCoordinate(quantize(position[0]), quantize(position[1]), quantize(position[2])), element);
+	    delegate.remove(pair);
+	    delegate.add(newPair);
+	    pair       = newPair;
+	    taggedCube = newPair.getKey().pack();
+	    retagCount++;
+	}//end run()
+    }//end Tag
+
+    private static int quantize(double coordinate){
+	return (int)(coordinate / World.CUBE_GRANULARITY);
+    }
+
+    @Override
+    public boolean add(Positionable element) {
+	if(tags.containsKey(element))
+	    return false;
+	final Tag tag;
+	if(element instanceof RelevantEverywhere)
+	    tag = new Tag(element, 0, new Pair<CubeCoordinate,Positionable>(World.RELEVANT_EVERYWHERE, element));
+	else{
+	    final double [] position = element.getPosition();
+	    final CubeCoordinate cube = new CubeCoordinate(quantize(position[0]), quantize(position[1]), quantize(position[2]));
+	    tag = new Tag(element, cube.pack(), new Pair<CubeCoordinate,Positionable>(cube, element));
+	    if(element instanceof PositionListenable)
+		((PositionListenable)element).addPositionListener(tag);
+	    else
+		element.addPropertyChangeListener(Positionable.POSITION, tag);
+	}//end (not relevant everywhere)
+	tags.put(element, tag);
+	delegate.add(tag.pair);
+	return true;
+    }//end add(...)
+
+    @Override
+    public boolean addAll(Collection<? extends Positionable> elements) {
+	boolean result = false;
+	for(Positionable element:elements)
+	    result |= add(element);
+	return result;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+	final Tag tag = tags.remove(element);
+	if(tag == null)
+	    return false;
+	if(!(element instanceof RelevantEverywhere)){
+	    if(element instanceof PositionListenable)
+		((PositionListenable)element).removePositionListener(tag);
+	    else
+		((Positionable)element).removePropertyChangeListener(Positionable.POSITION, tag);
+	}
+	delegate.remove(tag.pair);
+	return true;
+    }//end remove(...)
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+	boolean result = false;
+	for(Object element:elements)
+	    result |= remove(element);
+	return result;
+    }
+
+    @Override
+    public void clear() {
+	removeAll(new ArrayList<Positionable>(tags.keySet()));
+    }
+
+    @Override
+    public boolean contains(Object element) {
+	return tags.containsKey(element);
+    }
+
+    @Override
+    public Iterator<Positionable> iterator() {
+	return new ArrayList<Positionable>(tags.keySet()).iterator();
+    }
+
+    @Override
+    public int size() {
+	return tags.size();
+    }
+
+    /**
+     * @return Number of times an element has been moved to a different cube's tag. Executor thread only.
+     * @since Oct 18, 2026
+     */
+    long getRetagCount() {
+	return retagCount;
+    }
+}//end CubeTagger
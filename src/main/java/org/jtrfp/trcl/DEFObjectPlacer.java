@@ -14,8 +14,15 @@ package org.jtrfp.trcl;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
@@ -31,6 +38,7 @@ import org.jtrfp.trcl.file.DEFFile.EnemyPlacement;
 import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gpu.GL33Model;
 import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
+import org.jtrfp.trcl.img.vq.ColorPaletteVectorList;
 import org.jtrfp.trcl.miss.LoadingProgressReporter;
 import org.jtrfp.trcl.obj.DEFObject;
 import org.jtrfp.trcl.obj.EnemyIntro;
@@ -39,6 +47,7 @@ import org.jtrfp.trcl.obj.ObjectPlacer;
 
 public class DEFObjectPlacer implements ObjectPlacer{
 	private DEFFile defData;
+	private String defFileName;
 	private List<DEFObject> defList;
 	private Vector3D headingOverride=null;
 	private LoadingProgressReporter rootReporter;
@@ -49,6 +58,7 @@ public class DEFObjectPlacer implements ObjectPlacer{
 	private Vector3D positionOffset = Vector3D.ZERO;
 	private RenderableSpacePartitioningGrid targetGrid;
 	private double firingIntervalScalar=1, shieldScalar=1, thrustScalar=1;
+	private Executor modelLoadExecutor;
 	
 	@Override
 	public void placeObjects(){
@@ -67,14 +77,12 @@ public class DEFObjectPlacer implements ObjectPlacer{
 		    .generateSubReporters(defs.size());
 	    final LoadingProgressReporter[] placementReporters = rootReporter
 		    .generateSubReporters(places.size());
-	    final GPU      gpu      = Features.get(tr, GPUFeature.class); 
 	    final Reporter reporter = Features.get(tr, Reporter.class);
+	    loadModels(defs, models);
 	    for(int i=0; i<defs.size(); i++){
 		defReporters[i].complete();
 		final int index = i;//???
 		final EnemyDefinition enemyDef = defs.get(index);
-		try{models[index]=tr.getResourceManager().getBINModel(enemyDef.getComplexModelFile(),tr.getGlobalPaletteVL(),null,gpu.getGl());}
-		catch(Exception e){e.printStackTrace();}
 		if(models[index]==null)System.out.println("Failed to get a model from BIN "+enemyDef.getComplexModelFile()+" at index "+index);
 		reporter.report("org.jtrfp.trcl.DEFObjectPlacer.def."+defs.get(i).getDescription().replace('.', ' ')+".complexModelFile", defs.get(i).getComplexModelFile());
 		reporter.report("org.jtrfp.trcl.DEFObjectPlacer.def."+defs.get(i).getDescription().replace('.', ' ')+".logic", defs.get(i).getLogic().toString());
@@ -126,6 +134,63 @@ public class DEFObjectPlacer implements ObjectPlacer{
 		
 	}//end placeObjects
 	
+	/**
+	 * Decodes each distinct complex model once, concurrently on the model load executor if one is set, then
+	 * reports how long each took against the wall time. Definitions sharing a BIN share its model. Every definition
+	 * uses the global palette at unit scale, so the file name alone identifies a model here.<br><br>
+	 * While waiting, the calling thread runs any decode the executor hasn't started, so this may be called
+	 * from one of the executor's own threads without starving it.
+	 * @param models Filled with each definition's model, or null where it failed to load.
+	 * @since Oct 18, 2026
+	 */
+	private void loadModels(List<EnemyDefinition> defs, GL33Model [] models){
+	    final GPU gpu = Features.get(tr, GPUFeature.class);
+	    final ColorPaletteVectorList palette = tr.getGlobalPaletteVL();
+	    final Executor executor = getModelLoadExecutor();
+	    final Map<String,FutureTask<GL33Model>> decodes = new LinkedHashMap<String,FutureTask<GL33Model>>();
+	    final Map<String,Long> decodeNanos = new ConcurrentHashMap<String,Long>();
+	    final long startTime = System.nanoTime();
+	    for(EnemyDefinition enemyDef:defs){
+		final String modelFile = enemyDef.getComplexModelFile();
+		if(modelFile != null && !decodes.containsKey(modelFile.toUpperCase())){
+		    final FutureTask<GL33Model> decode = new FutureTask<GL33Model>(new Callable<GL33Model>(){
+			@Override
+			public GL33Model call() {
+			    final long start = System.nanoTime();
+			    try{return tr.getResourceManager().getBINModel(modelFile,palette,null,gpu.getGl());}
+			    catch(Exception e){e.printStackTrace();return null;}
+			    finally{decodeNanos.put(modelFile.toUpperCase(), System.nanoTime()-start);}
+			}});
+		    decodes.put(modelFile.toUpperCase(), decode);
+		    if(executor != null)
+			executor.execute(decode);
+		}//end if(new model)
+	    }//end for(defs)
+	    for(FutureTask<GL33Model> decode:decodes.values())
+		decode.run();//No-op if the executor already started it
+	    try{
+		for(int i=0; i<defs.size(); i++){
+		    final String modelFile = defs.get(i).getComplexModelFile();
+		    if(modelFile != null)
+			models[i] = decodes.get(modelFile.toUpperCase()).get();
+		}//end for(defs)
+	    }catch(InterruptedException e){Thread.currentThread().interrupt();}
+	    catch(ExecutionException e){throw new RuntimeException(e);}
+	    final long wallNanos = System.nanoTime() - startTime;
+	    
+	    final Reporter reporter = Features.get(tr, Reporter.class);
+	    final String prefix = "org.jtrfp.trcl.DEFObjectPlacer."+(defFileName!=null?defFileName.replace('.', ' '):"unnamed")+".modelLoad.";
+	    long totalDecodeNanos = 0;
+	    for(Map.Entry<String,Long> entry:decodeNanos.entrySet()){
+		reporter.report(prefix+"model."+entry.getKey().replace('.', ' ')+".ms", String.format("%.1f", entry.getValue()/1000000.));
+		totalDecodeNanos += entry.getValue();
+	    }
+	    reporter.report(prefix+"definitions", ""+defs.size());
+	    reporter.report(prefix+"distinctModels", ""+decodes.size());
+	    reporter.report(prefix+"decodeSum.ms", String.format("%.1f", totalDecodeNanos/1000000.));
+	    reporter.report(prefix+"wall.ms", String.format("%.1f", wallNanos/1000000.));
+	}//end loadModels(...)
+	
 	/**
 	 * @return the headingOverride
 	 */
@@ -149,6 +214,31 @@ public class DEFObjectPlacer implements ObjectPlacer{
 	    this.defData = defData;
 	}
 
+	public String getDefFileName() {
+	    return defFileName;
+	}
+
+	/**
+	 * @param defFileName Name of the DEF file, identifying this placement's model-load timings when reported.
+	 * @since Oct 18, 2026
+	 */
+	public void setDefFileName(String defFileName) {
+	    this.defFileName = defFileName;
+	}
+
+	public Executor getModelLoadExecutor() {
+	    return modelLoadExecutor;
+	}
+
+	/**
+	 * @param modelLoadExecutor Runs the complex model decodes of {@link #placeObjects()}, i.e. the level loader's.
+	 * If null, they are all decoded on the thread placing the objects.
+	 * @since Oct 18, 2026
+	 */
+	public void setModelLoadExecutor(Executor modelLoadExecutor) {
+	    this.modelLoadExecutor = modelLoadExecutor;
+	}
+
 	public TR getTr() {
 	    return tr;
 	}
@@ -31,4 +31,12 @@ public final class MatrixWindow extends MemoryWindow {
 	}// end for(16)
 	matrix.set(id, workArray);
     }
+
+    /**
+     * @param columnMajor 16 floats, column by column, as the shaders read them.
+     * @since Oct 18, 2026
+     */
+    public final void setColumnMajor(int id, float [] columnMajor) {
+	matrix.set(id, columnMajor);
+    }
 }// end Matrix
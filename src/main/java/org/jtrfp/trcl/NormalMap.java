@@ -59,6 +59,24 @@ public class NormalMap implements AltitudeMap{
 	 */
     }
 
+    /**
+     * Same as normalAt(x,z,dest) except reusing an already-sampled height at (x,z), leaving two height
+     * samples per normal, and creating no objects.
+     * @param originHeight The value of heightAt(x,z)
+     * @since Oct 18, 2026
+     */
+    public double [] normalAt(double x, double z, double originHeight, double [] dest){
+	//(0,dZ,NUDGE) cross (NUDGE,dX,0), as in normalAt(x,z)
+	final double dZ = heightAt(x,z+NUDGE)-originHeight;
+	final double dX = heightAt(x+NUDGE,z)-originHeight;
+	final double nX = -NUDGE*dX, nY = NUDGE*NUDGE, nZ = -dZ*NUDGE;
+	final double norm = Math.sqrt(nX*nX+nY*nY+nZ*nZ);
+	dest[0]=nX/norm;
+	dest[1]=nY/norm;
+	dest[2]=nZ/norm;
+	return dest;
+    }//end normalAt(...)
+
     @Override
     public double heightAt(double x, double z) {
 	return delegate.heightAt(x, z);
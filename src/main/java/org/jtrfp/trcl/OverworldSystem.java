@@ -13,6 +13,7 @@
 package org.jtrfp.trcl;
 
 import java.awt.Color;
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -87,11 +88,20 @@ public class OverworldSystem extends RenderableSpacePartitioningGrid implements
 	    System.out.println("Building terrain...");
 	    final boolean flatShadedTerrain = lvl.getHeightMapOrTunnelFile()
 		    .toUpperCase().contains("BORG");//TODO: This should be in a config file.
+	    File bakeCacheFile = null;
+	    long inputFingerprint = 0;
+	    try{
+		inputFingerprint = tr.getResourceManager().getDataFingerprint(
+			lvl.getHeightMapOrTunnelFile(), lvl.getTexturePlacementFile(), lvl.getTunnelDefinitionFile());
+		bakeCacheFile = new File(TerrainBake.getCacheDirectory(), lvl.getHeightMapOrTunnelFile().toUpperCase()+".bake");
+	    }catch(Exception e){e.printStackTrace();}//Bake without caching
+	    final File _bakeCacheFile = bakeCacheFile;
+	    final long _inputFingerprint = inputFingerprint;
 	    terrainSystem = tr.getThreadManager().submitToThreadPool(new Callable<TerrainSystem>(){
 		@Override
 		public TerrainSystem call() throws Exception {
 		    return new TerrainSystem(altitudeMap, textureMesh,TRFactory.mapSquareSize, terrainMirror, tr, tdf,
-			    flatShadedTerrain, terrainReporter, lvl.getHeightMapOrTunnelFile());
+			    flatShadedTerrain, terrainReporter, lvl.getHeightMapOrTunnelFile(), _bakeCacheFile, _inputFingerprint);
 		}});
 	    System.out.println("...Done.");
 	    // Clouds
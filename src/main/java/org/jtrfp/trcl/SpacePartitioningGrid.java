@@ -12,7 +12,6 @@
  ******************************************************************************/
 package org.jtrfp.trcl;
 
-import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,8 +24,8 @@ import java.util.concurrent.Future;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.coll.CollectionActionDispatcher;
 import org.jtrfp.trcl.coll.CollectionActionPacker;
+import org.jtrfp.trcl.coll.CollectionEpoch;
 import org.jtrfp.trcl.coll.CollectionThreadDecoupler;
-import org.jtrfp.trcl.coll.PropertyBasedTagger;
 import org.jtrfp.trcl.core.CubeCoordinate;
 import org.jtrfp.trcl.obj.Positionable;
 import org.jtrfp.trcl.obj.RelevantEverywhere;
@@ -40,27 +39,13 @@ public class SpacePartitioningGrid<E extends Positionable>{
 	private Map<SpacePartitioningGrid<E>,String>
 						branchGrids = 
 	   Collections.synchronizedMap(new WeakHashMap<SpacePartitioningGrid<E>,String>());
-	private static final com.ochafik.util.listenable.Adapter<PropertyChangeEvent,CubeCoordinate>cubeSpaceQuantizingAdapter = new com.ochafik.util.listenable.Adapter<PropertyChangeEvent,CubeCoordinate>(){
-	    @Override
-	    public CubeCoordinate adapt(PropertyChangeEvent evt) {
-		final int granularity = World.CUBE_GRANULARITY;
-		if(evt.getSource() instanceof RelevantEverywhere)
-		    return World.RELEVANT_EVERYWHERE;
-		final double[] newPos = (double[])evt.getNewValue();
-		final CubeCoordinate newCenterCube = new CubeCoordinate(
-			(int)((newPos[0]/granularity)),
-			(int)((newPos[1]/granularity)),
-			(int)((newPos[2]/granularity)));
-		return newCenterCube;
-	    }
-	};
 	private final CollectionActionDispatcher<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> packedObjectsDispatcher =
 		new CollectionActionDispatcher<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(new ArrayList<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>());
 	/*private final PredicatedORCollectionActionFilter<Pair<Vector3D,CollectionActionDispatcher<Positionable>>> packedObjectValve =
 		new PredicatedORCollectionActionFilter<Pair<Vector3D,CollectionActionDispatcher<Positionable>>>(packedObjectsDispatcher);*/
 	private final CollectionActionPacker<Positionable,CubeCoordinate> objectPacker = new CollectionActionPacker<Positionable,CubeCoordinate>(packedObjectsDispatcher);
 	private final Collection<Positionable> localTagger
-	 = new CollectionThreadDecoupler<Positionable>(new PropertyBasedTagger<Positionable, CubeCoordinate, CubeCoordinate>(objectPacker, cubeSpaceQuantizingAdapter, Positionable.POSITION,World.relevanceExecutor),World.relevanceExecutor);
+	 = new CollectionThreadDecoupler<Positionable>(new CubeTagger(objectPacker, World.relevanceExecutor),World.relevanceExecutor);
 	
 	private  List<E> []     elements;
 		
@@ -108,6 +93,8 @@ public class SpacePartitioningGrid<E extends Positionable>{
 	}
 	
 	public synchronized void addAll(Collection<? extends E> objectsToAdd){
+	    CollectionEpoch.begin();//One relevance task for the lot
+	    try{
 	    for( E objectToAdd : objectsToAdd ){
 		final SpacePartitioningGrid<?> spg = objectToAdd.getContainingGrid();
 		if(spg!=null)
@@ -117,6 +104,7 @@ public class SpacePartitioningGrid<E extends Positionable>{
 		    objectToAdd.setContainingGrid(this);
 		}
 	    }
+	    }finally{CollectionEpoch.end();}
 	}//end addAll(...)
 	
 	public synchronized void remove(E objectToRemove){
@@ -127,12 +115,15 @@ public class SpacePartitioningGrid<E extends Positionable>{
 	}
 	
 	public synchronized void removeAll(Collection<? extends E> objectsToRemove){
+	    CollectionEpoch.begin();
+	    try{
 	    for(E objectToRemove : objectsToRemove ){
 		 if(localTaggerSet.remove(objectToRemove)){
 		    localTagger.remove(objectToRemove);
 		    objectToRemove.setContainingGrid(null);
 		    }
 	    }//end for(objectsToRemove)
+	    }finally{CollectionEpoch.end();}
 	}
 	
 	public synchronized boolean containsBranch(SpacePartitioningGrid<E> toFind){
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.awt.Point;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * The sampled geometry of a level's terrain: a height and normal per grid vertex, a normal per square when
+ * flat-shaded, and the placement of each tunnel portal. Baked in one pass over the vertex grid, as each vertex
+ * is shared by four squares, and serialized to a compact versioned file which is memory-mapped on later loads.
+ * UVs are constant and texture IDs are a palette lookup into the CLR mesh, so neither is stored.<br><br>
+ * Layout (little-endian): magic, version, key (long), width, height, flags, portal count;
+ * then vertex heights, vertex normals (xyz), square normals (xyz, flat shading only),
+ * portal squares (x,z ints) and portal placements (centroid, heading, top).
+ * @author Chuck Ritola
+ *
+ */
+
+public final class TerrainBake {
+    public static final int  VERSION           = 1;
+    public static final String CACHE_DIRECTORY_PROPERTY = "org.jtrfp.trcl.terrainCacheDir";
+    private static final int MAGIC             = 0x5452544B;//"TRTK"
+    private static final int HEADER_BYTES      = 32;
+    private static final int FLAG_FLAT_SHADING = 0x1;
+    private static final int PORTAL_FLOATS     = 9;
+
+    private final ByteBuffer  backing;
+    private final long        key;
+    private final int         width, height, numPortals;
+    private final boolean     flatShading;
+    private final FloatBuffer heights, normals, squareNormals, portalPlacements;
+    private final IntBuffer   portalSquares;
+
+    private TerrainBake(ByteBuffer backing){
+	this.backing = backing;
+	key         = backing.getLong(8);
+	width       = backing.getInt(16);
+	height      = backing.getInt(20);
+	flatShading = (backing.getInt(24) & FLAG_FLAT_SHADING) != 0;
+	numPortals  = backing.getInt(28);
+	final int numVertices = (width + 1) * (height + 1);
+	int offset = HEADER_BYTES;
+	heights          = floatSection(offset, numVertices);
+	offset += numVertices * 4;
+	normals          = floatSection(offset, numVertices * 3);
+	offset += numVertices * 12;
+	final int numSquareNormals = flatShading?width * height * 3:0;
+	squareNormals    = floatSection(offset, numSquareNormals);
+	offset += numSquareNormals * 4;
+	portalSquares    = section(offset, numPortals * 8).asIntBuffer();
+	offset += numPortals * 8;
+	portalPlacements = floatSection(offset, numPortals * PORTAL_FLOATS);
+    }//end constructor
+
+    private ByteBuffer section(int offset, int numBytes){
+	final ByteBuffer result = backing.duplicate();
+	result.position(offset);
+	result.limit(offset + numBytes);
+	return result.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private FloatBuffer floatSection(int offset, int numFloats){
+	return section(offset, numFloats * 4).asFloatBuffer();
+    }
+
+    private static int sizeInBytes(int width, int height, boolean flatShading, int numPortals){
+	final int numVertices = (width + 1) * (height + 1);
+	return HEADER_BYTES + numVertices * 16 + (flatShading?width * height * 12:0) + numPortals * (8 + PORTAL_FLOATS * 4);
+    }
+
+    /**
+     * Combines a fingerprint of a level's source files with the parameters which shape the baked geometry.
+     * @param inputFingerprint A hash of the level's RAW, CLR and TDF bytes.
+     * @since Oct 18, 2026
+     */
+    public static long key(long inputFingerprint, double gridSquareSize, double worldCeiling, boolean flatShading){
+	long result = inputFingerprint;
+	result = result * 31 + Double.doubleToLongBits(gridSquareSize);
+	result = result * 31 + Double.doubleToLongBits(worldCeiling);
+	result = result * 31 + (flatShading?1:0);
+	return result * 31 + VERSION;
+    }//end key(...)
+
+    /**
+     * @return The directory holding baked terrain, as named by the {@value #CACHE_DIRECTORY_PROPERTY} property if set,
+     * else under the user's home directory.
+     * @since Oct 18, 2026
+     */
+    public static File getCacheDirectory(){
+	final String property = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+	if(property != null)
+	    return new File(property);
+	return new File(System.getProperty("user.home"), ".jtrfp"+File.separator+"terrainCache");
+    }
+
+    /**
+     * Samples the terrain in a single pass over its vertex grid.
+     * @param altitude Heights in world units, indexed by world coordinates.
+     * @param width Width in squares.
+     * @param height Height (depth) in squares.
+     * @param portalSquares Squares, in grid coordinates, which hold a tunnel portal. Those outside the grid are ignored.
+     * @param key As produced by {@link #key(long, double, double, boolean)}, to be checked when mapped.
+     * @since Oct 18, 2026
+     */
+    public static TerrainBake bake(AltitudeMap altitude, double gridSquareSize, int width, int height,
+	    boolean flatShading, Collection<Point> portalSquares, long key){
+	final ArrayList<Point> portals = new ArrayList<Point>();
+	for(Point square:portalSquares)
+	    if(square.x >= 0 && square.x < width && square.y >= 0 && square.y < height && !portals.contains(square))
+		portals.add(square);
+	Collections.sort(portals, new Comparator<Point>(){
+	    @Override
+	    public int compare(Point l, Point r) {
+		return l.y != r.y?Integer.compare(l.y, r.y):Integer.compare(l.x, r.x);
+	    }});
+	final ByteBuffer backing = ByteBuffer.allocate(sizeInBytes(width, height, flatShading, portals.size())).order(ByteOrder.LITTLE_ENDIAN);
+	backing.putInt(0, MAGIC);
+	backing.putInt(4, VERSION);
+	backing.putLong(8, key);
+	backing.putInt(16, width);
+	backing.putInt(20, height);
+	backing.putInt(24, flatShading?FLAG_FLAT_SHADING:0);
+	backing.putInt(28, portals.size());
+	final TerrainBake result = new TerrainBake(backing);
+	final NormalMap normalMap = new NormalMap(altitude);
+	final double [] normal = new double[3];
+	for(int z = 0; z <= height; z++)
+	    for(int x = 0; x <= width; x++){
+		final int vertex = x + z * (width + 1);
+		final double h = altitude.heightAt(x * gridSquareSize, z * gridSquareSize);
+		result.heights.put(vertex, (float)h);
+		normalMap.normalAt(x * gridSquareSize, z * gridSquareSize, h, normal);
+		for(int i = 0; i < 3; i++)
+		    result.normals.put(vertex * 3 + i, (float)normal[i]);
+	    }
+	if(flatShading)
+	    for(int z = 0; z < height; z++)
+		for(int x = 0; x < width; x++){
+		    final double cX = (x + .5) * gridSquareSize, cZ = (z + .5) * gridSquareSize;
+		    normalMap.normalAt(cX, cZ, altitude.heightAt(cX, cZ), normal);
+		    for(int i = 0; i < 3; i++)
+			result.squareNormals.put((x + z * width) * 3 + i, (float)normal[i]);
+		}
+	for(int p = 0; p < portals.size(); p++){
+	    final Point square = portals.get(p);
+	    result.portalSquares.put(p * 2, square.x);
+	    result.portalSquares.put(p * 2 + 1, square.y);
+	    result.placePortal(p, square.x, square.y, gridSquareSize);
+	}
+	return result;
+    }//end bake(...)
+
+    private void placePortal(int portalIndex, int cX, int cZ, double gridSquareSize){
+	final double xPos = cX * gridSquareSize, zPos = cZ * gridSquareSize;
+	final Vector3D
+	 tL = new Vector3D(xPos, heightAt(cX, cZ + 1), zPos + gridSquareSize),
+	 tR = new Vector3D(xPos + gridSquareSize, heightAt(cX + 1, cZ + 1), zPos + gridSquareSize),
+	 bR = new Vector3D(xPos + gridSquareSize, heightAt(cX + 1, cZ), zPos),
+	 bL = new Vector3D(xPos, heightAt(cX, cZ), zPos);
+	final Vector3D centroid = tL.add(tR).add(bR).add(bL).scalarMultiply(1./4.);
+	final Vector3D ltR = tR.subtract(centroid),
+		       lbR = bR.subtract(centroid),
+		       ltL = tL.subtract(centroid);
+	Vector3D heading = ltL.subtract(ltR).crossProduct(lbR.subtract(ltR));
+	if(heading.getNorm()>0)
+	    heading = heading.normalize();
+	Vector3D top;
+	if(heading.getY()>-.99&heading.getNorm()>0)//If the ground is flat this doesn't work.
+	     top = (Vector3D.PLUS_J.crossProduct(heading).crossProduct(heading).normalize().negate());
+	else top = (Vector3D.PLUS_I);// ... so we create a clause for that.
+	final int base = portalIndex * PORTAL_FLOATS;
+	putVector(base, centroid);
+	putVector(base + 3, heading);
+	putVector(base + 6, top);
+    }//end placePortal(...)
+
+    private void putVector(int index, Vector3D vector){
+	portalPlacements.put(index,     (float)vector.getX());
+	portalPlacements.put(index + 1, (float)vector.getY());
+	portalPlacements.put(index + 2, (float)vector.getZ());
+    }
+
+    /**
+     * Memory-maps a previously written bake.
+     * @return The mapped bake, or null if the file is absent, of another version or key, or truncated.
+     * @since Oct 18, 2026
+     */
+    public static TerrainBake map(File file, long key) throws IOException {
+	if(!file.isFile())
+	    return null;
+	final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+	try{
+	    final long size = channel.size();
+	    if(size < HEADER_BYTES || size > Integer.MAX_VALUE)
+		return null;
+	    final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+	    if(mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION || mapped.getLong(8) != key)
+		return null;
+	    final int width = mapped.getInt(16), height = mapped.getInt(20), numPortals = mapped.getInt(28);
+	    if(width <= 0 || height <= 0 || numPortals < 0 ||
+		    size != sizeInBytes(width, height, (mapped.getInt(24) & FLAG_FLAT_SHADING) != 0, numPortals))
+		return null;
+	    return new TerrainBake(mapped);
+	}finally{channel.close();}//Mapping outlives the channel
+    }//end map(...)
+
+    /**
+     * Writes this bake to a temporary file which then replaces the destination, so that a concurrent or
+     * interrupted load never maps a partial file.
+     * @since Oct 18, 2026
+     */
+    public void write(File file) throws IOException {
+	final File directory = file.getAbsoluteFile().getParentFile();
+	if(!directory.isDirectory() && !directory.mkdirs())
+	    throw new IOException("Could not create "+directory);
+	final File temporary = File.createTempFile(file.getName(), ".tmp", directory);
+	try{
+	    final FileChannel channel = FileChannel.open(temporary.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+	    try{
+		final ByteBuffer toWrite = backing.duplicate();
+		toWrite.clear();
+		while(toWrite.hasRemaining())
+		    channel.write(toWrite);
+	    }finally{channel.close();}
+	    try{Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);}
+	    catch(AtomicMoveNotSupportedException e){
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);}
+	}finally{temporary.delete();}//No-op once moved
+    }//end write(...)
+
+    /**
+     * @return Height of the vertex at the given grid coordinates, in world units.
+     * @since Oct 18, 2026
+     */
+    public double heightAt(int x, int z){
+	return heights.get(x + z * (width + 1));
+    }
+
+    /**
+     * @return The normal of the vertex at the given grid coordinates.
+     * @since Oct 18, 2026
+     */
+    public Vector3D normalAt(int x, int z){
+	final int index = (x + z * (width + 1)) * 3;
+	return new Vector3D(normals.get(index), normals.get(index + 1), normals.get(index + 2));
+    }
+
+    /**
+     * @return The normal sampled at the center of the square whose lower corner is at the given grid coordinates.
+     * @throws IllegalStateException if not baked for flat shading.
+     * @since Oct 18, 2026
+     */
+    public Vector3D squareNormalAt(int x, int z){
+	if(!flatShading)
+	    throw new IllegalStateException("Square normals are only baked for flat shading.");
+	final int index = (x + z * width) * 3;
+	return new Vector3D(squareNormals.get(index), squareNormals.get(index + 1), squareNormals.get(index + 2));
+    }
+
+    public int getNumPortals(){
+	return numPortals;
+    }
+
+    /**
+     * @return Grid coordinates of the square holding the given portal, portals being ordered by z then x.
+     * @since Oct 18, 2026
+     */
+    public Point getPortalSquare(int portalIndex){
+	return new Point(portalSquares.get(portalIndex * 2), portalSquares.get(portalIndex * 2 + 1));
+    }
+
+    public Vector3D getPortalCentroid(int portalIndex){
+	return portalVector(portalIndex * PORTAL_FLOATS);
+    }
+
+    public Vector3D getPortalHeading(int portalIndex){
+	return portalVector(portalIndex * PORTAL_FLOATS + 3);
+    }
+
+    public Vector3D getPortalTop(int portalIndex){
+	return portalVector(portalIndex * PORTAL_FLOATS + 6);
+    }
+
+    private Vector3D portalVector(int index){
+	return new Vector3D(portalPlacements.get(index), portalPlacements.get(index + 1), portalPlacements.get(index + 2));
+    }
+
+    public int getWidth(){
+	return width;
+    }
+
+    public int getHeight(){
+	return height;
+    }
+
+    public boolean isFlatShading(){
+	return flatShading;
+    }
+
+    public long getKey(){
+	return key;
+    }
+}//end TerrainBake
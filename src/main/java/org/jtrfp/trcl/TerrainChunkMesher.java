@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Generates the triangles of one terrain chunk at a level of detail from a {@link TerrainBake}.<br><br>
+ * Level zero has two triangles per square, split as TerrainSystem always has. Level L samples every 2^L
+ * squares. Cells away from the chunk's border are plain quads; cells touching it are fanned from their center
+ * so that the border keeps every full-resolution vertex. Every chunk's border is therefore identical at every
+ * level, and neighbors at different levels meet without cracks and without knowing each other's level.
+ * Coarse cells take the texture of the square at their center, stretched across the cell.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class TerrainChunkMesher {
+    private final TerrainBake bake;
+    private final double      gridSquareSize;
+    private final int         chunkSideLength;
+
+    /**
+     * Triangles in world coordinates, three corners each, wound as TerrainSystem's quads.
+     * @author Chuck Ritola
+     *
+     */
+    public static final class Mesh {
+	private final double [] positions, normals, uvs;
+	private final int    [] textureSquares;
+	private int numTriangles;
+
+	Mesh(int capacity){
+	    positions      = new double[capacity * 9];
+	    normals        = new double[capacity * 9];
+	    uvs            = new double[capacity * 6];
+	    textureSquares = new int   [capacity * 2];
+	}
+
+	public int getNumTriangles(){
+	    return numTriangles;
+	}
+
+	/** @return x,y,z per corner, three corners per triangle. */
+	public double [] getPositions(){
+	    return positions;
+	}
+
+	/** @return x,y,z per corner, three corners per triangle. */
+	public double [] getNormals(){
+	    return normals;
+	}
+
+	/** @return u,v per corner, three corners per triangle. */
+	public double [] getUVs(){
+	    return uvs;
+	}
+
+	/** @return Grid x,z of the square whose texture each triangle takes. */
+	public int [] getTextureSquares(){
+	    return textureSquares;
+	}
+    }//end Mesh
+
+    public TerrainChunkMesher(TerrainBake bake, double gridSquareSize, int chunkSideLength){
+	this.bake            = bake;
+	this.gridSquareSize  = gridSquareSize;
+	this.chunkSideLength = chunkSideLength;
+    }
+
+    /**
+     * @return The number of levels a chunk can be meshed at, the coarsest having one cell per chunk.
+     * @since Oct 18, 2026
+     */
+    public int getNumLevels(){
+	return Integer.numberOfTrailingZeros(Integer.highestOneBit(chunkSideLength)) + 1;
+    }
+
+    public static int getStep(int level){
+	return 1 << level;
+    }
+
+    /**
+     * @return The number of triangles {@link #mesh(int, int, int)} produces for a chunk at the given level.
+     * @since Oct 18, 2026
+     */
+    public int countTriangles(int level){
+	final int step = checkedStep(level), cells = chunkSideLength / step;
+	if(step == 1)
+	    return cells * cells * 2;
+	int result = 0;
+	for(int cZ = 0; cZ < cells; cZ++)
+	    for(int cX = 0; cX < cells; cX++){
+		final int borderSides = (cZ == cells - 1?1:0) + (cX == cells - 1?1:0) + (cZ == 0?1:0) + (cX == 0?1:0);
+		result += borderSides == 0?2:borderSides * step + (4 - borderSides);
+	    }
+	return result;
+    }//end countTriangles(...)
+
+    private int checkedStep(int level){
+	final int step = getStep(level);
+	if(level < 0 || step > chunkSideLength || chunkSideLength % step != 0)
+	    throw new IllegalArgumentException("Level "+level+" does not divide a chunk of "+chunkSideLength+" squares.");
+	return step;
+    }
+
+    /**
+     * @param gX Grid x of the chunk's first square.
+     * @param gZ Grid z of the chunk's first square.
+     * @since Oct 18, 2026
+     */
+    public Mesh mesh(int gX, int gZ, int level){
+	final int step = checkedStep(level), cells = chunkSideLength / step;
+	final Mesh result = new Mesh(countTriangles(level));
+	final int [] perimeterX = new int[4 * step], perimeterZ = new int[4 * step];
+	for(int cZ = 0; cZ < cells; cZ++)
+	    for(int cX = 0; cX < cells; cX++){
+		final int x0 = gX + cX * step, z0 = gZ + cZ * step, x1 = x0 + step, z1 = z0 + step;
+		final int textureX = x0 + step / 2, textureZ = z0 + step / 2;
+		final boolean top = cZ == cells - 1, right = cX == cells - 1, bottom = cZ == 0, left = cX == 0;
+		if(step == 1){
+		    //Corners tL,tR,bR,bL rotated as Triangle.quad2Triangles(...,ringRotation)
+		    final int [] quadX = {x0, x1, x1, x0}, quadZ = {z1, z1, z0, z0};
+		    final int r = x0 + z0 % 4;
+		    addQuad(result, quadX, quadZ, r, x0, z0, step, textureX, textureZ);
+		} else if(!(top || right || bottom || left)){
+		    addQuad(result, new int[]{x0, x1, x1, x0}, new int[]{z1, z1, z0, z0}, 0, x0, z0, step, textureX, textureZ);
+		} else {
+		    //Perimeter clockwise from tL as seen from above, full resolution along the chunk's border
+		    int n = 0;
+		    for(int x = x0; x < x1; x += top?1:step){
+			perimeterX[n] = x; perimeterZ[n++] = z1;}
+		    for(int z = z1; z > z0; z -= right?1:step){
+			perimeterX[n] = x1; perimeterZ[n++] = z;}
+		    for(int x = x1; x > x0; x -= bottom?1:step){
+			perimeterX[n] = x; perimeterZ[n++] = z0;}
+		    for(int z = z0; z < z1; z += left?1:step){
+			perimeterX[n] = x0; perimeterZ[n++] = z;}
+		    final int centerX = x0 + step / 2, centerZ = z0 + step / 2;
+		    for(int i = 0; i < n; i++){
+			final int next = (i + 1) % n;
+			addTriangle(result,
+				new int[]{centerX, perimeterX[i], perimeterX[next]},
+				new int[]{centerZ, perimeterZ[i], perimeterZ[next]}, x0, z0, step, textureX, textureZ);
+		    }
+		}//end (border cell)
+	    }//end for(cells)
+	return result;
+    }//end mesh(...)
+
+    private void addQuad(Mesh mesh, int [] quadX, int [] quadZ, int ringRotation, int x0, int z0, int step, int textureX, int textureZ){
+	final int a = ringRotation % 4, b = (ringRotation + 1) % 4, c = (ringRotation + 2) % 4, d = (ringRotation + 3) % 4;
+	addTriangle(mesh, new int[]{quadX[a], quadX[b], quadX[c]}, new int[]{quadZ[a], quadZ[b], quadZ[c]}, x0, z0, step, textureX, textureZ);
+	addTriangle(mesh, new int[]{quadX[c], quadX[d], quadX[a]}, new int[]{quadZ[c], quadZ[d], quadZ[a]}, x0, z0, step, textureX, textureZ);
+    }
+
+    private void addTriangle(Mesh mesh, int [] gridX, int [] gridZ, int x0, int z0, int step, int textureX, int textureZ){
+	final int t = mesh.numTriangles++;
+	for(int corner = 0; corner < 3; corner++){
+	    final int x = gridX[corner], z = gridZ[corner];
+	    final int p = t * 9 + corner * 3;
+	    mesh.positions[p]     = x * gridSquareSize;
+	    mesh.positions[p + 1] = bake.heightAt(x, z);
+	    mesh.positions[p + 2] = z * gridSquareSize;
+	    final Vector3D normal = bake.isFlatShading()?bake.squareNormalAt(textureX, textureZ):bake.normalAt(x, z);
+	    mesh.normals[p]     = normal.getX();
+	    mesh.normals[p + 1] = normal.getY();
+	    mesh.normals[p + 2] = normal.getZ();
+	    //As TerrainSystem's quads: u across x, v from 0 at the far z edge to 1 at the near one
+	    mesh.uvs[t * 6 + corner * 2]     = (x - x0) / (double)step;
+	    mesh.uvs[t * 6 + corner * 2 + 1] = 1 - (z - z0) / (double)step;
+	}
+	mesh.textureSquares[t * 2]     = textureX;
+	mesh.textureSquares[t * 2 + 1] = textureZ;
+    }//end addTriangle(...)
+}//end TerrainChunkMesher
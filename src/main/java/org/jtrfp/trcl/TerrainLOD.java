@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.util.Arrays;
+
+/**
+ * Chooses each terrain chunk's level of detail by its horizontal distance from the camera, measured across
+ * the world's wrap the same way {@link TransformTable} loops objects to the camera's side.<br><br>
+ * A chunk coarsens once it is beyond its level's threshold by the hysteresis fraction and refines once it is
+ * within the finer level's threshold by that fraction, so a camera hovering at a threshold doesn't flip it
+ * every update. Not thread-safe; updates are expected on one thread, the counters may be read from any.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class TerrainLOD {
+    private final double [] thresholds;
+    private final double    hysteresis, worldWidth;
+    private double []       chunkX = new double[16], chunkZ = new double[16];
+    private int    []       levels = new int[16];
+    private int    [][]     trianglesPerLevel = new int[16][];
+    private int             numChunks;
+    private volatile long   trianglesSelected;
+    private volatile int    levelChangesLastUpdate;
+    private volatile long   levelChangesTotal;
+
+    public interface LevelChangeListener {
+	/**
+	 * Called once per chunk whose level changed during an update, after its new level is recorded.
+	 * @since Oct 18, 2026
+	 */
+	public void levelChanged(int chunkIndex, int previousLevel, int newLevel);
+    }
+
+    /**
+     * @param thresholds Ascending distances in world units beyond which level i+1 replaces level i.
+     * @param hysteresis Fraction of a threshold by which a chunk must cross it before switching, e.g. .1
+     * @param worldWidth Width after which the world wraps, as TRFactory.mapWidth.
+     * @since Oct 18, 2026
+     */
+    public TerrainLOD(double [] thresholds, double hysteresis, double worldWidth){
+	for(int i = 1; i < thresholds.length; i++)
+	    if(thresholds[i] <= thresholds[i - 1])
+		throw new IllegalArgumentException("Thresholds must ascend. Got "+Arrays.toString(thresholds));
+	this.thresholds = thresholds.clone();
+	this.hysteresis = hysteresis;
+	this.worldWidth = worldWidth;
+    }//end constructor
+
+    /**
+     * Registers a chunk at level zero.
+     * @param x World x of the chunk's center.
+     * @param z World z of the chunk's center.
+     * @param trianglesPerLevel Triangle count of the chunk's mesh at each level it has. One entry pins it to level zero.
+     * @return The chunk's index.
+     * @since Oct 18, 2026
+     */
+    public int addChunk(double x, double z, int [] trianglesPerLevel){
+	if(numChunks == levels.length){
+	    final int newCapacity = numChunks * 2;
+	    chunkX = Arrays.copyOf(chunkX, newCapacity);
+	    chunkZ = Arrays.copyOf(chunkZ, newCapacity);
+	    levels = Arrays.copyOf(levels, newCapacity);
+	    this.trianglesPerLevel = Arrays.copyOf(this.trianglesPerLevel, newCapacity);
+	}
+	chunkX[numChunks] = x;
+	chunkZ[numChunks] = z;
+	this.trianglesPerLevel[numChunks] = trianglesPerLevel.clone();
+	trianglesSelected += trianglesPerLevel[0];
+	return numChunks++;
+    }//end addChunk(...)
+
+    /**
+     * @return The level a chunk now at the given level should be at the given distance.
+     * @since Oct 18, 2026
+     */
+    public int selectLevel(int currentLevel, int maxLevel, double distance){
+	maxLevel = Math.min(maxLevel, thresholds.length);
+	int level = Math.min(currentLevel, maxLevel);
+	while(level < maxLevel && distance > thresholds[level] * (1 + hysteresis))
+	    level++;
+	while(level > 0 && distance < thresholds[level - 1] * (1 - hysteresis))
+	    level--;
+	return level;
+    }//end selectLevel(...)
+
+    /**
+     * @return Horizontal distance from the given point to the chunk's center, after looping the chunk to the point's side of the world.
+     * @since Oct 18, 2026
+     */
+    public double distanceTo(int chunkIndex, double x, double z){
+	final double halfWidth = worldWidth / 2.;
+	double dX = chunkX[chunkIndex] - x, dZ = chunkZ[chunkIndex] - z;
+	dX += TransformTable.loopShift(dX, halfWidth) * worldWidth;
+	dZ += TransformTable.loopShift(dZ, halfWidth) * worldWidth;
+	return Math.sqrt(dX * dX + dZ * dZ);
+    }//end distanceTo(...)
+
+    /**
+     * Re-selects every chunk's level for a camera at the given position.
+     * @param listener Notified of each change, or null.
+     * @return The number of chunks whose level changed.
+     * @since Oct 18, 2026
+     */
+    public int update(double cameraX, double cameraZ, LevelChangeListener listener){
+	int changes = 0;
+	long triangles = 0;
+	for(int i = 0; i < numChunks; i++){
+	    final int [] chunkTriangles = trianglesPerLevel[i];
+	    final int previous = levels[i];
+	    final int level = selectLevel(previous, chunkTriangles.length - 1, distanceTo(i, cameraX, cameraZ));
+	    triangles += chunkTriangles[level];
+	    if(level == previous)
+		continue;
+	    levels[i] = level;
+	    changes++;
+	    if(listener != null)
+		listener.levelChanged(i, previous, level);
+	}//end for(chunks)
+	trianglesSelected      = triangles;
+	levelChangesLastUpdate = changes;
+	levelChangesTotal     += changes;
+	return changes;
+    }//end update(...)
+
+    public int getLevel(int chunkIndex){
+	return levels[chunkIndex];
+    }
+
+    public int getNumChunks(){
+	return numChunks;
+    }
+
+    /**
+     * @return Sum of the triangles of every chunk at its selected level; what the terrain submits each frame it is all relevant.
+     * @since Oct 18, 2026
+     */
+    public long getTrianglesSelected(){
+	return trianglesSelected;
+    }
+
+    public int getLevelChangesLastUpdate(){
+	return levelChangesLastUpdate;
+    }
+
+    public long getLevelChangesTotal(){
+	return levelChangesTotal;
+    }
+}//end TerrainLOD
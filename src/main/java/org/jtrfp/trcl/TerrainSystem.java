@@ -13,6 +13,9 @@
 package org.jtrfp.trcl;
 
 import java.awt.Point;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.concurrent.Callable;
@@ -22,9 +25,12 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.math3.geometry.euclidean.threed.Rotation;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.jtrfp.trcl.core.CubeCoordinate;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFactory.TR;
@@ -35,10 +41,14 @@ import org.jtrfp.trcl.file.TDFFile.TunnelLogic;
 import org.jtrfp.trcl.gpu.GL33Model;
 import org.jtrfp.trcl.gpu.PortalTexture;
 import org.jtrfp.trcl.gpu.Texture;
+import org.jtrfp.trcl.gpu.Vertex;
+import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
 import org.jtrfp.trcl.miss.LoadingProgressReporter;
 import org.jtrfp.trcl.miss.TunnelSystemFactory.TunnelSystem;
 import org.jtrfp.trcl.obj.PortalEntrance;
 import org.jtrfp.trcl.obj.PortalExit;
+import org.jtrfp.trcl.obj.PositionListenable;
+import org.jtrfp.trcl.obj.PositionListener;
 import org.jtrfp.trcl.obj.WorldObject;
 import org.jtrfp.trcl.shell.GameShellFactory.GameShell;
 import org.jtrfp.trcl.tools.Util;
@@ -50,6 +60,14 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 	private final TR tr;
 	private final ExecutorService executor;
 	public static final double Y_NUDGE = -10000;
+	private static final int    MAX_LOD_LEVELS = 3;
+	private static final double LOD_HYSTERESIS = .1;
+	private final TerrainLOD lod;
+	private final ArrayList<WorldObject[]> chunkLevelObjects = new ArrayList<WorldObject[]>();
+	private final AtomicBoolean lodUpdatePending = new AtomicBoolean();
+	private volatile double lodCameraX, lodCameraZ;
+	private final double lodUpdateDistance;
+	private final LODCameraListener lodCameraListener = new LODCameraListener(this);//Camera only holds it weakly
 	
 	private static class TSThreadFactory implements ThreadFactory{
 	    @Override
@@ -77,8 +95,10 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 	    final TextureMesh textureMesh, final double gridSquareSize,
 	    final RenderableSpacePartitioningGrid terrainMirror, final TR tr,
 	    final TDFFile tdf, final boolean flatShading, 
-	    final LoadingProgressReporter terrainReporter, final String debugName) {
+	    final LoadingProgressReporter terrainReporter, final String debugName,
+	    final File bakeCacheFile, final long inputFingerprint) {
 	super();
+	final long startTime = System.nanoTime();
 	final int numCores = Runtime.getRuntime().availableProcessors();
 	this.tr = tr;
 	final int width = (int) altitude.getWidth();
@@ -92,7 +112,6 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 	final double v[] = { 0, 0, 1, 1 };
 	final double cu[] = { 0, 1, 1, 0 };
 	final double cv[] = { 1, 1, 0, 0 };
-	final NormalMap normalMap = new NormalMap(altitude);
 	// Come up with a point list for tunnel entrances and exits
 	TDFFile.Tunnel[] tunnels = tdf.getTunnels();
 	final HashMap<Integer, TunnelPoint> points = new HashMap<Integer, TunnelPoint>();
@@ -113,6 +132,20 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 		.generateSubReporters(256/chunkSideLength);
 	int reporterIndex=0;
 	final double worldCeiling = tr.getWorld().sizeY;
+	final ArrayList<Point> portalSquares = new ArrayList<Point>();
+	for(TunnelPoint tunnelPoint:points.values())
+	    portalSquares.add(new Point(tunnelPoint.x, tunnelPoint.z));
+	final TerrainBake bake = obtainBake(altitude, gridSquareSize, width, height, flatShading,
+		portalSquares, worldCeiling, bakeCacheFile, inputFingerprint);
+	final TerrainChunkMesher mesher = new TerrainChunkMesher(bake, gridSquareSize, chunkSideLength);
+	final double chunkSize = chunkSideLength * gridSquareSize;
+	lod = new TerrainLOD(new double[]{chunkSize * 3, chunkSize * 6}, LOD_HYSTERESIS, TRFactory.mapWidth);
+	lodUpdateDistance = chunkSize / 4;
+	final HashMap<Integer, Integer> portalIndices = new HashMap<Integer, Integer>();
+	for(int p = 0; p < bake.getNumPortals(); p++){
+	    final Point square = bake.getPortalSquare(p);
+	    portalIndices.put(square.x + square.y * 256, p);
+	}
 	
 	final int widthInChunks  = width / chunkSideLength;
 	final int heightInChunks = height / chunkSideLength;
@@ -140,18 +173,20 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 			    /*final double objectY = Util.quantize(altitude
 				    .heightAt(gX*gridSquareSize, _gZ*gridSquareSize),128);*/
 			    final double objectY = 1024*16;//TODO: Remove debug code
-			    final GL33Model m = new GL33Model(false, tr,"Terrain Chunk");
-			    m.setDebugName(debugName);
-			    // for each square
+			    // Portals, for each square
+			    boolean hasPortals = false;
 			    for (int cZ = _gZ; cZ < _gZ + chunkSideLength; cZ++) {
 				for (int cX = gX; cX < gX + chunkSideLength; cX++) {
+				    final Integer tpi = cX + cZ * 256;
+				    final TunnelPoint tunnelPoint = points.get(tpi);
+				    if( tunnelPoint == null )
+					continue;
 				    final double xPos = cX * gridSquareSize;
 				    final double zPos = cZ * gridSquareSize;
-				    final double hBL = altitude.heightAt(xPos, cZ* gridSquareSize);
-				    final double hBR = altitude.heightAt((cX + 1)* gridSquareSize, cZ* gridSquareSize);
-				    final double hTR = altitude.heightAt((cX + 1)* gridSquareSize,
-					    (cZ + 1)* gridSquareSize);
-				    final double hTL = altitude.heightAt(xPos, (cZ + 1)* gridSquareSize);
+				    final double hBL = bake.heightAt(cX, cZ);
+				    final double hBR = bake.heightAt(cX + 1, cZ);
+				    final double hTR = bake.heightAt(cX + 1, cZ + 1);
+				    final double hTL = bake.heightAt(cX, cZ + 1);
 				    
 				    final Vector3D
 				     tL = new Vector3D(xPos,hTL,zPos + gridSquareSize),
@@ -160,136 +195,99 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 				     bL = new Vector3D(xPos, hBL, zPos);
 				    
 				    Vector3D norm0, norm1, norm2, norm3;
-				    norm3 = normalMap.normalAt(xPos, cZ* gridSquareSize);
-				    norm2 = normalMap.normalAt((cX + 1)* gridSquareSize, cZ* gridSquareSize);
-				    norm1 = normalMap.normalAt((cX + 1)* gridSquareSize, (cZ + 1)* gridSquareSize);
-				    norm0 = normalMap.normalAt(xPos, (cZ + 1)* gridSquareSize);
+				    norm3 = bake.normalAt(cX, cZ);
+				    norm2 = bake.normalAt(cX + 1, cZ);
+				    norm1 = bake.normalAt(cX + 1, cZ + 1);
+				    norm0 = bake.normalAt(cX, cZ + 1);
 
 				    if (flatShading)
-					norm0 = norm1 = norm2 = norm3 = normalMap
-						.normalAt((cX + .5)* gridSquareSize, (cZ + .5)* gridSquareSize);
+					norm0 = norm1 = norm2 = norm3 = bake.squareNormalAt(cX, cZ);
 
-				    final Integer tpi = cX + cZ * 256;
-				    
-				    final TunnelPoint tunnelPoint = points.get(tpi);
-				    Texture td = null;
-				    
-				    if( tunnelPoint != null ){
-					final GL33Model portalModel = new GL33Model(false, tr,"PortalEntrance");
-					//Place a PortalEntrance
-					final Vector3D centroid = tL.add(tR).add(bR).add(bL).scalarMultiply(1./4.);
-					final Vector3D ltR = tR.subtract(centroid),
-						       lbR = bR.subtract(centroid),
-						       ltL = tL.subtract(centroid),
-						       lbL = bL.subtract(centroid);
-					Vector3D heading = ltL.subtract(ltR).crossProduct(lbR.subtract(ltR));
-					if(heading.getNorm()>0)
-					    heading = heading.normalize();
-					Vector3D top;
-					if(heading.getY()>-.99&heading.getNorm()>0)//If the ground is flat this doesn't work.
-					     top = (Vector3D.PLUS_J.crossProduct(heading).crossProduct(heading).normalize().negate());
-					else top = (Vector3D.PLUS_I);// ... so we create a clause for that.
-					final Rotation headingRot = new Rotation(Vector3D.PLUS_K,Vector3D.PLUS_J,heading,top);
-					final Vector3D rtR = headingRot.applyInverseTo(ltR);
-					final Vector3D rtL = headingRot.applyInverseTo(ltL);
-					final Vector3D rbR = headingRot.applyInverseTo(lbR);
-					final Vector3D rbL = headingRot.applyInverseTo(lbL);
-					//BUG: Z is inverted when drawn at model level
-					heading = new Vector3D(heading.getX(),heading.getY(),heading.getZ());
-					//final double portalX = xPos+gridSquareSize/2.;
-					//final double portalY = (hBL+hBR+hTR+hTL)/4.;
-					//final double portalZ = zPos+gridSquareSize/2.;
-					final PortalTexture portalTexture = new PortalTexture();
-					Triangle[] tris = Triangle
-						.quad2Triangles(
-							// COUNTER-CLOCKWISE
-							// //x
-							new double[] {
-								rbR.getX(),//gridSquareSize/2,
-								rbL.getX(),//-gridSquareSize/2,
-								rtL.getX(),//-gridSquareSize/2,
-								rtR.getX()},//gridSquareSize/2 },
-								new double[] {
-								rbR.getY(),//-gridSquareSize/2,
-								rbL.getY(),//-gridSquareSize/2,
-								rtL.getY(),//gridSquareSize/2,
-								rtR.getY()},//gridSquareSize/2},
-								new double[] {
-								rbR.getZ(),
-								rbL.getZ(),
-								rtL.getZ(),
-								rtR.getZ() }, u, v, portalTexture,
-								RenderMode.STATIC,
-								new Vector3D[] { norm0, norm1,
-								norm2, norm3 }, cX + cZ % 4);
-					portalModel.addTriangles(tris);
-					final PortalExit exit = new PortalExit();
-					final PortalEntrance entrance;
-					final GameShell gameShell = Features.get(tr, GameShell.class);
-					entrance = new PortalEntrance(portalModel,exit,tr.mainRenderer.getCamera());
-					final TunnelSystem ts = Features.get(gameShell.getGame().getCurrentMission(),TunnelSystem.class);
-					ts.registerTunnelEntrancePortal(new Point(cX,cZ), entrance);
-					
-					entrance.setPortalTexture(portalTexture);
-					//Vector3D heading = normalMap.normalAt(xPos, cZ* gridSquareSize).normalize().negate();
-					entrance.setHeading(heading);
-					entrance.setTop(top);
-					entrance.setPosition(centroid.add(heading.scalarMultiply(2000)).toArray());
-					entrance.notifyPositionChange();
-					add(entrance);
-					
-					if( tunnelPoint.isVisible() )
-					    td = tunnelPoint.getTexture();
-				    }//end if(tunnel)
-				    
-				    if( td == null )
-					td = textureMesh.textureAt(cX,cZ);
-				    /*
-				    Texture td = (Texture) (points
-					    .containsKey(tpi) ? points.get(tpi)
-					    .getTexture() : textureMesh.textureAt(cX,
-					    cZ));
-				    */
+				    final GL33Model portalModel = new GL33Model(false, tr,"PortalEntrance");
+				    //Place a PortalEntrance
+				    final int portalIndex = portalIndices.get(tpi);
+				    final Vector3D centroid = bake.getPortalCentroid(portalIndex);
+				    final Vector3D ltR = tR.subtract(centroid),
+						   lbR = bR.subtract(centroid),
+						   ltL = tL.subtract(centroid),
+						   lbL = bL.subtract(centroid);
+				    final Vector3D heading = bake.getPortalHeading(portalIndex);
+				    final Vector3D top     = bake.getPortalTop(portalIndex);
+				    final Rotation headingRot = new Rotation(Vector3D.PLUS_K,Vector3D.PLUS_J,heading,top);
+				    final Vector3D rtR = headingRot.applyInverseTo(ltR);
+				    final Vector3D rtL = headingRot.applyInverseTo(ltL);
+				    final Vector3D rbR = headingRot.applyInverseTo(lbR);
+				    final Vector3D rbL = headingRot.applyInverseTo(lbL);
+				    //BUG: Z is inverted when drawn at model level
+				    //final double portalX = xPos+gridSquareSize/2.;
+				    //final double portalY = (hBL+hBR+hTR+hTL)/4.;
+				    //final double portalZ = zPos+gridSquareSize/2.;
+				    final PortalTexture portalTexture = new PortalTexture();
 				    Triangle[] tris = Triangle
 					    .quad2Triangles(
 						    // COUNTER-CLOCKWISE
 						    // //x
 						    new double[] {
-							    tL.getX() - objectX,
-							    tR.getX() - objectX,
-							    bR.getX() - objectX,
-							    bL.getX() - objectX },
-						    new double[] { 
-							    tL.getY() - objectY,
-							    tR.getY() - objectY,
-							    bR.getY() - objectY,
-							    bL.getY() - objectY },
-						    new double[] {
-							    tL.getZ() - objectZ,
-							    tR.getZ() - objectZ,
-							    bR.getZ() - objectZ,
-							    bL.getZ() - objectZ }, u, v, td,
-						    RenderMode.STATIC,
-						    new Vector3D[] { norm0, norm1,
+							    rbR.getX(),//gridSquareSize/2,
+							    rbL.getX(),//-gridSquareSize/2,
+							    rtL.getX(),//-gridSquareSize/2,
+							    rtR.getX()},//gridSquareSize/2 },
+							    new double[] {
+							    rbR.getY(),//-gridSquareSize/2,
+							    rbL.getY(),//-gridSquareSize/2,
+							    rtL.getY(),//gridSquareSize/2,
+							    rtR.getY()},//gridSquareSize/2},
+							    new double[] {
+							    rbR.getZ(),
+							    rbL.getZ(),
+							    rtL.getZ(),
+							    rtR.getZ() }, u, v, portalTexture,
+							    RenderMode.STATIC,
+							    new Vector3D[] { norm0, norm1,
 							    norm2, norm3 }, cX + cZ % 4);
-				    if(points.containsKey(tpi)){
-					tris[0].setAlphaBlended(true);
-					tris[1].setAlphaBlended(true);
-				    }
-				    m.addTriangle(tris[0]);
-				    m.addTriangle(tris[1]);
+				    portalModel.addTriangles(tris);
+				    final PortalExit exit = new PortalExit();
+				    final PortalEntrance entrance;
+				    final GameShell gameShell = Features.get(tr, GameShell.class);
+				    entrance = new PortalEntrance(portalModel,exit,tr.mainRenderer.getCamera());
+				    final TunnelSystem ts = Features.get(gameShell.getGame().getCurrentMission(),TunnelSystem.class);
+				    ts.registerTunnelEntrancePortal(new Point(cX,cZ), entrance);
+				
+				    entrance.setPortalTexture(portalTexture);
+				    //Vector3D heading = normalMap.normalAt(xPos, cZ* gridSquareSize).normalize().negate();
+				    entrance.setHeading(heading);
+				    entrance.setTop(top);
+				    entrance.setPosition(centroid.add(heading.scalarMultiply(2000)).toArray());
+				    entrance.notifyPositionChange();
+				    add(entrance);
+				    hasPortals = true;
 				}// end for(cX)
 			    }// end for(cZ)
-			     // Add to grid
+			    // Levels of detail, chunks with portals kept at full detail
+			    final int numLevels = hasPortals?1:Math.min(MAX_LOD_LEVELS, mesher.getNumLevels());
+			    final WorldObject [] levelObjects = new WorldObject[numLevels];
+			    final int [] trianglesPerLevel = new int[numLevels];
+			    for(int level = 0; level < numLevels; level++){
+				final TerrainChunkMesher.Mesh mesh = mesher.mesh(gX, _gZ, level);
+				final GL33Model m = new GL33Model(false, tr,"Terrain Chunk");
+				addMeshTriangles(m, mesh, objectX, objectY, objectZ, textureMesh, points);
+				m.setDebugName("TerrainSystem.TerrainChunk.lod"+level);
 				final WorldObject chunkToAdd = new WorldObject();
-				m.setDebugName("TerrainSystem.TerrainChunk");
 				chunkToAdd.setModel(m);
 				final double[] chunkPos = chunkToAdd.getPosition();
 				chunkPos[0] = objectX;
 				chunkPos[1] = objectY;
 				chunkPos[2] = objectZ;
 				chunkToAdd.notifyPositionChange();
-				add(chunkToAdd);
+				levelObjects[level] = chunkToAdd;
+				trianglesPerLevel[level] = mesh.getNumTriangles();
+			    }//end for(levels)
+			     // Add to grid
+			    synchronized(lod){
+				lod.addChunk(objectX, objectZ, trianglesPerLevel);
+				chunkLevelObjects.add(levelObjects);
+			    }
+			    add(levelObjects[0]);
 			}// end scope
 
 			{// start scope ///// CEILING
@@ -308,18 +306,14 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 				for (int cX = gX; cX < gX + chunkSideLength; cX++) {
 				    final double xPos = cX * gridSquareSize;
 				    final double zPos = cZ * gridSquareSize;
-				    final double hTL = (worldCeiling - altitude.heightAt(xPos, cZ* gridSquareSize))
+				    final double hTL = (worldCeiling - bake.heightAt(cX, cZ))
 					    + Y_NUDGE;
-				    final double hTR = (worldCeiling - altitude.heightAt(
-					    (cX + 1)* gridSquareSize, cZ* gridSquareSize)) + Y_NUDGE;
-				    final double hBR = (worldCeiling - altitude.heightAt(
-					    (cX + 1)* gridSquareSize, (cZ + 1)* gridSquareSize))
+				    final double hTR = (worldCeiling - bake.heightAt(cX + 1, cZ)) + Y_NUDGE;
+				    final double hBR = (worldCeiling - bake.heightAt(cX + 1, cZ + 1))
 					    + Y_NUDGE;
-				    final double hBL = (worldCeiling - altitude.heightAt(xPos,
-					    (cZ + 1)* gridSquareSize)) + Y_NUDGE;
+				    final double hBL = (worldCeiling - bake.heightAt(cX, cZ + 1)) + Y_NUDGE;
 
 				    Vector3D norm0, norm1, norm2, norm3;
-				    norm3=norm2=norm1=norm0 = normalMap.normalAt(xPos, cZ* gridSquareSize);
 				    /*
 				    norm3 = altitude.heightAt(cX, cZ)<.9?
 					    new Vector3D(norm.getX() * 3, norm.getY()*-1,
@@ -396,7 +390,130 @@ public final class TerrainSystem extends RenderableSpacePartitioningGrid{
 	for(Future<Void> task:rowTasks)
 	    try{task.get();}catch(Exception e){throw new RuntimeException(e);}
 	Util.CLEANER.register(this, new CleaningAction(executor));
+	final Camera camera = tr.mainRenderer.getCamera();
+	camera.addPositionListener(lodCameraListener);
+	final double [] cameraPosition = camera.getPosition();
+	requestLODUpdate(cameraPosition[0], cameraPosition[2]);
+	System.out.println("Terrain built in "+(System.nanoTime()-startTime)/1000000+"ms.");
     }// end constructor
+
+    private void addMeshTriangles(GL33Model model, TerrainChunkMesher.Mesh mesh, double objectX, double objectY, double objectZ,
+	    TextureMesh textureMesh, HashMap<Integer, TunnelPoint> points){
+	final double [] positions = mesh.getPositions(), normals = mesh.getNormals(), uvs = mesh.getUVs();
+	final int [] textureSquares = mesh.getTextureSquares();
+	for(int t = 0; t < mesh.getNumTriangles(); t++){
+	    final int squareX = textureSquares[t * 2], squareZ = textureSquares[t * 2 + 1];
+	    final TunnelPoint tunnelPoint = points.get(squareX + squareZ * 256);
+	    Texture td = null;
+	    if( tunnelPoint != null && tunnelPoint.isVisible() )
+		td = tunnelPoint.getTexture();
+	    if( td == null )
+		td = textureMesh.textureAt(squareX, squareZ);
+	    final Triangle triangle = new Triangle(td);
+	    triangle.setRenderMode(RenderMode.STATIC);
+	    triangle.setAlphaBlended(tunnelPoint != null);
+	    for(int corner = 0; corner < 3; corner++){
+		final int p = t * 9 + corner * 3, uv = t * 6 + corner * 2;
+		triangle.setVertex(new Vertex()
+			.setPosition(new Vector3D(positions[p] - objectX, positions[p + 1] - objectY, positions[p + 2] - objectZ))
+			.setNormal(new Vector3D(normals[p], normals[p + 1], normals[p + 2])), corner);
+		triangle.setUV(new Vector2D(uvs[uv], uvs[uv + 1]), corner);
+	    }
+	    model.addTriangle(triangle);
+	}//end for(triangles)
+    }//end addMeshTriangles(...)
+
+    private void requestLODUpdate(double cameraX, double cameraZ){
+	lodCameraX = cameraX;
+	lodCameraZ = cameraZ;
+	if(lodUpdatePending.compareAndSet(false, true))
+	    World.relevanceExecutor.execute(lodUpdateTask);
+    }
+
+    private final Runnable lodUpdateTask = new Runnable(){
+	@Override
+	public void run() {
+	    lodUpdatePending.set(false);
+	    synchronized(lod){
+		lod.update(lodCameraX, lodCameraZ, lodSwapper);
+	    }
+	    final Reporter reporter = Features.get(tr, Reporter.class);
+	    reporter.report("org.jtrfp.trcl.TerrainSystem.trianglesPerFrame", ""+lod.getTrianglesSelected());
+	    reporter.report("org.jtrfp.trcl.TerrainSystem.lodChanges", ""+lod.getLevelChangesTotal());
+	}};
+
+    private final TerrainLOD.LevelChangeListener lodSwapper = new TerrainLOD.LevelChangeListener(){
+	@Override
+	public void levelChanged(int chunkIndex, int previousLevel, int newLevel) {
+	    final WorldObject [] levelObjects = chunkLevelObjects.get(chunkIndex);
+	    add(levelObjects[newLevel]);//Before the removal so that no hole shows mid-swap
+	    remove(levelObjects[previousLevel]);
+	}};
+
+    /**
+     * Requests a level of detail update each time the camera moves a quarter chunk. Owned by the TerrainSystem; the
+     * camera only holds it weakly, so it goes away with the terrain. Should it still be notified after the terrain
+     * was collected it unregisters itself.
+     * @author Chuck Ritola
+     *
+     */
+    private static final class LODCameraListener implements PositionListener {
+	private final WeakReference<TerrainSystem> target;
+	private long lastCell = Long.MIN_VALUE;//Moving thread only
+
+	LODCameraListener(TerrainSystem target){
+	    this.target = new WeakReference<TerrainSystem>(target);
+	}
+
+	@Override
+	public void positionChanged(PositionListenable objectWithPosition, double x, double y, double z) {
+	    final TerrainSystem terrain = target.get();
+	    if(terrain == null){
+		objectWithPosition.removePositionListener(this);
+		return;
+	    }
+	    final double cellSize = terrain.lodUpdateDistance;
+	    final long cell = CubeCoordinate.pack((int)Math.floor(x / cellSize), 0, (int)Math.floor(z / cellSize));
+	    if(cell == lastCell)
+		return;
+	    lastCell = cell;
+	    terrain.requestLODUpdate(x, z);
+	}//end positionChanged(...)
+    }//end LODCameraListener
+
+    /**
+     * @return Level of detail selection for the ground chunks, with its triangle counters.
+     * @since Oct 18, 2026
+     */
+    public TerrainLOD getLOD(){
+	return lod;
+    }
+
+    /**
+     * Maps the baked terrain from the cache file if it holds a bake of these inputs, else bakes it and
+     * replaces the cache file.
+     * @param bakeCacheFile The cache file, or null to always bake without caching.
+     * @since Oct 18, 2026
+     */
+    private static TerrainBake obtainBake(AltitudeMap altitude, double gridSquareSize, int width, int height,
+	    boolean flatShading, ArrayList<Point> portalSquares, double worldCeiling, File bakeCacheFile, long inputFingerprint){
+	final long key = TerrainBake.key(inputFingerprint, gridSquareSize, worldCeiling, flatShading);
+	final long startTime = System.nanoTime();
+	if(bakeCacheFile != null)
+	    try{
+		final TerrainBake cached = TerrainBake.map(bakeCacheFile, key);
+		if(cached != null && cached.getWidth() == width && cached.getHeight() == height){
+		    System.out.println("Mapped baked terrain "+bakeCacheFile+" in "+(System.nanoTime()-startTime)/1000000+"ms.");
+		    return cached;
+		}
+	    }catch(IOException e){e.printStackTrace();}
+	final TerrainBake result = TerrainBake.bake(altitude, gridSquareSize, width, height, flatShading, portalSquares, key);
+	System.out.println("Baked terrain in "+(System.nanoTime()-startTime)/1000000+"ms.");
+	if(bakeCacheFile != null)
+	    try{result.write(bakeCacheFile);}
+	    catch(IOException e){e.printStackTrace();}
+	return result;
+    }//end obtainBake(...)
     
     @AllArgsConstructor
     private static class CleaningAction implements Runnable {
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Structure-of-arrays store of the inputs to each object's model matrix, indexed by matrix ID, with a batched pass
+ * which rebuilds the matrices of all staged objects in tight loops and writes them straight into a
+ * {@link MatrixWindow} as floats.<br><br>
+ * Each frame, objects whose transform changed {@link #stage(int, double[], double[], double[], double[], double, byte) stage}
+ * their inputs, and unchanged objects which loop around the world {@link #touch(int) touch} their row so its
+ * wrapping can be re-checked against the camera. {@link #rebuild(double, double, double, MatrixWindow)} then
+ * wraps, normalizes, crosses, scales and translates every row which needs it. The pass may be split into ranges
+ * run in parallel, as each touches only its own rows.<br><br>
+ * Staging is single-threaded. The resulting matrix is the same as a WorldObject's former per-object path:
+ * Z is the normalized heading, Y the normalized top, X the un-normalized top crossed with Z, each scaled, then
+ * translated by the looped position plus the model offset. Rows whose heading or top has no length are left as they were.<br><br>
+ * Rows mirror the GPU's matrices, which are shared by every renderer, so there is one table per {@link org.jtrfp.trcl.gpu.GPU GPU}.
+ * Freed matrix IDs must be {@link #release(int) released} so that the next owner of an ID can't touch the previous owner's row.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class TransformTable {
+    public static final byte FLAG_VISIBLE   = 0x1,//Otherwise written as NaN
+	                     FLAG_TRANSLATE = 0x2,
+	                     FLAG_LOOP      = 0x4;
+    private static final byte FLAG_STAGED   = (byte)0x80;
+    /** Below this many rows, {@link #rebuild(double, double, double, MatrixWindow, MatrixWindow, ForkJoinPool)} runs serially. */
+    public static final int PARALLEL_THRESHOLD = 4096;
+    private static final int MIN_RANGE_SIZE = 1024;
+    private static final float [] INVISIBLE = new float[16];
+    static {Arrays.fill(INVISIBLE, Float.NaN);}
+
+    private final double loopWidth;
+    private double [] posX = new double[0], posY = new double[0], posZ = new double[0],
+	              headX= new double[0], headY= new double[0], headZ= new double[0],
+	              topX = new double[0], topY = new double[0], topZ = new double[0],
+	              offX = new double[0], offY = new double[0], offZ = new double[0],
+	              scale= new double[0];
+    private byte   [] flags   = new byte[0];
+    private byte   [] wrapX   = new byte[0], wrapY = new byte[0], wrapZ = new byte[0];//Last applied loop shift, in loop widths
+    private boolean[] dirty   = new boolean[0];
+    private int    [] touchedFrame = new int[0];
+    private int    [] rows    = new int[256];
+    private int       numRows, frame = 1;
+    private final ArrayList<MatrixWindow> rangeContexts = new ArrayList<MatrixWindow>();
+    private volatile int matricesRebuiltLastFrame;
+    private final ConcurrentLinkedQueue<Integer> released = new ConcurrentLinkedQueue<Integer>();
+
+    /**
+     * @param loopWidth Width of the world around which looping rows are wrapped to stay nearest the camera.
+     */
+    public TransformTable(double loopWidth){
+	this.loopWidth = loopWidth;
+    }
+
+    /**
+     * Forgets the rows touched or staged during the previous frame. Call before staging a new frame.
+     * @since Oct 18, 2026
+     */
+    public void beginFrame(){
+	numRows = 0;
+	if(++frame == 0){//Wrapped; never match a stale stamp
+	    Arrays.fill(touchedFrame, 0);
+	    frame = 1;
+	}
+	Integer matrixID;
+	while((matrixID = released.poll()) != null)
+	    clearRow(matrixID);
+    }//end beginFrame()
+
+    /**
+     * Forgets the row of a freed matrix ID, so that whichever object is next given the ID has to stage it
+     * before it can be touched. May be called from any thread; takes effect at the next {@link #beginFrame()}.
+     * @since Oct 18, 2026
+     */
+    public void release(int matrixID){
+	released.add(matrixID);
+    }
+
+    private void clearRow(int matrixID){
+	if(matrixID >= flags.length)
+	    return;
+	flags[matrixID] = 0;
+	dirty[matrixID] = false;
+	wrapX[matrixID] = wrapY[matrixID] = wrapZ[matrixID] = 0;
+    }//end clearRow(...)
+
+    /**
+     * Copies an object's transform inputs into its row and schedules its matrix for rebuilding this frame.
+     * @param flags Bitwise OR of FLAG_VISIBLE, FLAG_TRANSLATE and FLAG_LOOP.
+     * @since Oct 18, 2026
+     */
+    public void stage(int matrixID, double [] position, double [] heading, double [] top, double [] modelOffset, double scale, byte flags){
+	ensureCapacity(matrixID + 1);
+	posX [matrixID] = position[0];    posY [matrixID] = position[1];    posZ [matrixID] = position[2];
+	headX[matrixID] = heading[0];     headY[matrixID] = heading[1];     headZ[matrixID] = heading[2];
+	topX [matrixID] = top[0];         topY [matrixID] = top[1];         topZ [matrixID] = top[2];
+	offX [matrixID] = modelOffset[0]; offY [matrixID] = modelOffset[1]; offZ [matrixID] = modelOffset[2];
+	this.scale[matrixID] = scale;
+	this.flags[matrixID] = (byte)(flags | FLAG_STAGED);
+	dirty[matrixID] = true;
+	addRow(matrixID);
+    }//end stage(...)
+
+    /**
+     * Schedules an unchanged row for a loop check this frame; its matrix is rebuilt only if its wrapping
+     * relative to the camera changed.
+     * @return false if the row has never been staged, in which case the caller must stage it instead.
+     * @since Oct 18, 2026
+     */
+    public boolean touch(int matrixID){
+	if(matrixID >= flags.length || (flags[matrixID] & FLAG_STAGED) == 0)
+	    return false;
+	if((flags[matrixID] & FLAG_LOOP) != 0)
+	    addRow(matrixID);
+	return true;
+    }//end touch(...)
+
+    private void addRow(int matrixID){
+	if(touchedFrame[matrixID] == frame)
+	    return;
+	touchedFrame[matrixID] = frame;
+	if(numRows == rows.length)
+	    rows = Arrays.copyOf(rows, numRows * 2);
+	rows[numRows++] = matrixID;
+    }//end addRow(...)
+
+    private void ensureCapacity(int capacity){
+	if(capacity <= flags.length)
+	    return;
+	final int newCapacity = Math.max(capacity, flags.length * 2);
+	posX = Arrays.copyOf(posX, newCapacity); posY = Arrays.copyOf(posY, newCapacity); posZ = Arrays.copyOf(posZ, newCapacity);
+	headX= Arrays.copyOf(headX,newCapacity); headY= Arrays.copyOf(headY,newCapacity); headZ= Arrays.copyOf(headZ,newCapacity);
+	topX = Arrays.copyOf(topX, newCapacity); topY = Arrays.copyOf(topY, newCapacity); topZ = Arrays.copyOf(topZ, newCapacity);
+	offX = Arrays.copyOf(offX, newCapacity); offY = Arrays.copyOf(offY, newCapacity); offZ = Arrays.copyOf(offZ, newCapacity);
+	scale= Arrays.copyOf(scale,newCapacity);
+	flags= Arrays.copyOf(flags,newCapacity);
+	wrapX= Arrays.copyOf(wrapX,newCapacity); wrapY= Arrays.copyOf(wrapY,newCapacity); wrapZ= Arrays.copyOf(wrapZ,newCapacity);
+	dirty= Arrays.copyOf(dirty,newCapacity);
+	touchedFrame = Arrays.copyOf(touchedFrame, newCapacity);
+    }//end ensureCapacity(...)
+
+    /**
+     * @return Number of rows staged or touched since {@link #beginFrame()}.
+     * @since Oct 18, 2026
+     */
+    public int getNumRows(){
+	return numRows;
+    }
+
+    /**
+     * @return Number of matrices written by the most recent complete rebuild.
+     * @since Oct 18, 2026
+     */
+    public int getMatricesRebuiltLastFrame(){
+	return matricesRebuiltLastFrame;
+    }
+
+    /**
+     * Rebuilds, on the calling thread, every row of this frame needing it.
+     * @param dest Context into which to write the matrices. Not flushed.
+     * @since Oct 18, 2026
+     */
+    public void rebuild(double cameraX, double cameraY, double cameraZ, MatrixWindow dest){
+	matricesRebuiltLastFrame = rebuild(cameraX, cameraY, cameraZ, 0, numRows, dest);
+    }
+
+    /**
+     * Rebuilds every row of this frame needing it, split into ranges run in the given pool if there are at least
+     * {@link #PARALLEL_THRESHOLD} of them. Each range writes into a context of its own, flushed before returning.
+     * @param window Root window from which to create per-range contexts.
+     * @param serialContext Context into which to write if the rebuild is run serially. Not flushed.
+     * @since Oct 18, 2026
+     */
+    public void rebuild(final double cameraX, final double cameraY, final double cameraZ, MatrixWindow window, MatrixWindow serialContext, ForkJoinPool pool){
+	final int numRows = this.numRows;
+	if(pool == null || numRows < PARALLEL_THRESHOLD || pool.getParallelism() < 2){
+	    rebuild(cameraX, cameraY, cameraZ, serialContext);
+	    return;
+	}
+	final int numRanges = Math.min(pool.getParallelism(), numRows / MIN_RANGE_SIZE);
+	while(rangeContexts.size() < numRanges)
+	    rangeContexts.add((MatrixWindow)window.newContextWindow());
+	@SuppressWarnings("unchecked")
+	final ForkJoinTask<Integer> [] tasks = new ForkJoinTask[numRanges];
+	for(int r = 0; r < numRanges; r++){
+	    final int from = (int)((long)numRows * r / numRanges), to = (int)((long)numRows * (r + 1) / numRanges);
+	    final MatrixWindow context = rangeContexts.get(r);
+	    tasks[r] = pool.submit(new Callable<Integer>(){
+		@Override
+		public Integer call() {
+		    return rebuild(cameraX, cameraY, cameraZ, from, to, context);
+		}});
+	}//end for(ranges)
+	int rebuilt = 0;
+	for(int r = 0; r < numRanges; r++){
+	    rebuilt += tasks[r].join();
+	    rangeContexts.get(r).flush();
+	}
+	matricesRebuiltLastFrame = rebuilt;
+    }//end rebuild(...)
+
+    /**
+     * Rebuilds the rows of this frame within [from,to) in the order they were staged or touched.
+     * Ranges which don't overlap may run concurrently provided they write into separate contexts.
+     * @return Number of matrices written.
+     * @since Oct 18, 2026
+     */
+    public int rebuild(double cameraX, double cameraY, double cameraZ, int from, int to, MatrixWindow dest){
+	final double loopWidth = this.loopWidth, halfLoop = loopWidth / 2.;
+	final int [] rows = this.rows;
+	final float [] m = new float[16];
+	m[15] = 1;
+	int rebuilt = 0;
+	for(int i = from; i < to; i++){
+	    final int id = rows[i];
+	    final byte flags = this.flags[id];
+	    double x = posX[id], y = posY[id], z = posZ[id];
+	    if((flags & FLAG_LOOP) != 0){
+		final byte shiftX = loopShift(x - cameraX, halfLoop),
+			   shiftY = loopShift(y - cameraY, halfLoop),
+			   shiftZ = loopShift(z - cameraZ, halfLoop);
+		if(!dirty[id] && shiftX == wrapX[id] && shiftY == wrapY[id] && shiftZ == wrapZ[id])
+		    continue;
+		wrapX[id] = shiftX; wrapY[id] = shiftY; wrapZ[id] = shiftZ;
+		x += shiftX * loopWidth; y += shiftY * loopWidth; z += shiftZ * loopWidth;
+	    } else if(!dirty[id])
+		continue;
+	    dirty[id] = false;
+	    if((flags & FLAG_VISIBLE) == 0){
+		dest.setColumnMajor(id, INVISIBLE);
+		rebuilt++;
+		continue;
+	    }
+	    final double hx = headX[id], hy = headY[id], hz = headZ[id];
+	    final double tx = topX[id],  ty = topY[id],  tz = topZ[id];
+	    final double hNorm = Math.sqrt(hx*hx + hy*hy + hz*hz), tNorm = Math.sqrt(tx*tx + ty*ty + tz*tz);
+	    if(hNorm == 0 || tNorm == 0)
+		continue;//Same as a ZeroNormException in the per-object path; keep the previous matrix
+	    final double s = scale[id];
+	    final double zS = s / hNorm, yS = s / tNorm;
+	    final double zx = hx / hNorm, zy = hy / hNorm, zz = hz / hNorm;
+	    //X
+	    m[0] = (float)((ty*zz - tz*zy) * s);
+	    m[1] = (float)((tz*zx - tx*zz) * s);
+	    m[2] = (float)((tx*zy - ty*zx) * s);
+	    //Y
+	    m[4] = (float)(tx * yS);
+	    m[5] = (float)(ty * yS);
+	    m[6] = (float)(tz * yS);
+	    //Z
+	    m[8] = (float)(hx * zS);
+	    m[9] = (float)(hy * zS);
+	    m[10]= (float)(hz * zS);
+	    //Translation
+	    if((flags & FLAG_TRANSLATE) != 0){
+		m[12] = (float)(x + offX[id]);
+		m[13] = (float)(y + offY[id]);
+		m[14] = (float)(z + offZ[id]);
+	    } else
+		m[12] = m[13] = m[14] = 0;
+	    dest.setColumnMajor(id, m);
+	    rebuilt++;
+	}//end for(rows)
+	return rebuilt;
+    }//end rebuild(...)
+
+    /**
+     * @return Loop widths to add to a position which is delta from the camera, so that it is drawn on the camera's side of the wrap.
+     * @since Oct 18, 2026
+     */
+    static byte loopShift(double delta, double halfLoop){
+	if(delta > halfLoop)
+	    return -1;
+	if(delta < -halfLoop)
+	    return 1;
+	return 0;
+    }
+}//end TransformTable
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.jtrfp.trcl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -27,20 +29,24 @@ import org.jtrfp.trcl.ext.tr.GPUFactory.GPUFeature;
 import org.jtrfp.trcl.gpu.DynamicTexture;
 import org.jtrfp.trcl.gpu.GL33Model;
 import org.jtrfp.trcl.gpu.PortalTexture;
+import org.jtrfp.trcl.gpu.ReleaseListener;
 import org.jtrfp.trcl.gpu.Texture;
 import org.jtrfp.trcl.gpu.VQTexture;
 import org.jtrfp.trcl.mem.MemoryWindow;
+import org.jtrfp.trcl.tools.Util;
+
+import lombok.AllArgsConstructor;
 
 public class TriangleList extends PrimitiveList<Triangle> {
     private 		Controller 			controller;
     private 		int 				timeBetweenFramesMsec;
-    //private 		int [] 				triangleVertexIndices;
     private final 	boolean 			animateUV;
     private final 	WindowAnimator 			xyzAnimator;
     private 		TriangleVertex2FlatDoubleWindow flatTVWindow;
     private volatile	Vector3D			cachedMinimumVertexDims,
     							cachedMaximumVertexDims;
     private volatile	Double				cachedMaximumVertexValue;
+    private final	Collection<ReleaseListener>	releaseListeners = new ArrayList<ReleaseListener>();
 
     public TriangleList(Triangle[][] triangles, int timeBetweenFramesMsec,
 	    String debugName, boolean animateUV, Controller controller, TR tr, GL33Model m) {
@@ -265,15 +271,29 @@ public class TriangleList extends PrimitiveList<Triangle> {
 		setupVertex(1, vertexIndices[tIndex+1], triangleIndex,textureDescription, window);
 		setupVertex(2, vertexIndices[tIndex+2], triangleIndex,textureDescription, window);
     }//setupTriangle
-    /*
-    @Override
-    public void finalize(){
-	final MemoryWindow mw = getMemoryWindow();
-	for(int i=0; i<triangleVertexIndices.length;i++){
-	    mw.free(triangleVertexIndices[i]);
-	}//end for(triangleVertexIndices)
-    }//end finalize()
-*/
+
+    @AllArgsConstructor
+    private static class CleaningAction implements Runnable {
+	private final MemoryWindow window;
+	private final int [] vertexIndices;
+	private final Collection<ReleaseListener> releaseListeners;
+
+	@Override
+	public void run() {
+	    final long bytesFreed = (long)window.free(vertexIndices) * TriangleVertexWindow.BYTES_PER_VERTEX;
+	    for(ReleaseListener l:releaseListeners)
+		l.released(bytesFreed);
+	}//end run()
+    }//end CleaningAction
+
+    /**
+     * @param l Told the vertex bytes this list returned to its window once it is cleaned up. Must not refer to this list.
+     * @since Oct 18, 2026
+     */
+    public void addReleaseListener(ReleaseListener l){
+	releaseListeners.add(l);
+    }
+
     public Future<Void> uploadToGPU() {
 	final int nPrimitives = getNumElements();
 	final int [] vertexIndices = new int[nPrimitives*3];
@@ -281,6 +301,7 @@ public class TriangleList extends PrimitiveList<Triangle> {
 	final MemoryWindow mw = getMemoryWindow().newContextWindow();
 	for (int vIndex = 0; vIndex < nPrimitives*3; vIndex++)
 	    vertexIndices[vIndex]=mw.create();
+	Util.CLEANER.register(this, new CleaningAction(getMemoryWindow(), vertexIndices, releaseListeners));
 	for (int tIndex = 0; tIndex < nPrimitives; tIndex++)
 	    textureDescriptions[tIndex] = triangleAt(0, tIndex).texture;
 	//calculateDims();
@@ -297,7 +318,6 @@ public class TriangleList extends PrimitiveList<Triangle> {
 	}catch(Exception e){e.printStackTrace();}
 	//    }//end Call()
 	//});
-	//triangleVertexIndices = vertexIndices;
 	return null;
     }// end uploadToGPU(...)
 
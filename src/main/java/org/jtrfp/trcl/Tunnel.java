@@ -123,7 +123,7 @@ public class Tunnel extends RenderableSpacePartitioningGrid implements RendererC
 	final Camera mainCamera = tr.mainRenderer.getCamera();
 	final OverworldSystem overworldSystem = gameShell.getGame().getCurrentMission().getOverworldSystem();
 	exitObject = new TunnelExitObject(this,"Tunnel."+debugName,mainCamera);
-	exitObject.setSkyCubeGen(overworldSystem.getSkySystem().getBelowCloudsSkyCubeGen());
+	//Sky cube is set by TunnelSystem once the overworld is loaded; tunnels may be built before that.
 	exitObject.setRendererConfigurator(overworldSystem);
 	exitObject
 		.setMirrorTerrain(sourceTunnel.getExitMode() == ExitMode.exitToChamber);
@@ -15,7 +15,7 @@ package org.jtrfp.trcl.beh;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class Bobbing extends Behavior {
+public class Bobbing extends Behavior implements ThreadSafeLocalBehavior {
     private double amplitude=TRFactory.mapSquareSize/5;
     private double additionalHeight=TRFactory.mapSquareSize;
     private double bobPeriodMillis=10*1000;
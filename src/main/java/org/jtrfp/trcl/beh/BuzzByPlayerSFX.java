@@ -25,7 +25,7 @@ import org.jtrfp.trcl.snd.SamplePlaybackEvent;
 import org.jtrfp.trcl.snd.SoundSystem;
 import org.jtrfp.trcl.snd.SoundTexture;
 
-public class BuzzByPlayerSFX extends Behavior implements CollisionBehavior {
+public class BuzzByPlayerSFX extends Behavior implements CollisionCandidateFilter {
     private int             minTimeBetweenBuzzesMillis = 1000;
     private double          promixityThreshold = TRFactory.mapSquareSize*2;
     private long            timeOfLastBuzzMillis = 0L;
@@ -33,6 +33,11 @@ public class BuzzByPlayerSFX extends Behavior implements CollisionBehavior {
     private final double [] workDouble = new double[3];
     private String []       buzzSounds;
     
+ @Override
+ public boolean isCollisionCandidate(WorldObject other){
+     return other instanceof Player;
+ }
+ 
  @Override
  public void proposeCollision(WorldObject other){
      if(other instanceof Player){
@@ -25,13 +25,18 @@ import org.jtrfp.trcl.obj.DEFObject;
 import org.jtrfp.trcl.obj.DEFObject.HitBox;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class CollidesWithDEFObjects extends Behavior implements CollisionBehavior {
+public class CollidesWithDEFObjects extends Behavior implements CollisionCandidateFilter {
     private final double boundingRadius;
     private WeakReference<DEFObject> otherDEF;
     private final double [] workTriplet = new double[3];
     public CollidesWithDEFObjects(double boundingRadius){
 	this.boundingRadius=boundingRadius;
     }
+    @Override
+    public boolean isCollisionCandidate(WorldObject other){
+	return other instanceof DEFObject;
+    }
+
     @Override
     public void proposeCollision(WorldObject other){
 	if(other instanceof DEFObject){
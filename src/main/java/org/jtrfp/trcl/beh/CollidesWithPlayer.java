@@ -21,11 +21,16 @@ import org.jtrfp.trcl.math.Vect3D;
 import org.jtrfp.trcl.obj.Player;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class CollidesWithPlayer extends Behavior implements CollisionBehavior {
+public class CollidesWithPlayer extends Behavior implements CollisionCandidateFilter {
     private Player player;
     private Double collisionRadius = null;
     public CollidesWithPlayer(){
     }
+    @Override
+    public boolean isCollisionCandidate(WorldObject other){
+	return other instanceof Player;
+    }
+
     @Override
     public void proposeCollision(WorldObject other){
 	//if(getParent() instanceof ProjectileObject3D && ((ProjectileObject3D)getParent()).getWeapon()==Weapon.ION)
@@ -23,7 +23,7 @@ import org.jtrfp.trcl.math.Vect3D;
 import org.jtrfp.trcl.obj.TunnelSegment;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class CollidesWithTunnelWalls extends Behavior implements CollisionBehavior{//TODO: Cleanup
+public class CollidesWithTunnelWalls extends Behavior implements CollisionCandidateFilter{//TODO: Cleanup
     //private final boolean changeHeadingAndTop, alwaysTopUp;
     
     private WeakReference<TunnelSegment> segmt;
@@ -34,6 +34,11 @@ public class CollidesWithTunnelWalls extends Behavior implements CollisionBehavi
     public CollidesWithTunnelWalls(boolean changeHeadingAndTop, boolean alwaysTopUp){
 	super();/*this.changeHeadingAndTop=changeHeadingAndTop;this.alwaysTopUp=alwaysTopUp;*/
     }
+	@Override
+	public boolean isCollisionCandidate(WorldObject other){
+	    return other instanceof TunnelSegment;
+	}
+
 	public void proposeCollision(WorldObject other){
 		final WorldObject parent = getParent();
 		//final Velocible velocible = getParent().probeForBehavior(Velocible.class);
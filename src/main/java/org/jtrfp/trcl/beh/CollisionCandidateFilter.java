@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.beh;
+
+import org.jtrfp.trcl.obj.WorldObject;
+
+/**
+ * Narrow-phase test for a {@link CollisionBehavior}, run ahead of the collision callbacks and possibly
+ * from a worker thread. Returning false promises that {@link CollisionBehavior#proposeCollision(WorldObject)}
+ * would do nothing for the supplied object, so the call may be skipped.
+ * <br><br>
+ * Implementations must not modify any state and may only depend on things collision callbacks don't
+ * change, such as the other object's type.
+ * @author Chuck Ritola
+ *
+ */
+
+public interface CollisionCandidateFilter extends CollisionBehavior {
+    public boolean isCollisionCandidate(WorldObject other);
+}
@@ -21,7 +21,7 @@ import org.jtrfp.trcl.obj.BarrierCube;
 import org.jtrfp.trcl.obj.Player;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class CubeCollisionBehavior extends Behavior implements CollisionBehavior {
+public class CubeCollisionBehavior extends Behavior implements CollisionCandidateFilter {
 private double [] dims;
 private double [] origin;
 private final double [] rotTransPosVar = new double[3];
@@ -40,6 +40,11 @@ private Class<? extends DamageListener.Event> damageEventClass = DamageListener.
 	    origin = new double[]{(max.getX()+min.getX())/2.,(max.getY()+min.getY())/2.,(max.getZ()+min.getZ())/2.};
 	    dims = new double[]{max.getX()-min.getX(),max.getY()-min.getY(),max.getZ()-min.getZ()};
 	}
+	@Override
+	public boolean isCollisionCandidate(WorldObject obj){
+	    return obj instanceof Player;
+	}
+
 	@Override
 	public void proposeCollision(WorldObject obj){
 	    if(obj instanceof Player){
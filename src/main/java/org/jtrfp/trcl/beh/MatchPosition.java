@@ -68,6 +68,8 @@ public class MatchPosition extends Behavior {
 	    double [] tPos = target.getPosition();
 	    System.arraycopy(tPos, 0, pPos, 0, 3);
 	    offsetMode.processPosition(pPos, MatchPosition.this);
+	    if(target.isSimulationStateSnapped())//Follow teleports without interpolating across them
+		parent.snapSimulationState();
 	    parent.notifyPositionChange();
 	}
     }//end PositionListener
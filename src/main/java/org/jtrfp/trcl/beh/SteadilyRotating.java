@@ -15,7 +15,7 @@ package org.jtrfp.trcl.beh;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class SteadilyRotating extends Behavior {
+public class SteadilyRotating extends Behavior implements ThreadSafeLocalBehavior {
     private double rotationPeriodMillis=10*1000;
     private double rotationPhase=0;
     @Override
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ * 
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.beh;
+
+/**
+ * Marks a {@link Behavior} whose tick touches only its own state and that of its parent
+ * {@link org.jtrfp.trcl.obj.WorldObject} (through the parent's locking setters and notifiers), never
+ * reading or writing other objects, spawning, playing sounds, or changing relevance directly.
+ * Such behaviors may be ticked concurrently with those of other objects by the
+ * {@link org.jtrfp.trcl.core.TickScheduler}. All other behaviors are assumed to be world-mutating
+ * and are ticked serially.
+ * <br><br>
+ * Position, heading and top changes made by such a tick are applied immediately, but their listeners
+ * (which may well move other objects, i.e. camera followers) are only notified at the start of the
+ * parent's serial {@link org.jtrfp.trcl.obj.WorldObject#tickWorldMutating(long)}.
+ * @author Chuck Ritola
+ *
+ */
+public interface ThreadSafeLocalBehavior {
+}
@@ -13,11 +13,12 @@
 package org.jtrfp.trcl.beh.phy;
 
 import org.jtrfp.trcl.beh.Behavior;
+import org.jtrfp.trcl.beh.ThreadSafeLocalBehavior;
 import org.jtrfp.trcl.core.ThreadManager;
 import org.jtrfp.trcl.math.Vect3D;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class MovesByVelocity extends Behavior implements Velocible {
+public class MovesByVelocity extends Behavior implements Velocible, ThreadSafeLocalBehavior {
 	private double [] velocity = new double[3];
 	private ThreadManager threadManager;
 	@Override
@@ -15,13 +15,13 @@ package org.jtrfp.trcl.beh.tun;
 import org.jtrfp.trcl.AbstractSubmitter;
 import org.jtrfp.trcl.Controller;
 import org.jtrfp.trcl.beh.Behavior;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.beh.DamageListener;
 import org.jtrfp.trcl.beh.DamageableBehavior;
 import org.jtrfp.trcl.obj.Player;
 import org.jtrfp.trcl.obj.WorldObject;
 
-public class IrisBehavior extends Behavior implements CollisionBehavior {
+public class IrisBehavior extends Behavior implements CollisionCandidateFilter {
 public static final int     DAMAGE_ON_IMPACT=6554;
 private static final double X_FLUFF         =10000;
 private static final double RADIUS_SKEW     =1.5;//1 = fair, 1+ =wider, 0-1 =narrower,  0 =wall (how could you?!)
@@ -33,6 +33,11 @@ private final double     maxRadius;
 	this.controller=controller;
 	this.maxRadius =maxRadius;
     }//end constructor
+    @Override
+    public boolean isCollisionCandidate(WorldObject wo){
+	return wo instanceof Player;
+    }
+
     @Override
     public void proposeCollision(WorldObject wo){// 0=closed, 1=open 2=closed
 	if(wo instanceof Player){
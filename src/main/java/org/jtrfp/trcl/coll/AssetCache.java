@@ -0,0 +1,434 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.coll;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache with a budget in bytes, evicting its least-recently-used entries once the budget is exceeded.
+ * Each entry is weighed once, when it is put. The entry most recently put is never evicted, even if it alone
+ * exceeds the budget, since its caller is about to use it anyway.<br><br>
+ * Values holding GPU memory (textures, models) free it only once they become unreachable, which an eviction
+ * doesn't guarantee while objects on screen still reference them. With {@link #setTrackingEvicted(boolean)}
+ * evicted values are kept weakly: a later get() of one still in use recovers it rather than uploading a
+ * duplicate, and once one is collected its bytes are counted as unreachable. Unreachable isn't freed: the
+ * value's own cleanup frees its memory some time later, and memory it shares with other values, such as
+ * codebook blocks, stays until they are gone too. That cleanup reports what it actually freed through
+ * {@link #recordFreed(long)}.<br><br>
+ * Keeps hit, miss, eviction and load-time counts; see {@link #getStatistics()}. Synchronized so that level
+ * loading tasks may share it.
+ * @author Chuck Ritola
+ *
+ * @param <K>
+ * @param <V>
+ * @since Oct 18, 2026
+ */
+
+public final class AssetCache<K, V> implements Map<K,V> {
+    private final String name;
+    private final long budgetInBytes;
+    private final Weigher<? super K, ? super V> weigher;
+    private final LinkedHashMap<K,Entry<V>> entries = new LinkedHashMap<K,Entry<V>>(16, .75f, true);
+    private final HashMap<K,EvictedReference<K,V>> evicted = new HashMap<K,EvictedReference<K,V>>();
+    private final ReferenceQueue<V> collectedQueue = new ReferenceQueue<V>();
+    private boolean trackingEvicted = false;
+    private long sizeInBytes;
+    private long hits, misses, recoveries, loads, loadNanos, evictions, evictedBytes, unreachable, unreachableBytes, reachableEvictedBytes, freedBytes;
+
+    public static interface Weigher<K,V> {
+	/**
+	 * @return Estimated bytes held by this value, in whichever memory its cache budgets.
+	 */
+	public long weigh(K key, V value);
+    }
+
+    private static final class Entry<V> {
+	private final V value;
+	private final long sizeInBytes;
+
+	Entry(V value, long sizeInBytes){
+	    this.value       = value;
+	    this.sizeInBytes = sizeInBytes;
+	}
+    }//end Entry
+
+    private static final class EvictedReference<K,V> extends WeakReference<V> {
+	private final K key;
+	private final long sizeInBytes;
+	private boolean untracked = false;
+
+	EvictedReference(K key, V value, long sizeInBytes, ReferenceQueue<V> queue){
+	    super(value, queue);
+	    this.key         = key;
+	    this.sizeInBytes = sizeInBytes;
+	}
+    }//end EvictedReference
+
+    /**
+     * @param name Name of this tier, for reporting.
+     * @param budgetInBytes Bytes past which least-recently-used entries are evicted.
+     * @param weigher Weighs values added through {@link #put(Object, Object)}. May be null if only
+     *  {@link #put(Object, Object, long)} is used.
+     */
+    public AssetCache(String name, long budgetInBytes, Weigher<? super K, ? super V> weigher){
+	if(budgetInBytes < 0)
+	    throw new IllegalArgumentException("Budget must be non-negative. Got "+budgetInBytes);
+	this.name          = name;
+	this.budgetInBytes = budgetInBytes;
+	this.weigher       = weigher;
+    }//end constructor
+
+    @Override
+    public synchronized V get(Object key){
+	purgeCollected();
+	final Entry<V> entry = entries.get(key);
+	if(entry != null){
+	    hits++;
+	    return entry.value;
+	}
+	final EvictedReference<K,V> ref = evicted.get(key);
+	final V value = ref != null?ref.get():null;
+	if(value == null){
+	    misses++;
+	    return null;
+	}
+	//Still reachable from elsewhere, so still resident. Take it back instead of loading a duplicate.
+	evicted.remove(key);
+	untrack(ref);
+	hits++;
+	recoveries++;
+	insert(ref.key, value, ref.sizeInBytes);
+	return value;
+    }//end get(...)
+
+    @Override
+    public V put(K key, V value){
+	if(weigher == null)
+	    throw new IllegalStateException("Cache "+name+" has no weigher. Use put(key, value, sizeInBytes).");
+	return put(key, value, weigher.weigh(key, value));
+    }//end put(...)
+
+    /**
+     * Adds or replaces an entry of known size, evicting least-recently-used entries as the budget requires.
+     * @return The value previously held for this key, or null if none.
+     * @since Oct 18, 2026
+     */
+    public synchronized V put(K key, V value, long sizeInBytes){
+	if(key == null || value == null)
+	    throw new NullPointerException("Key and value are intolerably null.");
+	purgeCollected();
+	final EvictedReference<K,V> ref = evicted.remove(key);
+	if(ref != null)
+	    untrack(ref);
+	final Entry<V> previous = insert(key, value, sizeInBytes);
+	return previous != null?previous.value:null;
+    }//end put(...)
+
+    private Entry<V> insert(K key, V value, long size){
+	final Entry<V> previous = entries.put(key, new Entry<V>(value, size));
+	if(previous != null)
+	    sizeInBytes -= previous.sizeInBytes;
+	sizeInBytes += size;
+	final Iterator<Map.Entry<K,Entry<V>>> lru = entries.entrySet().iterator();
+	while(sizeInBytes > budgetInBytes && entries.size() > 1){
+	    final Map.Entry<K,Entry<V>> eldest = lru.next();
+	    lru.remove();
+	    evict(eldest.getKey(), eldest.getValue());
+	}
+	return previous;
+    }//end insert(...)
+
+    private void evict(K key, Entry<V> entry){
+	sizeInBytes -= entry.sizeInBytes;
+	evictions++;
+	evictedBytes += entry.sizeInBytes;
+	if(trackingEvicted){
+	    evicted.put(key, new EvictedReference<K,V>(key, entry.value, entry.sizeInBytes, collectedQueue));
+	    reachableEvictedBytes += entry.sizeInBytes;
+	}
+    }//end evict(...)
+
+    @SuppressWarnings("unchecked")
+    private void purgeCollected(){
+	EvictedReference<K,V> ref;
+	while((ref = (EvictedReference<K,V>)collectedQueue.poll()) != null){
+	    if(ref.untracked)
+		continue;//Already counted
+	    if(evicted.get(ref.key) == ref)
+		evicted.remove(ref.key);
+	    ref.untracked = true;
+	    unreachable++;
+	    unreachableBytes      += ref.sizeInBytes;
+	    reachableEvictedBytes -= ref.sizeInBytes;
+	}
+    }//end purgeCollected()
+
+    /** Stops tracking an evicted value which is being taken back or replaced; counts it if already collected. */
+    private void untrack(EvictedReference<K,V> ref){
+	ref.untracked = true;
+	reachableEvictedBytes -= ref.sizeInBytes;
+	if(ref.get() == null){
+	    unreachable++;
+	    unreachableBytes += ref.sizeInBytes;
+	}
+	ref.clear();
+    }//end untrack(...)
+
+    /**
+     * Adds to the time spent loading values which missed this cache.
+     * @since Oct 18, 2026
+     */
+    public synchronized void recordLoad(long nanos){
+	loads++;
+	loadNanos += nanos;
+    }
+
+    /**
+     * Adds to the memory which this tier's values returned to their pools once cleaned up. Typically called
+     * from a cleaner's thread.
+     * @since Oct 18, 2026
+     */
+    public synchronized void recordFreed(long bytes){
+	freedBytes += bytes;
+    }
+
+    /**
+     * Evicts every entry. Evicted values being tracked stay tracked.
+     */
+    @Override
+    public synchronized void clear() {
+	purgeCollected();
+	for(Map.Entry<K,Entry<V>> entry : entries.entrySet())
+	    evict(entry.getKey(), entry.getValue());
+	entries.clear();
+    }//end clear()
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+	return entries.containsKey(key);
+    }
+
+    @Override
+    public synchronized boolean containsValue(Object value) {
+	for(Entry<V> entry : entries.values())
+	    if(entry.value.equals(value))
+		return true;
+	return false;
+    }
+
+    /**
+     * @return A snapshot of the entries currently cached.
+     */
+    @Override
+    public synchronized Set<Map.Entry<K, V>> entrySet() {
+	final HashSet<Map.Entry<K,V>> result = new HashSet<Map.Entry<K,V>>();
+	for(Map.Entry<K,Entry<V>> entry : entries.entrySet())
+	    result.add(new AbstractMap.SimpleImmutableEntry<K,V>(entry.getKey(), entry.getValue().value));
+	return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+	return entries.isEmpty();
+    }
+
+    /**
+     * @return A snapshot of the keys currently cached.
+     */
+    @Override
+    public synchronized Set<K> keySet() {
+	return Collections.unmodifiableSet(new HashSet<K>(entries.keySet()));
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+	for(Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+	    put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public synchronized V remove(Object key) {
+	final EvictedReference<K,V> ref = evicted.remove(key);
+	if(ref != null)
+	    untrack(ref);
+	final Entry<V> entry = entries.remove(key);
+	if(entry == null)
+	    return null;
+	sizeInBytes -= entry.sizeInBytes;
+	return entry.value;
+    }//end remove(...)
+
+    @Override
+    public synchronized int size() {
+	return entries.size();
+    }
+
+    /**
+     * @return A snapshot of the values currently cached.
+     */
+    @Override
+    public synchronized Collection<V> values() {
+	final ArrayList<V> result = new ArrayList<V>(entries.size());
+	for(Entry<V> entry : entries.values())
+	    result.add(entry.value);
+	return Collections.unmodifiableList(result);
+    }
+
+    public String getName() {
+	return name;
+    }
+
+    public long getBudgetInBytes() {
+	return budgetInBytes;
+    }
+
+    public synchronized boolean isTrackingEvicted() {
+	return trackingEvicted;
+    }
+
+    /**
+     * @param trackingEvicted true to keep evicted values weakly until they are collected, recovering those
+     * still in use and counting the bytes of those which became unreachable. For tiers whose values free GPU
+     * memory once unreachable.
+     * @return this
+     */
+    public synchronized AssetCache<K,V> setTrackingEvicted(boolean trackingEvicted) {
+	this.trackingEvicted = trackingEvicted;
+	return this;
+    }
+
+    /**
+     * @return A snapshot of this cache's counters.
+     * @since Oct 18, 2026
+     */
+    public synchronized Statistics getStatistics(){
+	purgeCollected();
+	return new Statistics(this);
+    }
+
+    public static final class Statistics {
+	private final long hits, misses, recoveries, loads, loadNanos, evictions, evictedBytes,
+	                   unreachable, unreachableBytes, reachableEvictedBytes, freedBytes, sizeInBytes, budgetInBytes;
+	private final int  entries;
+
+	Statistics(AssetCache<?,?> cache){
+	    hits                = cache.hits;
+	    misses              = cache.misses;
+	    recoveries          = cache.recoveries;
+	    loads               = cache.loads;
+	    loadNanos           = cache.loadNanos;
+	    evictions           = cache.evictions;
+	    evictedBytes        = cache.evictedBytes;
+	    unreachable           = cache.unreachable;
+	    unreachableBytes      = cache.unreachableBytes;
+	    reachableEvictedBytes = cache.reachableEvictedBytes;
+	    freedBytes            = cache.freedBytes;
+	    sizeInBytes           = cache.sizeInBytes;
+	    budgetInBytes         = cache.budgetInBytes;
+	    entries               = cache.entries.size();
+	}//end constructor
+
+	public long getHits() {
+	    return hits;
+	}
+
+	public long getMisses() {
+	    return misses;
+	}
+
+	/**
+	 * @return Hits on evicted values which were still reachable, and so still resident.
+	 */
+	public long getRecoveries() {
+	    return recoveries;
+	}
+
+	public long getLoads() {
+	    return loads;
+	}
+
+	public long getLoadNanos() {
+	    return loadNanos;
+	}
+
+	public long getEvictions() {
+	    return evictions;
+	}
+
+	public long getEvictedBytes() {
+	    return evictedBytes;
+	}
+
+	/**
+	 * @return Evicted values since collected. Their memory may be freed only later, or not at all while shared.
+	 */
+	public long getUnreachable() {
+	    return unreachable;
+	}
+
+	public long getUnreachableBytes() {
+	    return unreachableBytes;
+	}
+
+	/**
+	 * @return Bytes of evicted values still reachable from elsewhere, which eviction hasn't freed yet.
+	 */
+	public long getReachableEvictedBytes() {
+	    return reachableEvictedBytes;
+	}
+
+	/**
+	 * @return Bytes which cleaned-up values reported through {@link AssetCache#recordFreed(long)}.
+	 */
+	public long getFreedBytes() {
+	    return freedBytes;
+	}
+
+	public long getSizeInBytes() {
+	    return sizeInBytes;
+	}
+
+	public long getBudgetInBytes() {
+	    return budgetInBytes;
+	}
+
+	public int getEntries() {
+	    return entries;
+	}
+
+	public double getHitRatio() {
+	    final long requests = hits + misses;
+	    return requests == 0?0:(double)hits / requests;
+	}
+
+	@Override
+	public String toString(){
+	    return "hits="+hits+" misses="+misses+" recoveries="+recoveries+" loads="+loads+
+		    " loadMs="+String.format("%.1f", loadNanos / 1000000.)+" evictions="+evictions+
+		    " unreachableBytes="+unreachableBytes+" reachableEvictedBytes="+reachableEvictedBytes+
+		    " freedBytes="+freedBytes+" size="+sizeInBytes+"/"+budgetInBytes+" entries="+entries;
+	}
+    }//end Statistics
+}//end AssetCache
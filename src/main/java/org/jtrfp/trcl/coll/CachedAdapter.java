@@ -13,6 +13,11 @@
 
 package org.jtrfp.trcl.coll;
 
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
 import org.apache.commons.collections4.map.AbstractReferenceMap.ReferenceStrength;
 import org.jtrfp.trcl.tools.Util;
 
@@ -84,6 +89,74 @@ public abstract class CachedAdapter<U,V> implements Adapter<U, V> {
 	}//end sync(cache)
     }//end reAdapt(...)
     
+    /**
+     * Drops the cached value for the given key, if any, so that the next adapt() creates it anew.
+     * @since Oct 18, 2026
+     */
+    public void evict(U key){
+	synchronized(cache){
+	    cache.remove(key);
+	}
+    }//end evict(...)
+    
+    /**
+     * Drops every cached value.
+     * @since Oct 18, 2026
+     */
+    public void evictAll(){
+	synchronized(cache){
+	    cache.clear();
+	}
+    }//end evictAll()
+    
+    /**
+     * A write-only target for a {@link CollectionActionDispatcher} of keys, evicting each key removed from it.
+     * Lets a cache holding hard references drop values once their keys are no longer in use.
+     * @since Oct 18, 2026
+     */
+    public Collection<U> newEvictingTarget(){
+	return new AbstractCollection<U>(){
+	    @Override
+	    public boolean add(U key) {
+		return true;
+	    }
+
+	    @SuppressWarnings("unchecked")
+	    @Override
+	    public boolean remove(Object key) {
+		evict((U)key);
+		return true;
+	    }
+
+	    @Override
+	    public boolean removeAll(Collection<?> keys) {
+		for(Object key : keys)
+		    remove(key);
+		return true;
+	    }
+
+	    @Override
+	    public boolean retainAll(Collection<?> keys) {
+		evictAll();//Doesn't know which keys it holds
+		return true;
+	    }
+
+	    @Override
+	    public void clear() {
+		evictAll();
+	    }
+
+	    @Override
+	    public Iterator<U> iterator() {
+		return Collections.<U>emptyIterator();
+	    }
+
+	    @Override
+	    public int size() {
+		return 0;
+	    }};
+    }//end newEvictingTarget()
+    
     protected abstract V _adapt  (U value) throws UnsupportedOperationException;
     protected abstract U _reAdapt(V value) throws UnsupportedOperationException;
     
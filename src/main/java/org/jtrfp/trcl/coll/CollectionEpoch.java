@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.coll;
+
+import java.util.ArrayList;
+
+/**
+ * Thread-confined batch of collection actions. While a thread has an epoch open, batch-aware stages it drives,
+ * such as {@link CollectionThreadDecoupler}, accumulate the net effect of their adds and removes instead of
+ * forwarding each one, and deliver it once when the outermost epoch ends.<br><br>
+ * Typical use by a producer about to emit many actions at once:
+ * <pre>
+ * CollectionEpoch.begin();
+ * try{filter.reEvaluatePredicates();}
+ * finally{CollectionEpoch.end();}
+ * </pre>
+ * Epochs nest; only the outermost {@link #end()} delivers.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class CollectionEpoch {
+    private static final ThreadLocal<CollectionEpoch> CURRENT = new ThreadLocal<CollectionEpoch>();
+    private final ArrayList<Participant> participants = new ArrayList<Participant>();
+    private int depth;
+
+    private CollectionEpoch(){}
+
+    /**
+     * A stage which defers actions until the epoch in which they were made ends.
+     */
+    static interface Participant {
+	/**
+	 * Delivers everything deferred during the ending epoch. Called on the epoch's thread.
+	 */
+	public void endEpoch(CollectionEpoch epoch);
+    }//end Participant
+
+    /**
+     * Opens an epoch on the calling thread, or nests within the one already open.
+     * @since Oct 18, 2026
+     */
+    public static void begin(){
+	CollectionEpoch epoch = CURRENT.get();
+	if(epoch == null)
+	    CURRENT.set(epoch = new CollectionEpoch());
+	epoch.depth++;
+    }//end begin()
+
+    /**
+     * Closes the innermost epoch on the calling thread. Closing the outermost delivers all deferred actions.
+     * @throws IllegalStateException if no epoch is open on this thread.
+     * @since Oct 18, 2026
+     */
+    public static void end(){
+	final CollectionEpoch epoch = CURRENT.get();
+	if(epoch == null)
+	    throw new IllegalStateException("No epoch open on "+Thread.currentThread());
+	if(--epoch.depth > 0)
+	    return;
+	CURRENT.remove();
+	//Participants are free to begin new epochs of their own while delivering
+	for(Participant participant:epoch.participants)
+	    participant.endEpoch(epoch);
+	epoch.participants.clear();
+    }//end end()
+
+    /**
+     * @return The epoch open on the calling thread, or null if none.
+     */
+    static CollectionEpoch current(){
+	return CURRENT.get();
+    }
+
+    public static boolean isOpen(){
+	return CURRENT.get() != null;
+    }
+
+    /**
+     * Registers a participant to be notified when this epoch ends. Must be called on the epoch's thread,
+     * at most once per participant per epoch.
+     */
+    void enlist(Participant participant){
+	participants.add(participant);
+    }
+}//end CollectionEpoch
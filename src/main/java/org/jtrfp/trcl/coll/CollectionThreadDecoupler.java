@@ -13,19 +13,34 @@
 
 package org.jtrfp.trcl.coll;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 import org.jtrfp.trcl.TracingExecutor;
 import org.jtrfp.trcl.tools.Util;
 
-public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatable<E>, Decorator<Collection<E>>, BulkRemovable<E> {
+/**
+ * Forwards collection actions to a delegate by posting them to an executor.<br><br>
+ * Adds and removes made while the calling thread has a {@link CollectionEpoch} open are netted against each other
+ * and posted as a single task when the epoch ends, so that an add and remove of the same element cancel out.
+ * Any other action, or any action from a thread outside that epoch, first posts what has been accumulated so that
+ * the delegate observes actions in their original order.
+ * @author Chuck Ritola
+ *
+ */
+
+public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatable<E>, Decorator<Collection<E>>, BulkRemovable<E>, CollectionEpoch.Participant {
     private final Executor 	executor;
     private final Collection<E>	delegate;
     private static final boolean DEBUG = true;
+    private NetChanges          pending;
+    private CollectionEpoch     pendingEpoch;
     
     public CollectionThreadDecoupler(Collection<E> delegate, Executor executor){
 	this.executor=DEBUG?new TracingExecutor(executor):executor;
@@ -34,6 +49,11 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized boolean add(final E element) {
+	final NetChanges batch = batch();
+	if(batch != null){
+	    batch.add(element, 1);
+	    return true;
+	}
 	executor.execute(new Runnable(){
 	    @Override
 	    public synchronized void run() {
@@ -44,6 +64,12 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized boolean addAll(final Collection<? extends E> elements) {
+	final NetChanges batch = batch();
+	if(batch != null){
+	    for(E element:elements)
+		batch.add(element, 1);
+	    return true;
+	}
 	@SuppressWarnings("unchecked")
 	final List<E> toAdd = (List<E>)Arrays.asList(elements.toArray());
 	executor.execute(new Runnable(){
@@ -56,6 +82,9 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized void clear() {
+	if(pending != null)
+	    pending.clear();//Cleared anyway
+	flushPending();
 	executor.execute(new Runnable(){
 	    @Override
 	    public synchronized void run() {
@@ -89,6 +118,11 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized boolean remove(final Object element) {
+	final NetChanges batch = batch();
+	if(batch != null){
+	    batch.add(element, -1);
+	    return true;
+	}
 	executor.execute(new Runnable(){
 	    @Override
 	    public synchronized void run() {
@@ -99,6 +133,12 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized boolean removeAll(final Collection<?> elements) {
+	final NetChanges batch = batch();
+	if(batch != null){
+	    for(Object element:elements)
+		batch.add(element, -1);
+	    return true;
+	}
 	final List<?> toRemove = (List<?>)Arrays.asList(elements.toArray());
 	executor.execute(new Runnable(){
 	    @Override
@@ -110,6 +150,7 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized boolean retainAll(final Collection<?> elements) {
+	flushPending();
 	final List<?> toRetain = (List<?>)Arrays.asList(elements.toArray());
 	executor.execute(new Runnable(){
 	    @Override
@@ -139,6 +180,7 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized void repopulate(final Collection<E> c) {
+	flushPending();
 	@SuppressWarnings("unchecked")
 	final List<E> toRepopulate = (List<E>)Arrays.asList(c.toArray());
 	executor.execute(new Runnable(){
@@ -154,6 +196,12 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 
     @Override
     public synchronized void bulkRemove(final Collection<E> it) {
+	final NetChanges batch = batch();
+	if(batch != null){
+	    for(E element:it)
+		batch.add(element, -1);
+	    return;
+	}
 	@SuppressWarnings("unchecked")
 	final Collection<E> items = (Collection<E>)Arrays.asList(it.toArray());
 	executor.execute(new Runnable(){
@@ -162,4 +210,81 @@ public class CollectionThreadDecoupler<E> implements Collection<E>, Repopulatabl
 		Util.bulkRemove(items, delegate);
 	    }});
     }
+    
+    /**
+     * @return The accumulator for the calling thread's open epoch, or null if actions are to be posted immediately.
+     */
+    private NetChanges batch(){
+	final CollectionEpoch epoch = CollectionEpoch.current();
+	if(epoch != pendingEpoch)
+	    flushPending();
+	if(epoch == null)
+	    return null;
+	if(pending == null){
+	    pending      = new NetChanges();
+	    pendingEpoch = epoch;
+	    epoch.enlist(this);
+	}
+	return pending;
+    }//end batch()
+    
+    @Override
+    public synchronized void endEpoch(CollectionEpoch epoch) {
+	if(epoch == pendingEpoch)
+	    flushPending();
+    }
+    
+    private void flushPending(){
+	final NetChanges toPost = pending;
+	pending      = null;
+	pendingEpoch = null;
+	if(toPost == null || toPost.isEmpty())
+	    return;
+	final List<E> toRemove = new ArrayList<E>(), toAdd = new ArrayList<E>();
+	toPost.drainTo(toRemove, toAdd);
+	executor.execute(new Runnable(){
+	    @Override
+	    public synchronized void run() {
+		if(!toRemove.isEmpty())
+		    Util.bulkRemove(toRemove, delegate);
+		if(!toAdd.isEmpty())
+		    delegate.addAll(toAdd);
+	    }});
+    }//end flushPending()
+    
+    /**
+     * Net count of adds less removes of each element, in order of first appearance.
+     */
+    private final class NetChanges {
+	private final Map<Object,int[]> counts = new LinkedHashMap<Object,int[]>();
+	
+	void add(Object element, int delta){
+	    final int [] count = counts.get(element);
+	    if(count == null)
+		counts.put(element, new int[]{delta});
+	    else if((count[0] += delta) == 0)
+		counts.remove(element);
+	}//end add(...)
+	
+	boolean isEmpty(){
+	    return counts.isEmpty();
+	}
+	
+	void clear(){
+	    counts.clear();
+	}
+	
+	@SuppressWarnings("unchecked")
+	void drainTo(List<E> toRemove, List<E> toAdd){
+	    for(Map.Entry<Object,int[]> entry:counts.entrySet()){
+		final int count = entry.getValue()[0];
+		final E element = (E)entry.getKey();//Removed elements may be of any type, as with remove(Object)
+		for(int i = count; i < 0; i++)
+		    toRemove.add(element);
+		for(int i = 0; i < count; i++)
+		    toAdd.add(element);
+	    }
+	    counts.clear();
+	}//end drainTo(...)
+    }//end NetChanges
 }//end CollectionActionSource
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.coll;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing, linear-probing map of primitive long keys to primitive int values.
+ * Intended for per-tick scratch use: {@link #clear()} is O(1) and does not release or
+ * touch the backing arrays, so a map which is cleared and refilled every tick stops allocating
+ * once it has grown to its working size. Values must be non-negative as {@link #NO_VALUE}
+ * is reserved to signal absence. Not thread-safe.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class LongIntHashMap {
+    public static final int NO_VALUE = -1;
+    private static final float LOAD_FACTOR = .5f;
+    private long [] keys;
+    private int  [] values;
+    private int  [] generations;
+    private int     generation = 1;
+    private int     size = 0, mask, resizeThreshold;
+
+    public LongIntHashMap(){
+	this(64);
+    }
+
+    public LongIntHashMap(int initialCapacity){
+	allocate(Integer.highestOneBit(Math.max(4, initialCapacity - 1)) << 1);
+    }
+
+    private void allocate(int capacity){
+	keys            = new long[capacity];
+	values          = new int[capacity];
+	generations     = new int[capacity];
+	generation      = 1;
+	mask            = capacity - 1;
+	resizeThreshold = (int)(capacity * LOAD_FACTOR);
+	size            = 0;
+    }
+
+    private static int hash(long key){
+	key ^= key >>> 33;
+	key *= 0xff51afd7ed558ccdL;
+	key ^= key >>> 33;
+	return (int)key;
+    }
+
+    /**
+     * Returns the value associated with the given key, or {@link #NO_VALUE} if absent.
+     * @param key
+     * @return
+     * @since Oct 18, 2026
+     */
+    public int get(long key){
+	int slot = hash(key) & mask;
+	while(generations[slot] == generation){
+	    if(keys[slot] == key)
+		return values[slot];
+	    slot = (slot + 1) & mask;
+	}
+	return NO_VALUE;
+    }
+
+    /**
+     * Associates the given key with the given value, replacing any existing association.
+     * @param key
+     * @param value
+     * @return The previous value or {@link #NO_VALUE} if absent.
+     * @since Oct 18, 2026
+     */
+    public int put(long key, int value){
+	int slot = hash(key) & mask;
+	while(generations[slot] == generation){
+	    if(keys[slot] == key){
+		final int result = values[slot];
+		values[slot] = value;
+		return result;
+	    }
+	    slot = (slot + 1) & mask;
+	}
+	generations[slot] = generation;
+	keys[slot]        = key;
+	values[slot]      = value;
+	if(++size > resizeThreshold)
+	    rehash();
+	return NO_VALUE;
+    }
+
+    private void rehash(){
+	final long [] oldKeys        = keys;
+	final int  [] oldValues      = values;
+	final int  [] oldGenerations = generations;
+	final int     oldGeneration  = generation;
+	allocate(keys.length * 2);
+	for(int i = 0; i < oldKeys.length; i++)
+	    if(oldGenerations[i] == oldGeneration)
+		put(oldKeys[i], oldValues[i]);
+    }//end rehash()
+
+    public boolean containsKey(long key){
+	return get(key) != NO_VALUE;
+    }
+
+    public int size(){
+	return size;
+    }
+
+    public boolean isEmpty(){
+	return size == 0;
+    }
+
+    /**
+     * Removes all entries in constant time without releasing the backing storage.
+     *
+     * @since Oct 18, 2026
+     */
+    public void clear(){
+	size = 0;
+	if(++generation == 0){//Wrapped; stale stamps could alias the new generation.
+	    Arrays.fill(generations, 0);
+	    generation = 1;
+	}
+    }//end clear()
+
+    public int getCapacity(){
+	return keys.length;
+    }
+}//end LongIntHashMap
@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -27,9 +28,9 @@ import org.apache.commons.collections4.iterators.IteratorChain;
 import org.jtrfp.trcl.tools.Util;
 
 public class PredicatedORCollectionActionFilter<E> implements Collection<Predicate<E>> {
-    private Collection<E> 
-    	    used  = new ArrayList<E>(),
-	    unused= new ArrayList<E>();
+    private Collection<E> //Sets, so that individual elements may be re-evaluated cheaply. Input has set semantics.
+    	    used  = new LinkedHashSet<E>(),
+	    unused= new LinkedHashSet<E>();
     private Set<Predicate<E>> predicates  = new HashSet<Predicate<E>>();
     private final Collection<E> delegate;
     
@@ -178,12 +179,14 @@ public class PredicatedORCollectionActionFilter<E> implements Collection<Predica
     public final Collection<E> input = new Collection<E>(){
 	@Override
 	public boolean add(E e) {
-	    boolean result;
+	    if(used.contains(e) || unused.contains(e))
+		return false;//Already present; the delegate must not receive it twice
 	    if(matchesPredicates(e,predicates)){
-		result = used.add(e);
+		used.add(e);
 		delegate.add(e);
-	    }else{result = unused.add(e);}
-	    return result;
+	    }else
+		unused.add(e);
+	    return true;
 	}//end add(E)
 
 	@Override
@@ -341,4 +344,28 @@ public class PredicatedORCollectionActionFilter<E> implements Collection<Predica
 		}
 	    }//end if(!pEmpty)
 	}//end reEvaluatePredicates()
+	
+	/**
+	 * Re-evaluates the predicates against only the given input elements, for callers which know that no other
+	 * element's result can have changed. Elements not in the input are ignored.
+	 * @param candidates
+	 * @since Oct 18, 2026
+	 */
+	public void reEvaluatePredicates(Collection<? extends E> candidates) {
+	    final ArrayList<E> toRemove = new ArrayList<E>(), toAdd = new ArrayList<E>();
+	    for(E element:candidates){
+		final boolean matches = matchesPredicates(element,predicates);
+		if(!matches && used.remove(element)){
+		    unused  .add(element);
+		    toRemove.add(element);
+		}else if(matches && unused.remove(element)){
+		    used .add(element);
+		    toAdd.add(element);
+		}
+	    }//end for(candidates)
+	    if(!toRemove.isEmpty())
+		Util.bulkRemove(toRemove, delegate);
+	    if(!toAdd.isEmpty())
+		delegate.addAll(toAdd);
+	}//end reEvaluatePredicates(...)
 }//end PredicatedORListActionFilter
@@ -38,7 +38,11 @@ public class TRConfigurationFactory implements FeatureFactory<TR>{
 	//ACTIVE_AUDIO_OUTPUT = "activeAudioOutput",
 	//ACTIVE_AUDIO_FORMAT = "activeAudioFormat",
 	//AUDIO_BUFFER_SIZE   = "audioBufferSize",
-	CROSSHAIRS_ENABLED  = "crosshairsEnabled";
+	CROSSHAIRS_ENABLED  = "crosshairsEnabled",
+	PARALLEL_COLLISIONS = "parallelCollisions",
+	FIXED_TIMESTEP_HZ   = "fixedTimestepHz",
+	PARALLEL_TICKS      = "parallelTicks",
+	COMPRESSED_TEXTURES = "compressedTextures";
     
     public static class TRConfiguration implements Feature<TR>{
 	
@@ -50,6 +54,10 @@ public class TRConfigurationFactory implements FeatureFactory<TR>{
 	private String skipToLevel;
 	private String voxFile;
 	private boolean /*audioLinearFiltering=false, audioBufferLag=true, */crosshairsEnabled = true;
+	private boolean parallelCollisions = false;
+	private boolean parallelTicks = false;
+	private boolean compressedTextures = false;
+	private int fixedTimestepHz = 0;
 	private HashSet<String> missionList = new HashSet<String>();
 	/*private String activeAudioDriver = "org.jtrfp.trcl.snd.JavaSoundSystemAudioOutput",
 		activeAudioDevice,
@@ -245,6 +253,58 @@ public class TRConfigurationFactory implements FeatureFactory<TR>{
 	    this.crosshairsEnabled = crosshairsEnabled;
 	    pcs.firePropertyChange(CROSSHAIRS_ENABLED,oldValue,crosshairsEnabled);
 	}
+	
+	public boolean isParallelCollisions() {
+	    return parallelCollisions;
+	}
+
+	/**
+	 * @param parallelCollisions true to run the collision narrow phase on a fork-join pool. Results are identical either way.
+	 */
+	public void setParallelCollisions(boolean parallelCollisions) {
+	    final boolean oldValue = this.parallelCollisions;
+	    this.parallelCollisions = parallelCollisions;
+	    pcs.firePropertyChange(PARALLEL_COLLISIONS,oldValue,parallelCollisions);
+	}
+	
+	public boolean isParallelTicks() {
+	    return parallelTicks;
+	}
+
+	/**
+	 * @param parallelTicks true to tick thread-safe local behaviors on a fork-join pool ahead of the serial world-mutating behaviors.
+	 */
+	public void setParallelTicks(boolean parallelTicks) {
+	    final boolean oldValue = this.parallelTicks;
+	    this.parallelTicks = parallelTicks;
+	    pcs.firePropertyChange(PARALLEL_TICKS,oldValue,parallelTicks);
+	}
+	
+	public boolean isCompressedTextures() {
+	    return compressedTextures;
+	}
+
+	/**
+	 * @param compressedTextures true to vector-quantize level textures into shared codebook blocks as they load.
+	 */
+	public void setCompressedTextures(boolean compressedTextures) {
+	    final boolean oldValue = this.compressedTextures;
+	    this.compressedTextures = compressedTextures;
+	    pcs.firePropertyChange(COMPRESSED_TEXTURES,oldValue,compressedTextures);
+	}
+	
+	public int getFixedTimestepHz() {
+	    return fixedTimestepHz;
+	}
+
+	/**
+	 * @param fixedTimestepHz Gameplay simulation rate, i.e. 60 or 120. Zero for legacy variable-step gameplay.
+	 */
+	public void setFixedTimestepHz(int fixedTimestepHz) {
+	    final int oldValue = this.fixedTimestepHz;
+	    this.fixedTimestepHz = fixedTimestepHz;
+	    pcs.firePropertyChange(FIXED_TIMESTEP_HZ,oldValue,fixedTimestepHz);
+	}
 	/*
 	public Map<String, Object> getComponentConfigs() {
 	    if(componentConfigs==null)
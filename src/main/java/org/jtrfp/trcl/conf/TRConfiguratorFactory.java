@@ -39,6 +39,10 @@ public class TRConfiguratorFactory implements FeatureFactory<TRConfiguration> {
 	    //org.jtrfp.trcl.conf.TRConfigurationFactory.ACTIVE_AUDIO_FORMAT,
 	    //org.jtrfp.trcl.conf.TRConfigurationFactory.AUDIO_BUFFER_SIZE,
 	    org.jtrfp.trcl.conf.TRConfigurationFactory.CROSSHAIRS_ENABLED,
+	    org.jtrfp.trcl.conf.TRConfigurationFactory.PARALLEL_COLLISIONS,
+	    org.jtrfp.trcl.conf.TRConfigurationFactory.FIXED_TIMESTEP_HZ,
+	    org.jtrfp.trcl.conf.TRConfigurationFactory.PARALLEL_TICKS,
+	    org.jtrfp.trcl.conf.TRConfigurationFactory.COMPRESSED_TEXTURES,
 	    "usingTextureBufferUnmap",
 	    "debugMode",
 	    "targetFPS",
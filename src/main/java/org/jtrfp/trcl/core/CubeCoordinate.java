@@ -22,8 +22,30 @@ import lombok.Getter;
 public class CubeCoordinate {
     public static final CubeCoordinate RELEVANT_EVERYWHERE = new RelevantEverywhere();
     public static final CubeCoordinate CENTER_CUBE = new CenterCube();
+    private static final int  PACKED_BITS_PER_AXIS = 21;
+    private static final long PACKED_AXIS_MASK     = (1L << PACKED_BITS_PER_AXIS) - 1;
     @Getter
     private final int x,y,z;
+    
+    /**
+     * Packs the given cube coordinates into a single long, {@value #PACKED_BITS_PER_AXIS} two's-complement
+     * bits per axis, for use as a primitive hash key. Distinct coordinates within +/-2^20 cubes 
+     * yield distinct packed values.
+     * @param x
+     * @param y
+     * @param z
+     * @return
+     * @since Oct 18, 2026
+     */
+    public static long pack(int x, int y, int z){
+	return ((x & PACKED_AXIS_MASK) << (PACKED_BITS_PER_AXIS * 2)) |
+	       ((y & PACKED_AXIS_MASK) <<  PACKED_BITS_PER_AXIS) |
+	        (z & PACKED_AXIS_MASK);
+    }//end pack(...)
+    
+    public long pack(){
+	return pack(x,y,z);
+    }
 
     private static final class RelevantEverywhere extends CubeCoordinate {
 	private static int HASH = "RelevantEverywhere".hashCode();
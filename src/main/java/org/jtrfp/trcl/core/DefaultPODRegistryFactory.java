@@ -41,7 +41,7 @@ public class DefaultPODRegistryFactory implements FeatureFactory<TR> {
 	private TR target;
 
 	public DefaultPODRegistry(){
-	    podCache = new CachedAdapter<String,IPodData>(new BidiReferenceMap<String,IPodData>(ReferenceStrength.SOFT,ReferenceStrength.SOFT, 64,.75f,true)){
+	    podCache = new CachedAdapter<String,IPodData>(new BidiReferenceMap<String,IPodData>(ReferenceStrength.HARD,ReferenceStrength.HARD, 64,.75f,true)){
 
 		@Override
 		protected IPodData _adapt(String path)
@@ -69,6 +69,8 @@ public class DefaultPODRegistryFactory implements FeatureFactory<TR> {
 		}};
 		
 		podCollection.addTarget(podCollectionPrinter, false);
+		//PODs stay parsed while registered, rather than until the GC wants their memory
+		podCollection.addTarget(podCache.newEvictingTarget(), false);
 	}//end constructor
 	
 	@Override
@@ -34,7 +34,7 @@ public class GameResourcePODRegistry implements PODRegistry {
     
     public GameResourcePODRegistry(GameCampaignData data) {
 	podCAD.addAll(data.getPodURIs());
-	podCache = new CachedAdapter<String,IPodData>(new BidiReferenceMap<String,IPodData>(ReferenceStrength.SOFT,ReferenceStrength.SOFT, 64,.75f,true)){
+	podCache = new CachedAdapter<String,IPodData>(new BidiReferenceMap<String,IPodData>(ReferenceStrength.HARD,ReferenceStrength.HARD, 64,.75f,true)){
 
 		@Override
 		protected IPodData _adapt(String path)
@@ -55,6 +55,8 @@ public class GameResourcePODRegistry implements PODRegistry {
 		}};
 		
 		podCAD.addTarget(podCollectionPrinter, false);
+		//PODs stay parsed while registered, rather than until the GC wants their memory
+		podCAD.addTarget(podCache.newEvictingTarget(), false);
     }//end constructor
 
     @Override
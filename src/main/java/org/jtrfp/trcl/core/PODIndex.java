@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.core;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jtrfp.jtrfp.pod.IPodData;
+import org.jtrfp.jtrfp.pod.IPodFileEntry;
+
+/**
+ * Merged name index of every entry of every POD in a {@link PODRegistry}, rebuilt on the first lookup after the
+ * registry's POD collection changes. Where PODs share a name, the first POD in the collection's iteration order wins,
+ * as with a linear findEntry() search.<br><br>
+ * POD1 archives are memory-mapped once and their entries read as zero-copy {@link ByteBuffer} slices. Other formats
+ * fall back to their {@link IPodFileEntry}'s stream. Names are case-insensitive.<br><br>
+ * Thread-safe.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class PODIndex {
+    private static final int POD1_COMMENT_LENGTH = 80, POD1_NAME_LENGTH = 32, POD1_ENTRY_LENGTH = POD1_NAME_LENGTH + 8;
+    private final PODRegistry registry;
+    private final Collection<String> registryListener = new StaleMarker();
+    private final HashMap<String,ByteBuffer> mappedPODs = new HashMap<String,ByteBuffer>();
+    private volatile HashMap<String,Entry> index;
+    private volatile int generation;
+    private final AtomicLong lookups = new AtomicLong(), lookupNanos = new AtomicLong();
+    private volatile long rebuilds;
+
+    public static final class Entry {
+	private final String        podPath;
+	private final ByteBuffer    pod;
+	private final int           offset, length;
+	private final IPodFileEntry fallback;
+
+	Entry(String podPath, ByteBuffer pod, int offset, int length){
+	    this.podPath  = podPath;
+	    this.pod      = pod;
+	    this.offset   = offset;
+	    this.length   = length;
+	    this.fallback = null;
+	}
+
+	Entry(String podPath, IPodFileEntry fallback){
+	    this.podPath  = podPath;
+	    this.pod      = null;
+	    this.offset   = -1;
+	    this.length   = -1;
+	    this.fallback = fallback;
+	}
+
+	/**
+	 * @return This entry's bytes as a new read-only, little-endian view positioned at zero. Zero-copy where the POD
+	 * is mapped, otherwise read from the POD into a heap buffer.
+	 * @since Oct 18, 2026
+	 */
+	public ByteBuffer getByteBuffer() throws IOException {
+	    if(pod != null){
+		final ByteBuffer result = pod.duplicate();
+		result.limit(offset + length).position(offset);
+		return result.slice().order(ByteOrder.LITTLE_ENDIAN);
+	    }
+	    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	    final InputStream is = getInputStream();
+	    try{
+		final byte [] buffer = new byte[8192];
+		int read;
+		while((read = is.read(buffer)) != -1)
+		    bytes.write(buffer, 0, read);
+	    }finally{is.close();}
+	    return ByteBuffer.wrap(bytes.toByteArray()).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+	}//end getByteBuffer()
+
+	public InputStream getInputStream() throws IOException {
+	    if(pod != null)
+		return new ByteBufferInputStream(getByteBuffer());
+	    try{return new BufferedInputStream(fallback.getInputStreamFromPod());}
+	    catch(Exception e){throw asIOException(e, "Failed to read "+fallback.getPath()+" from "+podPath);}
+	}
+
+	public String getPODPath(){
+	    return podPath;
+	}
+
+	/**
+	 * @return Byte offset of this entry within its POD, or -1 if the POD isn't mapped.
+	 * @since Oct 18, 2026
+	 */
+	public int getOffset(){
+	    return offset;
+	}
+
+	/**
+	 * @return Length in bytes of this entry, or -1 if the POD isn't mapped.
+	 * @since Oct 18, 2026
+	 */
+	public int getLength(){
+	    return length;
+	}
+    }//end Entry
+
+    /**
+     * Reads a ByteBuffer's remaining bytes without copying them anywhere but the caller's array.
+     * @author Chuck Ritola
+     *
+     */
+    public static final class ByteBufferInputStream extends InputStream {
+	private final ByteBuffer buffer;
+	private int mark;
+
+	public ByteBufferInputStream(ByteBuffer buffer){
+	    this.buffer = buffer;
+	    this.mark   = buffer.position();
+	}
+
+	@Override
+	public int read(){
+	    return buffer.hasRemaining()?buffer.get() & 0xFF:-1;
+	}
+
+	@Override
+	public int read(byte [] dest, int offset, int length){
+	    if(length == 0)
+		return 0;
+	    if(!buffer.hasRemaining())
+		return -1;
+	    length = Math.min(length, buffer.remaining());
+	    buffer.get(dest, offset, length);
+	    return length;
+	}
+
+	@Override
+	public long skip(long n){
+	    final int skipped = (int)Math.max(0, Math.min(n, buffer.remaining()));
+	    buffer.position(buffer.position() + skipped);
+	    return skipped;
+	}
+
+	@Override
+	public int available(){
+	    return buffer.remaining();
+	}
+
+	@Override
+	public boolean markSupported(){
+	    return true;
+	}
+
+	@Override
+	public synchronized void mark(int readLimit){
+	    mark = buffer.position();
+	}
+
+	@Override
+	public synchronized void reset(){
+	    buffer.position(mark);
+	}
+    }//end ByteBufferInputStream
+
+    /** Receives the registry's collection operations only to invalidate the index. */
+    private final class StaleMarker extends AbstractCollection<String> {
+	@Override
+	public boolean add(String path){
+	    invalidate();
+	    return true;
+	}
+
+	@Override
+	public boolean remove(Object path){
+	    invalidate();
+	    return true;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> paths){
+	    invalidate();
+	    return true;
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> paths){
+	    invalidate();
+	    return true;
+	}
+
+	@Override
+	public void clear(){
+	    invalidate();
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+	    return Collections.<String>emptyList().iterator();
+	}
+
+	@Override
+	public int size() {
+	    return 0;
+	}
+    }//end StaleMarker
+
+    public PODIndex(PODRegistry registry){
+	if(registry == null)
+	    throw new NullPointerException("Registry intolerably null.");
+	this.registry = registry;
+	registry.getPodCollection().addTarget(registryListener, false);
+    }
+
+    /**
+     * Stops following the registry's changes. The index may still be used but goes stale.
+     * @since Oct 18, 2026
+     */
+    public void dispose(){
+	registry.getPodCollection().removeTarget(registryListener, false);
+    }
+
+    /**
+     * @param name Path within the PODs, i.e. ART\FOO.RAW
+     * @return The entry for this name in the first POD which has it, or null if none do.
+     * @throws IOException If a POD could not be indexed.
+     * @since Oct 18, 2026
+     */
+    public Entry find(String name) throws IOException {
+	final long start = System.nanoTime();
+	HashMap<String,Entry> index = this.index;
+	if(index == null)
+	    index = rebuild();
+	final Entry result = index.get(name.toUpperCase(Locale.ROOT));
+	lookupNanos.addAndGet(System.nanoTime() - start);
+	lookups.incrementAndGet();
+	return result;
+    }//end find(...)
+
+    /**
+     * @return A read-only, little-endian view of the named entry.
+     * @throws FileNotFoundException If no POD has this name.
+     * @since Oct 18, 2026
+     */
+    public ByteBuffer getByteBuffer(String name) throws IOException {
+	final Entry entry = find(name);
+	if(entry == null)
+	    throw new FileNotFoundException(name);
+	return entry.getByteBuffer();
+    }
+
+    /**
+     * Forces a rebuild on the next lookup. Called on any change to the registry's POD collection.
+     * @since Oct 18, 2026
+     */
+    public void invalidate(){
+	generation++;//Even if racing increments are lost, it differs from what a running rebuild saw
+	index = null;
+    }
+
+    private synchronized HashMap<String,Entry> rebuild() throws IOException {
+	HashMap<String,Entry> result = index;
+	if(result != null)
+	    return result;//Another thread rebuilt it
+	final int generation = this.generation;
+	result = new HashMap<String,Entry>();
+	final HashMap<String,ByteBuffer> stillMapped = new HashMap<String,ByteBuffer>();
+	for(String podPath : registry.getPodCollection()){
+	    ByteBuffer pod = mappedPODs.get(podPath);
+	    if(pod == null)
+		pod = mapPOD1(podPath);
+	    if(pod != null){
+		stillMapped.put(podPath, pod);
+		indexPOD1(podPath, pod, result);
+	    } else
+		indexFallback(podPath, result);
+	}//end for(pods)
+	mappedPODs.clear();
+	mappedPODs.putAll(stillMapped);
+	rebuilds++;
+	if(generation == this.generation)
+	    index = result;//Else the PODs changed while indexing; use it once and rebuild next time
+	return result;
+    }//end rebuild()
+
+    /**
+     * @return The whole POD mapped read-only, or null if it isn't a well-formed POD1 archive.
+     */
+    private static ByteBuffer mapPOD1(String podPath) throws IOException {
+	final File file = new File(podPath);
+	if(!file.isFile() || file.length() > Integer.MAX_VALUE)
+	    return null;
+	final RandomAccessFile raf = new RandomAccessFile(file, "r");
+	final ByteBuffer pod;
+	try{
+	    final FileChannel channel = raf.getChannel();
+	    pod = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());//Stays valid once closed
+	}finally{raf.close();}
+	return isPOD1(pod)?pod:null;
+    }//end mapPOD1(...)
+
+    static boolean isPOD1(ByteBuffer pod){
+	pod = pod.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	if(pod.capacity() < 4 + POD1_COMMENT_LENGTH)
+	    return false;
+	final long numEntries = pod.getInt(0) & 0xFFFFFFFFL;
+	final long directoryEnd = 4 + POD1_COMMENT_LENGTH + numEntries * POD1_ENTRY_LENGTH;
+	if(directoryEnd > pod.capacity())
+	    return false;//Includes other formats' magic numbers read as counts
+	for(int i = 0; i < numEntries; i++){
+	    final int entry = 4 + POD1_COMMENT_LENGTH + i * POD1_ENTRY_LENGTH;
+	    final long length = pod.getInt(entry + POD1_NAME_LENGTH    ) & 0xFFFFFFFFL;
+	    final long offset = pod.getInt(entry + POD1_NAME_LENGTH + 4) & 0xFFFFFFFFL;
+	    if(offset < directoryEnd || offset + length > pod.capacity())
+		return false;
+	}
+	return true;
+    }//end isPOD1(...)
+
+    static void indexPOD1(String podPath, ByteBuffer pod, HashMap<String,Entry> dest){
+	pod = pod.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	final int numEntries = pod.getInt(0);
+	final byte [] name = new byte[POD1_NAME_LENGTH];
+	for(int i = 0; i < numEntries; i++){
+	    final int entry = 4 + POD1_COMMENT_LENGTH + i * POD1_ENTRY_LENGTH;
+	    pod.position(entry);
+	    pod.get(name);
+	    int nameLength = 0;
+	    while(nameLength < name.length && name[nameLength] != 0)
+		nameLength++;
+	    final String key = new String(name, 0, nameLength, StandardCharsets.ISO_8859_1).toUpperCase(Locale.ROOT);
+	    if(!dest.containsKey(key))
+		dest.put(key, new Entry(podPath, pod, pod.getInt(entry + POD1_NAME_LENGTH + 4), pod.getInt(entry + POD1_NAME_LENGTH)));
+	}
+    }//end indexPOD1(...)
+
+    private void indexFallback(String podPath, HashMap<String,Entry> dest) throws IOException {
+	final IPodData data = registry.getPodData(podPath);
+	try{
+	    for(IPodFileEntry entry : data.getEntries()){
+		final String key = entry.getPath().toUpperCase(Locale.ROOT);
+		if(!dest.containsKey(key))
+		    dest.put(key, new Entry(podPath, entry));
+	    }
+	}catch(Exception e){throw asIOException(e, "Failed to index "+podPath);}
+    }//end indexFallback(...)
+
+    private static IOException asIOException(Exception e, String message){
+	return e instanceof IOException?(IOException)e:new IOException(message, e);
+    }
+
+    /**
+     * @return Number of entries across all PODs, after overrides, as of the last rebuild.
+     * @since Oct 18, 2026
+     */
+    public int size() throws IOException {
+	HashMap<String,Entry> index = this.index;
+	if(index == null)
+	    index = rebuild();
+	return index.size();
+    }
+
+    public long getLookups(){
+	return lookups.get();
+    }
+
+    /**
+     * @return Total time spent in {@link #find(String)}, including any rebuilds it triggered.
+     * @since Oct 18, 2026
+     */
+    public long getLookupNanos(){
+	return lookupNanos.get();
+    }
+
+    public long getRebuilds(){
+	return rebuilds;
+    }
+}//end PODIndex
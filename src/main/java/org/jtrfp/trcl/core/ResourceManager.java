@@ -24,13 +24,19 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -47,7 +53,6 @@ import org.jtrfp.jtrfp.FileLoadException;
 import org.jtrfp.jtrfp.act.ActColor;
 import org.jtrfp.jtrfp.internal.act.ActDataLoader;
 import org.jtrfp.jtrfp.internal.tex.TexDataLoader;
-import org.jtrfp.jtrfp.pod.IPodFileEntry;
 import org.jtrfp.trcl.AltitudeMap;
 import org.jtrfp.trcl.AnimatedTexture;
 import org.jtrfp.trcl.LineSegment;
@@ -56,14 +61,15 @@ import org.jtrfp.trcl.RawAltitudeMapWrapper;
 import org.jtrfp.trcl.RawTextureMeshWrapper;
 import org.jtrfp.trcl.RenderMode;
 import org.jtrfp.trcl.Sequencer;
-import org.jtrfp.trcl.SoftValueHashMap;
 import org.jtrfp.trcl.TextureMesh;
 import org.jtrfp.trcl.Triangle;
+import org.jtrfp.trcl.coll.AssetCache;
 import org.jtrfp.trcl.core.TRConfigRootFactory.TRConfigRoot;
 import org.jtrfp.trcl.core.TRFactory.TR;
 import org.jtrfp.trcl.ext.tr.GPUFactory.GPUFeature;
 import org.jtrfp.trcl.ext.tr.SoundSystemFactory.SoundSystemFeature;
 import org.jtrfp.trcl.file.BINFile;
+import org.jtrfp.trcl.file.BINFileReader;
 import org.jtrfp.trcl.file.BINFile.Model.DataBlock.AnimatedTextureBlock;
 import org.jtrfp.trcl.file.BINFile.Model.DataBlock.BillboardTexCoords0x04;
 import org.jtrfp.trcl.file.BINFile.Model.DataBlock.ColorBlock;
@@ -93,9 +99,11 @@ import org.jtrfp.trcl.flow.FZone;
 import org.jtrfp.trcl.flow.Fury3;
 import org.jtrfp.trcl.flow.TV;
 import org.jtrfp.trcl.gpu.GL33Model;
+import org.jtrfp.trcl.gpu.ReleaseListener;
 import org.jtrfp.trcl.gpu.Texture;
 import org.jtrfp.trcl.gpu.UncompressedVQTextureFactory;
 import org.jtrfp.trcl.gpu.VQTexture;
+import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
 import org.jtrfp.trcl.img.vq.ColorPaletteVectorList;
 import org.jtrfp.trcl.img.vq.PalettedVectorList;
 import org.jtrfp.trcl.img.vq.RAWVectorList;
@@ -114,24 +122,50 @@ import com.ochafik.util.Adapter;
 
 import de.quippy.javamod.multimedia.mod.loader.Module;
 import de.quippy.javamod.multimedia.mod.loader.ModuleFactory;
-import lombok.Setter;
 
 public class ResourceManager{
 	//private final Map<String,IPodData> pods = new HashMap<String,IPodData>();
-	private SoftValueHashMap<Integer, Texture> 
-	/*						*/	 rawCache 
-		= new SoftValueHashMap<Integer,Texture>();
-    	private SoftValueHashMap<String, Texture[]> 
-    								specialTextureNameMap 	
-    		= new SoftValueHashMap<String,Texture[]>();
-	private SoftValueHashMap<String, BINFile.AnimationControl>aniBinNameMap 	
-		= new SoftValueHashMap<String,BINFile.AnimationControl>();
-	private SoftValueHashMap<String, BINFile.Model> 	modBinNameMap 		
-		= new SoftValueHashMap<String,BINFile.Model>();
-	private SoftValueHashMap<String, GL33Model> 		modelCache 		
-		= new SoftValueHashMap<String,GL33Model>();
-	private SoftValueHashMap<String, Module> 		modCache 		
-		= new SoftValueHashMap<String,Module>();
+	private final AssetCache<Integer, Texture> 		rawCache 
+		= new AssetCache<Integer,Texture>("textures", getCacheBudget("textures", 384), new AssetCache.Weigher<Integer,Texture>(){
+		    @Override
+		    public long weigh(Integer key, Texture value) {
+			return getSizeInBytes(value);
+		    }}).setTrackingEvicted(true);
+	private final AssetCache<String, Texture[]> 		specialTextureNameMap 	
+		= new AssetCache<String,Texture[]>("specialTextures", getCacheBudget("specialTextures", 64), new AssetCache.Weigher<String,Texture[]>(){
+		    @Override
+		    public long weigh(String key, Texture[] value) {
+			long result = 0;
+			for(Texture texture : value)
+			    result += getSizeInBytes(texture);
+			return result;
+		    }}).setTrackingEvicted(true);
+	private final AssetCache<String, BINFile.AnimationControl>aniBinNameMap 	
+		= new AssetCache<String,BINFile.AnimationControl>("animationControls", getCacheBudget("animationControls", 1), null);
+	private final AssetCache<String, BINFile.Model> 	modBinNameMap 		
+		= new AssetCache<String,BINFile.Model>("binModels", getCacheBudget("binModels", 32), null);
+	private final AssetCache<BINModelKey, GL33Model> 	modelCache 		
+		= new AssetCache<BINModelKey,GL33Model>("models", getCacheBudget("models", 128), new AssetCache.Weigher<BINModelKey,GL33Model>(){
+		    @Override
+		    public long weigh(BINModelKey key, GL33Model value) {
+			return getSizeInBytes(value);
+		    }}).setTrackingEvicted(true);
+	private final ConcurrentHashMap<BINModelKey, FutureTask<GL33Model>> modelsDecoding
+		= new ConcurrentHashMap<BINModelKey, FutureTask<GL33Model>>();
+	private final AssetCache<String, Module> 		modCache 		
+		= new AssetCache<String,Module>("mods", getCacheBudget("mods", 64), null);
+	private final AssetCache<String, GPUResidentMOD>	gpuResidentMODCache
+		= new AssetCache<String,GPUResidentMOD>("gpuResidentMODs", getCacheBudget("gpuResidentMODs", 128), new AssetCache.Weigher<String,GPUResidentMOD>(){
+		    @Override
+		    public long weigh(String key, GPUResidentMOD value) {
+			return value.getSizeInBytes();
+		    }}).setTrackingEvicted(true);
+	private final AssetCache<String, SoundTexture>		soundTextureCache
+		= new AssetCache<String,SoundTexture>("soundTextures", getCacheBudget("soundTextures", 64), new AssetCache.Weigher<String,SoundTexture>(){
+		    @Override
+		    public long weigh(String key, SoundTexture value) {
+			return (long)value.getNumRows() * SoundTexture.ROW_LENGTH_SAMPLES * Float.BYTES;
+		    }}).setTrackingEvicted(true);
 	private ExplosionSystem 				explosionFactory;
 	private SmokeSystem 					smokeSystem;
 	private PowerupSystem 					powerupSystem;
@@ -144,22 +178,25 @@ public class ResourceManager{
 	public final ObjectFactory<String,SoundTexture>	soundTextures;
 	private TRConfigRoot configManager;
 	private UncompressedVQTextureFactory uncompressedVQTextureFactory;
-	@Setter
+	private volatile boolean compressingTextures = false;
 	private PODRegistry podRegistry;
+	private PODIndex podIndex;
 	
 	public ResourceManager(final TR tr){
 		this.tr=tr;
-		podRegistry = Features.get(tr, PODRegistry.class);
+		setPodRegistry(Features.get(tr, PODRegistry.class));
 		try{Class.forName("de.quippy.javamod.multimedia.mod.loader.tracker.ProTrackerMod");
 		    Class.forName("de.quippy.javamod.multimedia.mod.ModContainer"); // ModContainer uses the ModFactory!!
 		    }
 		catch(Exception e){tr.showStopper(e);}
 		gpuResidentMODs = 
-		 new ObjectFactory<String, GPUResidentMOD>(new SoftValueHashMap<String,GPUResidentMOD>(),new Adapter<String,GPUResidentMOD>(){
+		 new ObjectFactory<String, GPUResidentMOD>(gpuResidentMODCache,new Adapter<String,GPUResidentMOD>(){
 
 		    @Override
 		    public GPUResidentMOD adapt(String value) {
-			return new GPUResidentMOD(tr,getMOD(value));
+			final long start = System.nanoTime();
+			try{return new GPUResidentMOD(tr,getMOD(value));}
+			finally{gpuResidentMODCache.recordLoad(System.nanoTime() - start);}
 		    }
 
 		    @Override
@@ -168,9 +205,10 @@ public class ResourceManager{
 			return null;
 		    }});
 	 	soundTextures =
-	 	 new ObjectFactory<String,SoundTexture>(new SoftValueHashMap<String,SoundTexture>(),new Adapter<String,SoundTexture>(){
+	 	 new ObjectFactory<String,SoundTexture>(soundTextureCache,new Adapter<String,SoundTexture>(){
 		    @Override
 		    public SoundTexture adapt(String key) {
+			final long start = System.nanoTime();
 			try{
 			    final AudioInputStream ais = AudioSystem.getAudioInputStream(getInputStreamFromResource("SOUND\\"+key));
 			    final FloatBuffer fb       = ByteBuffer.allocateDirect((int)ais.getFrameLength()*4).order(ByteOrder.nativeOrder()).asFloatBuffer();
@@ -180,6 +218,7 @@ public class ResourceManager{
 			    }fb.clear();
 			    return Features.get(tr,SoundSystemFeature.class).newSoundTexture(fb, (int)ais.getFormat().getFrameRate());
 			}catch(Exception e){tr.showStopper(e);return null;}
+			finally{soundTextureCache.recordLoad(System.nanoTime() - start);}
 		    }//end adapt(...)
 
 		    @Override
@@ -202,6 +241,118 @@ public class ResourceManager{
 	    soundTextures.getMap().clear();
 	    //TODO: Clear cache for systems
 	}//end clearCaches()
+
+	/**
+	 * @return The budget of the given cache tier, in bytes; overridden by the system property
+	 * org.jtrfp.trcl.cache.[tier].budgetMB
+	 */
+	private static long getCacheBudget(String tier, long defaultMegabytes){
+	    return Long.getLong("org.jtrfp.trcl.cache."+tier+".budgetMB", defaultMegabytes) * 1024L * 1024L;
+	}
+
+	/**
+	 * Weighs a texture by the codebook blocks it and its MIP levels actually hold, a block shared with other
+	 * textures counting only its share.
+	 */
+	private static long getSizeInBytes(Texture texture){
+	    if(texture instanceof AnimatedTexture){
+		long result = 0;
+		for(VQTexture frame : ((AnimatedTexture)texture).getFrames())
+		    result += getSizeInBytes(frame);
+		return result;
+	    }
+	    if(!(texture instanceof VQTexture))
+		return 0;
+	    final VQTexture vqTexture = (VQTexture)texture;
+	    long result = vqTexture.getCodebookSizeInBytes();
+	    if(vqTexture.getMipTextures() != null)
+		for(VQTexture mip : vqTexture.getMipTextures())
+		    result += mip.getCodebookSizeInBytes();
+	    return result;
+	}//end getSizeInBytes(Texture)
+
+	/**
+	 * Weighs a model by the vertex window memory of its triangles. Frames are animated within the same
+	 * vertices, so only one frame's triangles are allocated.
+	 */
+	private static long getSizeInBytes(GL33Model model){
+	    long numTriangles = 0;
+	    final ArrayList<ArrayList<ArrayList<Triangle>>> frameLists = new ArrayList<ArrayList<ArrayList<Triangle>>>();
+	    frameLists.add(model.getRawTriangleLists());
+	    frameLists.add(model.getRawTransparentTriangleLists());
+	    for(ArrayList<ArrayList<Triangle>> frames : frameLists)
+		if(frames != null && !frames.isEmpty())
+		    numTriangles += frames.get(frames.size()-1).size();//Frame zero is discarded if animated
+	    if(model.getTriangleList() != null)//Already finalized
+		numTriangles += model.getTriangleList().getNumElements();
+	    if(model.getTransparentTriangleList() != null)
+		numTriangles += model.getTransparentTriangleList().getNumElements();
+	    return numTriangles * 3 * TriangleVertexWindow.BYTES_PER_VERTEX;
+	}//end getSizeInBytes(GL33Model)
+
+	/**
+	 * @return A listener crediting the given tier with the GPU memory its values free once cleaned up.
+	 */
+	private static ReleaseListener newReleaseListener(final AssetCache<?,?> cache){
+	    return new ReleaseListener(){
+		@Override
+		public void released(long bytesFreed) {
+		    cache.recordFreed(bytesFreed);
+		}};
+	}//end newReleaseListener(...)
+
+	private static void addReleaseListener(Texture texture, ReleaseListener l){
+	    if(texture instanceof AnimatedTexture){
+		for(VQTexture frame : ((AnimatedTexture)texture).getFrames())
+		    addReleaseListener(frame, l);
+		return;
+	    }
+	    if(!(texture instanceof VQTexture))
+		return;
+	    final VQTexture vqTexture = (VQTexture)texture;
+	    vqTexture.addReleaseListener(l);
+	    if(vqTexture.getMipTextures() != null)
+		for(VQTexture mip : vqTexture.getMipTextures())
+		    mip.addReleaseListener(l);
+	}//end addReleaseListener(...)
+
+	private List<AssetCache<?,?>> getCaches(){
+	    final List<AssetCache<?,?>> result = new ArrayList<AssetCache<?,?>>();
+	    result.add(rawCache);
+	    result.add(specialTextureNameMap);
+	    result.add(modelCache);
+	    result.add(modBinNameMap);
+	    result.add(aniBinNameMap);
+	    result.add(modCache);
+	    result.add(gpuResidentMODCache);
+	    result.add(soundTextureCache);
+	    return result;
+	}//end getCaches()
+
+	/**
+	 * Reports each cache tier's hits, misses, evictions, load times and occupancy under
+	 * org.jtrfp.trcl.core.ResourceManager.cache.[tier].
+	 * @since Oct 18, 2026
+	 */
+	public void reportCacheStatistics(Reporter reporter){
+	    for(AssetCache<?,?> cache : getCaches()){
+		final AssetCache.Statistics stats = cache.getStatistics();
+		final String prefix = "org.jtrfp.trcl.core.ResourceManager.cache."+cache.getName()+".";
+		reporter.report(prefix+"hits",                ""+stats.getHits());
+		reporter.report(prefix+"misses",              ""+stats.getMisses());
+		reporter.report(prefix+"hitRatio",            String.format("%.3f", stats.getHitRatio()));
+		reporter.report(prefix+"loadMs",              String.format("%.1f", stats.getLoadNanos() / 1000000.));
+		reporter.report(prefix+"evictions",           ""+stats.getEvictions());
+		reporter.report(prefix+"sizeBytes",           stats.getSizeInBytes()+"/"+stats.getBudgetInBytes());
+		reporter.report(prefix+"entries",             ""+stats.getEntries());
+		if(cache.isTrackingEvicted()){
+		    reporter.report(prefix+"recoveries",            ""+stats.getRecoveries());
+		    reporter.report(prefix+"unreachableBytes",      ""+stats.getUnreachableBytes());
+		    reporter.report(prefix+"reachableEvictedBytes", ""+stats.getReachableEvictedBytes());
+		    reporter.report(prefix+"freedBytes",            ""+stats.getFreedBytes());
+		}
+	    }//end for(caches)
+	}//end reportCacheStatistics(...)
 	/*
 	private void setupPODListeners(){
 	    //final TRConfiguration config = tr.config;
@@ -243,7 +394,6 @@ public class ResourceManager{
 	
 	private InputStream getInputStreamFromResource(String name) throws FileNotFoundException, FileLoadException, IOException{
 		System.out.println("Getting resource: "+name);
-		IPodFileEntry ent;
 		String localPath = name;
 		if(name.startsWith("java:\\"))
 		    return new BufferedInputStream(this.getClass().getResourceAsStream(name.substring(7)));
@@ -252,12 +402,55 @@ public class ResourceManager{
 		final File localPathAttempt = new File(localPath.toLowerCase());
 		if(localPathAttempt.exists())
 		    return new BufferedInputStream(new FileInputStream(localPathAttempt));
-		final Collection<String> podPaths = podRegistry.getPodCollection();
-		for(String path : podPaths)
-			if((ent=podRegistry.getPodData(path).findEntry(name))!=null)
-				return new BufferedInputStream(ent.getInputStreamFromPod());
+		final PODIndex.Entry entry = podIndex.find(name);
+		if(entry != null)
+		    return entry.getInputStream();
 		throw new FileNotFoundException(name);
 		}//end getInputStreamFromResource(...)
+	
+	/**
+	 * Resolves a resource as {@link #getInputStreamFromResource(String)} does, as a read-only little-endian view.
+	 * Resources in POD1 archives and local files are memory-mapped rather than copied.
+	 * @param name Path within the PODs, i.e. DATA\FOO.RAW
+	 * @since Oct 18, 2026
+	 */
+	public ByteBuffer getByteBufferFromResource(String name) throws FileNotFoundException, IOException{
+		String localPath = name;
+		if(name.startsWith("java:\\")){
+		    final InputStream is = this.getClass().getResourceAsStream(name.substring(7));
+		    if(is == null)
+			throw new FileNotFoundException(name);
+		    try{return ByteBuffer.wrap(is.readAllBytes()).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);}
+		    finally{is.close();}
+		}
+		if(File.separatorChar != '\\' )
+		    localPath = localPath.replace('\\', File.separatorChar);
+		final File localPathAttempt = new File(localPath.toLowerCase());
+		if(localPathAttempt.exists()){
+		    final RandomAccessFile raf = new RandomAccessFile(localPathAttempt, "r");
+		    try{return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length()).order(ByteOrder.LITTLE_ENDIAN);}
+		    finally{raf.close();}
+		}
+		final PODIndex.Entry entry = podIndex.find(name);
+		if(entry != null)
+		    return entry.getByteBuffer();
+		throw new FileNotFoundException(name);
+		}//end getByteBufferFromResource(...)
+	
+	public void setPodRegistry(PODRegistry podRegistry){
+	    if(podIndex != null)
+		podIndex.dispose();
+	    this.podRegistry = podRegistry;
+	    podIndex = new PODIndex(podRegistry);
+	}//end setPodRegistry(...)
+	
+	/**
+	 * @return The merged entry index of the current {@link PODRegistry}'s PODs.
+	 * @since Oct 18, 2026
+	 */
+	public PODIndex getPodIndex(){
+	    return podIndex;
+	}
 	/*
 	public void deregisterPOD(String podToDeregister){
 	    if(podToDeregister==null)throw new NullPointerException("fileToDeregister should not be null.");
@@ -291,11 +484,15 @@ public class ResourceManager{
 		try{
 	    	Texture [] result = specialTextureNameMap.get(name);
 		if(result==null){
+		    final long start = System.nanoTime();
 		    BufferedImage [] segs = getSpecialRAWImage(name, palette, upScalePowerOfTwo);
 			result=new Texture[segs.length];
+			final ReleaseListener releaseListener = newReleaseListener(specialTextureNameMap);
 			for(int si=0; si<segs.length; si++)
-				{result[si] = getUncompressedVQTextureFactory().newUncompressedVQTexture(segs[si],null,"name",uvWrapping,generateMipMaps);}
+				{result[si] = getUncompressedVQTextureFactory().newUncompressedVQTexture(segs[si],null,"name",uvWrapping,generateMipMaps);
+				 addReleaseListener(result[si], releaseListener);}
 			specialTextureNameMap.put(name,result);
+			specialTextureNameMap.recordLoad(System.nanoTime() - start);
 			}//end if(result=null)
 		return result;
 		}catch(Exception e){tr.showStopper(e);}
@@ -314,8 +511,9 @@ public class ResourceManager{
 	    if(paletteRGBA==null)
 		throw new NullPointerException("paletteRGBA is intolerably null.");
 	    final int hash=name.hashCode()*paletteRGBA.hashCode();
-	        Texture result=rawCache.get(hash);
-	    	if(result!=null&&useCache)return result;
+	        Texture result=useCache?rawCache.get(hash):null;
+	    	if(result!=null)return result;
+	    	final long start = System.nanoTime();
 			try {    if(name.substring(name.length()-5, name.length()-4).contentEquals("0") && TRFactory.ANIMATED_TERRAIN)
 					{//ends in number
 					System.out.println("RAW "+name+" ends in a zero. Testing if it is animated...");
@@ -338,7 +536,14 @@ public class ResourceManager{
 						return aTex;
 						}//end if(multi-frame)
 					}//end if(may be animated)
-				result = getUncompressedVQTextureFactory().newUncompressedVQTexture(getRAWVectorList(name,paletteRGBA),paletteESTuTv!=null?getRAWVectorList(name,paletteESTuTv):null,name,uvWrapping,generateMipMaps);
+				final PalettedVectorList pvlRGBA   = getRAWVectorList(name,paletteRGBA);
+				final PalettedVectorList pvlESTuTv = paletteESTuTv!=null?getRAWVectorList(name,paletteESTuTv):null;
+				if(isCompressingTextures())
+				    result = Features.get(tr, GPUFeature.class).textureManager.get().getCompressedVQTextureFactory().newCompressedVQTexture(pvlRGBA,pvlESTuTv,name,uvWrapping,generateMipMaps);
+				else
+				    result = getUncompressedVQTextureFactory().newUncompressedVQTexture(pvlRGBA,pvlESTuTv,name,uvWrapping,generateMipMaps);
+				if(useCache)
+				    addReleaseListener(result, newReleaseListener(rawCache));
 				}
 			catch(NotSquareException e){
 				System.err.println(e.getMessage());
@@ -351,18 +556,20 @@ public class ResourceManager{
 				result=Features.get(tr, GPUFeature.class).textureManager.get().getFallbackTexture();
 				}
 			catch(Exception e){e.printStackTrace();result=null;}
-		if(useCache)rawCache.put(name.hashCode()*paletteRGBA.hashCode(), result);
+		if(useCache && result != null){
+		    rawCache.put(hash, result);
+		    rawCache.recordLoad(System.nanoTime() - start);
+		}
 		return result;
 		}//end getRAWAsTexture(...)
 	
 	public boolean rawExists(String name){
-	    final Collection<String> podCollection = podRegistry.getPodCollection();
-		for(String path : podCollection){
-			if((podRegistry.getPodData(path).findEntry("ART\\"+name))!=null){
-				System.out.println(name+" found to exist. Returning true...");
-				return true;
-				}
-			}//end for(podFiles)
+		try{
+		    if(podIndex.find("ART\\"+name)!=null){
+			System.out.println(name+" found to exist. Returning true...");
+			return true;
+			}
+		}catch(IOException e){e.printStackTrace();}
 		System.out.println(name+" found to not exist. Returning false...");
 		return false;
 		}//end rawExists
@@ -379,11 +586,11 @@ public class ResourceManager{
 	    result = aniBinNameMap.get(name);
 	    if(result!=null)
 		    return result;
-	    InputStream is = getInputStreamFromResource("MODELS\\"+name);
-	    //TODO: InputStream not guaranteed to close when exception is thrown. Wrap in try{}, close it, and re-throw.
-	    result = new BINFile.AnimationControl(is);//This will throw an exception on and escape to the static model block
-	    is.close();
-	    aniBinNameMap.put(name, result);
+	    final long start = System.nanoTime();
+	    final ByteBuffer bin = getByteBufferFromResource("MODELS\\"+name);
+	    result = BINFileReader.readAnimationControl(bin);//This will throw an exception on and escape to the static model block
+	    aniBinNameMap.put(name, result, bin.remaining());
+	    aniBinNameMap.recordLoad(System.nanoTime() - start);
 	    return result;
 	}
 	
@@ -391,17 +598,109 @@ public class ResourceManager{
 	    BINFile.Model result;
 	    result = modBinNameMap.get(name);
 	    if(result==null){
-		InputStream is = getInputStreamFromResource("MODELS\\"+name);
-		result = new BINFile.Model(is);
-		modBinNameMap.put(name, result);
+		final long start = System.nanoTime();
+		final ByteBuffer bin = getByteBufferFromResource("MODELS\\"+name);
+		result = BINFileReader.readModel(bin);
+		modBinNameMap.put(name, result, bin.remaining());//Roughly proportional to the parsed beans
+		modBinNameMap.recordLoad(System.nanoTime() - start);
 	    }//end if(null)
 	    return result;
 	}//end getBinFileModel()
 	
+	/**
+	 * Decodes a BIN model into triangle lists; uploading them happens later, when the model is finalized.
+	 * Cached models are keyed by name, palettes and scale. Concurrent requests for the same key wait on a single
+	 * decode rather than each parsing the BIN and building its own triangles.
+	 */
 	public GL33Model getBINModel(String name,Texture defaultTexture,double scale,boolean cache, ColorPaletteVectorList palette, ColorPaletteVectorList ESTuTvPalette) throws FileLoadException, IOException, IllegalAccessException{
 	    	if(name==null)throw new NullPointerException("Name is intolerably null");
 		if(palette==null)throw new NullPointerException("Palette is intolerably null");
-		if(modelCache.containsKey(name)&& cache)return modelCache.get(name);
+		if(!cache)
+		    return decodeBINModel(name, defaultTexture, scale, cache, palette, ESTuTvPalette);
+		final BINModelKey key = new BINModelKey(name, palette, ESTuTvPalette, scale);
+		GL33Model result = modelCache.get(key);
+		if(result != null)
+		    return result;
+		final FutureTask<GL33Model> decode = new FutureTask<GL33Model>(new Callable<GL33Model>(){
+		    @Override
+		    public GL33Model call() throws Exception {
+			return decodeBINModel(name, defaultTexture, scale, cache, palette, ESTuTvPalette);
+		    }});
+		final FutureTask<GL33Model> inProgress = modelsDecoding.putIfAbsent(key, decode);
+		try{
+		    if(inProgress == null){
+			try{
+			    final long start = System.nanoTime();
+			    decode.run();
+			    result = decode.get();
+			    result.addReleaseListener(newReleaseListener(modelCache));
+			    modelCache.put(key, result);//Before removal so that there is no gap where neither has it
+			    modelCache.recordLoad(System.nanoTime() - start);
+			}finally{modelsDecoding.remove(key);}
+		    }else
+			result = inProgress.get();
+		}catch(InterruptedException e){
+		    Thread.currentThread().interrupt();
+		    throw new IOException("Interrupted while waiting on decode of "+name, e);
+		}catch(ExecutionException e){
+		    final Throwable cause = e.getCause();
+		    if(cause instanceof FileLoadException)
+			throw (FileLoadException)cause;
+		    if(cause instanceof IOException)
+			throw (IOException)cause;
+		    if(cause instanceof IllegalAccessException)
+			throw (IllegalAccessException)cause;
+		    if(cause instanceof RuntimeException)
+			throw (RuntimeException)cause;
+		    if(cause instanceof Error)
+			throw (Error)cause;
+		    throw new RuntimeException(cause);
+		}
+		return result;
+	}//end getBINModel(...)
+	
+	/**
+	 * Identifies a decoded model by name, palettes and scale. Palettes compare by content so that equal palettes
+	 * loaded separately share models.
+	 */
+	private static final class BINModelKey {
+	    private final String name;
+	    private final ColorPaletteVectorList palette, ESTuTvPalette;
+	    private final double scale;
+	    private final int hash;
+
+	    BINModelKey(String name, ColorPaletteVectorList palette, ColorPaletteVectorList ESTuTvPalette, double scale){
+		this.name          = name.toUpperCase();
+		this.palette       = palette;
+		this.ESTuTvPalette = ESTuTvPalette;
+		this.scale         = scale;
+		this.hash          = Objects.hash(this.name, palette, ESTuTvPalette, scale);
+	    }
+
+	    @Override
+	    public int hashCode(){
+		return hash;
+	    }
+
+	    @Override
+	    public boolean equals(Object other){
+		if(!(other instanceof BINModelKey))
+		    return false;
+		final BINModelKey otherKey = (BINModelKey)other;
+		return  hash == otherKey.hash &&
+			Double.compare(scale, otherKey.scale) == 0 &&
+			name.equals(otherKey.name) &&
+			palette.equals(otherKey.palette) &&
+			Objects.equals(ESTuTvPalette, otherKey.ESTuTvPalette);
+	    }//end equals(...)
+
+	    @Override
+	    public String toString(){
+		return name+"@"+scale;
+	    }
+	}//end BINModelKey
+	
+	private GL33Model decodeBINModel(String name,Texture defaultTexture,double scale,boolean cache, ColorPaletteVectorList palette, ColorPaletteVectorList ESTuTvPalette) throws FileLoadException, IOException, IllegalAccessException{
 		//The models like to set up two line segments where there should be one. 
 		//This set is for identifying and culling redundant segs.
 		final HashSet<Integer>alreadyVisitedLineSegs = new HashSet<Integer>();
@@ -421,7 +720,6 @@ public class ResourceManager{
 			for(int i=0; i<frames.length;i++)
 				{result.addFrame(frames[i]);}
 			result.setFrameDelayInMillis((int)(((double)ac.getDelay()/65535.)*1000.));
-			if(cache)modelCache.put(name, result);
 			return result;
 			}//end try{}
 		catch(UnrecognizedFormatException e){//ok fail. Static model
@@ -593,14 +891,13 @@ public class ResourceManager{
 						{System.out.println("Failed to identify DataBlock: "+b.getClass().getName());}
 					}//end for(dataBlocks)
 				result.setDebugName(name);
-				if(cache)modelCache.put(name, result);
 				return result;
 				}//end try{}
 			catch(UnrecognizedFormatException ee){//Bad fail
 				throw new UnrecognizedFormatException("Can't figure out what this is: "+name+". Giving up. Expect trouble ahead.");
 				}//end catch(bad fail)
 			}//end catch(ok fail)
-		}//end getBINModel()
+		}//end decodeBINModel()
 	
 	private BufferedImage [] getSpecialRAWImage(String name, Color [] palette, int upscalePowerOfTwo) throws IllegalAccessException, FileLoadException, IOException{
 		RAWFile dat = getRAW(name);
@@ -671,7 +968,25 @@ public class ResourceManager{
 		final CLRFile	dat = new CLRFile(getInputStreamFromResource("DATA\\"+name));
 		return new RawTextureMeshWrapper(dat,texturePalette);
 		}//end getRAWAltitude
-	
+
+	/**
+	 * Hashes the bytes of the named DATA files, as resolved by the current PODs, for keying caches of
+	 * what is derived from them.
+	 * @return A 64-bit FNV-1a hash of each file's length and bytes, in the order given.
+	 * @since Oct 18, 2026
+	 */
+	public long getDataFingerprint(String ... names) throws IOException, FileLoadException{
+	    long result = 0xcbf29ce484222325L;
+	    for(String name:names){
+		final ByteBuffer bytes = getByteBufferFromResource("DATA\\"+name);
+		final int length = bytes.remaining();
+		for(int i = 0; i < length; i++)
+		    result = (result ^ (bytes.get(i) & 0xFF)) * 0x100000001b3L;
+		result = (result ^ length) * 0x100000001b3L;
+	    }//end for(names)
+	    return result;
+	}//end getDataFingerprint(...)
+
 	public String [] getTEXListFile(String name) throws IOException, FileLoadException, IllegalAccessException{
 		return TexDataLoader.load(getInputStreamFromResource("DATA\\"+name)).getTextureNames();
 		}//end getTEXListFile
@@ -839,6 +1154,7 @@ public class ResourceManager{
 	    if(result!=null)
 		return result;
 	    try{
+	     final long start = System.nanoTime();
 	     final InputStream is= getInputStreamFromResource("MUSIC\\"+podPath);
 	     final File tempFile = File.createTempFile("org.jtrfp.trcl.mod", podPath);
 	     final FileOutputStream os = new FileOutputStream(tempFile);
@@ -848,7 +1164,10 @@ public class ResourceManager{
 	     is.close();
 	     os.close();
 	     result = ModuleFactory.getInstance(tempFile);
-	     modCache.put(podPath,result);
+	     if(result != null){
+		 modCache.put(podPath, result, tempFile.length());
+		 modCache.recordLoad(System.nanoTime() - start);
+	     }
 	    }catch(Exception e){tr.showStopper(e);}
 	    return result;
 	}//end getMOD(...)
@@ -884,6 +1203,17 @@ public class ResourceManager{
 	    this.uncompressedVQTextureFactory = uncompressedVQTextureFactory;
 	}
 
+	public boolean isCompressingTextures() {
+	    return compressingTextures;
+	}
+
+	/**
+	 * @param compressingTextures true to vector-quantize newly-loaded RAW textures into shared codebook blocks.
+	 */
+	public void setCompressingTextures(boolean compressingTextures) {
+	    this.compressingTextures = compressingTextures;
+	}
+
 	public TRConfigRoot getConfigManager() {
 	    if(configManager == null)
 		configManager = Features.get(tr, TRConfigRoot.class);
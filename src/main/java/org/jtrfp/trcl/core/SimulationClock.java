@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.core;
+
+/**
+ * Fixed-step simulation clock driven by a monotonic nanosecond source. Real time is accumulated
+ * and converted into a whole number of simulation steps, each of which advances simulated time
+ * by exactly one step regardless of scheduling jitter. Simulated timestamps are derived solely from
+ * the step count so that replaying the same inputs yields the same tick times.
+ * <br><br>
+ * If the host falls behind, at most {@link #getMaxCatchUpSteps()} steps are issued per call to
+ * {@link #advance(long)} and the remaining backlog is dropped rather than spiraling.
+ * @author Chuck Ritola
+ *
+ */
+
+public class SimulationClock {
+    private final long stepNanos;
+    private final int  maxCatchUpSteps;
+    private final long epochMillis;
+    private long       lastNanos = Long.MIN_VALUE, accumulatedNanos, stepCount;
+
+    /**
+     * @param rateHz Number of simulation steps per second.
+     * @param maxCatchUpSteps Maximum steps issued by a single {@link #advance(long)}.
+     * @param epochMillis Simulated time, in milliseconds, of step zero.
+     */
+    public SimulationClock(double rateHz, int maxCatchUpSteps, long epochMillis){
+	if(rateHz <= 0)
+	    throw new IllegalArgumentException("Rate must be positive. Got "+rateHz);
+	if(maxCatchUpSteps < 1)
+	    throw new IllegalArgumentException("Max catch-up steps must be at least 1. Got "+maxCatchUpSteps);
+	this.stepNanos       = Math.round(1000000000. / rateHz);
+	this.maxCatchUpSteps = maxCatchUpSteps;
+	this.epochMillis     = epochMillis;
+    }//end constructor
+
+    /**
+     * Accumulates real time elapsed since the last call and returns the number of steps now due.
+     * The caller is expected to invoke {@link #step()} that many times.
+     * @param nowNanos Monotonic time as from {@link System#nanoTime()}
+     * @return Number of steps to simulate, between zero and {@link #getMaxCatchUpSteps()} inclusive.
+     * @since Oct 18, 2026
+     */
+    public synchronized int advance(long nowNanos){
+	if(lastNanos == Long.MIN_VALUE){
+	    lastNanos = nowNanos;
+	    return 0;
+	}
+	accumulatedNanos += nowNanos - lastNanos;
+	lastNanos = nowNanos;
+	long due = accumulatedNanos / stepNanos;
+	if(due > maxCatchUpSteps){
+	    due = maxCatchUpSteps;
+	    accumulatedNanos %= stepNanos;//Drop the backlog
+	} else
+	    accumulatedNanos -= due * stepNanos;
+	return (int)due;
+    }//end advance(...)
+
+    /**
+     * Advances the step count by one.
+     * @return The simulated time in milliseconds of the new step.
+     * @since Oct 18, 2026
+     */
+    public synchronized long step(){
+	return getSimulatedTimeMillis(++stepCount);
+    }
+
+    /**
+     * @return Simulated milliseconds between the previous step and the current step. Whole-millisecond
+     * rounding makes this alternate for rates which do not evenly divide a second, but deterministically.
+     * @since Oct 18, 2026
+     */
+    public synchronized long getLastStepMillis(){
+	if(stepCount == 0)
+	    return 0;
+	return getSimulatedTimeMillis(stepCount) - getSimulatedTimeMillis(stepCount - 1);
+    }
+
+    public long getSimulatedTimeMillis(long step){
+	return epochMillis + (step * stepNanos) / 1000000L;
+    }
+
+    public synchronized long getSimulatedTimeMillis(){
+	return getSimulatedTimeMillis(stepCount);
+    }
+
+    /**
+     * Fraction of a step which has elapsed in real time since the most recent step, for interpolating
+     * rendered state between the last two simulated states.
+     * @param nowNanos Monotonic time as from {@link System#nanoTime()}
+     * @return Value in [0,1]
+     * @since Oct 18, 2026
+     */
+    public synchronized double getInterpolationAlpha(long nowNanos){
+	if(lastNanos == Long.MIN_VALUE)
+	    return 1;
+	final double result = (double)(accumulatedNanos + (nowNanos - lastNanos)) / (double)stepNanos;
+	return Math.max(0, Math.min(1, result));
+    }//end getInterpolationAlpha(...)
+
+    /**
+     * Discards accumulated real time, i.e. after a pause, so that no catch-up burst occurs.
+     * @param nowNanos Monotonic time as from {@link System#nanoTime()}
+     * @since Oct 18, 2026
+     */
+    public synchronized void resync(long nowNanos){
+	lastNanos        = nowNanos;
+	accumulatedNanos = 0;
+    }
+
+    public synchronized long getStepCount(){
+	return stepCount;
+    }
+
+    public long getStepNanos(){
+	return stepNanos;
+    }
+
+    public int getMaxCatchUpSteps(){
+	return maxCatchUpSteps;
+    }
+}//end SimulationClock
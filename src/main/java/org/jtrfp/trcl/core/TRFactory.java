@@ -14,6 +14,7 @@ package org.jtrfp.trcl.core;
 
 
 import java.awt.Color;
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.RenderableSpacePartitioningGrid;
 import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.conf.TRConfigurationFactory;
+import org.jtrfp.trcl.conf.TRConfigurationFactory.TRConfiguration;
 import org.jtrfp.trcl.core.TRConfigRootFactory.TRConfigRoot;
 import org.jtrfp.trcl.ext.tr.GPUFactory.GPUFeature;
 import org.jtrfp.trcl.ext.tr.ThreadManagerFactory.ThreadManagerFeature;
@@ -306,6 +309,31 @@ public final class TRFactory implements FeatureFactory<Features>{
 	    
 	    //renderer.getCamera().getFlatRelevanceCollection().addTarget(collisionManager.getInputRelevanceCollection(), true);
 	    renderer.getCamera().getRelevancePairs().addTarget(collisionManager.getInputRelevancePairCollection(), true);
+	    final TRConfiguration trConfig = Features.get(this, TRConfiguration.class);
+	    collisionManager.setParallelNarrowPhase(trConfig.isParallelCollisions());
+	    trConfig.addPropertyChangeListener(TRConfigurationFactory.PARALLEL_COLLISIONS, new PropertyChangeListener(){
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+		    collisionManager.setParallelNarrowPhase((Boolean)evt.getNewValue());
+		}});
+	    getThreadManager().setFixedTimestepHz(trConfig.getFixedTimestepHz());
+	    trConfig.addPropertyChangeListener(TRConfigurationFactory.FIXED_TIMESTEP_HZ, new PropertyChangeListener(){
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+		    getThreadManager().setFixedTimestepHz((Integer)evt.getNewValue());
+		}});
+	    getThreadManager().getTickScheduler().setParallel(trConfig.isParallelTicks());
+	    trConfig.addPropertyChangeListener(TRConfigurationFactory.PARALLEL_TICKS, new PropertyChangeListener(){
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+		    getThreadManager().getTickScheduler().setParallel((Boolean)evt.getNewValue());
+		}});
+	    getResourceManager().setCompressingTextures(trConfig.isCompressedTextures());
+	    trConfig.addPropertyChangeListener(TRConfigurationFactory.COMPRESSED_TEXTURES, new PropertyChangeListener(){
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+		    getResourceManager().setCompressingTextures((Boolean)evt.getNewValue());
+		}});
 	}//end trInit()
 /*
 	private class ConfigMenuItemListener implements ActionListener{
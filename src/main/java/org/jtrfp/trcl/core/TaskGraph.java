@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A one-shot set of tasks with explicit dependencies, each started on a shared {@link Executor} as soon as the
+ * tasks it depends on have finished. Dependencies must be added before their dependents, so the graph is
+ * always acyclic.<br><br>
+ * Records each node's start and duration, from which {@link #getCriticalPath()} finds the chain of dependent
+ * nodes which bounded the total time. If a node fails, its dependents are skipped and {@link #execute(Executor)}
+ * throws the first failure once everything else has finished.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class TaskGraph {
+    private final String name;
+    private final List<Node> nodes = new ArrayList<Node>();
+    private volatile long startNanos, elapsedNanos;
+    private volatile boolean executed;
+
+    public enum Stage {
+	/** Reads and decodes files. */
+	PARSE,
+	/** Builds scene objects from parsed data. */
+	BUILD,
+	/** Attaches built objects to the world or GPU. */
+	INSTALL
+    }
+
+    public static interface Task {
+	public void run() throws Exception;
+    }
+
+    public final class Node {
+	private final String      name;
+	private final Stage       stage;
+	private final Task        task;
+	private final List<Node>  dependencies;
+	private final List<Node>  dependents = new ArrayList<Node>();
+	private final AtomicInteger remainingDependencies;
+	private volatile long     startNanos = -1, durationNanos = -1;
+	private volatile Throwable failure;
+	private volatile boolean  skipped;
+
+	private Node(String name, Stage stage, Task task, List<Node> dependencies){
+	    this.name                  = name;
+	    this.stage                 = stage;
+	    this.task                  = task;
+	    this.dependencies          = dependencies;
+	    this.remainingDependencies = new AtomicInteger(dependencies.size());
+	}
+
+	public String getName(){
+	    return name;
+	}
+
+	TaskGraph getGraph(){
+	    return TaskGraph.this;
+	}
+
+	public Stage getStage(){
+	    return stage;
+	}
+
+	public List<Node> getDependencies(){
+	    return Collections.unmodifiableList(dependencies);
+	}
+
+	/**
+	 * @return Nanoseconds from the start of {@link TaskGraph#execute(Executor)} to the start of this node, or -1 if it never ran.
+	 * @since Oct 18, 2026
+	 */
+	public long getStartNanos(){
+	    return startNanos;
+	}
+
+	/**
+	 * @return Nanoseconds this node's task ran, or -1 if it never ran.
+	 * @since Oct 18, 2026
+	 */
+	public long getDurationNanos(){
+	    return durationNanos;
+	}
+
+	public Throwable getFailure(){
+	    return failure;
+	}
+
+	/**
+	 * @return True if this node didn't run because a node it depends on failed or was skipped.
+	 * @since Oct 18, 2026
+	 */
+	public boolean isSkipped(){
+	    return skipped;
+	}
+
+	@Override
+	public String toString(){
+	    return name;
+	}
+    }//end Node
+
+    public TaskGraph(String name){
+	this.name = name;
+    }
+
+    /**
+     * @param dependencies Nodes of this graph which must finish before this one starts.
+     * @return The new node, for use as a dependency of later ones.
+     * @since Oct 18, 2026
+     */
+    public Node add(String name, Stage stage, Task task, Node ... dependencies){
+	if(executed)
+	    throw new IllegalStateException("Graph "+this.name+" already executed.");
+	if(task == null)
+	    throw new NullPointerException("Task intolerably null.");
+	final List<Node> deps = new ArrayList<Node>(dependencies.length);
+	for(Node dependency : dependencies){
+	    if(dependency.getGraph() != this || !nodes.contains(dependency))
+		throw new IllegalArgumentException("Dependency "+dependency+" is not a node of "+this.name);
+	    if(!deps.contains(dependency))
+		deps.add(dependency);
+	}
+	final Node result = new Node(name, stage, task, deps);
+	for(Node dependency : deps)
+	    dependency.dependents.add(result);
+	nodes.add(result);
+	return result;
+    }//end add(...)
+
+    /**
+     * Runs every node, each on the executor once its dependencies are done, and blocks until all have finished
+     * or been skipped. May only be called once.
+     * @throws ExecutionException Wrapping the first node failure, after all other nodes have finished.
+     * @since Oct 18, 2026
+     */
+    public void execute(final Executor executor) throws InterruptedException, ExecutionException {
+	if(executed)
+	    throw new IllegalStateException("Graph "+name+" already executed.");
+	executed = true;
+	final CountDownLatch remaining = new CountDownLatch(nodes.size());
+	startNanos = System.nanoTime();
+	for(Node node : nodes)
+	    if(node.dependencies.isEmpty())
+		submit(node, executor, remaining);
+	remaining.await();
+	elapsedNanos = System.nanoTime() - startNanos;
+	for(Node node : nodes)
+	    if(node.failure != null)
+		throw new ExecutionException("Node "+node.name+" of "+name+" failed.", node.failure);
+    }//end execute(...)
+
+    private void submit(final Node node, final Executor executor, final CountDownLatch remaining){
+	try{
+	    executor.execute(new Runnable(){
+		@Override
+		public void run() {
+		    final long start = System.nanoTime();
+		    node.startNanos = start - startNanos;
+		    try{node.task.run();}
+		    catch(Throwable t){node.failure = t;}
+		    node.durationNanos = System.nanoTime() - start;
+		    finish(node, executor, remaining);
+		}});
+	}catch(RuntimeException e){//Rejected; don't leave execute() waiting on it
+	    node.failure = e;
+	    finish(node, executor, remaining);
+	}
+    }//end submit(...)
+
+    private void finish(Node node, Executor executor, CountDownLatch remaining){
+	final boolean failed = node.failure != null || node.skipped;
+	for(Node dependent : node.dependents){
+	    if(failed)
+		dependent.skipped = true;
+	    if(dependent.remainingDependencies.decrementAndGet() == 0){
+		if(dependent.skipped)
+		    finish(dependent, executor, remaining);
+		else
+		    submit(dependent, executor, remaining);
+	    }
+	}//end for(dependents)
+	remaining.countDown();
+    }//end finish(...)
+
+    /**
+     * @return The chain of dependent nodes, first to last, whose summed durations are the longest; i.e. what
+     * bounded the graph's time given unlimited threads. Empty before execution.
+     * @since Oct 18, 2026
+     */
+    public List<Node> getCriticalPath(){
+	final int numNodes = nodes.size();
+	final long [] pathNanos = new long[numNodes];
+	final int  [] previous  = new int[numNodes];
+	int last = -1;
+	for(int i = 0; i < numNodes; i++){//Insertion order is topological
+	    final Node node = nodes.get(i);
+	    previous[i] = -1;
+	    for(Node dependency : node.dependencies){
+		final int d = nodes.indexOf(dependency);
+		if(previous[i] == -1 || pathNanos[d] > pathNanos[previous[i]])
+		    previous[i] = d;
+	    }
+	    pathNanos[i] = Math.max(0, node.durationNanos) + (previous[i] == -1?0:pathNanos[previous[i]]);
+	    if(node.durationNanos >= 0 && (last == -1 || pathNanos[i] > pathNanos[last]))
+		last = i;
+	}//end for(nodes)
+	final ArrayList<Node> result = new ArrayList<Node>();
+	for(int i = last; i != -1; i = previous[i])
+	    result.add(0, nodes.get(i));
+	return result;
+    }//end getCriticalPath()
+
+    public List<Node> getNodes(){
+	return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * @return Nanoseconds {@link #execute(Executor)} took, or zero before it finished.
+     * @since Oct 18, 2026
+     */
+    public long getElapsedNanos(){
+	return elapsedNanos;
+    }
+
+    public String getName(){
+	return name;
+    }
+
+    /**
+     * @return One line per node with its stage, start and duration in milliseconds, then the critical path.
+     * @since Oct 18, 2026
+     */
+    public String getSummary(){
+	final StringBuilder sb = new StringBuilder();
+	sb.append(name).append(" took ").append(toMillis(elapsedNanos)).append("ms\n");
+	for(Node node : nodes){
+	    sb.append('\t').append(node.name).append(" (").append(node.stage).append(')');
+	    if(node.durationNanos >= 0)
+		sb.append(" at ").append(toMillis(node.startNanos)).append("ms for ").append(toMillis(node.durationNanos)).append("ms");
+	    else if(node.skipped)
+		sb.append(" skipped");
+	    if(node.failure != null)
+		sb.append(" failed: ").append(node.failure);
+	    sb.append('\n');
+	}//end for(nodes)
+	sb.append("\tCritical path: ").append(getCriticalPath());
+	return sb.toString();
+    }//end getSummary()
+
+    static String toMillis(long nanos){
+	return String.format("%.1f", nanos / 1000000.);
+    }
+}//end TaskGraph
@@ -35,6 +35,7 @@ import org.jtrfp.trcl.Submitter;
 import org.jtrfp.trcl.core.TRFactory.TR;
 import org.jtrfp.trcl.gpu.ProvidesGLThread;
 import org.jtrfp.trcl.gpu.Renderer;
+import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
 import org.jtrfp.trcl.obj.Player;
 import org.jtrfp.trcl.obj.PositionedRenderable;
 import org.jtrfp.trcl.obj.RelevantEverywhere;
@@ -48,6 +49,8 @@ public class ThreadManager {
     public static final int RENDER_FPS 			= 60;
     public static final int GAMEPLAY_FPS 		= 60;
     public static final int RENDERLIST_REFRESH_FPS 	= 1;
+    public static final int MAX_CATCH_UP_STEPS          = 8;
+    public static final long NO_INTERPOLATION_STEP      = -1;
     private       TR 			tr;
     private final Timer 		lightweightTimer 	= new Timer("LightweightTimer");
     private final Timer 		gameplayTimer 		= new Timer("GameplayTimer");
@@ -97,6 +100,7 @@ public class ThreadManager {
     private AtomicReference<Submitter<TRFutureTask<?>>>	currentGPUMemAccessTaskSubmitter 
     	= new AtomicReference<Submitter<TRFutureTask<?>>>(activeGPUMemAccessTaskSubmitter);
     private final long startupTimeMillis = System.currentTimeMillis();
+    private volatile SimulationClock simulationClock;
     
     public ThreadManager() {
     }// end constructor
@@ -110,16 +114,40 @@ public class ThreadManager {
     }
     
     private final ArrayList<PositionedRenderable> visibilityListBuffer = new ArrayList<PositionedRenderable>();
+    private final ArrayList<WorldObject>          tickListBuffer       = new ArrayList<WorldObject>();
+    private final TickScheduler                   tickScheduler        = new TickScheduler();
     
     private void gameplay() {
+	final SimulationClock clock = simulationClock;
+	if(clock != null){
+	    fixedStepGameplay(clock);
+	    return;
+	}
 	final long tickTimeInMillis = System.currentTimeMillis();
 	if(lastGameplayTickTime != 0)
 	    timeInMillisSinceLastGameTick = tickTimeInMillis - lastGameplayTickTime;
 	else
 	    timeInMillisSinceLastGameTick = 0;
+	gameplayStep(tickTimeInMillis, NO_INTERPOLATION_STEP);
+	lastGameplayTickTime = tickTimeInMillis;
+    }// end gameplay()
+    
+    private void fixedStepGameplay(SimulationClock clock){
+	final int steps = clock.advance(System.nanoTime());
+	for(int i = 0; i < steps; i++){
+	    final long tickTimeInMillis = clock.step();
+	    timeInMillisSinceLastGameTick = clock.getLastStepMillis();
+	    gameplayStep(tickTimeInMillis, clock.getStepCount());
+	    lastGameplayTickTime = tickTimeInMillis;
+	}
+    }//end fixedStepGameplay(...)
+    
+    private void gameplayStep(long tickTimeInMillis, long interpolationStep) {
+	final boolean captureForInterpolation = interpolationStep != NO_INTERPOLATION_STEP;
 	boolean alreadyVisitedPlayer=false;
 	Renderer [] renderers = new Renderer[]{tr.mainRenderer/* ,tr.secondaryRenderer*/ };//TODO: This is hacky.
 	visibilityListBuffer.clear();
+	tickListBuffer.clear();
 	synchronized(paused){
 	synchronized(gameStateLock){
 	    for(Renderer renderer:renderers){
@@ -138,10 +166,16 @@ public class ThreadManager {
 					multiplePlayer=true;
 				    else alreadyVisitedPlayer=true;
 				}//end if(Player)
+				if(captureForInterpolation)
+				    wo.captureSimulationState(interpolationStep);
 				if(!multiplePlayer&&!paused[0])
-				    wo.tick(tickTimeInMillis);
+				    tickListBuffer.add(wo);
 			 }// end for(worldObjects)
+		    tickScheduler.tick(tickListBuffer, tickTimeInMillis);
+		    tickListBuffer.clear();
 		}//end if(renderer active)
+		if(captureForInterpolation)
+		    renderer.getCamera().captureSimulationState(interpolationStep);
 		renderer.getCamera().tick(tickTimeInMillis);
 	    }//end for(renderers)
 	}//end sync(gameStateLock)//relevance changes outside of this cause errors!
@@ -149,8 +183,19 @@ public class ThreadManager {
 	    //tr.getCollisionManager().performCollisionTests();
 	    tr.getCollisionManager().newPerformCollisionTests();
 	}// end sync(paused)
-	lastGameplayTickTime = tickTimeInMillis;
-    }// end gameplay()
+	if(tickScheduler.getTickCount() >= GAMEPLAY_FPS)
+	    reportTickTimings();
+    }// end gameplayStep()
+    
+    private void reportTickTimings(){
+	final Reporter reporter = Features.get(tr, Reporter.class);
+	if(reporter != null){
+	    reporter.report("org.jtrfp.trcl.core.ThreadManager.tickScheduler.parallel", ""+tickScheduler.isParallel());
+	    reporter.report("org.jtrfp.trcl.core.ThreadManager.tickScheduler.localPhaseMillis", String.format("%.3f", tickScheduler.getMeanLocalPhaseMillis()));
+	    reporter.report("org.jtrfp.trcl.core.ThreadManager.tickScheduler.commitPhaseMillis", String.format("%.3f", tickScheduler.getMeanCommitPhaseMillis()));
+	}
+	tickScheduler.resetTimings();
+    }//end reportTickTimings()
     /*
     public <T> GLFutureTask<T> submitToGL(Callable<T> c){
 	final GLFutureTask<T> result = new GLFutureTask<T>(tr.getRootWindow().getCanvas(),c);
@@ -290,6 +335,63 @@ public class ThreadManager {
 	return timeInMillisSinceLastGameTick;
     }
     
+    /**
+     * Switches gameplay between a fixed-step simulation clock and the legacy wall-clock tick.
+     * @param rateHz Simulation steps per second, or zero or less for the legacy variable-step behavior.
+     * @since Oct 18, 2026
+     */
+    public void setFixedTimestepHz(int rateHz){
+	synchronized(paused){
+	    if(rateHz <= 0)
+		simulationClock = null;
+	    else{
+		final long epochMillis = lastGameplayTickTime != 0?lastGameplayTickTime:System.currentTimeMillis();
+		simulationClock = new SimulationClock(rateHz, MAX_CATCH_UP_STEPS, epochMillis);
+	    }
+	}//end sync(paused)
+    }//end setFixedTimestepHz(...)
+    
+    /**
+     * @return The fixed-step simulation clock in use, or null if gameplay uses the legacy variable step.
+     * @since Oct 18, 2026
+     */
+    public SimulationClock getSimulationClock(){
+	return simulationClock;
+    }
+    
+    /**
+     * Fraction of a simulation step elapsed since the most recent step, used by rendering to
+     * interpolate between the last two simulated states.
+     * @return Value in [0,1]; always 1 when not using a fixed-step simulation clock.
+     * @since Oct 18, 2026
+     */
+    public double getInterpolationAlpha(){
+	final SimulationClock clock = simulationClock;
+	if(clock == null)
+	    return 1;
+	return clock.getInterpolationAlpha(System.nanoTime());
+    }
+    
+    /**
+     * @return The simulation step during which interpolation state was most recently captured, or
+     * {@link #NO_INTERPOLATION_STEP} when not using a fixed-step simulation clock.
+     * @since Oct 18, 2026
+     */
+    public long getInterpolationStep(){
+	final SimulationClock clock = simulationClock;
+	if(clock == null)
+	    return NO_INTERPOLATION_STEP;
+	return clock.getStepCount();
+    }
+    
+    /**
+     * @return The scheduler which ticks visible WorldObjects each gameplay step.
+     * @since Oct 18, 2026
+     */
+    public TickScheduler getTickScheduler(){
+	return tickScheduler;
+    }
+    
     /**
      * General-use Timer to be used for short, non-timing-critical operations.
      * @return
@@ -323,6 +425,9 @@ public class ThreadManager {
 		timeElapsedInMillisSinceLastGameTickAfterLastPause = this.getElapsedTimeInMillisSinceLastGameTick();
 	    if(!paused)
 		lastGameplayTickTime=System.currentTimeMillis() - timeElapsedInMillisSinceLastGameTickAfterLastPause;
+	    final SimulationClock clock = simulationClock;
+	    if(!paused && clock != null)
+		clock.resync(System.nanoTime());
 	    }//end sync
     }//end setPaused(...)
 
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.core;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jtrfp.trcl.beh.ThreadSafeLocalBehavior;
+import org.jtrfp.trcl.obj.WorldObject;
+
+/**
+ * Ticks a list of {@link WorldObject}s in two phases. In the local phase, each object's
+ * {@link ThreadSafeLocalBehavior}s are ticked across a work-stealing pool, one task per run of objects
+ * so that any one object's behaviors are never ticked concurrently with each other. In the commit phase,
+ * all remaining (world-mutating) behaviors are ticked serially in list order on the calling thread, each
+ * object first firing the position, heading and top notifications it held back during the local phase.
+ * <br><br>
+ * When not parallel, each object is simply {@link WorldObject#tick(long)}'d in list order and the whole
+ * tick is accounted to the commit phase.
+ * @author Chuck Ritola
+ *
+ */
+
+public class TickScheduler {
+    private static final int GRAIN = 64;
+    private ForkJoinPool     pool;
+    private volatile boolean parallel = false;
+    private volatile long    lastLocalPhaseNanos, lastCommitPhaseNanos;
+    private long             totalLocalPhaseNanos, totalCommitPhaseNanos, tickCount;
+
+    public TickScheduler(){
+    }
+
+    /**
+     * @param pool Pool on which to run the local phase. If null, one is created on first parallel tick.
+     */
+    public TickScheduler(ForkJoinPool pool){
+	this.pool = pool;
+    }
+
+    private static final class LocalTickTask extends RecursiveAction {
+	private static final long serialVersionUID = 4139268117502465201L;
+	private final List<? extends WorldObject> objects;
+	private final int start, end;
+	private final long tickTimeInMillis;
+
+	LocalTickTask(List<? extends WorldObject> objects, int start, int end, long tickTimeInMillis){
+	    this.objects          = objects;
+	    this.start            = start;
+	    this.end              = end;
+	    this.tickTimeInMillis = tickTimeInMillis;
+	}
+
+	@Override
+	protected void compute() {
+	    if(end - start <= GRAIN){
+		for(int i = start; i < end; i++)
+		    objects.get(i).tickLocal(tickTimeInMillis);
+		return;
+	    }
+	    final int mid = (start + end) >>> 1;
+	    invokeAll(
+		    new LocalTickTask(objects, start, mid, tickTimeInMillis),
+		    new LocalTickTask(objects, mid, end, tickTimeInMillis));
+	}//end compute()
+    }//end LocalTickTask
+
+    /**
+     * Ticks the supplied objects. The list must not be modified for the duration of this call.
+     * @param objects Random-access list of objects to tick.
+     * @param tickTimeInMillis
+     * @since Oct 18, 2026
+     */
+    public void tick(List<? extends WorldObject> objects, long tickTimeInMillis){
+	final int size = objects.size();
+	final long startNanos = System.nanoTime();
+	long localEndNanos = startNanos;
+	if(parallel){
+	    if(size > 0)
+		getPool().invoke(new LocalTickTask(objects, 0, size, tickTimeInMillis));
+	    localEndNanos = System.nanoTime();
+	    for(int i = 0; i < size; i++)
+		objects.get(i).tickWorldMutating(tickTimeInMillis);
+	} else
+	    for(int i = 0; i < size; i++)
+		objects.get(i).tick(tickTimeInMillis);
+	final long endNanos = System.nanoTime();
+	synchronized(this){
+	    lastLocalPhaseNanos   = localEndNanos - startNanos;
+	    lastCommitPhaseNanos  = endNanos - localEndNanos;
+	    totalLocalPhaseNanos += lastLocalPhaseNanos;
+	    totalCommitPhaseNanos+= lastCommitPhaseNanos;
+	    tickCount++;
+	}
+    }//end tick(...)
+
+    private synchronized ForkJoinPool getPool(){
+	if(pool == null)
+	    pool = new ForkJoinPool();
+	return pool;
+    }
+
+    public boolean isParallel() {
+	return parallel;
+    }
+
+    /**
+     * @param parallel true to tick {@link ThreadSafeLocalBehavior}s on a work-stealing pool ahead of the serial
+     * commit phase. false to tick every behavior serially as before.
+     * @since Oct 18, 2026
+     */
+    public void setParallel(boolean parallel) {
+	this.parallel = parallel;
+    }
+
+    public long getLastLocalPhaseNanos() {
+	return lastLocalPhaseNanos;
+    }
+
+    public long getLastCommitPhaseNanos() {
+	return lastCommitPhaseNanos;
+    }
+
+    public synchronized double getMeanLocalPhaseMillis() {
+	return tickCount == 0?0:totalLocalPhaseNanos / (tickCount * 1000000.);
+    }
+
+    public synchronized double getMeanCommitPhaseMillis() {
+	return tickCount == 0?0:totalCommitPhaseNanos / (tickCount * 1000000.);
+    }
+
+    public synchronized long getTickCount() {
+	return tickCount;
+    }
+
+    /**
+     * Clears accumulated timings, i.e. after they have been reported.
+     * @since Oct 18, 2026
+     */
+    public synchronized void resetTimings() {
+	totalLocalPhaseNanos  = 0;
+	totalCommitPhaseNanos = 0;
+	tickCount             = 0;
+    }
+}//end TickScheduler
@@ -82,6 +82,12 @@ public class SoundSystemFactory implements FeatureFactory<TR> {
 	    return super.isBufferLag();
 	}
 	
+	@ConfigByUI(editorClass = CheckboxUI.class)
+	@ToolTip(text="Mix audio on the CPU instead of the GPU, sparing the renderer a round trip per buffer.")
+	public Boolean getSoftwareMixing() {
+	    return super.isSoftwareMixing();
+	}
+	
 	@ConfigByUI(editorClass = CheckboxUI.class)
 	@ToolTip(text="Use the GPU's TMU to apply interpolative filtering 'for free.'")
 	public Boolean getLinearFiltering() {
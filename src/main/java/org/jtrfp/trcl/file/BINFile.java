@@ -1263,6 +1263,8 @@ public abstract class BINFile implements ThirdPartyParseable {
 		IOException {
 	    super(is);
 	}
+	
+	public AnimationControl() {}
 
 	@Override
 	public void describeFormat(Parser prs)
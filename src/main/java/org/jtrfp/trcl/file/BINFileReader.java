@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.file;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import org.jtrfp.jfdt.ThirdPartyParseable;
+import org.jtrfp.jfdt.UnrecognizedFormatException;
+import org.jtrfp.jtrfp.bin.IBinData;
+import org.jtrfp.trcl.file.BINFile.AnimationControl;
+import org.jtrfp.trcl.file.BINFile.Model;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.AnimatedTextureBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.ArenaFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.BillboardSprite0x0F;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.BillboardTexCoords0x04;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.BillboardTexCoords0x04.UVCoordinate;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.ColorBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.DoubleSidedFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.EOFBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock.FaceBlockVertex;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock.FaceBlockVertexWithUV;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock05;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock06;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock0E;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.FaceBlock19;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.LineSegmentBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.MTM1TransparentZeroFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.MTM2TransparentZeroFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.NoUVFaceBlock.ShortFaceBlockVertex;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.OpaqueZeroFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.OpaqueZeroShinyFaceBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.TextureBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.Unknown02;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.Unknown0C;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.Unknown12;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.Unknown17;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.VertexColorBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.VertexNormalsBlock;
+import org.jtrfp.trcl.file.BINFile.Model.Vertex;
+
+/**
+ * Reads BIN models and animation controls straight from a {@link ByteBuffer} into the same beans which
+ * {@link BINFile.Model#describeFormat(org.jtrfp.jfdt.Parser)} and
+ * {@link BINFile.AnimationControl#describeFormat(org.jtrfp.jfdt.Parser)} produce through jfdt. Each data block is
+ * dispatched on its tag in one switch rather than by attempting each candidate class in turn, and values are
+ * read without reflection.<br><br>
+ * As with jfdt, the data blocks end at an {@link EOFBlock}, an unrecognized tag or the end of the buffer.
+ * Fixed-length strings end at their first NUL.<br><br>
+ * Only BIN is read this way so far. The text formats (DEF, TNL, TDF, NAV and LVL) still go through jfdt and
+ * are to get readers of their own, each with a golden test against its describeFormat.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class BINFileReader {
+    private static final int VERTEX_INDEX = 0, VERTEX_INDEX_UV = 1, VERTEX_INDEX_SHORT = 2;
+
+    private BINFileReader(){}
+
+    /**
+     * @param bin BIN contents from its position to its limit. Not modified.
+     * @return True if the BIN's tag marks it as an {@link AnimationControl}, else it is presumably a {@link Model}.
+     * @since Oct 18, 2026
+     */
+    public static boolean isAnimationControl(ByteBuffer bin){
+	return hasTag(bin, IBinData.ID_ANIMATION_CONTROL);
+    }
+
+    /**
+     * @param bin BIN contents from its position to its limit. Not modified.
+     * @since Oct 18, 2026
+     */
+    public static Model readModel(ByteBuffer bin) throws UnrecognizedFormatException {
+	if(!hasTag(bin, IBinData.ID_MODEL))
+	    throw new UnrecognizedFormatException("Not a BIN model.");
+	final ByteBuffer in = bin.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	in.position(in.position() + 4);
+	final Model result = new Model();
+	try{
+	    result.setScale      (in.getInt());
+	    result.setUnknown1   (in.getInt());
+	    result.setUnknown2   (in.getInt());
+	    final int numVertices = in.getInt();
+	    result.setNumVertices(numVertices);
+	    final ArrayList<Vertex> vertices = new ArrayList<Vertex>(Math.max(0, Math.min(numVertices, in.remaining() / 12)));
+	    for(int i = 0; i < numVertices; i++)
+		vertices.add(readVertex(in));
+	    result.setVertices(vertices);
+	}catch(BufferUnderflowException e){
+	    throw new UnrecognizedFormatException("BIN model header or vertices truncated.");
+	}
+	final ArrayList<ThirdPartyParseable> dataBlocks = new ArrayList<ThirdPartyParseable>();
+	result.setDataBlocks(dataBlocks);
+	ThirdPartyParseable block;
+	try{
+	    do{
+		block = readDataBlock(in);
+		if(block != null)
+		    dataBlocks.add(block);
+	    }while(block != null && !(block instanceof EOFBlock));
+	}catch(BufferUnderflowException e){}//Truncated final block; keep what was read
+	return result;
+    }//end readModel(...)
+
+    /**
+     * @param bin BIN contents from its position to its limit. Not modified.
+     * @since Oct 18, 2026
+     */
+    public static AnimationControl readAnimationControl(ByteBuffer bin) throws UnrecognizedFormatException {
+	if(!hasTag(bin, IBinData.ID_ANIMATION_CONTROL))
+	    throw new UnrecognizedFormatException("Not a BIN animation control.");
+	final ByteBuffer in = bin.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	in.position(in.position() + 4);
+	final AnimationControl result = new AnimationControl();
+	try{
+	    result.setUnknown1 (in.getInt());
+	    final int numFrames = in.getInt();
+	    result.setNumFrames(numFrames);
+	    result.setDelay    (in.getInt());
+	    result.setUnknown2 (in.getInt());
+	    result.setUnknown3 (in.getInt());
+	    final ArrayList<String> binFiles = new ArrayList<String>(Math.max(0, Math.min(numFrames, in.remaining() / 16)));
+	    for(int i = 0; i < numFrames; i++)
+		binFiles.add(readString(in, 16));
+	    result.setBinFiles(binFiles);
+	}catch(BufferUnderflowException e){
+	    throw new UnrecognizedFormatException("BIN animation control truncated.");
+	}
+	return result;
+    }//end readAnimationControl(...)
+
+    private static boolean hasTag(ByteBuffer bin, int tag){
+	final int p = bin.position();
+	return bin.remaining() >= 4 && bin.get(p) == 0 && bin.get(p + 1) == 0 && bin.get(p + 2) == 0 && bin.get(p + 3) == (byte)tag;
+    }
+
+    /** @return The block, or null if its tag is unrecognized. */
+    private static ThirdPartyParseable readDataBlock(ByteBuffer in){
+	if(in.remaining() < 4)
+	    return null;
+	final int p = in.position();
+	if(in.get(p) != 0 || in.get(p + 1) != 0 || in.get(p + 2) != 0)
+	    return null;
+	final int tag = in.get(p + 3);
+	in.position(p + 4);
+	switch(tag){
+	case 0x00: return new EOFBlock();
+	case 0x02: {
+	    final Unknown02 block = new Unknown02();
+	    block.setUnknown0(in.getInt());
+	    final int numVertices = in.getInt();
+	    block.setNumVertices(numVertices);
+	    final ArrayList<FaceBlockVertexWithUV> vertices = new ArrayList<FaceBlockVertexWithUV>();
+	    for(int i = 0; i < numVertices; i++)
+		vertices.add((FaceBlockVertexWithUV)readFaceBlockVertex(in, VERTEX_INDEX_UV));
+	    block.setVertices(vertices);
+	    final int [] unknownTail = block.getUnknownTail();
+	    for(int i = 0; i < unknownTail.length; i++)
+		unknownTail[i] = in.getInt();
+	    return block;
+	}
+	case 0x03: {
+	    final VertexNormalsBlock block = new VertexNormalsBlock();
+	    block.setUnknown0(in.getInt());
+	    final int numNormals = in.getInt();
+	    block.setNumNormals(numNormals);
+	    final ArrayList<Vertex> normals = new ArrayList<Vertex>();
+	    for(int i = 0; i < numNormals; i++)
+		normals.add(readVertex(in));
+	    block.setNormals(normals);
+	    return block;
+	}
+	case 0x04: {
+	    if(in.getInt() != 0)
+		return null;
+	    final BillboardTexCoords0x04 block = new BillboardTexCoords0x04();
+	    final int numVertices = in.getInt();
+	    block.setNumVertices(numVertices);
+	    final ArrayList<UVCoordinate> vertices = new ArrayList<UVCoordinate>();
+	    for(int i = 0; i < numVertices; i++){
+		final UVCoordinate uv = new UVCoordinate();
+		uv.setTextureCoordinateU(in.getInt());
+		uv.setTextureCoordinateV(in.getInt());
+		vertices.add(uv);
+	    }
+	    block.setVertices(vertices);
+	    return block;
+	}
+	case 0x05: return readFaceBlock(in, new FaceBlock05(),                  VERTEX_INDEX_SHORT);
+	case 0x06: return readFaceBlock(in, new FaceBlock06(),                  VERTEX_INDEX);
+	case 0x0A: {
+	    final ColorBlock block = new ColorBlock();
+	    block.setBytes(readBytes(in, 4));
+	    return block;
+	}
+	case 0x0C: {
+	    final Unknown0C block = new Unknown0C();
+	    block.setUnknown(readBytes(in, 24));
+	    return block;
+	}
+	case 0x0D: {
+	    final TextureBlock block = new TextureBlock();
+	    block.setUnknown(in.getInt());
+	    block.setTextureFileName(readString(in, 16));
+	    return block;
+	}
+	case 0x0E: return readFaceBlock(in, new FaceBlock0E(),                  VERTEX_INDEX_UV);
+	case 0x0F: return readFaceBlock(in, new BillboardSprite0x0F(),          VERTEX_INDEX_SHORT);
+	case 0x11: return readFaceBlock(in, new MTM1TransparentZeroFaceBlock(), VERTEX_INDEX_UV);
+	case 0x12: {
+	    final Unknown12 block = new Unknown12();
+	    block.setUnknown(readBytes(in, 4));
+	    return block;
+	}
+	case 0x16: {
+	    final LineSegmentBlock block = new LineSegmentBlock();
+	    block.setColor    (in.getInt());
+	    block.setVertexID1(in.getInt());
+	    block.setVertexID2(in.getInt());
+	    return block;
+	}
+	case 0x17: {
+	    final Unknown17 block = new Unknown17();
+	    block.setUnknown1(in.getInt());
+	    block.setUnknown2(in.getInt());
+	    return block;
+	}
+	case 0x18: return readFaceBlock(in, new OpaqueZeroFaceBlock(),          VERTEX_INDEX_UV);
+	case 0x19: return readFaceBlock(in, new FaceBlock19(),                  VERTEX_INDEX);
+	case 0x1D: {
+	    final AnimatedTextureBlock block = new AnimatedTextureBlock();
+	    block.setUnknown1(in.getInt());
+	    final int numTextures = in.getInt();
+	    block.setNumTextures(numTextures);
+	    block.setUnknown2(in.getInt());
+	    block.setDelay   (in.getInt());
+	    block.setUnknown3(in.getInt());
+	    block.setUnknown4(in.getInt());
+	    final ArrayList<String> frameNames = new ArrayList<String>();
+	    for(int i = 0; i < numTextures; i++)
+		frameNames.add(readString(in, 32));
+	    block.setFrameNames(frameNames);
+	    return block;
+	}
+	case 0x1F: {
+	    final VertexColorBlock block = new VertexColorBlock();
+	    block.setZero(in.getInt());
+	    final long numVertices = in.getInt() & 0xFFFFFFFFL;
+	    block.setNumVertices(numVertices);
+	    for(long i = 0; i < numVertices; i++)
+		block.getPaletteIndices().add(in.getInt() & 0xFFFFFFFFL);
+	    return block;
+	}
+	case 0x22: return readFaceBlock(in, new DoubleSidedFaceBlock(),         VERTEX_INDEX_UV);
+	case 0x29: return readFaceBlock(in, new OpaqueZeroShinyFaceBlock(),     VERTEX_INDEX_UV);
+	case 0x33: return readFaceBlock(in, new MTM2TransparentZeroFaceBlock(), VERTEX_INDEX_UV);
+	case 0x34: return readFaceBlock(in, new ArenaFaceBlock(),               VERTEX_INDEX_UV);
+	default:
+	    return null;
+	}//end switch(tag)
+    }//end readDataBlock(...)
+
+    private static FaceBlock readFaceBlock(ByteBuffer in, FaceBlock block, int vertexType){
+	final int numVertices = in.getInt();
+	block.setNumVertices(numVertices);
+	block.setNormalX    (in.getInt());
+	block.setNormalY    (in.getInt());
+	block.setNormalZ    (in.getInt());
+	block.setMagic      (in.getInt());
+	final ArrayList<FaceBlockVertex> vertices = new ArrayList<FaceBlockVertex>();
+	for(int i = 0; i < numVertices; i++)
+	    vertices.add(readFaceBlockVertex(in, vertexType));
+	block.setVertices(vertices);
+	return block;
+    }//end readFaceBlock(...)
+
+    private static FaceBlockVertex readFaceBlockVertex(ByteBuffer in, int vertexType){
+	switch(vertexType){
+	case VERTEX_INDEX_UV: {
+	    final FaceBlockVertexWithUV result = new FaceBlockVertexWithUV();
+	    result.setVertexIndex       (in.getInt());
+	    result.setTextureCoordinateU(in.getInt());
+	    result.setTextureCoordinateV(in.getInt());
+	    return result;
+	}
+	case VERTEX_INDEX_SHORT: {
+	    final ShortFaceBlockVertex result = new ShortFaceBlockVertex();
+	    result.setVertexIndex(in.getInt());
+	    return result;
+	}
+	default: {
+	    final FaceBlockVertex result = new FaceBlockVertex();
+	    result.setVertexIndex(in.getInt());
+	    return result;
+	}
+	}//end switch(vertexType)
+    }//end readFaceBlockVertex(...)
+
+    private static Vertex readVertex(ByteBuffer in){
+	final Vertex result = new Vertex();
+	result.setX(in.getInt());
+	result.setY(in.getInt());
+	result.setZ(in.getInt());
+	return result;
+    }
+
+    private static byte [] readBytes(ByteBuffer in, int length){
+	final byte [] result = new byte[length];
+	in.get(result);
+	return result;
+    }
+
+    private static String readString(ByteBuffer in, int length){
+	if(in.remaining() < length)
+	    throw new BufferUnderflowException();
+	final int start = in.position();
+	int end = start;
+	while(end < start + length && in.get(end) != 0)
+	    end++;
+	final byte [] bytes = new byte[end - start];
+	in.get(bytes);
+	in.position(start + length);
+	return new String(bytes, StandardCharsets.ISO_8859_1);
+    }//end readString(...)
+}//end BINFileReader
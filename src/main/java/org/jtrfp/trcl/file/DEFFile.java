@@ -43,6 +43,8 @@ public class DEFFile extends SelfParsingFile implements ThirdPartyParseable {
 
     @Override
     public void describeFormat(Parser prs) throws UnrecognizedFormatException {
+	//TODO: Hand-written reader as with BINFileReader, golden-tested against this. Mind the optional
+	//      sections of EnemyDefinition, each introduced by its own marker line.
 	prs.stringEndingWith(TRParsers.LINE_DELIMITERS,
 		prs.property("numEnemyDefinitions", int.class), false);
 	prs.arrayOf(getNumEnemyDefinitions(), "enemyDefinitions",
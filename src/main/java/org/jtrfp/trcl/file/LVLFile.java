@@ -68,6 +68,7 @@ public class LVLFile extends SelfParsingFile implements ILvlData{
 
     @Override
     public void describeFormat(Parser prs) throws UnrecognizedFormatException {
+	//TODO: Read without jfdt as BINFileReader does; test.LVL already pins the expected values.
 	// REMEMBER: use \r\n because TR files use carriage-return-line-feed and
 	// not just the line-feed \n that java uses.
 	prs.stringEndingWith(TRParsers.LINE_DELIMITERS,
@@ -40,6 +40,7 @@ public class TNLFile extends SelfParsingFile {
     @Override
     public void describeFormat(Parser parser)
 	    throws UnrecognizedFormatException {
+	//TODO: Off jfdt like BIN; each segment is a run of CSV lines, a good fit for a ByteBuffer reader.
 	parser.stringEndingWith("\r\n",
 		parser.property("numSegments", int.class), false);
 	parser.arrayOf(getNumSegments(), "segments", Segment.class);
@@ -37,6 +37,7 @@ public class TVF3NAVFile extends SelfParsingFile implements NAVData {
 
     @Override
     public void describeFormat(Parser prs) throws UnrecognizedFormatException {
+	//TODO: Reader without jfdt as for BIN. Dispatch on each sub-object's type line instead of trying every nested class.
 	prs.stringEndingWith(TRParsers.LINE_DELIMITERS,
 		prs.property("numNavigationPoints", int.class), false);
 	for (int i = 0; i < getNumNavigationPoints(); i++) {
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.gpu;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Content-addressed, reference-counted set of 256-code codebook blocks. Blocks with byte-identical RGBA and ESTuTv
+ * contents, as identified by their SHA-256 digest, are shared between all requesters and released to the
+ * {@link Backend} only once the last user has let go.<br><br>
+ * Allocation and upload happen outside of this registry's lock, since allocation may block waiting for
+ * finalizers to release blocks through {@link #release(int)}.
+ * @author Chuck Ritola
+ *
+ */
+
+public class Codebook256Registry {
+    private final Backend backend;
+    private final Map<ContentKey,Entry> entriesByContent = new HashMap<ContentKey,Entry>();
+    private final Map<Integer,Entry>    entriesByBlock   = new HashMap<Integer,Entry>();
+    private long numRequested, numAllocated;
+    private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>(){
+	@Override
+	protected MessageDigest initialValue(){
+	    try{return MessageDigest.getInstance("SHA-256");}
+	    catch(NoSuchAlgorithmException e){throw new RuntimeException(e);}
+	}};
+
+    /**
+     * Outcome of {@link Codebook256Registry#release(int)}.
+     */
+    public static enum Release {
+	/** The block isn't registered here and is left for the caller to free. */
+	UNREGISTERED,
+	/** Other references remain, so the block stays allocated. */
+	SHARED,
+	/** The last reference was dropped and the block freed in the backend. */
+	FREED
+    }//end Release
+
+    public static interface Backend {
+	public int  allocate();
+	public void upload(int blockID, byte [] rgba, byte [] esTuTv);
+	public void free(int blockID);
+    }//end Backend
+
+    public Codebook256Registry(Backend backend){
+	this.backend = backend;
+    }
+
+    /**
+     * Returns a block holding the given contents, allocating and uploading one only if no identical block is in use.
+     * Each call must be balanced by a {@link #release(int)}.
+     * @param rgba 256 codes of 64 bytes each.
+     * @param esTuTv 256 codes of 64 bytes each.
+     * @return The block ID.
+     * @since Oct 18, 2026
+     */
+    public int acquire(byte [] rgba, byte [] esTuTv){
+	final ContentKey key = new ContentKey(rgba, esTuTv);
+	synchronized(this){
+	    numRequested++;
+	    final Entry existing = entriesByContent.get(key);
+	    if(existing != null){
+		existing.references++;
+		return existing.blockID;
+	    }
+	}//end sync(this)
+	final int blockID = backend.allocate();
+	backend.upload(blockID, rgba, esTuTv);
+	final int result;
+	synchronized(this){
+	    final Entry existing = entriesByContent.get(key);
+	    if(existing == null){
+		final Entry entry = new Entry(key, blockID);
+		entriesByContent.put(key, entry);
+		entriesByBlock.put(blockID, entry);
+		numAllocated++;
+		return blockID;
+	    }
+	    //Lost a race with an identical block
+	    existing.references++;
+	    result = existing.blockID;
+	}//end sync(this)
+	backend.free(blockID);
+	return result;
+    }//end acquire(...)
+
+    /**
+     * Drops one reference to the given block, freeing it in the backend if no references remain.
+     * @param blockID
+     * @return Whether the block was freed, is still shared, or isn't registered here.
+     * @since Oct 18, 2026
+     */
+    public Release release(int blockID){
+	synchronized(this){
+	    final Entry entry = entriesByBlock.get(blockID);
+	    if(entry == null)
+		return Release.UNREGISTERED;
+	    if(--entry.references > 0)
+		return Release.SHARED;
+	    entriesByBlock.remove(blockID);
+	    entriesByContent.remove(entry.key);
+	}//end sync(this)
+	backend.free(blockID);
+	return Release.FREED;
+    }//end release(...)
+
+    /**
+     * @return Total number of blocks requested through {@link #acquire(byte[], byte[])}.
+     */
+    public synchronized long getNumRequested() {
+	return numRequested;
+    }
+
+    /**
+     * @return Total number of blocks actually allocated by {@link #acquire(byte[], byte[])}.
+     */
+    public synchronized long getNumAllocated() {
+	return numAllocated;
+    }
+
+    /**
+     * @return Number of distinct blocks currently in use.
+     */
+    public synchronized int getNumResident() {
+	return entriesByBlock.size();
+    }
+
+    public synchronized int getReferenceCount(int blockID){
+	final Entry entry = entriesByBlock.get(blockID);
+	return entry != null?entry.references:0;
+    }
+
+    private static final class Entry {
+	final ContentKey key;
+	final int blockID;
+	int references = 1;
+
+	Entry(ContentKey key, int blockID){
+	    this.key     = key;
+	    this.blockID = blockID;
+	}
+    }//end Entry
+
+    private static final class ContentKey {
+	private final byte [] digest;
+	private final int hash;
+
+	ContentKey(byte [] rgba, byte [] esTuTv){
+	    final MessageDigest md = DIGEST.get();
+	    md.update(rgba);
+	    md.update(esTuTv);
+	    digest = md.digest();
+	    hash   = Arrays.hashCode(digest);
+	}
+
+	@Override
+	public int hashCode(){
+	    return hash;
+	}
+
+	@Override
+	public boolean equals(Object other){
+	    return other instanceof ContentKey && Arrays.equals(digest, ((ContentKey)other).digest);
+	}
+    }//end ContentKey
+}//end Codebook256Registry
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.gpu;
+
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jtrfp.trcl.img.vq.BufferedImageRGBA8888VL;
+import org.jtrfp.trcl.img.vq.CachingVectorListND;
+import org.jtrfp.trcl.img.vq.MIPScalingVectorListND;
+import org.jtrfp.trcl.img.vq.PalettedVectorList;
+import org.jtrfp.trcl.img.vq.RasterizedBlockVectorList;
+import org.jtrfp.trcl.img.vq.VQCompressor;
+import org.jtrfp.trcl.img.vq.VectorList;
+import org.jtrfp.trcl.img.vq.VectorListND;
+import org.jtrfp.trcl.img.vq.VectorListRasterizer;
+import org.jtrfp.trcl.math.Misc;
+import org.jtrfp.trcl.mem.PagedByteBuffer;
+import org.jtrfp.trcl.mem.VEC4Address;
+
+/**
+ * Counterpart to {@link UncompressedVQTextureFactory} which quantizes textures with a {@link VQCompressor} so
+ * that subtextures share a small number of 256-code blocks instead of allocating six unique blocks each.
+ * @author Chuck Ritola
+ *
+ */
+
+public class CompressedVQTextureFactory {
+    public static final int SEGMENTS_PER_SUBTEXTURE = 6;
+    private final String debugName;
+    private final GPU gpu;
+    private final VQCompressor compressor;
+
+    public CompressedVQTextureFactory(GPU gpu, String debugName){
+	this(gpu, debugName, new VQCompressor());
+    }
+
+    public CompressedVQTextureFactory(GPU gpu, String debugName, VQCompressor compressor){
+	this.debugName  = debugName.replace('.', '_');
+	this.gpu        = gpu;
+	this.compressor = compressor;
+    }//end constructor
+
+    private VQTexture newVQTexture(String debugName, boolean uvWrapping){
+	final VQTexture result = new VQTexture(gpu, this.debugName+"."+debugName);
+	result.setUvWrapping(uvWrapping);
+	return result;
+    }//end newVQTexture(...)
+
+    public VQTexture newCompressedVQTexture(PalettedVectorList vlRGBA, PalettedVectorList vlESTuTv, String debugName, boolean uvWrapping, boolean generateMipMaps){
+	final int sideLength = (int)Math.sqrt(vlRGBA.getNumVectors());
+	return newCompressedVQTexture(vlRGBA, vlESTuTv, sideLength, debugName, uvWrapping, generateMipMaps);
+    }//end newCompressedVQTexture(...)
+
+    public VQTexture newCompressedVQTexture(BufferedImage imgRGBA, BufferedImage imgESTuTv, String debugName, boolean uvWrapping, boolean generateMipMaps){
+	return newCompressedVQTexture(new BufferedImageRGBA8888VL(imgRGBA),
+		imgESTuTv != null?new BufferedImageRGBA8888VL(imgESTuTv):null,
+		imgRGBA.getWidth(), debugName, uvWrapping, generateMipMaps);
+    }//end newCompressedVQTexture(...)
+
+    public VQTexture newCompressedVQTexture(VectorList rgba, VectorList esTuTv, int sideLength, String debugName, boolean uvWrapping, boolean generateMipMaps){
+	final int [] dims = new int[]{sideLength,sideLength};
+	return newCompressedVQTexture(new VectorListRasterizer(rgba, dims),
+		esTuTv != null?new VectorListRasterizer(esTuTv, dims):null,
+		debugName, uvWrapping, generateMipMaps);
+    }//end newCompressedVQTexture(...)
+
+    public VQTexture newCompressedVQTexture(VectorListND rgba, VectorListND esTuTv, String debugName, boolean uvWrapping, boolean generateMipMaps){
+	final VQTexture result = newVQTexture(debugName, uvWrapping);
+	assemble(rgba, esTuTv, result, generateMipMaps);
+	return result;
+    }//end newCompressedVQTexture(...)
+
+    /**
+     * Maps each 4x4 tile of a texture, in raster order, to the 256-code segment of the subtexture which displays it.
+     * @param diameterInCodes Width of the texture in tiles.
+     * @return Segment of each tile. The segment index is subtextureIndex*6+positionInSubtexture/256.
+     * @since Oct 18, 2026
+     */
+    public static int [] getSegmentOfTile(int diameterInCodes){
+	final int diameterInSubtextures = getDiameterInSubtextures(diameterInCodes);
+	final int [] result = new int[diameterInCodes * diameterInCodes];
+	for(int codeY = 0; codeY < diameterInCodes; codeY++)
+	    for(int codeX = 0; codeX < diameterInCodes; codeX++){
+		final int subTextureIdx   = codeX / SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER
+			+ (codeY / SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER) * diameterInSubtextures;
+		final int subtextureCodeX = codeX % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
+		final int subtextureCodeY = codeY % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
+		final int codeIdx         = subtextureCodeX + subtextureCodeY * SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
+		result[codeX + codeY * diameterInCodes] = subTextureIdx * SEGMENTS_PER_SUBTEXTURE + codeIdx / 256;
+	    }
+	return result;
+    }//end getSegmentOfTile(...)
+
+    public static int getDiameterInSubtextures(int diameterInCodes){
+	return (int)Math.ceil((double)diameterInCodes/(double)SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER);
+    }
+
+    public static int getDiameterInCodes(int sideLength){
+	return (int)Misc.clamp((double)sideLength/(double)VQCodebookManager.CODE_SIDE_LENGTH, 1, Integer.MAX_VALUE);
+    }
+
+    private void assemble(VectorListND rgbaVL, VectorListND esTuTvVL, final VQTexture tex, boolean generateMipMaps){
+	final int sideLength            = rgbaVL.getDimensions()[0];
+	final int diameterInCodes       = getDiameterInCodes(sideLength);
+	final int diameterInSubtextures = getDiameterInSubtextures(diameterInCodes);
+	final int numSubtextures        = diameterInSubtextures * diameterInSubtextures;
+	final VQCompressor.Result compressed = compressor.compress(
+		new RasterizedBlockVectorList(rgbaVL, 4),
+		esTuTvVL != null?new RasterizedBlockVectorList(esTuTvVL, 4):null,
+		getSegmentOfTile(diameterInCodes), numSubtextures * SEGMENTS_PER_SUBTEXTURE);
+	tex.setSideLength(sideLength);
+	tex.setAverageColor(compressed.getAverageColor());
+	if(tex.getTexturePage()>=65536)
+	    throw new RuntimeException("Texture TOC page out of acceptable range: "+tex.getTexturePage()+".");
+	if(tex.getTocWindow().getPhysicalAddressInBytes(tex.getTocIndex()).intValue()%PagedByteBuffer.PAGE_SIZE_BYTES!=0)
+	    throw new RuntimeException("Physical GPU address not perfectly aligned with page interval.");
+	tex.setSize(new Point2D.Double(sideLength,sideLength));
+	// Push blocks to codebook, sharing any identical to those already resident
+	final int [] blockIDs = new int[compressed.getNumBlocks()];
+	final byte [] blackESTuTv = new byte[VQCompressor.CODES_PER_BLOCK * 64];
+	for(int block = 0; block < blockIDs.length; block++){
+	    final byte [] esTuTv = compressed.getESTuTvBlock(block);
+	    blockIDs[block] = tex.acquireCodebook256(compressed.getRGBABlock(block), esTuTv != null?esTuTv:blackESTuTv);
+	}
+
+	final TextureTOCWindow tocWindow = (TextureTOCWindow)tex.getTocWindow().newContextWindow();
+	final SubTextureWindow stWindow  = (SubTextureWindow)tex.getSubTextureWindow().newContextWindow();
+	final List<Integer> subTextureIDs = tex.getSubTextureIDs();
+	final int tocIndex = tex.getTocIndex();
+	tocWindow.magic.set(tocIndex, 1337);
+	for(int i=0; i<subTextureIDs.size(); i++){
+	    final int id = subTextureIDs.get(i);
+	    final int tocSubTexIndex = (i%diameterInSubtextures)+(i/diameterInSubtextures)*TextureTOCWindow.WIDTH_IN_SUBTEXTURES;
+	    tocWindow.subtextureAddrsVec4.setAt(tocIndex, tocSubTexIndex,new VEC4Address(stWindow.getPhysicalAddressInBytes(id)).intValue());
+	    tocWindow.renderFlags.set(tocIndex, (tex.isUvWrapping()?0x1:0x0));
+	    for(int off=0; off<SEGMENTS_PER_SUBTEXTURE; off++){
+		final int block = compressed.getBlockOfSegment(i*SEGMENTS_PER_SUBTEXTURE+off);
+		//Segments with no displayed tiles point at any valid block
+		stWindow.codeStartOffsetTable.setAt(id, off, blockIDs[Math.max(0, block)]*256);
+	    }
+	}//end for(subTextureIDs)
+	tocWindow.height.set(tocIndex, sideLength);
+	tocWindow.width .set(tocIndex, sideLength);
+	for(int codeY = 0; codeY < diameterInCodes; codeY++)
+	    for(int codeX = 0; codeX < diameterInCodes; codeX++)
+		tex.setCodeAt(codeX, codeY, (byte)compressed.getCodeOfTile(codeX + codeY * diameterInCodes));
+	tocWindow.flush();
+	stWindow.flush();
+
+	if(generateMipMaps){
+	    if(tex.getMipTextures() == null)
+		tex.setMipTextures(new ArrayList<VQTexture>());
+	    final List<VQTexture> mipTextures = tex.getMipTextures();
+	    VectorListND rgba = rgbaVL, esTuTv = esTuTvVL;
+	    for(int mipIndex = 0; mipIndex < 2; mipIndex++){
+		final VectorListND oldRGBA = rgba, oldEsTuTv = esTuTv;
+		rgba   = new CachingVectorListND(new MIPScalingVectorListND(oldRGBA,oldRGBA,oldEsTuTv));
+		if(esTuTv != null)
+		    esTuTv = new CachingVectorListND(new MIPScalingVectorListND(oldEsTuTv,oldRGBA,oldEsTuTv));
+		mipTextures.add(newCompressedVQTexture(rgba, esTuTv, "mip"+mipIndex, false, false));
+	    }//end for(mipIndex)
+	}//end if(generateMipMaps)
+    }//end assemble(...)
+
+    public VQCompressor getCompressor() {
+        return compressor;
+    }
+}//end CompressedVQTextureFactory
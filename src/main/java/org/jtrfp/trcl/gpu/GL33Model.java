@@ -51,6 +51,7 @@ public class GL33Model implements Model {
     private GL33Model finalizedModel;
     //Keeps hard references to Textures to keep them from getting gobbled.
     private final HashSet<Texture> textures = new HashSet<Texture>();
+    private final ArrayList<ReleaseListener> releaseListeners = new ArrayList<ReleaseListener>();
 
     public GL33Model(boolean smoothAnimation, TR tr, String debugName) {
 	this.tr = tr;
@@ -158,8 +159,12 @@ public class GL33Model implements Model {
 			textures.add(triangle.texture);
 		 }// Get all frames for each triangle
 		 if (tris[0].length != 0) {
-		    tpList = new TriangleList(tris, getFrameDelayInMillis(), "Model."+debugName,
+		    final TriangleList list = new TriangleList(tris, getFrameDelayInMillis(), "Model."+debugName,
 			    animateUV, getController(), tr, GL33Model.this);
+		    synchronized(releaseListeners){
+			addReleaseListenersTo(list);
+			tpList = list;
+		    }
 		    tpFuture = tpList.uploadToGPU();
 		 }// end if(length!=0)
 		 else
@@ -174,8 +179,12 @@ public class GL33Model implements Model {
 			textures.add(triangle.texture);
 		 }// Get all frames for each triangle
 		 if (ttris[0].length != 0) {
-		    ttpList = new TransparentTriangleList(ttris,
+		    final TransparentTriangleList list = new TransparentTriangleList(ttris,
 			    getFrameDelayInMillis(), debugName, animateUV, getController(), tr, GL33Model.this);
+		    synchronized(releaseListeners){
+			addReleaseListenersTo(list);
+			ttpList = list;
+		    }
 		    ttpFuture = ttpList.uploadToGPU();
 		 }// end if(length!=0)
 		 else
@@ -190,6 +199,27 @@ public class GL33Model implements Model {
 		return this;
     }// end finalizeModel()
 
+    /**
+     * @param l Told the vertex bytes each of this model's triangle lists returned once cleaned up, including lists
+     * created later by {@link #finalizeModel()}. Must not refer to this model.
+     * @since Oct 18, 2026
+     */
+    public void addReleaseListener(ReleaseListener l){
+	synchronized(releaseListeners){
+	    releaseListeners.add(l);
+	    if(tpList != null)
+		tpList.addReleaseListener(l);
+	    if(ttpList != null)
+		ttpList.addReleaseListener(l);
+	}//end sync(releaseListeners)
+    }//end addReleaseListener(...)
+
+    /** Caller must hold releaseListeners' lock. */
+    private void addReleaseListenersTo(TriangleList list){
+	for(ReleaseListener l:releaseListeners)
+	    list.addReleaseListener(l);
+    }//end addReleaseListenersTo(...)
+
     public void addFrame(GL33Model m) {
 	if(!animated)animated=true;
 	// Opaque Triangles
@@ -24,7 +24,9 @@ import java.util.concurrent.Future;
 import org.jtrfp.trcl.MatrixWindow;
 import org.jtrfp.trcl.ObjectDefinitionWindow;
 import org.jtrfp.trcl.ObjectListWindow;
+import org.jtrfp.trcl.TransformTable;
 import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFuture;
 import org.jtrfp.trcl.core.TRFutureTask;
 import org.jtrfp.trcl.core.ThreadManager;
@@ -60,6 +62,7 @@ public class GPU {//TODO: Can we remove GLExecutor? submitToGL returns GL Task w
 	private GLExecutor<GL3>		         	glExecutor;
 	private GLAutoDrawable				autoDrawable;
 	public         TRFutureTask<MatrixWindow> 	matrixWindow;
+	private final  TransformTable                   transformTable = new TransformTable(TRFactory.mapWidth);
 	public    TRFutureTask<ObjectListWindow> 	objectListWindow;
 	public      TRFutureTask<ObjectDefinitionWindow>objectDefinitionWindow;
 	private       ThreadManager                     threadManager;
@@ -373,6 +376,15 @@ public class GPU {//TODO: Can we remove GLExecutor? submitToGL returns GL Task w
 	    throw new UnsupportedOperationException();
 	}
 */
+	/**
+	 * @return Transform inputs of the objects in {@link #matrixWindow}, shared by every renderer on this GPU.
+	 * Only to be used while holding the ThreadManager's gameStateLock.
+	 * @since Oct 18, 2026
+	 */
+	public TransformTable getTransformTable() {
+	    return transformTable;
+	}
+
 	public Reporter getReporter() {
 	    return reporter;
 	}
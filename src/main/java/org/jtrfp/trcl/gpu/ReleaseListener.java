@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.gpu;
+
+/**
+ * Told how much GPU memory a texture or triangle list gave back once its cleanup ran. Called from the
+ * cleaner's thread, after the owner became unreachable, so implementations must not refer to the owner.
+ * @author Chuck Ritola
+ *
+ */
+
+public interface ReleaseListener {
+    /**
+     * @param bytesFreed Bytes actually returned to their pools. Memory still shared with others isn't counted.
+     * @since Oct 18, 2026
+     */
+    public void released(long bytesFreed);
+}//end ReleaseListener
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -32,6 +33,7 @@ import org.jtrfp.trcl.Camera;
 import org.jtrfp.trcl.MatrixWindow;
 import org.jtrfp.trcl.ObjectListWindow;
 import org.jtrfp.trcl.SpacePartitioningGrid;
+import org.jtrfp.trcl.TransformTable;
 import org.jtrfp.trcl.VerboseExecutorService;
 import org.jtrfp.trcl.World;
 import org.jtrfp.trcl.coll.CollectionActionDispatcher;
@@ -47,6 +49,8 @@ import org.jtrfp.trcl.core.ThreadManager;
 import org.jtrfp.trcl.gui.GLExecutable;
 import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
 import org.jtrfp.trcl.mem.IntArrayVariableList;
+import org.jtrfp.trcl.mem.MemoryManager;
+import org.jtrfp.trcl.mem.PageRelocationListener;
 import org.jtrfp.trcl.mem.PagedByteBuffer;
 import org.jtrfp.trcl.mem.VEC4Address;
 import org.jtrfp.trcl.obj.Positionable;
@@ -118,6 +122,7 @@ public final class Renderer {
 
     
     private             MatrixWindow            matrixWindowContext;
+    private volatile    int                     matricesRebuiltLastFrame;
     private             ObjectListWindow        objectListWindowContext;
     private             IntArrayVariableList    indexList;
     
@@ -179,6 +184,8 @@ public final class Renderer {
 	//this.rFactory         = renderer.getRendererFactory();
 	this.previousViewport		=ByteBuffer.allocateDirect(4*4).order(ByteOrder.nativeOrder()).asIntBuffer();
 	this.renderListIdx		=this.objectListWindow.create();
+	//The object list is only addressed through the page table, so its pages may be defragmented
+	this.objectListWindow.addPageRelocationListener(pageRelocationListener);
 	this.indexList                 = new IntArrayVariableList(this.objectListWindowContext.opaqueIDs,renderListIdx);
 
 	relevantPositionedRenderables.addTarget(opaqueODAddrsColl, true);
@@ -231,6 +238,14 @@ public final class Renderer {
 	    if(spg!=null)
 	     reporter.report("org.jtrfp.trcl.core.Renderer."+debugName+" rootGrid", spg.toString());
 	    }
+	    final MemoryManager memoryManager = gpu.memoryManager.getRealtime();
+	    final MemoryManager.FlushStatistics flushStatistics = memoryManager.getLastFlushStatistics();
+	    reporter.report("org.jtrfp.trcl.mem.MemoryManager.bytesWrittenPerFrame", ""+flushStatistics.getBytesWritten());
+	    reporter.report("org.jtrfp.trcl.mem.MemoryManager.pagesDirtiedPerFrame", ""+flushStatistics.getPagesDirtied());
+	    reporter.report("org.jtrfp.trcl.mem.MemoryManager.flushCallsPerFrame", ""+flushStatistics.getFlushCalls());
+	    reporter.report("org.jtrfp.trcl.mem.MemoryManager.rootBufferFragmentation", String.format("%.3f", memoryManager.getRootBufferFragmentation()));
+	    reporter.report("org.jtrfp.trcl.mem.MemoryManager.rootPagesRelocated", ""+memoryManager.getRootBufferCompactor().getNumPagesRelocated());
+	    reporter.report("org.jtrfp.trcl.core.Renderer."+debugName+" matricesRebuilt", ""+matricesRebuiltLastFrame);
 	    lastTimeMillis = System.currentTimeMillis();
 	}//end if(key frame)
     }//end fpsTracking()
@@ -388,6 +403,8 @@ public final class Renderer {
     }//end setEnabled(...)
     
     private void sendRendererPageTable(){
+	sentPageTable=true;//Before reading the table, so a relocation meanwhile triggers another send
+	final long relocationGeneration = this.relocationGeneration;
 	//final Renderer renderer = tr.mainRenderer;
 	final int size = Math.min(objectListWindow.numPages(),hostRendererPageTable.length);
 	//////// Workaround for AMD bug where element zero always returns zero in frag. Shift up one.
@@ -405,7 +422,7 @@ public final class Renderer {
 	vertexProgram.use();
 	vertexProgram.getUniform("renderListPageTable").setArrayui(hostRendererPageTable);
 	gpu.defaultProgram();
-	sentPageTable=true;
+	sentRelocationGeneration = relocationGeneration;
     }
 
     private static int frameCounter = 0;
@@ -415,13 +432,24 @@ public final class Renderer {
 	final MatrixWindow matrixWindow = getMatrixWindowContext();
 	synchronized(threadManager.gameStateLock){
 	synchronized(relevantPositionedRenderables){
+	//Sample once so every object and the camera interpolate to the same instant
+	interpolationAlpha = threadManager.getInterpolationAlpha();
+	interpolationStep  = threadManager.getInterpolationStep();
+	final Camera camera = getCamera();
+	camera.setInterpolation(interpolationAlpha, interpolationStep);
+	final TransformTable transformTable = getTransformTable();
+	transformTable.beginFrame();
 	for (PositionedRenderable renderable:relevantPositionedRenderables) {
 	    //if(renderable instanceof WorldObject)
 	//	((WorldObject)renderable).setMatrixWindow(matrixWindow);
 	    try{renderable.updateStateToGPU(this, matrixWindow);}
 	     catch(NotReadyException e){}//Simply not ready
 	}//end for(relevantPositionedRenderables)
-	final Camera camera = getCamera();
+	//Same interpolated eye position the camera matrix is built from, so the loop check matches what is drawn
+	final double [] cameraPosition = camera.getInterpolatedPosition(interpolationAlpha, interpolationStep, renderCameraPosition);
+	transformTable.rebuild(cameraPosition[0], cameraPosition[1], cameraPosition[2], 
+		gpu.matrixWindow.get(), matrixWindow, ForkJoinPool.commonPool());
+	matricesRebuiltLastFrame = transformTable.getMatricesRebuiltLastFrame();
 	camera.getCompleteMatrixAsFlatArray(cameraMatrixAsFlatArray);
 	camera.getProjectionRotationMatrixAsFlatArray(camRotationProjectionMatrix);
 	}}
@@ -464,7 +492,30 @@ public final class Renderer {
 	updateObjectListToGPU();
     }//end sendToGPU
     
-    private boolean sentPageTable=false;
+    private volatile boolean sentPageTable=false;
+    private final double []  renderCameraPosition = new double[3];
+    private double           interpolationAlpha = 1;
+    private long             interpolationStep  = ThreadManager.NO_INTERPOLATION_STEP;
+    private volatile long    relocationGeneration, sentRelocationGeneration, acknowledgedRelocationGeneration;
+    //Held weakly by the GPU-wide object list window; lives exactly as long as this renderer
+    private final PageRelocationListener pageRelocationListener = new PageRelocationListener(){
+	@Override
+	public void pagesRelocated(long generation) {
+	    relocationGeneration = generation;
+	    sentPageTable        = false;
+	}};
+    
+    /**
+     * Old object list pages may be reused once the frame drawn with the new page table has been issued,
+     * which is known by the time the next frame starts.
+     */
+    private void acknowledgeSentPageTable(){
+	final long sentRelocationGeneration = this.sentRelocationGeneration;
+	if(sentRelocationGeneration > acknowledgedRelocationGeneration){
+	    objectListWindow.acknowledgePageRelocation(pageRelocationListener, sentRelocationGeneration);
+	    acknowledgedRelocationGeneration = sentRelocationGeneration;
+	}
+    }//end acknowledgeSentPageTable()
     
     private void saveWindowViewportState(GL3 gl){
 	gl.glGetIntegerv(GL3.GL_VIEWPORT, previousViewport);
@@ -483,6 +534,7 @@ public final class Renderer {
     }
     
     public void render(final GL3 gl) throws NotReadyException {
+	acknowledgeSentPageTable();
 	if(!sentPageTable)sendRendererPageTable();
 	final Reporter reporter = getReporter();
 	final RendererFactory rFactory = getRendererFactory();
@@ -728,6 +780,14 @@ public final class Renderer {
         return matrixWindowContext;
     }
 
+    /**
+     * @return Store of the transforms of the objects on this renderer's GPU, into which its relevant objects are staged each frame.
+     * @since Oct 18, 2026
+     */
+    public TransformTable getTransformTable() {
+	return gpu.getTransformTable();
+    }
+
     protected void setMatrixWindowContext(MatrixWindow matrixWindowContext) {
         this.matrixWindowContext = matrixWindowContext;
     }
@@ -774,6 +834,23 @@ public final class Renderer {
         return threadManager;
     }
 
+    /**
+     * @return The interpolation alpha sampled at the start of the current frame's state update.
+     * @see ThreadManager#getInterpolationAlpha()
+     * @since Oct 18, 2026
+     */
+    public double getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /**
+     * @return The simulation step sampled along with {@link #getInterpolationAlpha()}.
+     * @since Oct 18, 2026
+     */
+    public long getInterpolationStep() {
+        return interpolationStep;
+    }
+
     public void setThreadManager(ThreadManager threadManager) {
         this.threadManager = threadManager;
     }
@@ -44,6 +44,7 @@ public class TextureManager {
     						colorCache = new ConcurrentHashMap<Integer,VQTexture>();
     private  SolidColorTextureFactory solidColorTextureFactory;
     private  UncompressedVQTextureFactory uncompressedVQTextureFactory;
+    private  CompressedVQTextureFactory compressedVQTextureFactory;
     
     public TextureManager(final GPU gpu, ThreadManager threadManager, final UncaughtExceptionHandler exceptionHandler){
 	this.gpu                = gpu;
@@ -135,4 +136,15 @@ public class TextureManager {
     	UncompressedVQTextureFactory uncompressedVQTextureFactory) {
         this.uncompressedVQTextureFactory = uncompressedVQTextureFactory;
     }
+
+    public CompressedVQTextureFactory getCompressedVQTextureFactory() {
+	if(compressedVQTextureFactory == null)
+	    compressedVQTextureFactory = new CompressedVQTextureFactory(gpu, "TextureManager");
+        return compressedVQTextureFactory;
+    }
+
+    public void setCompressedVQTextureFactory(
+    	CompressedVQTextureFactory compressedVQTextureFactory) {
+        this.compressedVQTextureFactory = compressedVQTextureFactory;
+    }
 }//end TextureSystem
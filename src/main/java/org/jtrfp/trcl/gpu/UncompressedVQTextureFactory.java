@@ -18,14 +18,13 @@ import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.jtrfp.trcl.SpecialRAWDimensions;
 import org.jtrfp.trcl.core.ThreadManager;
-import org.jtrfp.trcl.gpu.VQCodebookManager.RasterRowWriter;
 import org.jtrfp.trcl.img.vq.BufferedImageRGBA8888VL;
 import org.jtrfp.trcl.img.vq.ByteBufferVectorList;
 import org.jtrfp.trcl.img.vq.CachingVectorListND;
@@ -44,7 +43,6 @@ import org.jtrfp.trcl.mem.VEC4Address;
 public class UncompressedVQTextureFactory {
     //private final ThreadManager threadManager;
     private final TextureManager tm;
-    private final VQCodebookManager cbm;
     //private final TextureTOCWindow tocWindow;
     //private final SubTextureWindow stw;
     private final String debugName;
@@ -53,7 +51,7 @@ public class UncompressedVQTextureFactory {
 
     public UncompressedVQTextureFactory(GPU gpu, ThreadManager threadManager, String debugName){
 	this.tm		  =gpu.textureManager.get();
-	this.cbm	  =tm.vqCodebookManager;
+	//this.cbm	  =tm.vqCodebookManager;
 	//this.tocWindow  =(TextureTOCWindow)tm.getTOCWindow();
 	//this.stw	  =(SubTextureWindow)tm.getSubTextureWindow();
 	this.debugName	  =debugName.replace('.', '_');
@@ -163,22 +161,11 @@ public class UncompressedVQTextureFactory {
 	checkSideLengthSanity(vectorList.getNumVectors());
     }//end checksideLengthSanity(...)
 
-    //REQUIRES GPU MEM ACCESS
-    private final void setCodes(int diameterInCodes, int diameterInSubtextures, VQTexture tex){
-	final int numCodes = diameterInCodes*diameterInCodes;
-	for(int i = 0; i < numCodes; i++){
-	    final int codeX			= i % diameterInCodes;
-	    final int codeY			= i / diameterInCodes;
-	    setCodeAt(codeX,codeY,tex);
-	}//end for(numCodes)
-    }//end setCodes()
-    //REQUIRES GPU MEM ACCESS
-    private final void setCodeAt(int codeX, int codeY, VQTexture tex){
-	final int subtextureCodeX = codeX % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-	final int subtextureCodeY = codeY % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-	final int codeIdx         = subtextureCodeX + subtextureCodeY * SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-	tex.setCodeAt(codeX, codeY, (byte)(codeIdx%256));
-    }//end setCodeAt()
+    private static void readTile(double [] tileRow, int tileIndex, byte [] dest){
+	final int offset = tileIndex * dest.length;
+	for(int i = 0; i < dest.length; i++)
+	    dest[i] = (byte)(tileRow[offset + i] * 255.);
+    }//end readTile(...)
 
     private void assemble(VectorList rgba8888vl, VectorList esTuTv8888vl, final int sideLength, final VQTexture tex, boolean generateMipMaps){
 	assemble(new VectorListRasterizer(rgba8888vl,new int[]{sideLength,sideLength}), esTuTv8888vl != null? new VectorListRasterizer(esTuTv8888vl, new int[]{sideLength,sideLength}) : null,tex,generateMipMaps);
@@ -206,16 +193,30 @@ public class UncompressedVQTextureFactory {
 			if(tex.getTocWindow().getPhysicalAddressInBytes(tex.getTocIndex()).intValue()%PagedByteBuffer.PAGE_SIZE_BYTES!=0)
 			    throw new RuntimeException("Physical GPU address not perfectly aligned with page interval."); 		
 
-			final BlockRegistry blockRegistry = new BlockRegistry(cbm);
-
 			tex.setSize(new Point2D.Double(sideLength,sideLength));
 			final List<Integer>  subTextureIDs = tex.getSubTextureIDs();
-			// Create subtextures
 			final int numSubtextures = diameterInSubtextures*diameterInSubtextures;
-			for(int i=0; i<numSubtextures; i++){
-			    //Create subtexture ID
-			    tex.newCodebook256(null,6);
-			}//end for(subTextureIDs)
+			// Gather the distinct tiles of each 256-code segment, assigning codes as they appear
+			final BlockRegistry blockRegistry = new BlockRegistry(numSubtextures*CompressedVQTextureFactory.SEGMENTS_PER_SUBTEXTURE);
+			final int [] segmentOfTile = CompressedVQTextureFactory.getSegmentOfTile(diameterInCodes);
+			final int [] coord = new int[2];
+			final byte [] rgbaTile = new byte[64], esTuTvTile = new byte[64];
+			final double [] rgbaRow = new double[diameterInCodes*64], esTuTvRow = new double[diameterInCodes*64];
+			for(int codeY=0; codeY<diameterInCodes; codeY++){
+			    coord[1] = codeY;
+			    vlrRGBA.getRow(coord, diameterInCodes, rgbaRow, 0);
+			    if(rbvlESTuTv!=null)
+				rbvlESTuTv.getRow(coord, diameterInCodes, esTuTvRow, 0);
+			    for(int codeX=0; codeX<diameterInCodes; codeX++){
+				readTile(rgbaRow, codeX, rgbaTile);
+				if(rbvlESTuTv!=null)
+				    readTile(esTuTvRow, codeX, esTuTvTile);
+				final int code = blockRegistry.register(segmentOfTile[codeX+codeY*diameterInCodes], rgbaTile, esTuTvTile);
+				tex.setCodeAt(codeX, codeY, (byte)code);
+			    }//end for(codeX)
+			}//end for(codeY)
+			// Push segments to codebook, sharing blocks identical to any already resident
+			final int [] blockIDs = blockRegistry.acquireBlocks(tex);
 
 			final TextureTOCWindow tocWindow = (TextureTOCWindow)tex.getTocWindow().newContextWindow();
 			final SubTextureWindow stWindow = (SubTextureWindow)tex.getSubTextureWindow().newContextWindow();
@@ -234,37 +235,14 @@ public class UncompressedVQTextureFactory {
 				    );
 			    //Fill the subtexture code start offsets
 			    for(int off=0; off<6; off++)
-				stWindow.codeStartOffsetTable.setAt(id, off, tex.getCodebookStartOffsets256().get(i*6+off)*256);
+				stWindow.codeStartOffsetTable.setAt(id, off, blockIDs[i*6+off]*256);
 			}//end for(subTextureIDs)
 			// Set the TOC vars
 			tocWindow.height	 .set(tocIndex, sideLength);
 			tocWindow.width	         .set(tocIndex, sideLength);
-			setCodes(diameterInCodes, diameterInSubtextures, tex);
 			//Finished. Flush.
 			tocWindow.flush();
 			stWindow.flush();
-
-			// Push texels to codebook
-			for(int codeY=0; codeY<diameterInCodes; codeY++){
-			    for(int codeX=0; codeX<diameterInCodes; codeX++){
-				final int subtextureX 	  = codeX / SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-				final int subtextureY 	  = codeY / SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-				final int subTextureIdx	  = subtextureX + subtextureY * diameterInSubtextures;
-				final int subtextureCodeX = codeX % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-				final int subtextureCodeY = codeY % SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-				final int codeIdx         = subtextureCodeX + subtextureCodeY * SubTextureWindow.SIDE_LENGTH_CODES_WITH_BORDER;
-				final int globalCodeIndex = codeIdx%256
-					+ tex.getCodebookStartOffsets256().get(subTextureIdx*6+codeIdx/256)*256;
-				blockRegistry.setRGBACodebookTexelsAt(vlrRGBA, codeX,codeY,diameterInCodes, globalCodeIndex,tex);
-				if(rbvlESTuTv!=null)
-				    blockRegistry.setESTuTvCodebookTexelsAt(rbvlESTuTv, codeX,codeY,diameterInCodes, globalCodeIndex,tex);
-				else{
-				    final VectorListND blackVLR = generateBlackVectorList(sideLength);
-				    blockRegistry.setESTuTvCodebookTexelsAt(blackVLR, codeX,codeY,diameterInCodes, globalCodeIndex,tex);}
-			    }//end for(codeX)
-			}//end for(codeY)
-			blockRegistry.flushRGBACodeblock256();
-			blockRegistry.flushESTuTvCodeblock256();
 			if(generateMipMaps){
 			    if(tex.getMipTextures() == null)
 				tex.setMipTextures(new ArrayList<VQTexture>());
@@ -281,127 +259,84 @@ public class UncompressedVQTextureFactory {
 			}//end if(generateMipMaps)
     }//end assemble()
 
-    private VectorListND generateBlackVectorList(int sideLength) {
-	final VectorList blackVL = new ConstantVectorList(0, sideLength*sideLength, 4);
-	return new RasterizedBlockVectorList(
-		new VectorListRasterizer(blackVL, new int[]{sideLength,sideLength}), 4);
-    }
+    /**
+     * Collects the distinct tiles of each segment, the 256 code positions of a subtexture which share one codebook block,
+     * so that repeated tiles share a code and blocks with identical contents may be shared between textures.
+     */
+    static final class BlockRegistry {
+	private static final int CODE_BYTES = 64;
+	private final byte [][] rgbaBlocks, esTuTvBlocks;
+	private final List<Map<TileKey,Integer>> codesOfSegment;
+
+	BlockRegistry(int numSegments){
+	    rgbaBlocks     = new byte[numSegments][];
+	    esTuTvBlocks   = new byte[numSegments][];
+	    codesOfSegment = new ArrayList<Map<TileKey,Integer>>(numSegments);
+	    for(int i = 0; i < numSegments; i++)
+		codesOfSegment.add(null);
+	}//end constructor
+
+	/**
+	 * @return The code of the given tile within its segment's block.
+	 */
+	int register(int segment, byte [] rgbaTile, byte [] esTuTvTile){
+	    Map<TileKey,Integer> codes = codesOfSegment.get(segment);
+	    if(codes == null){
+		codesOfSegment.set(segment, codes = new HashMap<TileKey,Integer>());
+		rgbaBlocks  [segment] = new byte[256 * CODE_BYTES];
+		esTuTvBlocks[segment] = new byte[256 * CODE_BYTES];
+	    }
+	    final TileKey key = new TileKey(rgbaTile, esTuTvTile);
+	    Integer code = codes.get(key);
+	    if(code == null){
+		code = codes.size();
+		if(code >= 256)
+		    throw new IllegalStateException("Segment "+segment+" has more than 256 code positions.");
+		codes.put(key, code);
+		System.arraycopy(rgbaTile,   0, rgbaBlocks  [segment], code * CODE_BYTES, CODE_BYTES);
+		System.arraycopy(esTuTvTile, 0, esTuTvBlocks[segment], code * CODE_BYTES, CODE_BYTES);
+	    }
+	    return code;
+	}//end register(...)
+
+	/**
+	 * Acquires one codebook block per segment on behalf of the given texture. Segments without tiles share a blank block.
+	 * @return Block ID of each segment.
+	 */
+	int [] acquireBlocks(VQTexture tex){
+	    final int [] result = new int[rgbaBlocks.length];
+	    final byte [] blank = new byte[256 * CODE_BYTES];
+	    for(int segment = 0; segment < result.length; segment++){
+		final byte [] rgba = rgbaBlocks[segment], esTuTv = esTuTvBlocks[segment];
+		result[segment] = tex.acquireCodebook256(rgba != null?rgba:blank, esTuTv != null?esTuTv:blank);
+	    }
+	    return result;
+	}//end acquireBlocks(...)
+
+	int getNumCodes(int segment){
+	    final Map<TileKey,Integer> codes = codesOfSegment.get(segment);
+	    return codes != null?codes.size():0;
+	}
+    }//end BlockRegistry
 
-    private static class BlockRegistry {
-	private final VQCodebookManager cbm;
+    private static final class TileKey {
+	private final byte [] bytes;
+	private final int hash;
 
-	public BlockRegistry(VQCodebookManager codebookManager){
-	    this.cbm = codebookManager;
+	TileKey(byte [] rgbaTile, byte [] esTuTvTile){
+	    bytes = Arrays.copyOf(rgbaTile, rgbaTile.length + esTuTvTile.length);
+	    System.arraycopy(esTuTvTile, 0, bytes, rgbaTile.length, esTuTvTile.length);
+	    hash = Arrays.hashCode(bytes);
 	}
 
-	private final Map<Integer,RasterRowWriter[]>rgbaBlock256Map   = new HashMap<Integer,RasterRowWriter[]>();
-	private final Map<Integer,RasterRowWriter[]>ESTuTvBlock256Map = new HashMap<Integer,RasterRowWriter[]>();
-
-	private final void registerRGBAToBlock256(int globalCodeIndex, RasterRowWriter rw){
-	    RasterRowWriter[] writers = getRGBABlock256(globalCodeIndex);
-	    writers[globalCodeIndex%256]=rw;
-	}//end registerRGBAToBlock256
-
-	private final void registerESTuTvToBlock256(int globalCodeIndex, RasterRowWriter rw){
-	    RasterRowWriter[] writers = getESTuTvBlock256(globalCodeIndex);
-	    writers[globalCodeIndex%256]=rw;
-	}//end registerRGBAToBlock256
-
-	private final RasterRowWriter[] getRGBABlock256(int globalCodeIndex){
-	    final int key = globalCodeIndex/256;
-	    RasterRowWriter [] writers = rgbaBlock256Map.get(key);
-	    if(writers==null)
-		rgbaBlock256Map.put(key,writers = new RasterRowWriter[256]);
-	    return writers;
-	}//end getRGBABlock256(...)
-
-	private final RasterRowWriter[] getESTuTvBlock256(int globalCodeIndex){
-	    final int key = globalCodeIndex/256;
-	    RasterRowWriter [] writers = ESTuTvBlock256Map.get(key);
-	    if(writers==null)
-		ESTuTvBlock256Map.put(key,writers = new RasterRowWriter[256]);
-	    return writers;
-	}//end getESTuTvBlock256(...)
-
-	private final void flushRGBACodeblock256(){
-	    for(Entry<Integer,RasterRowWriter[]> entry:rgbaBlock256Map.entrySet()){
-		cbm.setRGBABlock256(entry.getKey(),entry.getValue());
-	    }//end for(entries)
-	}//end flushRGBACodeblock256()
-
-	private final void flushESTuTvCodeblock256(){
-	    for(Entry<Integer,RasterRowWriter[]> entry:ESTuTvBlock256Map.entrySet()){
-		cbm.setESTuTvBlock256(entry.getKey(),entry.getValue());
-	    }//end for(entries)
-	}//end flushRGBACodeblock256()
-
-	private void setRGBACodebookTexelsAt(final VectorListND vlrRGBA, int codeX, int codeY,
-		int diameterInCodes, int globalCodeIndex, Texture tex) {
-	    final int coord[] = new int[]{codeX,codeY};
-	    final RasterRowWriter rw = new RowWriterImpl(vlrRGBA,coord);
-	    try {
-		registerRGBAToBlock256(globalCodeIndex, rw);
-	    } catch (ArrayIndexOutOfBoundsException e) {
-		throw new RuntimeException("this="
-			+ tex.toString(), e);
-	    }//end catch(ArrayIndexOutOfBoundsException)
-	}// end setCodebookTexelsAt
-
-	private void setESTuTvCodebookTexelsAt(final VectorListND vlrESTuTv, int codeX, int codeY,
-		int diameterInCodes, int globalCodeIndex, Texture tex) {
-	    final int coord[] = new int[]{codeX,codeY};
-	    final RasterRowWriter rw = new RowWriterImpl(vlrESTuTv,coord);
-	    try {
-		registerESTuTvToBlock256(globalCodeIndex, rw);
-	    } catch (ArrayIndexOutOfBoundsException e) {
-		throw new RuntimeException("this="
-			+ tex.toString(), e);
-	    }//end catch(ArrayIndexOutOfBoundsException)
-	}// end setCodebookTexelsAt
-    }//end BlockRegistry
-
-    static final class RowWriterImpl implements RasterRowWriter{
-	private final VectorListND _vlr;
-	private final int [] coord;
-	public RowWriterImpl(VectorListND vlrRGBA, int [] coord){
-	    this._vlr=vlrRGBA;
-	    this.coord=coord;
+	@Override
+	public int hashCode(){
+	    return hash;
 	}
+
 	@Override
-	public void applyRow(int row, ByteBuffer dest) {
-	    int position = row * 16;
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	    dest.put((byte) (_vlr
-		    .componentAt(coord, position++) * 255.));
-	}// end applyRow
-    }//end RasterRowWriter
+	public boolean equals(Object other){
+	    return other instanceof TileKey && Arrays.equals(bytes, ((TileKey)other).bytes);
+	}
+    }//end TileKey
 }//end UncompressedVQTextureFactory
@@ -34,6 +34,22 @@ public class VQCodebookManager {
     private final	Collection<TileUpdate>tileUpdates	       = new ArrayList<TileUpdate>(1024);
     private final	GPU		gpu;
     private final	UncaughtExceptionHandler handler;
+    private final	Codebook256Registry	codebook256Registry = new Codebook256Registry(new Codebook256Registry.Backend(){
+	@Override
+	public int allocate() {
+	    return newCodebook256();
+	}
+
+	@Override
+	public void upload(int blockID, byte[] rgba, byte[] esTuTv) {
+	    setRGBABlock256  (blockID, newBlock256RowWriters(rgba));
+	    setESTuTvBlock256(blockID, newBlock256RowWriters(esTuTv));
+	}
+
+	@Override
+	public void free(int blockID) {
+	    codebook256Indices.free(blockID);
+	}});
     public static final int 		CODE_PAGE_SIDE_LENGTH_TEXELS	=512;
     public static final int 		CODE_SIDE_LENGTH		=4;
     public static final int 		NUM_CODE_PAGES			=512;
@@ -42,6 +58,8 @@ public class VQCodebookManager {
     public static final int 		CODES_PER_PAGE 			=NUM_CODES_PER_AXIS*NUM_CODES_PER_AXIS;
     public static final int 		CODE256_PER_PAGE 		= CODES_PER_PAGE/256;
     public static final int 		CODE256_HEIGHT_CODES		= 256 / NUM_CODES_PER_AXIS;
+    /** GPU memory of one 256-code block: 4x4 texels of 4 bytes per code, in both the RGBA and ESTuTv codebooks. */
+    public static final int		BYTES_PER_CODEBOOK256		= 256 * CODE_SIDE_LENGTH * CODE_SIDE_LENGTH * 4 * 2;
 
     public VQCodebookManager(GPU gpu, UncaughtExceptionHandler handler) {
 	this.handler=handler;
@@ -113,6 +131,36 @@ public class VQCodebookManager {
 	public void applyRow(int row, ByteBuffer dest);
     }//end RasterRowWriter
 
+    /**
+     * Writes one 4x4 RGBA8888 code from a byte array, 64 bytes in row-major texel order.
+     */
+    public static final class ByteArrayRowWriter implements RasterRowWriter {
+	private final byte [] source;
+	private final int offset;
+
+	public ByteArrayRowWriter(byte [] source, int offset){
+	    this.source = source;
+	    this.offset = offset;
+	}
+
+	@Override
+	public void applyRow(int row, ByteBuffer dest) {
+	    dest.put(source, offset + row * 16, 16);
+	}
+    }//end ByteArrayRowWriter
+
+    /**
+     * @param block 256 codes of 64 bytes each.
+     * @return Row writers for use with {@link #setRGBABlock256(int, RasterRowWriter[])} or {@link #setESTuTvBlock256(int, RasterRowWriter[])}
+     * @since Oct 18, 2026
+     */
+    public static RasterRowWriter [] newBlock256RowWriters(byte [] block){
+	final RasterRowWriter [] result = new RasterRowWriter[256];
+	for(int code = 0; code < result.length; code++)
+	    result[code] = new ByteArrayRowWriter(block, code * 64);
+	return result;
+    }//end newBlock256RowWriters(...)
+
     private void subImage256(final int blockID, final RasterRowWriter[][] texels, GLTexture texture, int mipLevel) throws OutOfMemoryError{
 	final int y = (blockID % CODE256_PER_PAGE) * CODE256_HEIGHT_CODES * CODE_SIDE_LENGTH;
 	final int page = blockID / CODE256_PER_PAGE;
@@ -283,16 +331,93 @@ public class VQCodebookManager {
 	}//end catch()
     }// end newCodebook256()
 
-    public void freeCodebook256(int codebook256ToRelease) {
+    /**
+     * Obtains a block holding the given contents, shared with any other user of identical contents.
+     * Release it with {@link #freeCodebook256(int)} as with blocks from {@link #newCodebook256()}.
+     * @param rgba 256 codes of 64 bytes each.
+     * @param esTuTv 256 codes of 64 bytes each.
+     * @return The block ID.
+     * @since Oct 18, 2026
+     */
+    public int acquireCodebook256(byte [] rgba, byte [] esTuTv){
+	return codebook256Registry.acquire(rgba, esTuTv);
+    }
+
+    /**
+     * Releases a block, returning it to the pool unless it is still shared.
+     * @return true if the block was returned to the pool.
+     */
+    public boolean freeCodebook256(int codebook256ToRelease) {
 	System.out.println("VQCodebookManager.freeCodebook256() "+codebook256ToRelease);
-	codebook256Indices.free(codebook256ToRelease);
+	switch(codebook256Registry.release(codebook256ToRelease)){
+	case UNREGISTERED:
+	    codebook256Indices.free(codebook256ToRelease);
+	    return true;
+	case FREED:
+	    return true;
+	default:
+	    return false;
+	}//end switch(release)
     }// end freeCodebook256(...)
 
-    public void freeCodebook256(Collection<Integer> list) {
+    /**
+     * Releases blocks, returning to the pool those which aren't still shared.
+     * @return Number of blocks returned to the pool.
+     */
+    public int freeCodebook256(Collection<Integer> list) {
+	if(list.isEmpty())
+	    return 0;
 	System.out.println("VQCodebookManager.freeCodebook256(list) "+list.iterator().next());
-	codebook256Indices.free(list);
+	final List<Integer> unshared = new ArrayList<Integer>(list.size());
+	int result = 0;
+	for(Integer codebook256 : list)
+	    switch(codebook256Registry.release(codebook256)){
+	    case UNREGISTERED:
+		unshared.add(codebook256);
+		break;
+	    case FREED:
+		result++;
+		break;
+	    default:
+		break;
+	    }//end switch(release)
+	codebook256Indices.free(unshared);
+	return result + unshared.size();
     }// end freeCodebook256(...)
 
+    /**
+     * Apportions the given blocks' memory among their users: a block shared by n textures counts 1/n toward each.
+     * @return Bytes of codebook memory attributable to the holder of these blocks.
+     * @since Oct 18, 2026
+     */
+    public long getCodebook256SizeInBytes(Collection<Integer> blocks){
+	long result = 0;
+	for(Integer codebook256 : blocks)
+	    result += BYTES_PER_CODEBOOK256 / Math.max(1, codebook256Registry.getReferenceCount(codebook256));
+	return result;
+    }//end getCodebook256SizeInBytes(...)
+
+    /**
+     * @return Number of blocks requested through {@link #acquireCodebook256(byte[], byte[])}, including those satisfied by sharing.
+     */
+    public long getNumCodebook256Requested(){
+	return codebook256Registry.getNumRequested();
+    }
+
+    /**
+     * @return Number of blocks actually allocated by {@link #acquireCodebook256(byte[], byte[])}.
+     */
+    public long getNumCodebook256Allocated(){
+	return codebook256Registry.getNumAllocated();
+    }
+
+    /**
+     * @return Number of distinct shared blocks currently in use.
+     */
+    public int getNumCodebook256Shared(){
+	return codebook256Registry.getNumResident();
+    }
+
     public GLTexture getRGBATexture()		{return rgbaTexture;}
     public GLTexture getESTuTvTexture()		{return esTuTvTexture;}
 
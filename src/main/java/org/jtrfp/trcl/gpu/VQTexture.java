@@ -58,6 +58,7 @@ public class VQTexture implements Texture {
     private TextureBehavior.Support	tbs = new TextureBehavior.Support();
     private Point2D.Double              size;
     private final Collection<Runnable>  finalizationHooks = new ArrayList<Runnable>();
+    private final Collection<ReleaseListener> releaseListeners = new ArrayList<ReleaseListener>();
     private List<VQTexture>             mipTextures;
     
     VQTexture(GPU gpu, String debugName){
@@ -68,7 +69,7 @@ public class VQTexture implements Texture {
    	this.debugName	  =debugName.replace('.', '_');
    	this.tocIndex     =getTocWindow().create();
    	
-   	Util.CLEANER.register(this, new CleaningAction(tocWindow, tocIndex, stw, cbm, subTextureIDs, codebookStartOffsets256, finalizationHooks));
+   	Util.CLEANER.register(this, new CleaningAction(tocWindow, tocIndex, stw, cbm, subTextureIDs, codebookStartOffsets256, finalizationHooks, releaseListeners));
     }//end constructor
     
     @AllArgsConstructor
@@ -80,6 +81,7 @@ public class VQTexture implements Texture {
 	private final ArrayList<Integer> subTextureIDs;
 	private final ArrayList<Integer> codebookStartOffsets256;
 	private final Collection<Runnable> finalizationHooks;
+	private final Collection<ReleaseListener> releaseListeners;
 	
 	@Override
 	public void run() {
@@ -91,9 +93,11 @@ public class VQTexture implements Texture {
 		tocWindow.freeLater(tocIndex);
 	    stw.freeLater(subTextureIDs);
 	    //Codebook entries
-	    cbm.freeCodebook256(codebookStartOffsets256);
+	    final long bytesFreed = (long)cbm.freeCodebook256(codebookStartOffsets256) * VQCodebookManager.BYTES_PER_CODEBOOK256;
 	    for(Runnable h:finalizationHooks)
 		h.run();
+	    for(ReleaseListener l:releaseListeners)
+		l.released(bytesFreed);
 	}//end run()
     }//end CleaningAction
     /*
@@ -419,6 +423,18 @@ public class VQTexture implements Texture {
 	    dest.addAll(result);
     }//end newCodebook256
     
+    /**
+     * Obtains a codebook block holding the given contents, possibly shared with other textures, and records it for release
+     * with this texture.
+     * @return The block ID.
+     * @since Oct 18, 2026
+     */
+    int acquireCodebook256(byte [] rgba, byte [] esTuTv){
+	final int codebook256 = cbm.acquireCodebook256(rgba, esTuTv);
+	getCodebookStartOffsets256().add(codebook256);
+	return codebook256;
+    }
+
     void freeCodebook256(int codebook256){
 	cbm.freeCodebook256(codebook256);
 	if(!getCodebookStartOffsets256().remove(Integer.valueOf(codebook256)))
@@ -437,6 +453,22 @@ public class VQTexture implements Texture {
 	finalizationHooks.add(r);
     }
 
+    /**
+     * @param l Told the codebook bytes this texture returned to the pool once it is cleaned up. Must not refer to this texture.
+     * @since Oct 18, 2026
+     */
+    public void addReleaseListener(ReleaseListener l){
+	releaseListeners.add(l);
+    }
+
+    /**
+     * @return Codebook memory held by this texture, with shared blocks apportioned among their users.
+     * @since Oct 18, 2026
+     */
+    public long getCodebookSizeInBytes(){
+	return cbm.getCodebook256SizeInBytes(getCodebookStartOffsets256());
+    }
+
     public List<VQTexture> getMipTextures() {
         return mipTextures;
     }
@@ -58,4 +58,21 @@ public final class BufferedImageRGBA8888VL implements VectorList {
 	throw new RuntimeException("Not implemented.");
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	final int [] rgb = new int[Math.min(numVectors, width)];
+	int vectorIndex = firstVector;
+	final int end   = firstVector + numVectors;
+	while(vectorIndex < end){
+	    final int x     = vectorIndex % width;
+	    final int y     = vectorIndex / width;
+	    final int count = Math.min(end - vectorIndex, width - x);
+	    image.getRGB(x, y, count, 1, rgb, 0, count);
+	    for(int i = 0; i < count; i++)
+		for(int c = 0; c < 4; c++)
+		    dest[destOffset++] = ((rgb[i] & MASKS[c]) >> SHIFTS[c] & 0xFF)/255.;
+	    vectorIndex += count;
+	}//end while(vectors remain)
+    }//end getComponents(...)
+
 }
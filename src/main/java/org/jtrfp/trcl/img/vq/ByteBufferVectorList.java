@@ -46,4 +46,10 @@ public class ByteBufferVectorList implements VectorList {
 	bb.put(vectorIndex, (byte) value);
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	for(int v = 0; v < numVectors; v++)
+	    dest[destOffset + v] = (double) (bb.get(firstVector + v) & 0xFF) / 255.;
+    }
+
 }// end ByteBufferVectorList
@@ -67,4 +67,18 @@ public class CachingVectorList implements VectorList {
 	delegate.setComponentAt(vectorIndex, componentIndex, value);//Can't cache due to vector-level granularity
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	final int end = firstVector + numVectors;
+	int vectorIndex = populatedBitSet.nextClearBit(firstVector);
+	while(vectorIndex < end){//Fill each uncached run with one delegate call
+	    final int nextCached = populatedBitSet.nextSetBit(vectorIndex);
+	    final int runEnd     = nextCached < 0?end:Math.min(end, nextCached);
+	    delegate.getComponents(vectorIndex, runEnd - vectorIndex, cache, vectorIndex * numComponentsPerVector);
+	    populatedBitSet.set(vectorIndex, runEnd);
+	    vectorIndex = populatedBitSet.nextClearBit(runEnd);
+	}
+	System.arraycopy(cache, firstVector * numComponentsPerVector, dest, destOffset, numVectors * numComponentsPerVector);
+    }//end getComponents(...)
+
 }//end CachingVectorList
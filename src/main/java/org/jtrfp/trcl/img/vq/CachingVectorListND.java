@@ -76,6 +76,25 @@ public class CachingVectorListND implements VectorListND {
 	delegate.setComponentAt(coordinates, componentIndex, value);
     }
 
+    @Override
+    public void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	final int first = coord1D(coordinates);
+	final int end   = first + numVectors;
+	int coord1D = populatedBitSet.nextClearBit(first);
+	if(coord1D < end){
+	    final int [] coords = coordinates.clone();
+	    while(coord1D < end){//Fill each uncached run with one delegate call
+		final int nextCached = populatedBitSet.nextSetBit(coord1D);
+		final int runEnd     = nextCached < 0?end:Math.min(end, nextCached);
+		coords[0] = coordinates[0] + coord1D - first;
+		delegate.getRow(coords, runEnd - coord1D, cache, coord1D * numComponentsPerVector);
+		populatedBitSet.set(coord1D, runEnd);
+		coord1D = populatedBitSet.nextClearBit(runEnd);
+	    }
+	}//end if(uncached)
+	System.arraycopy(cache, first * numComponentsPerVector, dest, destOffset, numVectors * numComponentsPerVector);
+    }//end getRow(...)
+
     @Override
     public int getNumVectors() {
 	return numVectors;
@@ -44,6 +44,12 @@ public final class CodebookTileTableVL implements VectorList {
 	throw new RuntimeException("CodebookTileTableVL is immutable.");
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	for(int v = firstVector; v < firstVector + numVectors; v++)
+	    dest[destOffset++] = tileTable[v/256] + v%256;
+    }
+
     public int[] getTileTable() {
         return tileTable;
     }
@@ -14,6 +14,7 @@
 package org.jtrfp.trcl.img.vq;
 
 import java.awt.Color;
+import java.util.Arrays;
 
 
 public final class ColorPaletteVectorList implements VectorList {
@@ -51,20 +52,31 @@ public final class ColorPaletteVectorList implements VectorList {
     @Override
     public void setComponentAt(int vectorIndex, int componentIndex, double value) {
 	palette[vectorIndex][componentIndex]=value;
+	hashCode = null;
+    }
+
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	for(int v = 0; v < numVectors; v++, destOffset += 4)
+	    System.arraycopy(palette[firstVector + v], 0, dest, destOffset, 4);
     }
     
     @Override
     public int hashCode(){
-	int idx=1;
-	if(hashCode==null){
-	    int hash = 0;
-	    for(final double [] v:palette){
-		for(double d:v)
-		    hash+=d*(idx++);
-	    }//end for(palete)
-	    hashCode = hash;
-	}//end if(null)
-	return hashCode;
+	Integer result = hashCode;
+	if(result==null)
+	    hashCode = result = Arrays.deepHashCode(palette);
+	return result;
     }//end hashcode()
+    
+    @Override
+    public boolean equals(Object other){
+	if(other == this)
+	    return true;
+	if(!(other instanceof ColorPaletteVectorList))
+	    return false;
+	final ColorPaletteVectorList otherList = (ColorPaletteVectorList)other;
+	return hashCode() == otherList.hashCode() && Arrays.deepEquals(palette, otherList.palette);
+    }//end equals(...)
 
 }//end ColorPaletteVectorList
@@ -95,6 +95,23 @@ public final class CompositeVectorListND implements VectorListND {
 	    buffer[i]%=slSize[i];
 	vl.setComponentAt(buffer, componentIndex, value);
     }
+
+    @Override
+    public void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	final int [] slSize        = getSubListSize();
+	final int numComponents    = getNumComponentsPerVector();
+	final int [] coord         = Arrays.copyOf(coordinates, coordinates.length);
+	final int [] subListCoords = new int[coordinates.length];
+	final int end              = coordinates[0] + numVectors;
+	while(coord[0] < end){//One call per sublist crossed
+	    for(int i=0; i<coord.length; i++)
+		subListCoords[i] = coord[i] % slSize[i];
+	    final int count = Math.min(end - coord[0], slSize[0] - subListCoords[0]);
+	    subListAt(coord).getRow(subListCoords, count, dest, destOffset);
+	    destOffset += count * numComponents;
+	    coord[0]   += count;
+	}
+    }//end getRow(...)
     
     public int [] getSubListSize(){
 	final List<VectorListND> subLists = getSubLists();
@@ -13,6 +13,7 @@
 
 package org.jtrfp.trcl.img.vq;
 
+import java.util.Arrays;
 
 public class ConstantVectorList implements VectorList {
     private final double constant;
@@ -51,4 +52,9 @@ public class ConstantVectorList implements VectorList {
 	throw new RuntimeException("Not Implemented.");
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	Arrays.fill(dest, destOffset, destOffset + numVectors * numComponents, constant);
+    }
+
 }//end ConstantVectorList
@@ -13,6 +13,8 @@
 
 package org.jtrfp.trcl.img.vq;
 
+import java.util.Arrays;
+
 import org.apache.commons.math3.analysis.function.Sigmoid;
 
 public class MIPScalingVectorListND implements VectorListND {
@@ -79,6 +81,57 @@ public class MIPScalingVectorListND implements VectorListND {
 	return result;
     }//end weightAt(...)
 
+    @Override
+    public void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	if(coordinates.length != 2){
+	    VectorListND.super.getRow(coordinates, numVectors, dest, destOffset);
+	    return;
+	}
+	final int numComponents = getNumComponentsPerVector();
+	final int sourceLength  = numVectors * 2;
+	final int [] coord      = new int[]{coordinates[0] * 2, coordinates[1] * 2};
+	final double [] row0 = new double[sourceLength * numComponents], row1 = new double[sourceLength * numComponents];
+	final double [] weight0 = new double[sourceLength], weight1 = new double[sourceLength];
+	delegate.getRow(coord, sourceLength, row0, 0);
+	rowWeights(coord, sourceLength, weight0);
+	coord[1]++;
+	delegate.getRow(coord, sourceLength, row1, 0);
+	rowWeights(coord, sourceLength, weight1);
+	//Samples are accumulated in the same order as recursiveComponentAt so results match componentAt exactly
+	for(int v = 0; v < numVectors; v++){
+	    final int x0 = v * 2, x1 = x0 + 1;
+	    final double w00 = weight0[x0], w01 = weight1[x0], w10 = weight0[x1], w11 = weight1[x1];
+	    for(int c = 0; c < numComponents; c++){
+		final double s00 = row0[x0 * numComponents + c], s01 = row1[x0 * numComponents + c],
+			     s10 = row0[x1 * numComponents + c], s11 = row1[x1 * numComponents + c];
+		double accumulator = 0, weightAccumulator = 0;
+		accumulator += s00 * w00; weightAccumulator += w00;
+		accumulator += s00 * w00; weightAccumulator += w00;
+		accumulator += s01 * w01; weightAccumulator += w01;
+		accumulator += s10 * w10; weightAccumulator += w10;
+		accumulator += s10 * w10; weightAccumulator += w10;
+		accumulator += s11 * w11; weightAccumulator += w11;
+		dest[destOffset++] = accumulator / weightAccumulator;
+	    }
+	}//end for(vectors)
+    }//end getRow(...)
+
+    private void rowWeights(int [] coordinates, int numVectors, double [] dest){
+	Arrays.fill(dest, 1);
+	if(rgbaReference != null){
+	    final double [] reference = new double[numVectors * rgbaReference.getNumComponentsPerVector()];
+	    rgbaReference.getRow(coordinates, numVectors, reference, 0);
+	    for(int v = 0; v < numVectors; v++)
+		dest[v] *= sigmoid.value(reference[v * rgbaReference.getNumComponentsPerVector() + 3]);
+	}
+	if(esTuTvReference != null){
+	    final double [] reference = new double[numVectors * esTuTvReference.getNumComponentsPerVector()];
+	    esTuTvReference.getRow(coordinates, numVectors, reference, 0);
+	    for(int v = 0; v < numVectors; v++)
+		dest[v] += reference[v * esTuTvReference.getNumComponentsPerVector()];
+	}
+    }//end rowWeights(...)
+
     @Override
     public int[] getDimensions() {
 	final int [] oldDims = delegate.getDimensions();
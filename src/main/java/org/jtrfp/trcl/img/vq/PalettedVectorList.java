@@ -48,4 +48,18 @@ public final class PalettedVectorList implements VectorList {
     public void setComponentAt(int vectorIndex, int componentIndex, double value) {
 	throw new RuntimeException("Not Implemented.");
     }
+
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	if(source.getNumComponentsPerVector() != 1){
+	    VectorList.super.getComponents(firstVector, numVectors, dest, destOffset);
+	    return;
+	}
+	final int numComponents = palette.getNumComponentsPerVector();
+	//Stage the indices at the tail of dest, which each palette lookup overwrites only once read
+	final int indexOffset = destOffset + numVectors * (numComponents - 1);
+	source.getComponents(firstVector, numVectors, dest, indexOffset);
+	for(int v = 0; v < numVectors; v++)
+	    palette.getComponents((int)dest[indexOffset + v], 1, dest, destOffset + v * numComponents);
+    }
 }//end PalettedVectorList
@@ -44,4 +44,10 @@ public final class RAWVectorList implements VectorList {
 	rawBytes[vectorIndex]=(byte)(value*255.);
     }
 
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	for(int v = 0; v < numVectors; v++)
+	    dest[destOffset + v] = (rawBytes[firstVector + v]&0xFF);
+    }
+
 }//end RAWVectorList
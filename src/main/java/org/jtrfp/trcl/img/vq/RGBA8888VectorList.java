@@ -46,4 +46,12 @@ public final class RGBA8888VectorList implements VectorList {
 	source.setComponentAt(vectorIndex * 4 + componentIndex, singletOffset,
 		value);
     }
+
+    @Override
+    public void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	if(singletOffset == 0 && source.getNumComponentsPerVector() == 1)
+	    source.getComponents(firstVector * 4, numVectors * 4, dest, destOffset);
+	else
+	    VectorList.super.getComponents(firstVector, numVectors, dest, destOffset);
+    }
 }// end RGBA8888VectorList
@@ -62,4 +62,30 @@ public final class RasterizedBlockVectorList implements VectorListND {
 	    double value) {
 	throw new RuntimeException("Not implemented.");
     }
+
+    @Override
+    public void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	final int numDelegateComponents = delegate.getNumComponentsPerVector();
+	final int numComponents         = numDelegateComponents * vectorsPerBlock;
+	final int rowLength             = numVectors * blockWidthInVectors;
+	final int numRows               = vectorsPerBlock / blockWidthInVectors;
+	final double [] row             = new double[rowLength * numDelegateComponents];
+	final int [] coord              = new int[coordinates.length];
+	coord[0] = coordinates[0] * blockWidthInVectors;
+	//Each delegate row spanning the blocks fills one row of texels in every block
+	for(int rowIndex = 0; rowIndex < numRows; rowIndex++){
+	    int rowDecumulator = rowIndex;
+	    for(int dim=1; dim<coord.length; dim++){
+		coord[dim]=coordinates[dim]*blockWidthInVectors+rowDecumulator%blockWidthInVectors;
+		rowDecumulator/=blockWidthInVectors;
+	    }
+	    delegate.getRow(coord, rowLength, row, 0);
+	    for(int i = 0; i < rowLength; i++){
+		final int block = i / blockWidthInVectors;
+		final int texel = i % blockWidthInVectors + rowIndex * blockWidthInVectors;
+		System.arraycopy(row, i * numDelegateComponents, dest,
+			destOffset + block * numComponents + texel * numDelegateComponents, numDelegateComponents);
+	    }
+	}//end for(rows)
+    }//end getRow(...)
 }// end RasterizedBlockVectorList
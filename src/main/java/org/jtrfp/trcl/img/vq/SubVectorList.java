@@ -61,4 +61,12 @@ public final class SubVectorList implements VectorListND {
 	delegate.setComponentAt(translated, componentIndex,value);
     }//end setComponentAt(...)
 
+    @Override
+    public void getRow(int[] coordinates, int numVectors, double[] dest, int destOffset) {
+	final int[] translated = Arrays.copyOf(coordinates, coordinates.length);
+	for(int i=0; i<translated.length;i++)
+	    translated[i]+=translate[i];
+	delegate.getRow(translated, numVectors, dest, destOffset);
+    }//end getRow(...)
+
 }//end CoordTranslatingVectorListND
@@ -0,0 +1,726 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.img.vq;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * CPU-side vector quantizer which reduces the tiles of a {@link RasterizedBlockVectorList} to a small set of shared
+ * 256-code blocks. Tiles are assigned to <i>segments</i>, runs of code positions which must draw all of their codes
+ * from a single block, i.e. a subtexture's 256-code start offset table entries. The compressor:
+ * <ol>
+ * <li>Deduplicates identical tiles, and near-identical tiles which match after dropping {@link #getNearDuplicateBits()}
+ * low bits per component, replacing each set with its mean.</li>
+ * <li>Groups segments into blocks by weighted k-means over the segments' mean tiles.</li>
+ * <li>Trains each block's 256 codes by LBG splitting with Lloyd refinement, unless the block's distinct tiles already fit.</li>
+ * <li>Doubles the block budget until the result meets {@link #getMinPSNR()} or every segment has its own block.</li>
+ * </ol>
+ * The compressor is headless and does not touch the GPU. Work is split across a {@link ForkJoinPool}.
+ * Results are deterministic for a given seed.
+ * @author Chuck Ritola
+ *
+ */
+
+public class VQCompressor {
+    public static final int CODES_PER_BLOCK = 256;
+    private static final int PARALLEL_GRAIN = 64;
+    private static final double MIN_DISTORTION_IMPROVEMENT = .001;
+
+    private double       targetCompressionRatio = 4;
+    private double       minPSNR                = 32;
+    private int          maxIterations          = 8;
+    private int          nearDuplicateBits      = 2;
+    private long         seed                   = 1;
+    private ForkJoinPool pool;
+
+    /**
+     * Compresses the supplied tiles.
+     * @param rgbaBlocks Tiles, as from a {@link RasterizedBlockVectorList}, with 64 components in the range [0,1].
+     * @param esTuTvBlocks Tiles with the same dimensions as rgbaBlocks, or null if there are none.
+     * @param segmentOfTile Segment of each tile in raster order, or -1 if the tile is not displayed.
+     * @param numSegments Number of segments, including those with no tiles.
+     * @return The quantized texture.
+     * @since Oct 18, 2026
+     */
+    public Result compress(VectorListND rgbaBlocks, VectorListND esTuTvBlocks, int [] segmentOfTile, int numSegments){
+	final int rgbaDim   = rgbaBlocks.getNumComponentsPerVector();
+	final int esTuTvDim = esTuTvBlocks != null?esTuTvBlocks.getNumComponentsPerVector():0;
+	final int numTiles  = rgbaBlocks.getNumVectors();
+	if(segmentOfTile.length != numTiles)
+	    throw new IllegalArgumentException("Expected "+numTiles+" segment entries. Got "+segmentOfTile.length);
+	if(esTuTvBlocks != null && esTuTvBlocks.getNumVectors() != numTiles)
+	    throw new IllegalArgumentException("ESTuTv tile count "+esTuTvBlocks.getNumVectors()+" does not match RGBA tile count "+numTiles);
+	final Problem problem = new Problem(rgbaDim, esTuTvDim, numTiles, segmentOfTile, numSegments);
+	getPool().invoke(new ExtractionTask(problem, rgbaBlocks, esTuTvBlocks, 0, numTiles));
+	problem.deduplicate(nearDuplicateBits);
+	problem.indexSegments();
+
+	final int numUsedSegments = problem.numUsedSegments;
+	int numBlocks = (int)Math.ceil(numSegments / targetCompressionRatio);
+	//No point in more blocks than needed to hold every distinct tile
+	numBlocks = Math.min(numBlocks, (problem.numUniques + CODES_PER_BLOCK - 1) / CODES_PER_BLOCK);
+	numBlocks = Math.max(1, Math.min(numUsedSegments, numBlocks));
+	Result result = quantize(problem, numBlocks);
+	while(result.getPSNR() < minPSNR && numBlocks < numUsedSegments){
+	    numBlocks = Math.min(numUsedSegments, numBlocks * 2);
+	    result = quantize(problem, numBlocks);
+	}
+	return result;
+    }//end compress(...)
+
+    private Result quantize(Problem problem, int numBlocks){
+	final int [] groupOfSegment = groupSegments(problem, numBlocks);
+	final int dim = problem.dim;
+	final int [][] segmentsOfGroup = invert(groupOfSegment, numBlocks);
+	final byte [][] codebooks = new byte[numBlocks][];
+	final int [] codeOfTile = new int[problem.numTiles];
+	final GroupTask [] tasks = new GroupTask[numBlocks];
+	for(int group = 0; group < numBlocks; group++)
+	    tasks[group] = new GroupTask(problem, segmentsOfGroup[group], codebooks, group, codeOfTile);
+	getPool().invoke(new RecursiveAction(){
+	    private static final long serialVersionUID = 1L;
+	    @Override
+	    protected void compute() {
+		invokeAll(tasks);
+	    }});
+	//Squared error against the original tiles
+	double sumSquaredError = 0;
+	long   numComponents   = 0;
+	final byte [] tiles = problem.tiles;
+	for(int tile = 0; tile < problem.numTiles; tile++){
+	    final int segment = problem.segmentOfTile[tile];
+	    if(segment < 0)
+		continue;
+	    final byte [] codebook = codebooks[groupOfSegment[segment]];
+	    final int tileOffset = tile * dim, codeOffset = codeOfTile[tile] * dim;
+	    for(int c = 0; c < dim; c++){
+		final int delta = (tiles[tileOffset + c] & 0xFF) - (codebook[codeOffset + c] & 0xFF);
+		sumSquaredError += delta * delta;
+	    }
+	    numComponents += dim;
+	}//end for(tiles)
+	final double mse  = numComponents > 0?sumSquaredError / numComponents:0;
+	final double psnr = mse > 0?10 * Math.log10(255. * 255. / mse):Double.POSITIVE_INFINITY;
+	final int [] blockOfSegment = new int[problem.numSegments];
+	for(int segment = 0; segment < blockOfSegment.length; segment++)
+	    blockOfSegment[segment] = problem.tilesOfSegment[segment].length > 0?groupOfSegment[segment]:-1;
+	return new Result(problem, codebooks, blockOfSegment, codeOfTile, psnr);
+    }//end quantize(...)
+
+    /**
+     * Weighted k-means over the mean tile of each used segment. Unused segments are placed in group zero.
+     */
+    private int [] groupSegments(Problem problem, int numGroups){
+	final int numSegments = problem.numSegments, dim = problem.dim;
+	final int [] result = new int[numSegments];
+	final int [] used = problem.usedSegments;
+	if(numGroups >= used.length){
+	    for(int i = 0; i < used.length; i++)
+		result[used[i]] = i;
+	    return result;
+	}
+	final float [] means   = new float[used.length * dim];
+	final int   [] weights = new int[used.length];
+	for(int i = 0; i < used.length; i++){
+	    final int [] members = problem.tilesOfSegment[used[i]];
+	    final double [] sum = new double[dim];
+	    for(int tile : members)
+		for(int c = 0; c < dim; c++)
+		    sum[c] += problem.tiles[tile * dim + c] & 0xFF;
+	    for(int c = 0; c < dim; c++)
+		means[i * dim + c] = (float)(sum[c] / members.length);
+	    weights[i] = members.length;
+	}//end for(used)
+	final float [] centroids = seedCentroids(means, used.length, dim, numGroups);
+	final int [] assignment = new int[used.length];
+	lloyd(means, weights, used.length, dim, centroids, numGroups, assignment, 0, false);
+	//Lloyd may leave groups empty; compact them so that every block is used.
+	final int [] remap = new int[numGroups];
+	Arrays.fill(remap, -1);
+	int next = 0;
+	for(int i = 0; i < used.length; i++){
+	    final int g = assignment[i];
+	    if(remap[g] == -1)
+		remap[g] = next++;
+	    result[used[i]] = remap[g];
+	}
+	//Split the largest groups to refill any which were emptied
+	while(next < numGroups){
+	    final int [] counts = new int[next];
+	    for(int i = 0; i < used.length; i++)
+		counts[result[used[i]]]++;
+	    int largest = 0;
+	    for(int g = 1; g < next; g++)
+		if(counts[g] > counts[largest])
+		    largest = g;
+	    if(counts[largest] < 2)
+		break;
+	    int seen = 0;
+	    for(int i = 0; i < used.length; i++)
+		if(result[used[i]] == largest && (seen++ % 2) == 1)
+		    result[used[i]] = next;
+	    next++;
+	}//end while(empty groups)
+	return result;
+    }//end groupSegments(...)
+
+    /**
+     * Deterministic k-means++ seeding.
+     */
+    private float [] seedCentroids(float [] vectors, int numVectors, int dim, int k){
+	final Random random = new Random(seed);
+	final float [] centroids = new float[k * dim];
+	final double [] nearest = new double[numVectors];
+	Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+	int chosen = random.nextInt(numVectors);
+	for(int c = 0; c < k; c++){
+	    System.arraycopy(vectors, chosen * dim, centroids, c * dim, dim);
+	    double total = 0;
+	    for(int v = 0; v < numVectors; v++){
+		nearest[v] = Math.min(nearest[v], distance(vectors, v * dim, centroids, c * dim, dim, Double.POSITIVE_INFINITY));
+		total += nearest[v];
+	    }
+	    if(total <= 0)
+		chosen = random.nextInt(numVectors);
+	    else {
+		double target = random.nextDouble() * total;
+		chosen = numVectors - 1;
+		for(int v = 0; v < numVectors; v++)
+		    if((target -= nearest[v]) <= 0){
+			chosen = v;
+			break;
+		    }
+	    }//end else
+	}//end for(k)
+	return centroids;
+    }//end seedCentroids(...)
+
+    /**
+     * Linde-Buzo-Gray: splits every centroid until k exist, refining with Lloyd iterations after each split.
+     * @return Centroids, k * dim.
+     */
+    private float [] lbg(float [] vectors, int [] weights, int numVectors, int dim, int k, int [] assignment){
+	final Random random = new Random(seed);
+	float [] centroids = new float[k * dim];
+	double [] sum = new double[dim];
+	long totalWeight = 0;
+	for(int v = 0; v < numVectors; v++){
+	    for(int c = 0; c < dim; c++)
+		sum[c] += vectors[v * dim + c] * (double)weights[v];
+	    totalWeight += weights[v];
+	}
+	for(int c = 0; c < dim; c++)
+	    centroids[c] = (float)(sum[c] / totalWeight);
+	int numCentroids = 1;
+	final double [] distortion = new double[k];
+	while(numCentroids < k){
+	    //Split the worst centroids first, in case not all of them can be split.
+	    final int numSplits = Math.min(numCentroids, k - numCentroids);
+	    final Integer [] order = new Integer[numCentroids];
+	    for(int i = 0; i < numCentroids; i++)
+		order[i] = i;
+	    Arrays.sort(order, (a, b) -> Double.compare(distortion[b], distortion[a]));
+	    for(int s = 0; s < numSplits; s++){
+		final int source = order[s], target = numCentroids + s;
+		for(int c = 0; c < dim; c++){
+		    final float delta = random.nextFloat() * 2 - 1;
+		    centroids[target * dim + c] = centroids[source * dim + c] + delta;
+		    centroids[source * dim + c] -= delta;
+		}
+	    }//end for(splits)
+	    numCentroids += numSplits;
+	    Arrays.fill(distortion, 0);
+	    lloyd(vectors, weights, numVectors, dim, centroids, numCentroids, assignment, maxIterations, true);
+	    for(int v = 0; v < numVectors; v++)
+		distortion[assignment[v]] += weights[v] * distance(vectors, v * dim, centroids, assignment[v] * dim, dim, Double.POSITIVE_INFINITY);
+	}//end while(numCentroids < k)
+	return centroids;
+    }//end lbg(...)
+
+    /**
+     * Refines centroids in place by weighted Lloyd iterations, leaving the final assignment in assignment[].
+     * @param maxIterations Zero for the default cap.
+     */
+    private void lloyd(float [] vectors, int [] weights, int numVectors, int dim, float [] centroids, int numCentroids, int [] assignment, int maxIterations, boolean parallel){
+	if(maxIterations <= 0)
+	    maxIterations = this.maxIterations;
+	final double [] errors = new double[numVectors];
+	double lastDistortion = Double.POSITIVE_INFINITY;
+	for(int iteration = 0; iteration < maxIterations; iteration++){
+	    assign(vectors, numVectors, dim, centroids, numCentroids, assignment, errors, parallel);
+	    double distortion = 0;
+	    for(int v = 0; v < numVectors; v++)
+		distortion += errors[v] * weights[v];
+	    final double [] sums = new double[numCentroids * dim];
+	    final long [] counts = new long[numCentroids];
+	    for(int v = 0; v < numVectors; v++){
+		final int a = assignment[v], w = weights[v];
+		counts[a] += w;
+		for(int c = 0; c < dim; c++)
+		    sums[a * dim + c] += vectors[v * dim + c] * (double)w;
+	    }
+	    for(int centroid = 0; centroid < numCentroids; centroid++)
+		if(counts[centroid] > 0)
+		    for(int c = 0; c < dim; c++)
+			centroids[centroid * dim + c] = (float)(sums[centroid * dim + c] / counts[centroid]);
+	    if(distortion == 0 || (lastDistortion - distortion) / distortion < MIN_DISTORTION_IMPROVEMENT)
+		break;
+	    lastDistortion = distortion;
+	}//end for(iterations)
+	//Final assignment against the refined centroids
+	assign(vectors, numVectors, dim, centroids, numCentroids, assignment, errors, parallel);
+    }//end lloyd(...)
+
+    private void assign(float [] vectors, int numVectors, int dim, float [] centroids, int numCentroids, int [] assignment, double [] errors, boolean parallel){
+	final AssignmentTask task = new AssignmentTask(vectors, numVectors, dim, centroids, numCentroids, assignment, errors, 0, numVectors, parallel);
+	if(parallel)
+	    getPool().invoke(task);
+	else
+	    task.compute();
+    }//end assign(...)
+
+    /**
+     * Squared distance, abandoned early once it exceeds the supplied bound.
+     */
+    private static double distance(float [] a, int aOffset, float [] b, int bOffset, int dim, double bound){
+	double result = 0;
+	for(int c = 0; c < dim; c++){
+	    final double delta = a[aOffset + c] - b[bOffset + c];
+	    result += delta * delta;
+	    if(result > bound)
+		return result;
+	}
+	return result;
+    }//end distance(...)
+
+    private static int [][] invert(int [] groupOfSegment, int numGroups){
+	final int [] counts = new int[numGroups];
+	for(int g : groupOfSegment)
+	    counts[g]++;
+	final int [][] result = new int[numGroups][];
+	for(int g = 0; g < numGroups; g++)
+	    result[g] = new int[counts[g]];
+	Arrays.fill(counts, 0);
+	for(int segment = 0; segment < groupOfSegment.length; segment++){
+	    final int g = groupOfSegment[segment];
+	    result[g][counts[g]++] = segment;
+	}
+	return result;
+    }//end invert(...)
+
+    private static final class AssignmentTask extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final float [] vectors, centroids;
+	private final int [] assignment;
+	private final double [] errors;
+	private final int dim, numCentroids, start, end, numVectors;
+	private final boolean parallel;
+
+	AssignmentTask(float [] vectors, int numVectors, int dim, float [] centroids, int numCentroids, int [] assignment, double [] errors, int start, int end, boolean parallel){
+	    this.vectors      = vectors;
+	    this.numVectors   = numVectors;
+	    this.dim          = dim;
+	    this.centroids    = centroids;
+	    this.numCentroids = numCentroids;
+	    this.assignment   = assignment;
+	    this.errors       = errors;
+	    this.start        = start;
+	    this.end          = end;
+	    this.parallel     = parallel;
+	}
+
+	@Override
+	protected void compute() {
+	    if(parallel && end - start > PARALLEL_GRAIN){
+		final int mid = (start + end) >>> 1;
+		invokeAll(new AssignmentTask(vectors, numVectors, dim, centroids, numCentroids, assignment, errors, start, mid, true),
+			  new AssignmentTask(vectors, numVectors, dim, centroids, numCentroids, assignment, errors, mid, end, true));
+		return;
+	    }
+	    for(int v = start; v < end; v++){
+		//Start with the previous assignment for a tight early-exit bound
+		int best = Math.min(assignment[v], numCentroids - 1);
+		double bestDistance = distance(vectors, v * dim, centroids, best * dim, dim, Double.POSITIVE_INFINITY);
+		for(int centroid = 0; centroid < numCentroids && bestDistance > 0; centroid++){
+		    final double d = distance(vectors, v * dim, centroids, centroid * dim, dim, bestDistance);
+		    if(d < bestDistance){
+			bestDistance = d;
+			best = centroid;
+		    }
+		}
+		assignment[v] = best;
+		errors[v]     = bestDistance;
+	    }//end for(vectors)
+	}//end compute()
+    }//end AssignmentTask
+
+    private final class GroupTask extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final Problem problem;
+	private final int [] segments, codeOfTile;
+	private final byte [][] codebooks;
+	private final int group;
+
+	GroupTask(Problem problem, int [] segments, byte [][] codebooks, int group, int [] codeOfTile){
+	    this.problem    = problem;
+	    this.segments   = segments;
+	    this.codebooks  = codebooks;
+	    this.group      = group;
+	    this.codeOfTile = codeOfTile;
+	}
+
+	@Override
+	protected void compute() {
+	    final int dim = problem.dim;
+	    //Gather distinct tiles of this group, weighted by occurrence
+	    final HashMap<Integer,Integer> localOfUnique = new HashMap<Integer,Integer>();
+	    int [] uniques = new int[16], weights = new int[16];
+	    int numLocal = 0;
+	    for(int segment : segments)
+		for(int tile : problem.tilesOfSegment[segment]){
+		    final int unique = problem.uniqueOfTile[tile];
+		    Integer local = localOfUnique.get(unique);
+		    if(local == null){
+			localOfUnique.put(unique, local = numLocal++);
+			if(numLocal > uniques.length){
+			    uniques = Arrays.copyOf(uniques, uniques.length * 2);
+			    weights = Arrays.copyOf(weights, weights.length * 2);
+			}
+			uniques[local] = unique;
+		    }
+		    weights[local]++;
+		}
+	    final float [] vectors = new float[numLocal * dim];
+	    for(int local = 0; local < numLocal; local++)
+		System.arraycopy(problem.uniqueVectors, uniques[local] * dim, vectors, local * dim, dim);
+	    final int [] codeOfLocal = new int[numLocal];
+	    final float [] centroids;
+	    if(numLocal <= CODES_PER_BLOCK){
+		centroids = vectors;
+		for(int local = 0; local < numLocal; local++)
+		    codeOfLocal[local] = local;
+	    } else
+		centroids = lbg(vectors, weights, numLocal, dim, CODES_PER_BLOCK, codeOfLocal);
+	    final int numCodes = Math.min(numLocal, CODES_PER_BLOCK);
+	    final byte [] codebook = new byte[CODES_PER_BLOCK * dim];
+	    for(int i = 0; i < numCodes * dim; i++)
+		codebook[i] = (byte)Math.max(0, Math.min(255, Math.round(centroids[i])));
+	    codebooks[group] = codebook;
+	    for(int segment : segments)
+		for(int tile : problem.tilesOfSegment[segment])
+		    codeOfTile[tile] = codeOfLocal[localOfUnique.get(problem.uniqueOfTile[tile])];
+	}//end compute()
+    }//end GroupTask
+
+    private static final class ExtractionTask extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final Problem problem;
+	private final VectorListND rgba, esTuTv;
+	private final int start, end;
+
+	ExtractionTask(Problem problem, VectorListND rgba, VectorListND esTuTv, int start, int end){
+	    this.problem = problem;
+	    this.rgba    = rgba;
+	    this.esTuTv  = esTuTv;
+	    this.start   = start;
+	    this.end     = end;
+	}
+
+	@Override
+	protected void compute() {
+	    if(end - start > PARALLEL_GRAIN){
+		final int mid = (start + end) >>> 1;
+		invokeAll(new ExtractionTask(problem, rgba, esTuTv, start, mid), new ExtractionTask(problem, rgba, esTuTv, mid, end));
+		return;
+	    }
+	    final int width = rgba.getDimensions()[0], dim = problem.dim, rgbaDim = problem.rgbaDim, esTuTvDim = dim - rgbaDim;
+	    final int [] coord = new int[2];
+	    final int maxRun = Math.min(end - start, width);
+	    final double [] rgbaRow = new double[maxRun * rgbaDim], esTuTvRow = new double[maxRun * esTuTvDim];
+	    int tile = start;
+	    while(tile < end){//One bulk read per row of tiles
+		coord[0] = tile % width;
+		coord[1] = tile / width;
+		final int count = Math.min(end - tile, width - coord[0]);
+		rgba.getRow(coord, count, rgbaRow, 0);
+		if(esTuTvDim > 0)
+		    esTuTv.getRow(coord, count, esTuTvRow, 0);
+		for(int i = 0; i < count; i++){
+		    final int offset = (tile + i) * dim;
+		    for(int c = 0; c < rgbaDim; c++)
+			problem.tiles[offset + c] = toByte(rgbaRow[i * rgbaDim + c]);
+		    for(int c = 0; c < esTuTvDim; c++)
+			problem.tiles[offset + rgbaDim + c] = toByte(esTuTvRow[i * esTuTvDim + c]);
+		}
+		tile += count;
+	    }//end while(tiles remain)
+	}//end compute()
+
+	private static byte toByte(double component){
+	    return (byte)(component * 255.);
+	}
+    }//end ExtractionTask
+
+    /**
+     * Tile data and the segment and deduplication indices derived from it.
+     */
+    private static final class Problem {
+	final int rgbaDim, dim, numTiles, numSegments;
+	final byte [] tiles;
+	final int [] segmentOfTile, uniqueOfTile;
+	int [][] tilesOfSegment;
+	int [] usedSegments;
+	int numUsedSegments, numUniques;
+	float [] uniqueVectors;
+
+	Problem(int rgbaDim, int esTuTvDim, int numTiles, int [] segmentOfTile, int numSegments){
+	    this.rgbaDim       = rgbaDim;
+	    this.dim           = rgbaDim + esTuTvDim;
+	    this.numTiles      = numTiles;
+	    this.numSegments   = numSegments;
+	    this.segmentOfTile = segmentOfTile;
+	    this.tiles         = new byte[numTiles * dim];
+	    this.uniqueOfTile  = new int[numTiles];
+	}
+
+	void deduplicate(int nearDuplicateBits){
+	    final HashMap<TileKey,Integer> uniques = new HashMap<TileKey,Integer>();
+	    double [] sums = new double[1024 * dim];
+	    int [] counts = new int[1024];
+	    for(int tile = 0; tile < numTiles; tile++){
+		final byte [] key = new byte[dim];
+		final int offset = tile * dim;
+		for(int c = 0; c < dim; c++)
+		    key[c] = (byte)((tiles[offset + c] & 0xFF) >>> nearDuplicateBits);
+		Integer unique = uniques.get(new TileKey(key));
+		if(unique == null){
+		    uniques.put(new TileKey(key), unique = numUniques++);
+		    if(numUniques > counts.length){
+			counts = Arrays.copyOf(counts, counts.length * 2);
+			sums   = Arrays.copyOf(sums, counts.length * dim);
+		    }
+		}
+		uniqueOfTile[tile] = unique;
+		counts[unique]++;
+		for(int c = 0; c < dim; c++)
+		    sums[unique * dim + c] += tiles[offset + c] & 0xFF;
+	    }//end for(tiles)
+	    uniqueVectors = new float[numUniques * dim];
+	    for(int unique = 0; unique < numUniques; unique++)
+		for(int c = 0; c < dim; c++)
+		    uniqueVectors[unique * dim + c] = (float)(sums[unique * dim + c] / counts[unique]);
+	}//end deduplicate(...)
+
+	void indexSegments(){
+	    final int [] counts = new int[numSegments];
+	    for(int segment : segmentOfTile)
+		if(segment >= 0)
+		    counts[segment]++;
+	    tilesOfSegment = new int[numSegments][];
+	    for(int segment = 0; segment < numSegments; segment++){
+		tilesOfSegment[segment] = new int[counts[segment]];
+		if(counts[segment] > 0)
+		    numUsedSegments++;
+	    }
+	    Arrays.fill(counts, 0);
+	    for(int tile = 0; tile < numTiles; tile++){
+		final int segment = segmentOfTile[tile];
+		if(segment >= 0)
+		    tilesOfSegment[segment][counts[segment]++] = tile;
+	    }
+	    usedSegments = new int[numUsedSegments];
+	    int i = 0;
+	    for(int segment = 0; segment < numSegments; segment++)
+		if(tilesOfSegment[segment].length > 0)
+		    usedSegments[i++] = segment;
+	}//end indexSegments()
+    }//end Problem
+
+    private static final class TileKey {
+	private final byte [] components;
+	private final int hash;
+
+	TileKey(byte [] components){
+	    this.components = components;
+	    this.hash       = Arrays.hashCode(components);
+	}
+
+	@Override
+	public int hashCode(){
+	    return hash;
+	}
+
+	@Override
+	public boolean equals(Object other){
+	    return other instanceof TileKey && Arrays.equals(components, ((TileKey)other).components);
+	}
+    }//end TileKey
+
+    /**
+     * Quantized texture: a set of 256-code blocks, the block serving each segment, and the code of each tile within its block.
+     */
+    public static final class Result {
+	private final byte [][] rgbaBlocks, esTuTvBlocks;
+	private final int [] blockOfSegment, codeOfTile;
+	private final double psnr;
+	private final int numUniqueTiles, numUsedSegments;
+	private final Color averageColor;
+
+	private Result(Problem problem, byte [][] codebooks, int [] blockOfSegment, int [] codeOfTile, double psnr){
+	    final int dim = problem.dim, rgbaDim = problem.rgbaDim, esTuTvDim = dim - rgbaDim;
+	    rgbaBlocks   = new byte[codebooks.length][CODES_PER_BLOCK * rgbaDim];
+	    esTuTvBlocks = esTuTvDim > 0?new byte[codebooks.length][CODES_PER_BLOCK * esTuTvDim]:null;
+	    for(int block = 0; block < codebooks.length; block++)
+		for(int code = 0; code < CODES_PER_BLOCK; code++){
+		    System.arraycopy(codebooks[block], code * dim, rgbaBlocks[block], code * rgbaDim, rgbaDim);
+		    if(esTuTvBlocks != null)
+			System.arraycopy(codebooks[block], code * dim + rgbaDim, esTuTvBlocks[block], code * esTuTvDim, esTuTvDim);
+		}
+	    this.blockOfSegment  = blockOfSegment;
+	    this.codeOfTile      = codeOfTile;
+	    this.psnr            = psnr;
+	    this.numUniqueTiles  = problem.numUniques;
+	    this.numUsedSegments = problem.numUsedSegments;
+	    //Mean of the R,G,B texels of every tile
+	    final double [] sum = new double[3];
+	    for(int tile = 0; tile < problem.numTiles; tile++)
+		for(int c = 0; c < rgbaDim; c++)
+		    if(c % 4 < 3)
+			sum[c % 4] += problem.tiles[tile * dim + c] & 0xFF;
+	    final double texels = Math.max(1, problem.numTiles * (rgbaDim / 4) * 255.);
+	    averageColor = new Color((float)(sum[0] / texels), (float)(sum[1] / texels), (float)(sum[2] / texels));
+	}//end constructor
+
+	public int getNumBlocks(){
+	    return rgbaBlocks.length;
+	}
+
+	/**
+	 * @return Codes of the given block, 256 consecutive tiles of 64 bytes each in the layout of a {@link RasterizedBlockVectorList}.
+	 */
+	public byte [] getRGBABlock(int block){
+	    return rgbaBlocks[block];
+	}
+
+	/**
+	 * @return ESTuTv codes of the given block, or null if no ESTuTv tiles were supplied.
+	 */
+	public byte [] getESTuTvBlock(int block){
+	    return esTuTvBlocks != null?esTuTvBlocks[block]:null;
+	}
+
+	/**
+	 * @return Block serving the given segment, or -1 if the segment has no tiles.
+	 */
+	public int getBlockOfSegment(int segment){
+	    return blockOfSegment[segment];
+	}
+
+	public int getCodeOfTile(int tile){
+	    return codeOfTile[tile];
+	}
+
+	/**
+	 * @return Peak signal-to-noise ratio in dB against the input tiles, infinite if lossless.
+	 */
+	public double getPSNR(){
+	    return psnr;
+	}
+
+	/**
+	 * @return Number of distinct tiles remaining after near-duplicate merging.
+	 */
+	public int getNumUniqueTiles(){
+	    return numUniqueTiles;
+	}
+
+	public int getNumUsedSegments(){
+	    return numUsedSegments;
+	}
+
+	public Color getAverageColor(){
+	    return averageColor;
+	}
+    }//end Result
+
+    public double getTargetCompressionRatio() {
+        return targetCompressionRatio;
+    }
+
+    /**
+     * @param targetCompressionRatio Segments per block to start from. The achieved ratio is lower if needed to meet {@link #getMinPSNR()}.
+     */
+    public void setTargetCompressionRatio(double targetCompressionRatio) {
+	if(targetCompressionRatio < 1)
+	    throw new IllegalArgumentException("Compression ratio must be at least 1. Got "+targetCompressionRatio);
+        this.targetCompressionRatio = targetCompressionRatio;
+    }
+
+    public double getMinPSNR() {
+        return minPSNR;
+    }
+
+    /**
+     * @param minPSNR Lowest acceptable PSNR in dB. Zero to always use the target compression ratio.
+     */
+    public void setMinPSNR(double minPSNR) {
+        this.minPSNR = minPSNR;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+	if(maxIterations < 1)
+	    throw new IllegalArgumentException("Need at least one iteration. Got "+maxIterations);
+        this.maxIterations = maxIterations;
+    }
+
+    public int getNearDuplicateBits() {
+        return nearDuplicateBits;
+    }
+
+    /**
+     * @param nearDuplicateBits Low bits of each 8-bit component ignored when merging near-identical tiles. Zero merges only exact duplicates.
+     */
+    public void setNearDuplicateBits(int nearDuplicateBits) {
+	if(nearDuplicateBits < 0 || nearDuplicateBits > 7)
+	    throw new IllegalArgumentException("Expected 0-7 bits. Got "+nearDuplicateBits);
+        this.nearDuplicateBits = nearDuplicateBits;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public synchronized ForkJoinPool getPool() {
+	if(pool == null)
+	    pool = ForkJoinPool.commonPool();
+        return pool;
+    }
+
+    public synchronized void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+}//end VQCompressor
@@ -20,4 +20,21 @@ public interface VectorList {
     public double componentAt(int vectorIndex, int componentIndex);
 
     public void setComponentAt(int vectorIndex, int componentIndex, double value);
+
+    /**
+     * Copies every component of a run of consecutive vectors into dest, vector-major. Equivalent to calling
+     * {@link #componentAt(int, int)} for each, which is what the default does; implementations override it to
+     * avoid a virtual call per component.
+     * @param firstVector Index of the first vector to copy.
+     * @param numVectors Number of vectors to copy.
+     * @param dest Receives numVectors*getNumComponentsPerVector() components.
+     * @param destOffset Index in dest of the first component.
+     * @since Oct 18, 2026
+     */
+    public default void getComponents(int firstVector, int numVectors, double [] dest, int destOffset){
+	final int numComponents = getNumComponentsPerVector();
+	for(int v = 0; v < numVectors; v++)
+	    for(int c = 0; c < numComponents; c++)
+		dest[destOffset++] = componentAt(firstVector + v, c);
+    }//end getComponents(...)
 }
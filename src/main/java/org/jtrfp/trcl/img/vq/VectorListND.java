@@ -13,6 +13,8 @@
 
 package org.jtrfp.trcl.img.vq;
 
+import java.nio.ByteBuffer;
+
 public interface VectorListND {
     public int getNumVectors();
 
@@ -23,4 +25,36 @@ public interface VectorListND {
     public double componentAt(int [] coordinates, int componentIndex);
     
     public void setComponentAt(int [] coordinates, int componentIndex, double value);
+
+    /**
+     * Copies every component of a run of vectors along the first dimension into dest, vector-major. Equivalent to calling
+     * {@link #componentAt(int[], int)} for each, which is what the default does; implementations override it to
+     * avoid a virtual call and coordinate copy per component.
+     * @param coordinates Coordinates of the first vector. Not modified.
+     * @param numVectors Number of vectors to copy, advancing the first coordinate.
+     * @param dest Receives numVectors*getNumComponentsPerVector() components.
+     * @param destOffset Index in dest of the first component.
+     * @since Oct 18, 2026
+     */
+    public default void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	final int numComponents = getNumComponentsPerVector();
+	final int [] coord = coordinates.clone();
+	for(int v = 0; v < numVectors; v++){
+	    coord[0] = coordinates[0] + v;
+	    for(int c = 0; c < numComponents; c++)
+		dest[destOffset++] = componentAt(coord, c);
+	}
+    }//end getRow(...)
+
+    /**
+     * As {@link #getRow(int[], int, double[], int)} but writes each component to dest as an unsigned byte,
+     * scaled from [0,1] to [0,255] and truncated as texture upload does.
+     * @since Oct 18, 2026
+     */
+    public default void getRow(int [] coordinates, int numVectors, ByteBuffer dest){
+	final double [] buffer = new double[numVectors * getNumComponentsPerVector()];
+	getRow(coordinates, numVectors, buffer, 0);
+	for(double component : buffer)
+	    dest.put((byte)(component * 255.));
+    }//end getRow(...)
 }//end VectorListND
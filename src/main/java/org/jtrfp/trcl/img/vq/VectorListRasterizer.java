@@ -48,6 +48,11 @@ public final class VectorListRasterizer implements VectorListND {
     public void setComponentAt(int[] coordinates, int componentIndex, double value) {
 	intrinsic.setComponentAt(coord1D(coordinates), componentIndex, value);
     }//setComponentAt(...)
+
+    @Override
+    public void getRow(int [] coordinates, int numVectors, double [] dest, int destOffset){
+	intrinsic.getComponents(coord1D(coordinates), numVectors, dest, destOffset);
+    }
     
     private int coord1D(int[] coordinates){
 	int coord1D=0;
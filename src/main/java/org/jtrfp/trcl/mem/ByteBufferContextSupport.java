@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
+import java.util.function.IntUnaryOperator;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.collections.primitives.ByteList;
@@ -41,6 +42,7 @@ public class ByteBufferContextSupport {
     private final ArrayList<BitSet>    stalePages  = new ArrayList<BitSet>();
     
     private final Lock flushLock = new ReentrantLock();
+    private long bytesApplied = 0;
     
  public void submitFlush(
 	    FloatList floatsToSet, IntList floatIndices,
@@ -65,9 +67,10 @@ public class ByteBufferContextSupport {
   * Applies the stored modifications to the supplied destination and
   * clears the modification lists.
   * @param destination
+  * @param logicalToPhysical Translates the stored logical byte indices to indices within destination.
   * @since Aug 28, 2016
   */
- public BitSet apply(ByteBuffer destination){
+ public BitSet apply(ByteBuffer destination, IntUnaryOperator logicalToPhysical){
      flushLock.lock();
      
      {//FLOATS
@@ -76,8 +79,9 @@ public class ByteBufferContextSupport {
 	     FloatList floatData = floatsToSet .get(flushIndex);
 	     IntList   indexData = floatIndices.get(flushIndex);
 	     final int dataSize  = floatData.size();
+	     bytesApplied       += dataSize * 4;
 	     for(int listIndex = 0; listIndex < dataSize; listIndex++)
-		 destination.putFloat(indexData.get(listIndex), floatData.get(listIndex));
+		 destination.putFloat(logicalToPhysical.applyAsInt(indexData.get(listIndex)), floatData.get(listIndex));
 	 }//end for(flushIndex)
      }
      floatsToSet .clear();
@@ -89,8 +93,9 @@ public class ByteBufferContextSupport {
 	     IntList   intData   = intsToSet .get(flushIndex);
 	     IntList   indexData = intIndices.get(flushIndex);
 	     final int dataSize  = intData.size();
+	     bytesApplied       += dataSize * 4;
 	     for(int listIndex = 0; listIndex < dataSize; listIndex++)
-		 destination.putInt(indexData.get(listIndex), intData.get(listIndex));
+		 destination.putInt(logicalToPhysical.applyAsInt(indexData.get(listIndex)), intData.get(listIndex));
 	 }//end for(flushIndex)
      }
      intsToSet .clear();
@@ -102,8 +107,9 @@ public class ByteBufferContextSupport {
 	     ShortList shortData = shortsToSet .get(flushIndex);
 	     IntList   indexData = shortIndices.get(flushIndex);
 	     final int dataSize  = shortData   .size();
+	     bytesApplied       += dataSize * 2;
 	     for(int listIndex = 0; listIndex < dataSize; listIndex++)
-		 destination.putShort(indexData.get(listIndex), shortData.get(listIndex));
+		 destination.putShort(logicalToPhysical.applyAsInt(indexData.get(listIndex)), shortData.get(listIndex));
 	 }//end for(flushIndex)
      }
      shortsToSet .clear();
@@ -115,8 +121,9 @@ public class ByteBufferContextSupport {
 	     ByteList   byteData = bytesToSet .get(flushIndex);
 	     IntList   indexData = byteIndices.get(flushIndex);
 	     final int dataSize  = byteData.size();
+	     bytesApplied       += dataSize;
 	     for(int listIndex = 0; listIndex < dataSize; listIndex++)
-		 destination.put(indexData.get(listIndex), byteData.get(listIndex));
+		 destination.put(logicalToPhysical.applyAsInt(indexData.get(listIndex)), byteData.get(listIndex));
 	 }//end for(flushIndex)
      }
      bytesToSet .clear();
@@ -135,4 +142,16 @@ public class ByteBufferContextSupport {
      flushLock.unlock();
      return stalePages;
  }//end apply(...)
+ 
+ /**
+  * @return Bytes written to a destination by {@link #apply(ByteBuffer, IntUnaryOperator)} since the last call.
+  * @since Oct 18, 2026
+  */
+ public long drainBytesApplied(){
+     flushLock.lock();
+     final long result = bytesApplied;
+     bytesApplied = 0;
+     flushLock.unlock();
+     return result;
+ }//end drainBytesApplied()
 }//end ByteBufferContextSupport
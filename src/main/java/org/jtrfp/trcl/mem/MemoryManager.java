@@ -15,8 +15,10 @@ package org.jtrfp.trcl.mem;
 import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Future;
@@ -28,13 +30,14 @@ import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gpu.MemoryUsageHint;
 import org.jtrfp.trcl.gpu.ReallocatableGLTextureBuffer;
 import org.jtrfp.trcl.gui.GLExecutable;
+import org.jtrfp.trcl.pool.BitmapIndexPool;
 import org.jtrfp.trcl.pool.IndexPool;
 import org.jtrfp.trcl.pool.IndexPool.GrowthBehavior;
 
 import com.jogamp.opengl.GL3;
 
 public final class MemoryManager {
-    private final IndexPool 			pageIndexPool 	= new IndexPool();
+    private final IndexPool 			pageIndexPool 	= new BitmapIndexPool();
     private final ByteBuffer [] 		physicalMemory 	= new ByteBuffer[1];
     private final ReallocatableGLTextureBuffer 	glPhysicalMemory;
     private final GPU				gpu;
@@ -45,6 +48,11 @@ public final class MemoryManager {
     private final ArrayList<WeakReference<PagedByteBuffer>>	
     						pagedByteBuffers = new ArrayList<WeakReference<PagedByteBuffer>>(1024);
     private final GLExecutor<GL3>               glExecutor;
+    private final BitSet                        stalePhysicalPages = new BitSet();
+    private volatile FlushStatistics            lastFlushStatistics = new FlushStatistics(0,0,0,0);
+    private final RootBufferCompactor           compactor = new RootBufferCompactor(pageIndexPool);
+    private final ArrayList<PageTable>          pageTables = new ArrayList<PageTable>(1024);
+    private volatile int                        defragmentationPagesPerFrame = 16;
     /**
      * 16MB of zeroes. Don't forget to sync to avoid co-modification of the position.
      */
@@ -145,17 +153,92 @@ public final class MemoryManager {
     	 pagedByteBuffers.addAll(newPagedByteBuffers);
     	 newPagedByteBuffers.clear();
     	}//end sync(newPagedByteBuffers)
+    	 long bytesWritten = 0;
+    	 int  pagesDirtied = 0;
     	 final Iterator<WeakReference<PagedByteBuffer>> it = pagedByteBuffers.iterator();
     	 while(it.hasNext()){
-    	    final WeakReference<PagedByteBuffer> r = it.next();
-    	    if(r.get()==null)
+    	    final PagedByteBuffer pbb = it.next().get();
+    	    if(pbb==null)
     		it.remove();
-    	    else
-    		r.get().flushStalePages();
+    	    else{
+    		pagesDirtied += pbb.drainStalePages(stalePhysicalPages);
+    		bytesWritten += pbb.drainBytesWritten();
+    		pageTables.add(pbb.getPageMapping());
+    	    }
     	 }//end while(hasNext)
+    	 //Spend a bounded slice of each frame moving relocatable pages down; moved pages join this flush
+    	 compactor.step(pageTables, physicalMemory[0], stalePhysicalPages, defragmentationPagesPerFrame);
+    	 pageTables.clear();
+    	 //Coalesce adjacent physical pages, across all buffers, into single ranges
+    	 final int pagesFlushed = stalePhysicalPages.cardinality();
+    	 int flushCalls = 0;
+    	 int start = stalePhysicalPages.nextSetBit(0);
+    	 while(start != -1){
+    	    final int end = stalePhysicalPages.nextClearBit(start);
+    	    flushRange(start*PagedByteBuffer.PAGE_SIZE_BYTES, (end-start)*PagedByteBuffer.PAGE_SIZE_BYTES);
+    	    flushCalls++;
+    	    start = stalePhysicalPages.nextSetBit(end);
+    	 }
+    	 stalePhysicalPages.clear();
+    	 if(pagesDirtied > 0)//Several renderers may flush per frame; only the first sees the writes
+    	     lastFlushStatistics = new FlushStatistics(bytesWritten, pagesDirtied, pagesFlushed, flushCalls);
 	}//end sync(pagedByteBuffers)
     }//end flushStalePages()
     
+    /**
+     * @return Write and flush counts for the most recent {@link #flushStalePages()} which found stale pages,
+     * normally once per rendered frame.
+     * @since Oct 18, 2026
+     */
+    public FlushStatistics getLastFlushStatistics(){
+	return lastFlushStatistics;
+    }
+    
+    public static final class FlushStatistics {
+	private final long bytesWritten;
+	private final int  pagesDirtied, pagesFlushed, flushCalls;
+	
+	FlushStatistics(long bytesWritten, int pagesDirtied, int pagesFlushed, int flushCalls){
+	    this.bytesWritten = bytesWritten;
+	    this.pagesDirtied = pagesDirtied;
+	    this.pagesFlushed = pagesFlushed;
+	    this.flushCalls   = flushCalls;
+	}
+	
+	/**
+	 * @return Bytes written to all PagedByteBuffers, directly or through contexts.
+	 */
+	public long getBytesWritten() {
+	    return bytesWritten;
+	}
+	
+	/**
+	 * @return Logical pages marked stale, summed over all PagedByteBuffers. Formerly one flush call each.
+	 */
+	public int getPagesDirtied() {
+	    return pagesDirtied;
+	}
+	
+	/**
+	 * @return Distinct physical pages flushed.
+	 */
+	public int getPagesFlushed() {
+	    return pagesFlushed;
+	}
+	
+	/**
+	 * @return flushRange calls issued after coalescing adjacent physical pages.
+	 */
+	public int getFlushCalls() {
+	    return flushCalls;
+	}
+	
+	@Override
+	public String toString(){
+	    return bytesWritten+"B written, "+pagesDirtied+" pages dirtied, "+pagesFlushed+" flushed in "+flushCalls+" calls";
+	}
+    }//end FlushStatistics
+    
     public void bindToUniform(int textureUnit, GLProgram shaderProgram, GLUniform uniform) {
 	glPhysicalMemory.bindToUniform(textureUnit, shaderProgram, uniform);
     }
@@ -186,6 +269,29 @@ public final class MemoryManager {
 	pageIndexPool.compact();
     }
     
+    /**
+     * @return Free root pages below the high-water mark as a fraction of all root pages below it.
+     * @since Oct 18, 2026
+     */
+    public double getRootBufferFragmentation(){
+	return RootBufferCompactor.getFragmentation(pageIndexPool);
+    }
+    
+    public RootBufferCompactor getRootBufferCompactor(){
+	return compactor;
+    }
+    
+    public int getDefragmentationPagesPerFrame() {
+	return defragmentationPagesPerFrame;
+    }
+    
+    /**
+     * @param defragmentationPagesPerFrame Upper bound on root pages relocated by each {@link #flushStalePages()}. Zero disables defragmentation.
+     */
+    public void setDefragmentationPagesPerFrame(int defragmentationPagesPerFrame) {
+	this.defragmentationPagesPerFrame = defragmentationPagesPerFrame;
+    }
+    
     public synchronized void dumpAllocationTable(){
 	HashMap<Integer,PageEntry> pageMap = new HashMap<Integer,PageEntry>();
 	final ArrayList<WeakReference<PagedByteBuffer>> buffers = new ArrayList<WeakReference<PagedByteBuffer>>(pagedByteBuffers);
@@ -205,6 +311,7 @@ public final class MemoryManager {
 	
 	System.out.println("Total allocated pages: "+pageMap.size());
 	
+	final Collection<Integer> freePages = new HashSet<Integer>(pageIndexPool.getFreeIndices());
 	for(int physicalPageIndex=0; physicalPageIndex<65535; physicalPageIndex++){
 	    System.out.print("==== PHYSICAL PAGE "+physicalPageIndex);
 	    final PageEntry entry = pageMap.get(physicalPageIndex);
@@ -213,7 +320,7 @@ public final class MemoryManager {
 		//HashMap<Integer,String> indexMap = new HashMap<Integer,String>();
 	    }else {
 		System.out.print("\t[empty page]");
-		if(!pageIndexPool.getFreeIndices().contains(physicalPageIndex))
+		if(!freePages.contains(physicalPageIndex))
 		    System.out.print("   ***UNACCOUNTED-FOR as free page!!***");
 		System.out.print("");
 		System.out.println();
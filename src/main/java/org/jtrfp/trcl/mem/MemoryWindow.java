@@ -17,20 +17,21 @@ import java.nio.ByteBuffer;
 import java.nio.ShortBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Queue;
 
 import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
-import org.jtrfp.trcl.pool.IndexPool;
+import org.jtrfp.trcl.pool.ConcurrentIndexBitmap;
 import org.jtrfp.trcl.pool.IndexPool.GrowthBehavior;
 
 public abstract class MemoryWindow {
     private PagedByteBuffer buffer;//May be null if this is a context window.
     private IByteBuffer ioBuffer; //This buffer is for read/write only but may just be the buffer.
     private int objectSizeInBytes;
-    private IndexPool indexPool;
+    private ConcurrentIndexBitmap objectIndices;
     private String debugName;
     private Reporter reporter;
     private static final MemoryWindowFreeingService freeingService = new MemoryWindowFreeingService();
@@ -73,7 +74,9 @@ public abstract class MemoryWindow {
 		loopTally++;
 		if(loopTally % 32 == 0)//Don't overload the console
 		    System.out.println("MemoryWindow.MemoryWindowFreeingService freeing "+freeLaterBuffer.size()+" elements.");
-		nextWindowToFree.getIndexPool().free(freeLaterBuffer);
+		final int numFreed = nextWindowToFree.free(freeLaterBuffer);
+		if(numFreed != freeLaterBuffer.size())
+		    System.err.println("MemoryWindow.MemoryWindowFreeingService: "+(freeLaterBuffer.size()-numFreed)+" of "+freeLaterBuffer.size()+" elements in "+nextWindowToFree.getDebugName()+" were not in use.");
 		freeLaterBuffer.clear();
 	    }//end while(true)
 	}//end run()
@@ -112,7 +115,7 @@ public abstract class MemoryWindow {
 		.memoryManager.get()
 		.createPagedByteBuffer(PagedByteBuffer.PAGE_SIZE_BYTES,
 			"MemoryWindow " + this.getDebugName()));
-	getIndexPool().setGrowthBehavior(new GrowthBehavior() {
+	getObjectIndices().setGrowthBehavior(new GrowthBehavior() {
 	    @Override
 	    public int grow(int previousMaxCapacity) {
 		// Grow by one page
@@ -148,7 +151,7 @@ public abstract class MemoryWindow {
 	    @Override
 	    public int shrink(int minDesiredCapacity) {
 		//Attempt to shrink by one page
-		final int previousMaxCapacity = getIndexPool().getMaxCapacity();
+		final int previousMaxCapacity = getObjectIndices().getCapacity();
 		final int objectsPerPage =  (int)Math.ceil((double)PagedByteBuffer.PAGE_SIZE_BYTES
 			/ (double)getObjectSizeInBytes());
 		final int proposedNewSizePages = (int)Math.ceil(((double)minDesiredCapacity)/((double)objectsPerPage));
@@ -172,22 +175,42 @@ public abstract class MemoryWindow {
 
     }// end init()
 
+    /**
+     * Allocates an object. Allocation is lock-free except when the window must grow, which locks
+     * only this window (and its context windows) rather than all windows.
+     * @return Index of the new object, or -1 if out of indices.
+     */
     public final int create() {
-	synchronized(MemoryWindow.class) {
-	    return getIndexPool().pop();
-	}//end sync
+	return getObjectIndices().pop();
     }//end create()
 
+    /**
+     * Allocates <tt>count</tt> objects, claiming up to 64 indices per atomic operation.
+     * @return Indices of the new objects.
+     * @since Oct 18, 2026
+     */
+    public final int [] create(int count){
+	final int [] result = new int[count];
+	final int numCreated = getObjectIndices().pop(result, 0, count);
+	return numCreated == count?result:Arrays.copyOf(result, numCreated);
+    }//end create(...)
+
     public final void create(Collection<Integer> dest, int count){
-	synchronized(MemoryWindow.class) {
-	    getIndexPool().pop(dest, count);
-	}//end sync
+	for(int index:create(count))
+	    dest.add(index);
     }//end create(...)
 
     public final int free(int objectIDToFree){
-	synchronized(MemoryWindow.class) {
-	    return getIndexPool().free(objectIDToFree);
-	}//end sync
+	return getObjectIndices().free(objectIDToFree);
+    }//end free(...)
+
+    /**
+     * Frees the specified objects, skipping any which are not in use.
+     * @return Number of objects actually freed.
+     * @since Oct 18, 2026
+     */
+    public final int free(int [] objectIdsToFree){
+	return getObjectIndices().free(objectIdsToFree, 0, objectIdsToFree.length);
     }//end free(...)
 
     public final void freeLater(int objectIDToFree){
@@ -213,14 +236,21 @@ public abstract class MemoryWindow {
 	    bulkFreeDeadline = now + this.getMinFreeDelayMillis();
     }//end kickFreeLaterListForward()
 
-    public final void free(Collection<Integer> objectIdsToFree){
-	synchronized(MemoryWindow.class) {
-	    getIndexPool().free(objectIdsToFree);
-	}//end sync
-    }
+    /**
+     * Frees the specified objects, skipping any which are not in use.
+     * @return Number of objects actually freed.
+     */
+    public final int free(Collection<Integer> objectIdsToFree){
+	final ConcurrentIndexBitmap objectIndices = getObjectIndices();
+	int result = 0;
+	for(int index:objectIdsToFree)
+	    if(objectIndices.tryFree(index))
+		result++;
+	return result;
+    }//end free(...)
 
     public final int getNumObjects() {
-	return getIndexPool().getMaxCapacity();
+	return getObjectIndices().getCapacity();
     }//end getNumObjects()
 
     @SuppressWarnings("rawtypes")
@@ -556,6 +586,20 @@ public abstract class MemoryWindow {
 	    return this;
 	}
 
+	/**
+	 * Writes floats as they are, skipping the double-to-float conversion.
+	 * @since Oct 18, 2026
+	 */
+	public Double2FloatArrayVariable set(int objectIndex, float[] value) {
+	    final MemoryWindow parent = getParent();
+	    final IByteBuffer contextualByteBuffer = parent.getContextualBuffer();
+	    final int initialOffset = logicalByteOffsetWithinObject().intValue() + objectIndex
+		    * parent.getObjectSizeInBytes();
+	    for (int index = 0; index < arrayLen; index++)
+		contextualByteBuffer.putFloat(initialOffset + index * 4, value[index]);
+	    return this;
+	}
+
 	@Override
 	public double[] get(int objectIndex) {
 	    final MemoryWindow parent = getParent();
@@ -611,6 +655,28 @@ public abstract class MemoryWindow {
 	return buffer.logicalPage2PhysicalPage(logicalPage);
     }
 
+    /**
+     * Allows this window's pages to be moved by root buffer defragmentation. Only for windows addressed
+     * exclusively through a page table; the listener must republish that table.
+     * @param listener Called on the flushing thread after any of this window's pages have moved. Held weakly.
+     * @since Oct 18, 2026
+     */
+    public final void addPageRelocationListener(PageRelocationListener listener) {
+	buffer.addPageRelocationListener(listener);
+    }
+
+    public final void removePageRelocationListener(PageRelocationListener listener) {
+	buffer.removePageRelocationListener(listener);
+    }
+
+    /**
+     * @see PagedByteBuffer#acknowledgePageRelocation(PageRelocationListener, long)
+     * @since Oct 18, 2026
+     */
+    public final void acknowledgePageRelocation(PageRelocationListener listener, long generation) {
+	buffer.acknowledgePageRelocation(listener, generation);
+    }
+
     /**
      * @return the reporter
      */
@@ -627,7 +693,7 @@ public abstract class MemoryWindow {
     }
 
     public void compact(){
-	getIndexPool().compact();
+	getObjectIndices().compact();
     }
 
     public String getDebugName() {
@@ -658,14 +724,14 @@ public abstract class MemoryWindow {
 	return freeingService;
     }
 
-    IndexPool getIndexPool() {
-	if(indexPool == null)
-	    indexPool = new IndexPool();
-	return indexPool;
+    synchronized ConcurrentIndexBitmap getObjectIndices() {
+	if(objectIndices == null)
+	    objectIndices = new ConcurrentIndexBitmap();
+	return objectIndices;
     }
 
-    void setIndexPool(IndexPool indexPool) {
-	this.indexPool = indexPool;
+    synchronized void setObjectIndices(ConcurrentIndexBitmap objectIndices) {
+	this.objectIndices = objectIndices;
     }
 
     public MemoryWindow newContextWindow(){
@@ -678,7 +744,7 @@ public abstract class MemoryWindow {
 	    final PagedByteBufferContext newContext = new PagedByteBufferContext();
 	    newContext.setPagedByteBuffer(getNoncontextualBuffer());
 	    result.setContextualBuffer(newContext);
-	    result.setIndexPool(getIndexPool());
+	    result.setObjectIndices(getObjectIndices());
 	    result.setNonContextualBuffer(getNoncontextualBuffer());
 	    result.setContext(true);
 	    return result;
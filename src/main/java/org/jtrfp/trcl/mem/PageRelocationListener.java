@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.mem;
+
+/**
+ * Republishes a {@link PagedByteBuffer}'s page table after the {@link RootBufferCompactor} moved some of its pages.
+ * The former physical pages are only returned to the pool once every registered listener has acknowledged the
+ * relocation's generation, or a later one, through {@link PagedByteBuffer#acknowledgePageRelocation(PageRelocationListener, long)}.
+ * <br><br>
+ * Listeners are held weakly; one which is no longer reachable neither is notified nor holds back frees.
+ * @author Chuck Ritola
+ *
+ */
+
+public interface PageRelocationListener {
+    /**
+     * Called on the flushing thread after pages were moved.
+     * @param generation To be acknowledged once nothing reads the previous page table anymore.
+     * @since Oct 18, 2026
+     */
+    public void pagesRelocated(long generation);
+}//end PageRelocationListener
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.mem;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Logical-to-physical page mapping of a {@link PagedByteBuffer}, with an int[] snapshot for lock-free translation.
+ * Accessors translate under an optimistic stamp and retry if a relocation or resize intervened; relocations and
+ * resizes take the write lock.<br><br>
+ * A table is relocatable only while it has at least one relocation listener. Registering one is a promise that
+ * nothing but this table, and whatever the listener republishes from it, holds the buffer's physical addresses.
+ * Each {@link #fireRelocated()} starts a new generation which each listener acknowledges once it stopped reading
+ * the previous table; see {@link PageRelocationListener}.
+ * @author Chuck Ritola
+ *
+ */
+
+final class PageTable implements IntUnaryOperator {
+    private final List<Integer> pages;
+    private final StampedLock   lock = new StampedLock();
+    private final WeakHashMap<PageRelocationListener,long[]> relocationListeners = new WeakHashMap<PageRelocationListener,long[]>();//Listener to {acknowledged generation}
+    private long                relocationGeneration;
+    private volatile int []     physicalPages;
+
+    PageTable(List<Integer> pages){
+	this.pages = pages;
+	refresh();
+    }
+
+    private void refresh(){
+	final int [] result = new int[pages.size()];
+	for(int i=0; i<result.length; i++)
+	    result[i] = pages.get(i);
+	physicalPages = result;
+    }//end refresh()
+
+    int [] getPhysicalPages(){
+	return physicalPages;
+    }
+
+    int physicalIndex(int logicalIndexInBytes){
+	return PagedByteBuffer.PAGE_SIZE_BYTES*physicalPages[logicalIndexInBytes/PagedByteBuffer.PAGE_SIZE_BYTES]
+		+logicalIndexInBytes%PagedByteBuffer.PAGE_SIZE_BYTES;
+    }
+
+    @Override
+    public int applyAsInt(int logicalIndexInBytes){
+	return physicalIndex(logicalIndexInBytes);
+    }
+
+    long tryOptimisticRead(){
+	return lock.tryOptimisticRead();
+    }
+
+    boolean validate(long stamp){
+	return lock.validate(stamp);
+    }
+
+    long readLock(){
+	return lock.readLock();
+    }
+
+    void unlockRead(long stamp){
+	lock.unlockRead(stamp);
+    }
+
+    /**
+     * Appends physical pages, already popped from the pool.
+     * @since Oct 18, 2026
+     */
+    void append(Collection<Integer> newPhysicalPages){
+	final long stamp = lock.writeLock();
+	try{
+	    pages.addAll(newPhysicalPages);
+	    refresh();
+	}finally{lock.unlockWrite(stamp);}
+    }//end append(...)
+
+    /**
+     * Removes the trailing pages from this table, adding them to dest to be freed by the caller.
+     * @since Oct 18, 2026
+     */
+    void truncate(int newSizeInPages, Collection<Integer> dest){
+	final long stamp = lock.writeLock();
+	try{
+	    final List<Integer> removed = pages.subList(newSizeInPages, pages.size());
+	    dest.addAll(removed);
+	    removed.clear();
+	    refresh();
+	}finally{lock.unlockWrite(stamp);}
+    }//end truncate(...)
+
+    /**
+     * Copies a page's contents to a new physical page and points the logical page at it.
+     * Listeners are not notified; see {@link #fireRelocated()}.
+     * @param logicalPage
+     * @param expectedPhysicalPage The physical page the caller observed. If the table changed since, nothing is done.
+     * @param newPhysicalPage
+     * @param memory The root buffer holding both physical pages.
+     * @return true if relocated, false if the table no longer maps logicalPage to expectedPhysicalPage.
+     * @since Oct 18, 2026
+     */
+    boolean relocate(int logicalPage, int expectedPhysicalPage, int newPhysicalPage, ByteBuffer memory){
+	final long stamp = lock.writeLock();
+	try{
+	    final int [] physicalPages = this.physicalPages;
+	    if(logicalPage >= physicalPages.length || physicalPages[logicalPage] != expectedPhysicalPage)
+		return false;
+	    final ByteBuffer src = memory.duplicate(), dest = memory.duplicate();
+	    src.limit((expectedPhysicalPage+1)*PagedByteBuffer.PAGE_SIZE_BYTES);
+	    src.position(expectedPhysicalPage*PagedByteBuffer.PAGE_SIZE_BYTES);
+	    dest.position(newPhysicalPage*PagedByteBuffer.PAGE_SIZE_BYTES);
+	    dest.put(src);
+	    pages.set(logicalPage, newPhysicalPage);
+	    refresh();
+	    return true;
+	}finally{lock.unlockWrite(stamp);}
+    }//end relocate(...)
+
+    boolean isRelocatable(){
+	synchronized(relocationListeners){
+	    return !relocationListeners.isEmpty();
+	}
+    }
+
+    void addRelocationListener(PageRelocationListener listener){
+	synchronized(relocationListeners){
+	    relocationListeners.put(listener, new long[]{relocationGeneration});
+	}
+    }
+
+    void removeRelocationListener(PageRelocationListener listener){
+	synchronized(relocationListeners){
+	    relocationListeners.remove(listener);
+	}
+    }
+
+    /**
+     * Starts a new relocation generation and notifies the listeners of it.
+     * @return The new generation.
+     * @since Oct 18, 2026
+     */
+    long fireRelocated(){
+	final long generation;
+	final ArrayList<PageRelocationListener> listeners;
+	synchronized(relocationListeners){
+	    generation = ++relocationGeneration;
+	    listeners  = new ArrayList<PageRelocationListener>(relocationListeners.keySet());
+	}
+	for(PageRelocationListener listener:listeners)
+	    listener.pagesRelocated(generation);
+	return generation;
+    }//end fireRelocated()
+
+    void acknowledgeRelocation(PageRelocationListener listener, long generation){
+	synchronized(relocationListeners){
+	    final long [] acknowledged = relocationListeners.get(listener);
+	    if(acknowledged != null && generation > acknowledged[0])
+		acknowledged[0] = generation;
+	}
+    }//end acknowledgeRelocation(...)
+
+    /**
+     * @return true if every listener still registered has acknowledged the specified generation or a later one.
+     * @since Oct 18, 2026
+     */
+    boolean isRelocationAcknowledged(long generation){
+	synchronized(relocationListeners){
+	    for(long [] acknowledged:relocationListeners.values())
+		if(acknowledged[0] < generation)
+		    return false;
+	    return true;
+	}
+    }//end isRelocationAcknowledged(...)
+}//end PageTable
@@ -17,7 +17,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.collections.primitives.ByteList;
 import org.apache.commons.collections.primitives.FloatList;
@@ -38,7 +38,9 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
     private final       ListActionDispatcher<Integer>      pageTable = new ListActionDispatcher<Integer>(new ArrayList<Integer>());
     private final 	IndexPool 	pageIndexPool;
     private final 	String		debugName;
-    private final       BitSet          stalePages = new BitSet();
+    private final       PageTable       pageMapping = new PageTable(pageTable);
+    private final       StalePageBitmap stalePages = new StalePageBitmap();
+    private final       LongAdder       bytesWritten = new LongAdder();
     private final	GPU		gpu;
     private final	WeakReference<PagedByteBuffer> weakThis;
     private final       ByteBufferContextSupport contextSupport = new ByteBufferContextSupport();
@@ -53,7 +55,9 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 	    final int pIndex = pageIndexPool.pop();
 	    pageTable.add(pIndex);
 	}*/
-	pageIndexPool.pop(pageTable,sizeInPages);
+	final ArrayList<Integer> initialPages = new ArrayList<Integer>(sizeInPages);
+	pageIndexPool.pop(initialPages,sizeInPages);
+	pageMapping.append(initialPages);
 	this.gpu=gpu;
 	weakThis = new WeakReference<PagedByteBuffer>(this);
 	gpu.memoryManager.get().registerPagedByteBuffer(weakThis);
@@ -79,7 +83,7 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 	return pageTable.size();
     }
     public int logicalPage2PhysicalPage(int logicalPage){
-	return pageTable.get(logicalPage);
+	return pageMapping.getPhysicalPages()[logicalPage];
     }
     
     private static int sizeInPages(int sizeInBytes){
@@ -88,14 +92,11 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
     private static int index2Page(int indexInBytes){
 	return indexInBytes/PAGE_SIZE_BYTES;
     }
-    private static int pageModulus(int indexInBytes){
-	return indexInBytes%PAGE_SIZE_BYTES;
-    }
     int logicalIndex2PhysicalIndex(int logicalIndexInBytes){
-	return (PAGE_SIZE_BYTES*pageTable.get(index2Page(logicalIndexInBytes)))+pageModulus(logicalIndexInBytes);
+	return pageMapping.physicalIndex(logicalIndexInBytes);
     }
     
-    private AtomicLong lastRootBufferNuclearGCMillis = new AtomicLong(0);
+    private static final int EXHAUSTION_RETRY_MILLIS = 50, EXHAUSTION_RETRIES_BEFORE_NUCLEAR_GC = 40;
 
     @Override
     public void resize(int newSizeInBytes) {
@@ -103,46 +104,46 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 	final int pageNumDelta=newNumPages-pageTable.size();
 	if(pageNumDelta==0)return;
 	if(pageNumDelta>0){	//GROW
-	    //final int newSize    = newNumPages-pageTable.size();
-	    try{
-		/*for(int i=0; i<pageNumDelta; i++){
-		    final int idx = pageIndexPool.popOrException();
-		    pageTable.add(idx);
-		}*/
-		pageIndexPool.popOrException(pageTable,pageNumDelta);
-		}
-	    catch(OutOfIndicesException e){
-		System.err.println("Out of root pages. Performing Nuclear GC and trying again.");
-		TRFactory.nuclearGC();
-		try{Thread.sleep(2000);}catch(InterruptedException ee){}
-		gpu.compactRootBuffer();
-		if(System.currentTimeMillis()-lastRootBufferNuclearGCMillis.get()<10000)
-			 gpu.memoryManager.get().dumpAllocationTable();
-		lastRootBufferNuclearGCMillis.set(System.currentTimeMillis());
-		resize(newSizeInBytes);
-	    }
+	    final ArrayList<Integer> newPages = new ArrayList<Integer>(pageNumDelta);
+	    popPages(newPages, pageNumDelta);
+	    pageMapping.append(newPages);
 	}else{			//SHRINK
-	    /*for(int i=newNumPages; i<pageTable.size(); i++){
-		pageIndexPool.free(pageTable.get(i));
-	    }*/
-	    pageIndexPool.free(pageTable.subList(newNumPages,pageTable.size()));//This had the -1 offset originally
-	    //final int numPagesToRemove = pageTable.size()-newNumPages;
-	    pageTable.subList(newNumPages, pageTable.size()).clear();
-	    /*for(int i=0; i<numPagesToRemove; i++){
-		pageTable.remove(pageTable.size()-1);
-	    }*/
+	    final ArrayList<Integer> removedPages = new ArrayList<Integer>(-pageNumDelta);
+	    pageMapping.truncate(newNumPages, removedPages);
+	    pageIndexPool.free(removedPages);
 	}//end if(pageNumDelta...)
     }//end resize()
+    
+    /**
+     * Pops root pages, waiting for collected buffers to release theirs if the pool is exhausted.
+     * Fragmentation never causes exhaustion since buffers needn't be physically contiguous; that is handled
+     * incrementally by the {@link RootBufferCompactor}.
+     */
+    private void popPages(Collection<Integer> dest, int count){
+	for(int attempt=0; ; attempt++){
+	    try{pageIndexPool.popOrException(dest, count);return;}
+	    catch(OutOfIndicesException e){
+		if(attempt==0)
+		    System.err.println("Out of root pages resizing "+debugName+". Requesting GC and waiting for released buffers.");
+		if(attempt < EXHAUSTION_RETRIES_BEFORE_NUCLEAR_GC){
+		    System.gc();
+		    try{Thread.sleep(EXHAUSTION_RETRY_MILLIS);}catch(InterruptedException ee){}
+		}else{
+		    System.err.println("Root pages still exhausted. Performing Nuclear GC as a last resort.");
+		    TRFactory.nuclearGC();
+		    attempt = 0;
+		}
+	    }//end catch(OutOfIndicesException)
+	}//end for(attempts)
+    }//end popPages(...)
     /*
     private void deallocate(){
 	pageIndexPool.free(pageTable);
     }//end deallocate()
     */
-    void markPageStale(int indexInBytes){
-	synchronized(stalePages){
-	 stalePages.set(indexInBytes/PagedByteBuffer.PAGE_SIZE_BYTES);
-	 //stalePages.add(new Integer(indexInBytes/PagedByteBuffer.PAGE_SIZE_BYTES));
-	 }
+    void markPageStale(int indexInBytes, int numBytes){
+	stalePages.set(indexInBytes/PagedByteBuffer.PAGE_SIZE_BYTES);
+	bytesWritten.add(numBytes);
     }//end markPageStale(...)
     
     /**
@@ -158,33 +159,62 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 */
     @Override
     public IByteBuffer putShort(int indexInBytes, short val) {
-	markPageStale(indexInBytes);
-	int index=logicalIndex2PhysicalIndex(indexInBytes);
-	intrinsic[0].putShort(index, val);
+	markPageStale(indexInBytes, 2);
+	final long stamp = pageMapping.tryOptimisticRead();
+	intrinsic[0].putShort(logicalIndex2PhysicalIndex(indexInBytes), val);
+	if(!pageMapping.validate(stamp)){//Page was relocated mid-write; repeat once it has settled
+	    final long readStamp = pageMapping.readLock();
+	    try{intrinsic[0].putShort(logicalIndex2PhysicalIndex(indexInBytes), val);}
+	    finally{pageMapping.unlockRead(readStamp);}
+	}
 	return this;
     }
 
     @Override
     public IByteBuffer put(int indexInBytes, byte val) {
-	markPageStale(indexInBytes);
+	markPageStale(indexInBytes, 1);
+	final long stamp = pageMapping.tryOptimisticRead();
 	intrinsic[0].put(logicalIndex2PhysicalIndex(indexInBytes), val);
+	if(!pageMapping.validate(stamp)){
+	    final long readStamp = pageMapping.readLock();
+	    try{intrinsic[0].put(logicalIndex2PhysicalIndex(indexInBytes), val);}
+	    finally{pageMapping.unlockRead(readStamp);}
+	}
 	return this;
     }
 
     @Override
     public byte get(int indexInBytes) {
-	return intrinsic[0].get(logicalIndex2PhysicalIndex(indexInBytes));
+	final long stamp = pageMapping.tryOptimisticRead();
+	final byte result = intrinsic[0].get(logicalIndex2PhysicalIndex(indexInBytes));
+	if(pageMapping.validate(stamp))
+	    return result;
+	final long readStamp = pageMapping.readLock();
+	try{return intrinsic[0].get(logicalIndex2PhysicalIndex(indexInBytes));}
+	finally{pageMapping.unlockRead(readStamp);}
     }
 
     @Override
     public short getShort(int indexInBytes) {
-	return intrinsic[0].getShort(logicalIndex2PhysicalIndex(indexInBytes));
+	final long stamp = pageMapping.tryOptimisticRead();
+	final short result = intrinsic[0].getShort(logicalIndex2PhysicalIndex(indexInBytes));
+	if(pageMapping.validate(stamp))
+	    return result;
+	final long readStamp = pageMapping.readLock();
+	try{return intrinsic[0].getShort(logicalIndex2PhysicalIndex(indexInBytes));}
+	finally{pageMapping.unlockRead(readStamp);}
     }
 
     @Override
     public IByteBuffer putFloat(int indexInBytes, float val) {
-	markPageStale(indexInBytes);
+	markPageStale(indexInBytes, 4);
+	final long stamp = pageMapping.tryOptimisticRead();
 	intrinsic[0].putFloat(logicalIndex2PhysicalIndex(indexInBytes), val);
+	if(!pageMapping.validate(stamp)){
+	    final long readStamp = pageMapping.readLock();
+	    try{intrinsic[0].putFloat(logicalIndex2PhysicalIndex(indexInBytes), val);}
+	    finally{pageMapping.unlockRead(readStamp);}
+	}
 	return this;
     }
 
@@ -201,36 +231,66 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 	    src.limit(oldLimit);
 	    put(startIndexInBytes+bytesRemainingInPage,src);
 	}else{//Do it
-	    markPageStale(startIndexInBytes);
+	    markPageStale(startIndexInBytes, src.remaining());
+	    final int srcPosition = src.position();
+	    final long stamp = pageMapping.tryOptimisticRead();
 	    final ByteBuffer bb = intrinsic[0].duplicate();
 	    bb.position(logicalIndex2PhysicalIndex(startIndexInBytes));
 	    bb.put(src);
+	    if(!pageMapping.validate(stamp)){
+		final long readStamp = pageMapping.readLock();
+		try{src.position(srcPosition);
+		    bb.position(logicalIndex2PhysicalIndex(startIndexInBytes));
+		    bb.put(src);}
+		finally{pageMapping.unlockRead(readStamp);}
+	    }
 	}
 	return this;
     }//end put(...)
     
-    private BitSet spBuffer = new BitSet();
+    private final BitSet spBuffer = new BitSet();
     
-    void flushStalePages(){
+    /**
+     * Applies pending contexts and moves this buffer's stale pages, translated to physical pages, into the given set.
+     * Called only by the {@link MemoryManager}'s flush, which coalesces adjacent physical pages across all buffers.
+     * @param physicalPagesDest Receives the stale physical pages.
+     * @return Number of logical pages which were stale.
+     * @since Oct 18, 2026
+     */
+    int drainStalePages(BitSet physicalPagesDest){
+	spBuffer.clear();
+	final int [] physicalPages;
+	final long readStamp = pageMapping.readLock();//Context writes must land in the pages they are reported in
+	try{spBuffer.or(contextSupport.apply(intrinsic[0], pageMapping));
+	    physicalPages = pageMapping.getPhysicalPages();}
+	finally{pageMapping.unlockRead(readStamp);}
+	stalePages.drainTo(spBuffer);
+	int index = -1;
+	while( (index = spBuffer.nextSetBit(index+1)) != -1 && index < physicalPages.length)
+	    physicalPagesDest.set(physicalPages[index]);
+	final int result = spBuffer.cardinality();
 	spBuffer.clear();
-	synchronized(stalePages){
-	 applyContextsToMemory();
-	 spBuffer.or(stalePages);
-	 stalePages.clear();
-	}//end sync()
-	 int index = -1;
-	 while( (index = spBuffer.nextSetBit(index+1)) != -1)
-	     gpu.memoryManager.get().flushRange(pageTable.get(index)*PagedByteBuffer.PAGE_SIZE_BYTES, PagedByteBuffer.PAGE_SIZE_BYTES);
-	 
-	 //for(int value:spBuffer)
-	 //   gpu.memoryManager.get().flushRange(pageTable.get(value)*PagedByteBuffer.PAGE_SIZE_BYTES, PagedByteBuffer.PAGE_SIZE_BYTES);
-	 spBuffer.clear();
-    }//end flushStalePages()
+	return result;
+    }//end drainStalePages(...)
+    
+    /**
+     * @return Bytes written to this buffer, directly or through its contexts, since the last call.
+     * @since Oct 18, 2026
+     */
+    long drainBytesWritten(){
+	return bytesWritten.sumThenReset() + contextSupport.drainBytesApplied();
+    }
 
     @Override
     public IByteBuffer putInt(int indexInBytes, int val) {
-	markPageStale(indexInBytes);
+	markPageStale(indexInBytes, 4);
+	final long stamp = pageMapping.tryOptimisticRead();
 	intrinsic[0].putInt(logicalIndex2PhysicalIndex(indexInBytes),val);
+	if(!pageMapping.validate(stamp)){
+	    final long readStamp = pageMapping.readLock();
+	    try{intrinsic[0].putInt(logicalIndex2PhysicalIndex(indexInBytes),val);}
+	    finally{pageMapping.unlockRead(readStamp);}
+	}
 	return this;
     }
 
@@ -240,12 +300,24 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 
     @Override
     public double getFloat(int posInBytes) {
-	return intrinsic[0].getFloat(logicalIndex2PhysicalIndex(posInBytes));
+	final long stamp = pageMapping.tryOptimisticRead();
+	final float result = intrinsic[0].getFloat(logicalIndex2PhysicalIndex(posInBytes));
+	if(pageMapping.validate(stamp))
+	    return result;
+	final long readStamp = pageMapping.readLock();
+	try{return intrinsic[0].getFloat(logicalIndex2PhysicalIndex(posInBytes));}
+	finally{pageMapping.unlockRead(readStamp);}
     }
 
     @Override
     public Integer getInt(int posInBytes) {
-	return intrinsic[0].getInt(logicalIndex2PhysicalIndex(posInBytes));
+	final long stamp = pageMapping.tryOptimisticRead();
+	final int result = intrinsic[0].getInt(logicalIndex2PhysicalIndex(posInBytes));
+	if(pageMapping.validate(stamp))
+	    return result;
+	final long readStamp = pageMapping.readLock();
+	try{return intrinsic[0].getInt(logicalIndex2PhysicalIndex(posInBytes));}
+	finally{pageMapping.unlockRead(readStamp);}
     }
     
     @Override
@@ -272,6 +344,34 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
     public ListActionDispatcher<Integer> getPageTable() {
         return pageTable;
     }
+    
+    PageTable getPageMapping() {
+	return pageMapping;
+    }
+    
+    /**
+     * Permits the {@link RootBufferCompactor} to move this buffer's pages. The listener is called on the flushing
+     * thread after any are moved and must republish everything derived from the physical page table, such as a
+     * renderer's page table uniforms. Only buffers whose physical addresses are stored nowhere else may opt in.
+     * The listener is held weakly, so the caller must keep it reachable for as long as it wants to be notified.
+     * @since Oct 18, 2026
+     */
+    public void addPageRelocationListener(PageRelocationListener listener){
+	pageMapping.addRelocationListener(listener);
+    }
+    
+    public void removePageRelocationListener(PageRelocationListener listener){
+	pageMapping.removeRelocationListener(listener);
+    }
+    
+    /**
+     * Lets the pages moved away from in the given relocation generation, and earlier, be reused as far as
+     * this listener is concerned.
+     * @since Oct 18, 2026
+     */
+    public void acknowledgePageRelocation(PageRelocationListener listener, long generation){
+	pageMapping.acknowledgeRelocation(listener, generation);
+    }
 
     IndexPool getPageIndexPool() {
         return pageIndexPool;
@@ -298,8 +398,4 @@ public final class PagedByteBuffer  implements IByteBuffer, Resizeable{
 		byteIndices,
 		stalePages);
     }//end flush()
-    
-    private void applyContextsToMemory(){
-	stalePages.or(contextSupport.apply(intrinsic[0]));
-    }
 }//end PageByteBuffer
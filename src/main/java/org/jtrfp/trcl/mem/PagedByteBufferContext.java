@@ -129,7 +129,7 @@ public class PagedByteBufferContext implements IByteBuffer, Flushable {
     @Override
     public IByteBuffer putInt(int indexInBytes, int val) {
 	markPageStale(indexInBytes);
-	intIndices[0].add(getPagedByteBuffer().logicalIndex2PhysicalIndex(indexInBytes));
+	intIndices[0].add(indexInBytes);
 	intsToSet[0].add(val);
 	return this;
     }
@@ -148,8 +148,7 @@ public class PagedByteBufferContext implements IByteBuffer, Flushable {
     @Override
     public IByteBuffer putShort(int indexInBytes, short val) {
 	markPageStale(indexInBytes);
-	int index=getPagedByteBuffer().logicalIndex2PhysicalIndex(indexInBytes);
-	shortIndices[0].add(index);
+	shortIndices[0].add(indexInBytes);
 	shortsToSet[0].add(val);
 	return this;
     }
@@ -157,7 +156,7 @@ public class PagedByteBufferContext implements IByteBuffer, Flushable {
     @Override
     public IByteBuffer put(int indexInBytes, byte val) {
 	markPageStale(indexInBytes);
-	byteIndices[0].add(getPagedByteBuffer().logicalIndex2PhysicalIndex(indexInBytes));
+	byteIndices[0].add(indexInBytes);
 	bytesToSet[0].add(val);
 	return this;
     }
@@ -165,7 +164,7 @@ public class PagedByteBufferContext implements IByteBuffer, Flushable {
     @Override
     public IByteBuffer putFloat(int indexInBytes, float val) {
 	markPageStale(indexInBytes);
-	floatIndices[0].add(getPagedByteBuffer().logicalIndex2PhysicalIndex(indexInBytes));
+	floatIndices[0].add(indexInBytes);
 	floatsToSet[0].add(val);
 	return this;
     }
@@ -184,7 +183,7 @@ public class PagedByteBufferContext implements IByteBuffer, Flushable {
 	    put(startIndexInBytes+bytesRemainingInPage,src);
 	}else{//Do it
 	    markPageStale(startIndexInBytes);
-	    int index = getPagedByteBuffer().logicalIndex2PhysicalIndex(startIndexInBytes);
+	    int index = startIndexInBytes;//Indices stay logical until applied
 	    while(src.hasRemaining())
 		put(index++,src.get());//TODO: Optimize with batch on flush
 	}
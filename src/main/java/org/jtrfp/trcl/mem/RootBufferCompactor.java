@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.mem;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.jtrfp.trcl.pool.IndexPool;
+
+/**
+ * Incrementally moves pages of relocatable {@link PageTable}s from the top of the root buffer into its lowest free
+ * pages, a bounded number per step, so that free pages collect at the end where compaction can trim them.<br><br>
+ * A moved page's old physical page is freed only once every {@link PageRelocationListener} of its table has
+ * acknowledged the relocation, i.e. no renderer still reads through the previous page table. Not thread-safe;
+ * steps are expected to run on one thread.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class RootBufferCompactor {
+    private final IndexPool pageIndexPool;
+    private final ArrayList<PendingFree> pendingFrees = new ArrayList<PendingFree>();
+    private int           numPendingFrees;
+    private volatile long numPagesRelocated;
+
+    private static final class PendingFree {
+	final PageTable      table;
+	final long           generation;
+	final List<Integer>  physicalPages;
+
+	PendingFree(PageTable table, long generation, List<Integer> physicalPages){
+	    this.table         = table;
+	    this.generation    = generation;
+	    this.physicalPages = physicalPages;
+	}
+    }//end PendingFree
+
+    public RootBufferCompactor(IndexPool pageIndexPool){
+	this.pageIndexPool = pageIndexPool;
+    }
+
+    /**
+     * Frees acknowledged old pages, then relocates up to maxPages of the highest relocatable pages into lower free pages.
+     * @param tables Candidate page tables; those which are not relocatable are skipped.
+     * @param memory The root buffer.
+     * @param stalePhysicalPagesDest Receives the new physical pages, which must be flushed.
+     * @param maxPages Upper bound on pages moved.
+     * @return Number of pages moved.
+     * @since Oct 18, 2026
+     */
+    int step(Collection<PageTable> tables, ByteBuffer memory, BitSet stalePhysicalPagesDest, int maxPages){
+	freeAcknowledged();
+	if(maxPages <= 0 || pageIndexPool.getNumUnusedIndices() == 0)
+	    return 0;
+	final ArrayList<long[]> candidates = new ArrayList<long[]>();//{physicalPage, logicalPage, tableIndex}
+	final ArrayList<PageTable> relocatable = new ArrayList<PageTable>();
+	for(PageTable table:tables){
+	    if(!table.isRelocatable())
+		continue;
+	    final int [] physicalPages = table.getPhysicalPages();
+	    for(int logicalPage = 0; logicalPage < physicalPages.length; logicalPage++)
+		candidates.add(new long[]{physicalPages[logicalPage], logicalPage, relocatable.size()});
+	    relocatable.add(table);
+	}//end for(tables)
+	Collections.sort(candidates, HIGHEST_PHYSICAL_FIRST);
+	final Map<PageTable,List<Integer>> relocated = new IdentityHashMap<PageTable,List<Integer>>();//Table to old pages
+	int result = 0;
+	for(long [] candidate:candidates){
+	    if(result >= maxPages)
+		break;
+	    final int oldPage = (int)candidate[0];
+	    final int newPage = pageIndexPool.popFreeBelow(oldPage);
+	    if(newPage == -1)
+		break;//Nothing lower is free for this or any lower candidate
+	    final PageTable table = relocatable.get((int)candidate[2]);
+	    if(table.relocate((int)candidate[1], oldPage, newPage, memory)){
+		stalePhysicalPagesDest.set(newPage);
+		List<Integer> oldPages = relocated.get(table);
+		if(oldPages == null)
+		    relocated.put(table, oldPages = new ArrayList<Integer>());
+		oldPages.add(oldPage);
+		result++;
+	    }else
+		pageIndexPool.free(newPage);//Resized or relocated meanwhile
+	}//end for(candidates)
+	for(Entry<PageTable,List<Integer>> entry:relocated.entrySet()){
+	    final PageTable table = entry.getKey();
+	    pendingFrees.add(new PendingFree(table, table.fireRelocated(), entry.getValue()));
+	    numPendingFrees += entry.getValue().size();
+	}
+	numPagesRelocated += result;
+	return result;
+    }//end step(...)
+
+    private void freeAcknowledged(){
+	final Iterator<PendingFree> it = pendingFrees.iterator();
+	while(it.hasNext()){
+	    final PendingFree pending = it.next();
+	    if(pending.table.isRelocationAcknowledged(pending.generation)){
+		pageIndexPool.free(pending.physicalPages);
+		numPendingFrees -= pending.physicalPages.size();
+		it.remove();
+	    }
+	}//end while(pendingFrees)
+    }//end freeAcknowledged()
+
+    private static final Comparator<long[]> HIGHEST_PHYSICAL_FIRST = new Comparator<long[]>(){
+	@Override
+	public int compare(long[] left, long[] right) {
+	    return Long.compare(right[0], left[0]);
+	}};
+
+    /**
+     * @return Free pages below the high-water mark as a fraction of all pages below it. Zero when perfectly packed.
+     * @since Oct 18, 2026
+     */
+    public static double getFragmentation(IndexPool pageIndexPool){
+	final int free = pageIndexPool.getNumUnusedIndices();
+	final int total = free + pageIndexPool.getNumUsedIndices();
+	return total == 0?0:(double)free/(double)total;
+    }//end getFragmentation(...)
+
+    /**
+     * @return Old pages awaiting acknowledgement of their relocation.
+     */
+    public int getNumPendingFrees(){
+	return numPendingFrees;
+    }
+
+    public long getNumPagesRelocated(){
+	return numPagesRelocated;
+    }
+}//end RootBufferCompactor
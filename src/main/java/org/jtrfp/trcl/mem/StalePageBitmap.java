@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.mem;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * One bit per logical page of a {@link PagedByteBuffer}, set by writers without locking and drained by the flusher.
+ * Marking an already-stale page is a plain volatile read. Segments are only ever appended, so a bit set while
+ * the bitmap grows is never lost.
+ * @author Chuck Ritola
+ *
+ */
+
+final class StalePageBitmap {
+    private static final int WORDS_PER_SEGMENT_LOG2 = 6, WORDS_PER_SEGMENT = 1 << WORDS_PER_SEGMENT_LOG2;
+    private volatile AtomicLongArray [] segments = new AtomicLongArray[0];
+
+    /**
+     * Marks the specified page stale.
+     * @since Oct 18, 2026
+     */
+    void set(int page){
+	final int w = page >>> 6;
+	final int segmentIndex = w >>> WORDS_PER_SEGMENT_LOG2;
+	AtomicLongArray [] segments = this.segments;
+	if(segmentIndex >= segments.length)
+	    segments = ensureSegments(segmentIndex + 1);
+	final AtomicLongArray segment = segments[segmentIndex];
+	final int wordIndex = w & (WORDS_PER_SEGMENT - 1);
+	final long mask = 1L << page;
+	long word;
+	do{
+	    word = segment.get(wordIndex);
+	    if((word & mask) != 0)
+		return;
+	}while(!segment.compareAndSet(wordIndex, word, word | mask));
+    }//end set(...)
+
+    /**
+     * Clears every stale bit, setting it in dest.
+     * @return Number of pages drained.
+     * @since Oct 18, 2026
+     */
+    int drainTo(BitSet dest){
+	final AtomicLongArray [] segments = this.segments;
+	int result = 0;
+	for(int s = 0; s < segments.length; s++){
+	    final AtomicLongArray segment = segments[s];
+	    for(int wordIndex = 0; wordIndex < WORDS_PER_SEGMENT; wordIndex++){
+		if(segment.get(wordIndex) == 0)
+		    continue;
+		long word = segment.getAndSet(wordIndex, 0);
+		result += Long.bitCount(word);
+		final int base = ((s << WORDS_PER_SEGMENT_LOG2) + wordIndex) << 6;
+		while(word != 0){
+		    dest.set(base + Long.numberOfTrailingZeros(word));
+		    word &= word - 1;
+		}
+	    }//end for(words)
+	}//end for(segments)
+	return result;
+    }//end drainTo(...)
+
+    private synchronized AtomicLongArray [] ensureSegments(int numSegments){
+	final AtomicLongArray [] oldSegments = segments;
+	if(numSegments <= oldSegments.length)
+	    return oldSegments;
+	final AtomicLongArray [] newSegments = Arrays.copyOf(oldSegments, numSegments);
+	for(int i = oldSegments.length; i < numSegments; i++)
+	    newSegments[i] = new AtomicLongArray(WORDS_PER_SEGMENT);
+	segments = newSegments;
+	return newSegments;
+    }//end ensureSegments(...)
+}//end StalePageBitmap
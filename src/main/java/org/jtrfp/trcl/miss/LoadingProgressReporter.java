@@ -19,6 +19,10 @@ public interface LoadingProgressReporter {
     public LoadingProgressReporter [] 	generateSubReporters(int numSubReporters);
     public void 			complete();
     
+    /**
+     * Thread-safe; a reporter only ever locks itself and then its parent, so branches of a tree may be driven from
+     * different threads.
+     */
     public static class Impl implements StemReporter{
 	private final		WeakReference<StemReporter> parent;
 	private int 		totalSubReporters=1;
@@ -35,7 +39,7 @@ public interface LoadingProgressReporter {
 	}//end Impl()
 	
 	@Override
-	public LoadingProgressReporter[] generateSubReporters(
+	public synchronized LoadingProgressReporter[] generateSubReporters(
 		final int numSubReporters) {
 	    final LoadingProgressReporter [] result = new LoadingProgressReporter[numSubReporters];
 	    for(int i=0; i<numSubReporters; i++){
@@ -50,7 +54,7 @@ public interface LoadingProgressReporter {
 	}//end constructor
 
 	@Override
-	public void complete() {
+	public synchronized void complete() {
 	    if(!complete){
 		complete=true;
 		final int remainingReportCounts = totalSubReporters - reportCount;
@@ -60,7 +64,7 @@ public interface LoadingProgressReporter {
 	}//end complete()
 
 	@Override
-	public void increment() {
+	public synchronized void increment() {
 	    if(reportCount<totalSubReporters){
 		reportCount++;
 	    	if(parent!=null){
@@ -73,12 +77,12 @@ public interface LoadingProgressReporter {
 	}//end increment()
 
 	@Override
-	public void addSubReporters(int delta) {
+	public synchronized void addSubReporters(int delta) {
 	    totalSubReporters+=delta;
 	}//end addSubReporteres(...)
 
 	@Override
-	public StemReporter setUpdateHandler(UpdateHandler updateHandler) {
+	public synchronized StemReporter setUpdateHandler(UpdateHandler updateHandler) {
 	    if(updateHandler==null)return this;
 	    this.updateHandler=updateHandler;
 	    updateHandler.update(0);
@@ -27,12 +27,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.Camera;
 import org.jtrfp.trcl.DisplayModeHandler;
 import org.jtrfp.trcl.OverworldSystem;
 import org.jtrfp.trcl.RenderableSpacePartitioningGrid;
+import org.jtrfp.trcl.Tunnel;
 import org.jtrfp.trcl.WeakPropertyChangeListener;
 import org.jtrfp.trcl.World;
 import org.jtrfp.trcl.beh.CollidesWithTerrain;
@@ -42,9 +48,13 @@ import org.jtrfp.trcl.beh.SkyCubeCloudModeUpdateBehavior;
 import org.jtrfp.trcl.beh.SpawnsRandomSmoke;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.ResourceManager;
+import org.jtrfp.trcl.core.TaskGraph;
+import org.jtrfp.trcl.core.TaskGraph.Stage;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFactory.TR;
+import org.jtrfp.trcl.ext.lvl.LVLFileEnhancement;
 import org.jtrfp.trcl.ext.lvl.LVLFileEnhancementsFactory.LVLFileEnhancements;
+import org.jtrfp.trcl.ext.tr.GPUFactory.GPUFeature;
 import org.jtrfp.trcl.ext.tr.SoundSystemFactory.SoundSystemFeature;
 import org.jtrfp.trcl.file.LVLFile;
 import org.jtrfp.trcl.file.Location3D;
@@ -54,6 +64,7 @@ import org.jtrfp.trcl.file.TDFFile;
 import org.jtrfp.trcl.game.Game;
 import org.jtrfp.trcl.game.TVF3Game;
 import org.jtrfp.trcl.gpu.Renderer;
+import org.jtrfp.trcl.gpu.VQCodebookManager;
 import org.jtrfp.trcl.gui.ReporterFactory.Reporter;
 import org.jtrfp.trcl.miss.LoadingProgressReporter.UpdateHandler;
 import org.jtrfp.trcl.miss.NAVObjective.Factory;
@@ -168,6 +179,26 @@ public class Mission {
 	navs, tunnels, overworld
     }// end LoadingStages
     
+    /**
+     * Runs the level loading graph. Separate from the ThreadManager pool because loading tasks, i.e. the overworld,
+     * block on work they submit to that pool. Tasks which fan work out onto this executor, i.e. the DEF model decodes,
+     * run whatever hasn't started yet themselves rather than block on it.
+     */
+    private static final ThreadPoolExecutor LOAD_EXECUTOR;
+    static {
+	final int numCores = Runtime.getRuntime().availableProcessors();
+	final AtomicInteger threadID = new AtomicInteger();
+	LOAD_EXECUTOR = new ThreadPoolExecutor(numCores, numCores, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+		new ThreadFactory(){
+		    @Override
+		    public Thread newThread(Runnable r) {
+			final Thread result = new Thread(r, "MissionLoader-"+threadID.getAndIncrement());
+			result.setDaemon(true);
+			return result;
+		    }});
+	LOAD_EXECUTOR.allowCoreThreadTimeOut(true);
+    }//end static{}
+    
     //ROOT STATES
     public interface MissionState       extends Game.GameRunningMode{}
     public interface ConstructingState  extends MissionState{}
@@ -316,6 +347,9 @@ public class Mission {
 	    for(Projectile proj:pf.getProjectiles())
 		proj.destroy();
 	System.out.println("Starting GampeplayLevel loading sequence...");
+	final VQCodebookManager codebookManager = Features.get(tr, GPUFeature.class).textureManager.get().vqCodebookManager;
+	final long codebook256RequestedBefore = codebookManager.getNumCodebook256Requested();
+	final long codebook256AllocatedBefore = codebookManager.getNumCodebook256Allocated();
 	final LoadingProgressReporter rootProgress = LoadingProgressReporter.Impl
 		.createRoot(new UpdateHandler() {
 		    @Override
@@ -376,46 +410,81 @@ public class Mission {
 	    //boolean enhanced = false;
 	    LVLFileEnhancements enhancements = Features.get(tr, LVLFileEnhancements.class);
 	    
-	    overworldSystem.loadLevel(lvlData, tdf, enhancements!=null?enhancements.findByHook(levelName):null);
-	    
+	    final LVLFileEnhancement enhancement = enhancements!=null?enhancements.findByHook(levelName):null;
 	    final List<DEFObject> defObjectList = getDefObjectList();
 	    final ObjectSystem objectSystem = overworldSystem.getObjectSystem();
-	    if(defObjectList != null)
-	        objectSystem.setDefList(defObjectList);
-	    else{
-		objectSystem.setPositionOffset(new Vector3D(0,1024 * 16, 0));
-		objectSystem.populateFromLVL(lvlData);
+	    //TODO: TunnelSystem should be isolated from Mission
+	    final TunnelSystem ts = Features.get(this, TunnelSystem.class);
+	    final TDFFile.Tunnel [] tdfTunnels = tdf.getTunnels() != null?tdf.getTunnels():new TDFFile.Tunnel[0];
+	    final LoadingProgressReporter [] tunnelProgress = progressStages[LoadingStages.tunnels.ordinal()]
+		    .generateSubReporters(tdfTunnels.length);
+	    final Tunnel [] tunnels = new Tunnel[tdfTunnels.length];
+	    
+	    final TaskGraph graph = new TaskGraph("Mission "+levelName);
+	    final TaskGraph.Node navNode = graph.add("nav", Stage.PARSE, new TaskGraph.Task(){
+		@Override
+		public void run() throws Exception {
+		    // Install NAVs if not already set
+		    if( getNavSubObjects() == null )
+			setNavSubObjects(rm.getNAVData(lvlData.getNavigationFile())
+				.getNavObjects());
+		}});
+	    final TaskGraph.Node overworldNode = graph.add("overworld", Stage.BUILD, new TaskGraph.Task(){
+		@Override
+		public void run() throws Exception {
+		    overworldSystem.loadLevel(lvlData, tdf, enhancement);
+		}});
+	    final TaskGraph.Node defNode = graph.add("defObjects", Stage.BUILD, new TaskGraph.Task(){
+		@Override
+		public void run() throws Exception {
+		    if(defObjectList != null)
+			objectSystem.setDefList(defObjectList);
+		    else{
+			objectSystem.setPositionOffset(new Vector3D(0,1024 * 16, 0));
+			objectSystem.getDefPlacer().setModelLoadExecutor(LOAD_EXECUTOR);
+			objectSystem.populateFromLVL(lvlData);
+		    }
+		}});
+	    final TaskGraph.Node [] tunnelNodes = new TaskGraph.Node[tdfTunnels.length];
+	    for(int i = 0; i < tdfTunnels.length; i++){
+		final int index = i;
+		tunnelNodes[i] = graph.add("tunnel."+i, Stage.BUILD, new TaskGraph.Task(){
+		    @Override
+		    public void run() throws Exception {
+			tunnels[index] = ts.buildTunnel(tdfTunnels[index], tunnelProgress[index]);
+		    }});
+	    }//end for(tunnels)
+	    final TaskGraph.Node [] tunnelInstallDependencies = Arrays.copyOf(tunnelNodes, tunnelNodes.length + 1);
+	    tunnelInstallDependencies[tunnelNodes.length] = overworldNode;//Exits need the sky system
+	    final TaskGraph.Node tunnelInstallNode = graph.add("tunnels", Stage.INSTALL, new TaskGraph.Task(){
+		@Override
+		public void run() throws Exception {
+		    ts.installTunnels(tdf, tunnels);
+		    progressStages[LoadingStages.tunnels.ordinal()].complete();
+		}}, tunnelInstallDependencies);
+	    graph.add("navObjectives", Stage.INSTALL, new TaskGraph.Task(){
+		@Override
+		public void run() throws Exception {
+		    if( navs.isEmpty() ){
+			Factory f = new NAVObjective.Factory(tr, getLevelName());
+			final Reporter reporter = Features.get(getTr(), Reporter.class);
+			for (int i = 0; i < navSubObjects.size(); i++) {
+			    final NAVData.NAVSubObjectData obj = navSubObjects.get(i);
+			    System.out.println("Parsing NAV Sub-Object "+obj);
+			    f.create(reporter, obj, navs, navMap);
+			}// end for(navSubObjects)
+		    }//end if( empty )
+		    progressStages[LoadingStages.navs.ordinal()].complete();
+		}}, navNode, defNode, tunnelInstallNode);
+	    try{graph.execute(LOAD_EXECUTOR);}
+	    finally{reportLoadTimes(graph, codebookManager, codebook256RequestedBefore, codebook256AllocatedBefore);}
+	    progressStages[LoadingStages.overworld.ordinal()].complete();
+	    if(defObjectList == null)
 		setDefObjectList(objectSystem.getDefList());
-		}
 	    
 	    assert getDefObjectList() != null;
-	    
-	    //overworldSystem.loadLevel(lvlData, tdf);
 	    System.out.println("\t...Done.");
 	    
-	    //TODO: TunnelSystem should be isolated from Mission
-	    final TunnelSystem ts = Features.get(this, TunnelSystem.class);
-	    ts.installTunnels(tdf,progressStages[LoadingStages.tunnels.ordinal()]);
-	    
-	    // Install NAVs if not already set
-	    if( getNavSubObjects() == null ){
-		setNavSubObjects(rm.getNAVData(lvlData.getNavigationFile())
-			.getNavObjects());
-		}
-	    if( navs.isEmpty() ){
-		Factory f = new NAVObjective.Factory(tr, getLevelName());
-
-		//final LoadingProgressReporter[] navProgress = progressStages[LoadingStages.navs
-		//                                                             .ordinal()].generateSubReporters(navSubObjects.size());
-		final Reporter reporter = Features.get(getTr(), Reporter.class);
-		for (int i = 0; i < navSubObjects.size(); i++) {
-		    final NAVData.NAVSubObjectData obj = navSubObjects.get(i);
-		    System.out.println("Parsing NAV Sub-Object "+obj);
-		    f.create(reporter, obj, navs, navMap);
-		    //navProgress[i].complete();
-		}// end for(navSubObjects)
-	    }//end if( empty )
-	    
 	    // ////// INITIAL HEADING
 	    PlayerSaveState playerSaveState = getStoredPlayerSaveState();
 	    //final double [] playerStartPos = getStoredPlayerStartPosition();
@@ -520,6 +589,21 @@ public class Mission {
 	}//end sync
 	*/
     }// end go()
+    
+    private void reportLoadTimes(TaskGraph graph, VQCodebookManager codebookManager, long codebook256RequestedBefore, long codebook256AllocatedBefore){
+	final Reporter reporter = Features.get(getTr(), Reporter.class);
+	final String prefix = "org.jtrfp.trcl.miss.Mission.load.";
+	for(TaskGraph.Node node:graph.getNodes())
+	    reporter.report(prefix+node.getName()+".ms", node.getDurationNanos() >= 0?
+		    String.format("%.1f", node.getDurationNanos() / 1000000.):"skipped");
+	reporter.report(prefix+"total.ms", String.format("%.1f", graph.getElapsedNanos() / 1000000.));
+	reporter.report(prefix+"criticalPath", graph.getCriticalPath().toString());
+	reporter.report(prefix+"codebook256.requested", ""+(codebookManager.getNumCodebook256Requested() - codebook256RequestedBefore));
+	reporter.report(prefix+"codebook256.allocated", ""+(codebookManager.getNumCodebook256Allocated() - codebook256AllocatedBefore));
+	reporter.report(prefix+"codebook256.shared",    ""+codebookManager.getNumCodebook256Shared());
+	getTr().getResourceManager().reportCacheStatistics(reporter);
+	System.out.println(graph.getSummary());
+    }//end reportLoadTimes(...)
     /*
     private GLExecutor<?> getGlExecutor() {
 	if( glExecutor == null )
@@ -120,25 +120,48 @@ public class TunnelSystemFactory implements FeatureFactory<Mission> {
 	    tuns = tuns == null?new TDFFile.Tunnel[0]:tuns;//Null means no tunnels.
 	    final LoadingProgressReporter[] reporters = reporter
 		    .generateSubReporters(tuns.length);
+	    final Tunnel [] built = new Tunnel[tuns.length];
+	    for (int tIndex = 0; tIndex < tuns.length; tIndex++)
+		built[tIndex] = buildTunnel(tuns[tIndex], reporters[tIndex]);
+	    installTunnels(tdf, built);
+	}//end installTunnels()
+	
+	/**
+	 * Loads a tunnel's level, geometry and objects without registering it with this system, so that tunnels
+	 * may be built concurrently. The overworld system must already exist but need not be loaded.
+	 * @return The tunnel, to be passed to {@link #installTunnels(TDFFile, Tunnel[])}.
+	 * @since Oct 18, 2026
+	 */
+	public Tunnel buildTunnel(TDFFile.Tunnel tdfTun, LoadingProgressReporter reporter){
+	    return new Tunnel(getTr(), tdfTun, reporter, tdfTun.getTunnelLVLFile());
+	}
+	
+	/**
+	 * Registers tunnels from {@link #buildTunnel(org.jtrfp.trcl.file.TDFFile.Tunnel, LoadingProgressReporter)}
+	 * in TDF order, hooking up their entrance portals and exit sky. The overworld must already be loaded.
+	 * @param built One tunnel per TDF tunnel, in the same order.
+	 * @since Oct 18, 2026
+	 */
+	public void installTunnels(TDFFile tdf, Tunnel [] built){
+	    final TDFFile.Tunnel [] tuns = tdf.getTunnels();
 	    if (tuns != null) {
-		int tIndex = 0;
 		final Reporter r = Features.get(getTr(), Reporter.class);
-		// Build tunnels
-		for (TDFFile.Tunnel tun : tuns) {
+		for (int tIndex = 0; tIndex < tuns.length; tIndex++) {
+		    final TDFFile.Tunnel tun = tuns[tIndex];
 		    r.report("org.jtrfp.trcl.TunnelInstaller.tunnel."
 			    + tIndex + ".entrance", tun.getEntrance().toString());
 		    r.report("org.jtrfp.trcl.TunnelInstaller.tunnel."
 			    + tIndex + ".exit", tun.getExit().toString());
-		    newTunnel(tun,reporters[tIndex]);
-		    tIndex++;
-		}//end if(tuns!=null)
+		    installTunnel(tun, built[tIndex]);
+		}//end for(tuns)
 	    }// end if(tuns!=null)
 	    totalNumTunnels = tunnelsRemaining.size();
-	}//end installTunnels()
+	}//end installTunnels(...)
 
-	private Tunnel newTunnel(org.jtrfp.trcl.file.TDFFile.Tunnel tdfTun,
-		LoadingProgressReporter reporter) {
-	    final Tunnel tunnel = new Tunnel(getTr(), tdfTun, reporter, tdfTun.getTunnelLVLFile());
+	private Tunnel installTunnel(org.jtrfp.trcl.file.TDFFile.Tunnel tdfTun,
+		final Tunnel tunnel) {
+	    final OverworldSystem overworldSystem = getTarget().getOverworldSystem();
+	    tunnel.getExitObject().setSkyCubeGen(overworldSystem.getSkySystem().getBelowCloudsSkyCubeGen());
 	    tunnelsRemaining.add(tunnel);
 	    DirectionVector tunnelEntranceLegacyPos = tdfTun.getEntrance();
 	    final Point tunnelEntranceMapSquarePos = new Point(
@@ -278,6 +301,7 @@ public class TunnelSystemFactory implements FeatureFactory<Mission> {
 	    //player.setPosition(secondaryPos.toArray());
 	    //player.setHeading (secondaryHdg);
 	    //player.setTop     (secondaryTop);
+	    player.snapSimulationState();
 	    player.notifyPositionChange();
 	    //Move the secondary cam to the overworld.
 	    overworldSystem.setChamberMode(tunnelToEnter.getExitObject().isMirrorTerrain());
@@ -17,7 +17,6 @@ import java.awt.Dimension;
 import org.apache.commons.math3.geometry.euclidean.threed.Rotation;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.Camera;
-import org.jtrfp.trcl.MatrixWindow;
 import org.jtrfp.trcl.RenderMode;
 import org.jtrfp.trcl.Triangle;
 import org.jtrfp.trcl.core.TRFactory.TR;
@@ -35,10 +34,9 @@ public class BillboardSprite extends WorldObject{
 	    rotationDelegate = new StaticRotationDelegate(getTr());
 	    }
 	@Override
-	protected void recalculateTransRotMBuffer(MatrixWindow matrixWindow){
+	protected void prepareTransform(){
 	    	rotationDelegate.updateRotation(this);
-		super.recalculateTransRotMBuffer(matrixWindow);
-		}//end recalculateTransRotMBuffer()
+		}//end prepareTransform()
 	
 	public void setBillboardSize(Dimension dim)
 		{this.dim=dim;}
@@ -15,7 +15,7 @@ package org.jtrfp.trcl.obj;
 import java.awt.Dimension;
 
 import org.jtrfp.trcl.beh.Behavior;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.beh.TerrainLocked;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.TRFactory;
@@ -47,7 +47,12 @@ private GameShell gameShell;
 	this.objective=objective;
     }//end setObjectiveToRemove(...)
     
-    private class CheckpointBehavior extends Behavior implements CollisionBehavior{
+    private class CheckpointBehavior extends Behavior implements CollisionCandidateFilter{
+	@Override
+	public boolean isCollisionCandidate(WorldObject other){
+	    return other instanceof Player;
+	}
+
 	@Override
 	public void proposeCollision(WorldObject other){
 	    if(other instanceof Player){
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.obj;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
+import org.jtrfp.trcl.coll.LongIntHashMap;
+import org.jtrfp.trcl.core.CubeCoordinate;
+
+/**
+ * Allocation-free broad phase for the {@link CollisionManager}. Relevance cubes are snapshotted into
+ * flat, reused arrays keyed by {@link CubeCoordinate#pack()} in a primitive map, so neighbor lookups
+ * neither allocate coordinates nor hash objects. While snapshotting, each cube's members are also
+ * sorted into a separate run of collideable objects; only those may act as the left-hand side of
+ * {@link WorldObject#proposeCollision(WorldObject)} since the call is a no-op for the rest. The
+ * sequence of non-trivial proposeCollision calls per cube pair is identical to the legacy all-pairs sweep.
+ * <br><br>
+ * {@link #parallelSweep(ForkJoinPool)} first runs the narrow phase, the {@link CollisionCandidateFilter}s of
+ * each collider, on a fork-join pool and records the surviving pairs in a per-cube bit buffer. Work is
+ * partitioned by home cube: a cube's neighborhood spans at most 2x2x2 cubes, so cubes whose coordinates share
+ * parity on all three axes never touch the same objects and each of the eight parity colors runs as one
+ * phase. Neighborhoods which wrap around the world edge are filtered on the calling thread. The buffers are
+ * then applied in the same order as {@link #sweep()}, re-checking activity and falling back to an unfiltered
+ * proposal for any collider whose behaviors changed since the snapshot, so both sweeps issue the
+ * same collision callbacks in the same order.
+ * <br><br>
+ * Not thread-safe; the snapshot is expected to be taken on the relevance thread and the sweep performed
+ * under the game state lock, strictly one after the other.
+ * @author Chuck Ritola
+ *
+ */
+
+final class CollisionBroadPhase {
+    private static final int NONE = LongIntHashMap.NO_VALUE;
+    private static final int NUM_NEIGHBORS = 6, NUM_COLORS = 8;
+    private static final int NARROW_PHASE_GRAIN = 4;//Cubes per fork-join leaf
+    private final int                  worldWidthCubes, rolloverPoint;
+    private final LongIntHashMap       cubeSlots      = new LongIntHashMap(256);
+    private int  []                    cubeX          = new int[64],
+	                               cubeY          = new int[64],
+	                               cubeZ          = new int[64],
+	                               memberStart    = new int[64],
+	                               memberEnd      = new int[64],
+	                               colliderStart  = new int[64],
+	                               colliderEnd    = new int[64];
+    private WorldObject []             members        = new WorldObject[1024],
+	                               colliders      = new WorldObject[256];
+    private CollisionBehavior [][]     colliderBehaviors = new CollisionBehavior[256][];
+    private int  []                    neighborSlots  = new int[64 * NUM_NEIGHBORS],
+	                               phaseSlots     = new int[64];
+    private final int []               phaseStart     = new int[NUM_COLORS + 2],
+	                               phaseFill      = new int[NUM_COLORS + 1];
+    private long [][]                  candidateBits  = new long[64][];
+    private int                        numCubes, numMembers, numColliders;
+    private int                        everywhereSlot = NONE;
+    private long                       proposalCount;
+
+    CollisionBroadPhase(){
+	this(World.WORLD_WIDTH_CUBES);
+    }
+
+    CollisionBroadPhase(int worldWidthCubes){
+	this.worldWidthCubes = worldWidthCubes;
+	this.rolloverPoint   = (int)Math.ceil(worldWidthCubes / 2.);
+    }
+
+    /**
+     * Snapshots the contents of the given relevance cube. Must be called from the thread which
+     * owns the supplied collection's mutations.
+     * @param coordinate
+     * @param contents
+     * @since Oct 18, 2026
+     */
+    void addCube(CubeCoordinate coordinate, Iterable<? extends Positionable> contents){
+	final boolean everywhere = World.RELEVANT_EVERYWHERE.equals(coordinate);
+	if(everywhere && everywhereSlot != NONE)
+	    throw new RuntimeException("Intolerable multiple 'everywhere' cubes. Found "+
+		    coordinate+" but already had one.");
+	final int slot = numCubes++;
+	ensureCubeCapacity(numCubes);
+	if(everywhere)
+	    everywhereSlot = slot;
+	else{
+	    cubeX[slot] = coordinate.getX();
+	    cubeY[slot] = coordinate.getY();
+	    cubeZ[slot] = coordinate.getZ();
+	    cubeSlots.put(coordinate.pack(), slot);
+	}
+	memberStart[slot]   = numMembers;
+	colliderStart[slot] = numColliders;
+	for(Positionable p:contents){
+	    final WorldObject wo = (WorldObject)p;
+	    if(numMembers == members.length)
+		members = Arrays.copyOf(members, numMembers * 2);
+	    members[numMembers++] = wo;
+	    if(wo.isCollideable()){
+		if(numColliders == colliders.length){
+		    colliders         = Arrays.copyOf(colliders,         numColliders * 2);
+		    colliderBehaviors = Arrays.copyOf(colliderBehaviors, numColliders * 2);
+		}
+		colliderBehaviors[numColliders] = wo.getCollisionBehaviors();
+		colliders[numColliders++]       = wo;
+	    }
+	}//end for(contents)
+	memberEnd[slot]   = numMembers;
+	colliderEnd[slot] = numColliders;
+    }//end addCube(...)
+
+    private void ensureCubeCapacity(int capacity){
+	if(capacity <= cubeX.length)
+	    return;
+	final int newLength = Math.max(capacity, cubeX.length * 2);
+	cubeX         = Arrays.copyOf(cubeX,         newLength);
+	cubeY         = Arrays.copyOf(cubeY,         newLength);
+	cubeZ         = Arrays.copyOf(cubeZ,         newLength);
+	memberStart   = Arrays.copyOf(memberStart,   newLength);
+	memberEnd     = Arrays.copyOf(memberEnd,     newLength);
+	colliderStart = Arrays.copyOf(colliderStart, newLength);
+	colliderEnd   = Arrays.copyOf(colliderEnd,   newLength);
+	neighborSlots = Arrays.copyOf(neighborSlots, newLength * NUM_NEIGHBORS);
+	phaseSlots    = Arrays.copyOf(phaseSlots,    newLength);
+	candidateBits = Arrays.copyOf(candidateBits, newLength);
+    }//end ensureCubeCapacity(...)
+
+    /**
+     * Proposes collisions for every cube against itself and its forward neighbors, then
+     * for the 'everywhere' cube against all cubes.
+     *
+     * @since Oct 18, 2026
+     */
+    void sweep(){
+	for(int slot = 0; slot < numCubes; slot++){
+	    if(slot == everywhereSlot)
+		continue;
+	    processCubes(slot, slot);
+	    processNeighbors(slot);
+	}//end for(cubes)
+	sweepEverywhere();
+    }//end sweep()
+
+    /**
+     * Equivalent to {@link #sweep()} but runs the narrow phase of all non-'everywhere' cubes on the
+     * supplied pool first. Collision callbacks are only invoked from the calling thread.
+     * @param pool
+     * @since Oct 18, 2026
+     */
+    void parallelSweep(ForkJoinPool pool){
+	//Bucket home cubes by coordinate parity; the last bucket holds neighborhoods which wrap around
+	final int seamColor = NUM_COLORS;
+	Arrays.fill(phaseStart, 0);
+	for(int slot = 0; slot < numCubes; slot++)
+	    if(slot != everywhereSlot)
+		phaseStart[colorOf(slot) + 1]++;
+	for(int color = 0; color <= seamColor; color++)
+	    phaseStart[color + 1] += phaseStart[color];
+	System.arraycopy(phaseStart, 0, phaseFill, 0, phaseFill.length);
+	for(int slot = 0; slot < numCubes; slot++)
+	    if(slot != everywhereSlot)
+		phaseSlots[phaseFill[colorOf(slot)]++] = slot;
+	//Narrow phase, one parity color at a time
+	for(int color = 0; color < seamColor; color++)
+	    if(phaseStart[color] != phaseStart[color + 1])
+		pool.invoke(new NarrowPhaseTask(phaseStart[color], phaseStart[color + 1]));
+	for(int i = phaseStart[seamColor]; i < phaseStart[seamColor + 1]; i++)
+	    narrowPhase(phaseSlots[i]);
+	//Apply in sweep() order
+	for(int slot = 0; slot < numCubes; slot++)
+	    if(slot != everywhereSlot)
+		applyNeighborhood(slot);
+	sweepEverywhere();
+    }//end parallelSweep(...)
+
+    /**
+     * @return The parity color of the given home cube, or {@link #NUM_COLORS} if its neighborhood
+     * wraps around the world edge.
+     */
+    private int colorOf(int slot){
+	final int x = cubeX[slot], y = cubeY[slot], z = cubeZ[slot];
+	if(incLoop(x) < x || incLoop(y) < y || incLoop(z) < z)
+	    return NUM_COLORS;
+	return (x & 1) | (y & 1) << 1 | (z & 1) << 2;
+    }//end colorOf(...)
+
+    private final class NarrowPhaseTask extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final int start, end;
+
+	NarrowPhaseTask(int start, int end){
+	    this.start = start;
+	    this.end   = end;
+	}
+
+	@Override
+	protected void compute() {
+	    if(end - start <= NARROW_PHASE_GRAIN){
+		for(int i = start; i < end; i++)
+		    narrowPhase(phaseSlots[i]);
+	    }else{
+		final int mid = (start + end) >>> 1;
+		invokeAll(new NarrowPhaseTask(start, mid), new NarrowPhaseTask(mid, end));
+	    }
+	}//end compute()
+    }//end NarrowPhaseTask
+
+    /**
+     * Records which of the given home cube's pairs pass the narrow phase, walking them in the same
+     * order as {@link #processNeighbors(int)}. Only writes state owned by this slot.
+     */
+    private void narrowPhase(int slot){
+	final int x = cubeX[slot], y = cubeY[slot], z = cubeZ[slot];
+	final int x1 = incLoop(x), y1 = incLoop(y), z1 = incLoop(z);
+	final int n = slot * NUM_NEIGHBORS;
+	neighborSlots[n    ] = cubeSlots.get(CubeCoordinate.pack(x,  y,  z1));
+	neighborSlots[n + 1] = cubeSlots.get(CubeCoordinate.pack(x1, y,  z ));
+	neighborSlots[n + 2] = cubeSlots.get(CubeCoordinate.pack(x1, y,  z1));
+	neighborSlots[n + 3] = cubeSlots.get(CubeCoordinate.pack(x,  y1, z1));
+	neighborSlots[n + 4] = cubeSlots.get(CubeCoordinate.pack(x1, y1, z ));
+	neighborSlots[n + 5] = cubeSlots.get(CubeCoordinate.pack(x1, y1, z1));
+	long numPairs = numPairs(slot, slot);
+	for(int k = 0; k < NUM_NEIGHBORS; k++){
+	    final int other = neighborSlots[n + k];
+	    if(other != NONE)
+		numPairs += numPairs(slot, other) + numPairs(other, slot);
+	}//end for(neighbors)
+	final int numWords = (int)((numPairs + 63) >>> 6);
+	long [] bits = candidateBits[slot];
+	if(bits == null || bits.length < numWords)
+	    candidateBits[slot] = bits = new long[Math.max(numWords, bits == null?0:bits.length * 2)];
+	else
+	    Arrays.fill(bits, 0, numWords, 0L);
+	long cursor = filterCubes(slot, slot, bits, 0);
+	for(int k = 0; k < NUM_NEIGHBORS; k++){
+	    final int other = neighborSlots[n + k];
+	    if(other == NONE)
+		continue;
+	    cursor = filterCubes(slot,  other, bits, cursor);
+	    cursor = filterCubes(other, slot,  bits, cursor);
+	}//end for(neighbors)
+    }//end narrowPhase(...)
+
+    private long numPairs(int leftSlot, int rightSlot){
+	return (long)(colliderEnd[leftSlot] - colliderStart[leftSlot]) * (memberEnd[rightSlot] - memberStart[rightSlot]);
+    }
+
+    private long filterCubes(int leftSlot, int rightSlot, long [] bits, long cursor){
+	final WorldObject [] colliders = this.colliders, members = this.members;
+	final int lEnd = colliderEnd[leftSlot], rStart = memberStart[rightSlot], rEnd = memberEnd[rightSlot];
+	for(int l = colliderStart[leftSlot]; l < lEnd; l++){
+	    final WorldObject left = colliders[l];
+	    final CollisionBehavior [] behaviors = colliderBehaviors[l];
+	    for(int r = rStart; r < rEnd; r++, cursor++){
+		final WorldObject right = members[r];
+		if(left != right && isCollisionCandidate(behaviors, right))
+		    bits[(int)(cursor >>> 6)] |= 1L << cursor;
+	    }//end for(right)
+	}//end for(left)
+	return cursor;
+    }//end filterCubes(...)
+
+    private static boolean isCollisionCandidate(CollisionBehavior [] behaviors, WorldObject other){
+	for(int i = 0; i < behaviors.length; i++){
+	    final CollisionBehavior behavior = behaviors[i];
+	    if(!(behavior instanceof CollisionCandidateFilter) ||
+		    ((CollisionCandidateFilter)behavior).isCollisionCandidate(other))
+		return true;
+	}
+	return false;
+    }//end isCollisionCandidate(...)
+
+    private void applyNeighborhood(int slot){
+	final long [] bits = candidateBits[slot];
+	final int n = slot * NUM_NEIGHBORS;
+	long cursor = applyCubes(slot, slot, bits, 0);
+	for(int k = 0; k < NUM_NEIGHBORS; k++){
+	    final int other = neighborSlots[n + k];
+	    if(other == NONE)
+		continue;
+	    cursor = applyCubes(slot,  other, bits, cursor);
+	    cursor = applyCubes(other, slot,  bits, cursor);
+	}//end for(neighbors)
+    }//end applyNeighborhood(...)
+
+    private long applyCubes(int leftSlot, int rightSlot, long [] bits, long cursor){
+	final WorldObject [] colliders = this.colliders, members = this.members;
+	final int lEnd = colliderEnd[leftSlot], rStart = memberStart[rightSlot], rEnd = memberEnd[rightSlot];
+	for(int l = colliderStart[leftSlot]; l < lEnd; l++){
+	    final WorldObject left = colliders[l];
+	    final CollisionBehavior [] behaviors = colliderBehaviors[l];
+	    for(int r = rStart; r < rEnd; r++, cursor++){
+		final WorldObject right = members[r];
+		if(left != right && left.isActive() && right.isActive() &&
+			((bits[(int)(cursor >>> 6)] & 1L << cursor) != 0 || left.getCollisionBehaviors() != behaviors)){
+		    left.proposeCollision(right);
+		    proposalCount++;
+		}
+	    }//end for(right)
+	}//end for(left)
+	return cursor;
+    }//end applyCubes(...)
+
+    private void sweepEverywhere(){
+	if(everywhereSlot != NONE){
+	    processCubes(everywhereSlot, everywhereSlot);
+	    for(int slot = 0; slot < numCubes; slot++){
+		if(slot == everywhereSlot)
+		    continue;
+		processCubes(everywhereSlot, slot);
+		processCubes(slot, everywhereSlot);
+	    }//end for(cubes)
+	}//end if(everywhere)
+    }//end sweepEverywhere()
+
+    private void processNeighbors(int slot){
+	final int x = cubeX[slot], y = cubeY[slot], z = cubeZ[slot];
+	final int x1 = incLoop(x), y1 = incLoop(y), z1 = incLoop(z);
+	bidiProcessCubes(slot, x,  y,  z1);
+	bidiProcessCubes(slot, x1, y,  z );
+	bidiProcessCubes(slot, x1, y,  z1);
+	//// Y+1
+	bidiProcessCubes(slot, x,  y1, z1);
+	bidiProcessCubes(slot, x1, y1, z );
+	bidiProcessCubes(slot, x1, y1, z1);
+    }//end processNeighbors(...)
+
+    private void bidiProcessCubes(int slot, int x, int y, int z){
+	final int other = cubeSlots.get(CubeCoordinate.pack(x, y, z));
+	if(other == NONE)
+	    return;
+	processCubes(slot, other);
+	processCubes(other, slot);
+    }//end bidiProcessCubes(...)
+
+    private void processCubes(int leftSlot, int rightSlot){
+	final WorldObject [] colliders = this.colliders, members = this.members;
+	final int lEnd = colliderEnd[leftSlot], rStart = memberStart[rightSlot], rEnd = memberEnd[rightSlot];
+	for(int l = colliderStart[leftSlot]; l < lEnd; l++){
+	    final WorldObject left = colliders[l];
+	    for(int r = rStart; r < rEnd; r++){
+		final WorldObject right = members[r];
+		if(left != right && left.isActive() && right.isActive()){
+		    left.proposeCollision(right);
+		    proposalCount++;
+		}
+	    }//end for(right)
+	}//end for(left)
+    }//end processCubes(...)
+
+    private int incLoop(int coord){
+	coord++;
+	while(coord >= rolloverPoint)
+	    coord -= worldWidthCubes;
+	return coord;
+    }//end incLoop(...)
+
+    /**
+     * Drops all references held from the last snapshot while retaining the scratch storage.
+     *
+     * @since Oct 18, 2026
+     */
+    void clear(){
+	Arrays.fill(members,   0, numMembers,   null);
+	Arrays.fill(colliders, 0, numColliders, null);
+	Arrays.fill(colliderBehaviors, 0, numColliders, null);
+	cubeSlots.clear();
+	numCubes = numMembers = numColliders = 0;
+	everywhereSlot = NONE;
+    }//end clear()
+
+    int getNumCubes(){
+	return numCubes;
+    }
+
+    int getNumMembers(){
+	return numMembers;
+    }
+
+    int getNumColliders(){
+	return numColliders;
+    }
+
+    /**
+     * @return Cumulative number of proposeCollision calls issued by this broad phase.
+     * @since Oct 18, 2026
+     */
+    long getProposalCount(){
+	return proposalCount;
+    }
+}//end CollisionBroadPhase
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jtrfp.trcl.World;
 import org.jtrfp.trcl.coll.CollectionActionDispatcher;
@@ -38,12 +39,49 @@ public class CollisionManager {
 	     new ConsolidatingCollectionActionPacker<Positionable, CubeCoordinate>(relevancePairs);
     private final HashMap<CubeCoordinate,Collection<Positionable>>                        pairBuffer     = new HashMap<CubeCoordinate,Collection<Positionable>>();
     private final ArrayDeque<Collection<Positionable>>                              collectionPool = new ArrayDeque<Collection<Positionable>>();
+    private final CollisionBroadPhase                                                broadPhase     = new CollisionBroadPhase();
+    private volatile boolean                                                         legacyBroadPhase = false;
+    private volatile boolean                                                         parallelNarrowPhase = false;
     
     public CollisionManager(TR tr) {
 	this.tr = tr;
     }
     
     public void newPerformCollisionTests(){
+	performCollisionTests(tr.getThreadManager().gameStateLock);
+    }//end newPerformCollisionTests()
+    
+    /**
+     * Runs one collision pass over the current relevance pairs, sweeping under the supplied lock.
+     * Exposed for drivers which own their own game state lock, i.e. headless simulation.
+     * @param gameStateLock
+     * @since Oct 18, 2026
+     */
+    public void performCollisionTests(Object gameStateLock){
+	if(isLegacyBroadPhase())
+	    legacyPerformCollisionTests(gameStateLock);
+	else
+	    broadPhasePerformCollisionTests(gameStateLock);
+    }//end performCollisionTests(...)
+    
+    private void broadPhasePerformCollisionTests(Object gameStateLock){
+	//Snapshot on the relevance thread into the broad phase's scratch arrays
+	try{World.relevanceExecutor.submit(new Callable<Void>(){
+	    @Override
+	    public Void call() throws Exception {
+		for(Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>> relevancePair:relevancePairs)
+		    broadPhase.addCube(relevancePair.getKey(), relevancePair.getValue());
+		return null;
+	    }}).get();}catch(Exception e){e.printStackTrace();}
+	try{synchronized(gameStateLock){
+	    if(isParallelNarrowPhase())
+		broadPhase.parallelSweep(ForkJoinPool.commonPool());
+	    else
+		broadPhase.sweep();
+	}}finally{broadPhase.clear();}
+    }//end broadPhasePerformCollisionTests(...)
+    
+    private void legacyPerformCollisionTests(Object gameStateLock){
 	//Obtain a thread-local copy
 	try{World.relevanceExecutor.submit(new Callable<Void>(){
 	    @Override
@@ -56,7 +94,7 @@ public class CollisionManager {
 	    }}).get();}catch(Exception e){e.printStackTrace();}
 	//Process non-everywhere cubes
 	Entry<CubeCoordinate,Collection<Positionable>> everywhere=null;
-	synchronized(tr.getThreadManager().gameStateLock){//Process cubes
+	synchronized(gameStateLock){//Process cubes
 	    for(Entry<CubeCoordinate,Collection<Positionable>> cube:pairBuffer.entrySet()){
 		 CubeCoordinate orig = cube.getKey();
 		if(!World.RELEVANT_EVERYWHERE.equals(orig)){
@@ -77,7 +115,7 @@ public class CollisionManager {
 				everywhere.getKey());
 		    }//end EVERYWHERE
 	    }//end for(relevanceCubes)
-	}if(everywhere!=null){synchronized(tr.getThreadManager().gameStateLock){//Process "everywhere" items.
+	}if(everywhere!=null){synchronized(gameStateLock){//Process "everywhere" items.
 	    final boolean wasPresent = pairBuffer.remove(everywhere.getKey()) != null;
 	    assert wasPresent;
 	    assert !pairBuffer.containsKey(everywhere.getKey());
@@ -92,7 +130,7 @@ public class CollisionManager {
 	    col.clear();
 	    collectionPool.add(col);
 	}pairBuffer.clear();
-    }//end newPerformCollisionTests()
+    }//end legacyPerformCollisionTests()
     
     private void processNeighbors(CubeCoordinate orig, Collection<Positionable> thisCube){
 	int x=orig.getX(), y=orig.getY(), z=orig.getZ();
@@ -163,4 +201,34 @@ public class CollisionManager {
     public Collection<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> getInputRelevancePairCollection() {
         return inputRelevancePairCollection;
     }
+
+    /**
+     * @return true if the original HashMap-based all-pairs sweep is used instead of the {@link CollisionBroadPhase}.
+     */
+    public boolean isLegacyBroadPhase() {
+        return legacyBroadPhase;
+    }
+
+    /**
+     * @param legacyBroadPhase true to use the original HashMap-based all-pairs sweep, false for the {@link CollisionBroadPhase}.
+     */
+    public void setLegacyBroadPhase(boolean legacyBroadPhase) {
+        this.legacyBroadPhase = legacyBroadPhase;
+    }
+
+    /**
+     * @return true if the collision narrow phase runs on the common fork-join pool before callbacks are applied in serial order.
+     */
+    public boolean isParallelNarrowPhase() {
+        return parallelNarrowPhase;
+    }
+
+    /**
+     * Has no effect while the legacy broad phase is in use.
+     * @param parallelNarrowPhase true to run the collision narrow phase on the common fork-join pool.
+     */
+    public void setParallelNarrowPhase(boolean parallelNarrowPhase) {
+        this.parallelNarrowPhase = parallelNarrowPhase;
+    }
+
 }// end CollisionManager
@@ -16,7 +16,7 @@ package org.jtrfp.trcl.obj;
 import java.util.concurrent.Executor;
 
 import org.jtrfp.trcl.beh.Behavior;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.beh.NAVTargetableBehavior;
 import org.jtrfp.trcl.beh.TerrainLocked;
 import org.jtrfp.trcl.core.Features;
@@ -53,8 +53,13 @@ public interface FinishingRunState extends Mission.GameplayState{}
 	addBehavior(new TerrainLocked());
     }//end setObjectiveToRemove(...)
     
-    private class JumpzoneBehavior extends Behavior implements CollisionBehavior, NAVTargetableBehavior{
+    private class JumpzoneBehavior extends Behavior implements CollisionCandidateFilter, NAVTargetableBehavior{
 	boolean navTargeted;
+	@Override
+	public boolean isCollisionCandidate(WorldObject other){
+	    return other instanceof Player;
+	}
+
 	@Override
 	public void proposeCollision(WorldObject other){
 	    if(other instanceof Player){
@@ -53,6 +53,7 @@ public class ObjectSystem extends RenderableSpacePartitioningGrid {
 		lvlFile.getPowerupPlacementFile());
 	final DEFObjectPlacer defPlacer = getDefPlacer();
 	defPlacer.setDefData(defFile);
+	defPlacer.setDefFileName(lvlFile.getEnemyDefinitionAndPlacementFile());
 	defPlacer.setHeadingOverride(getHeadingOverride());
 	defPlacer.setPositionOffset(getPositionOffset());
 	defPlacer.setTargetGrid(this);
@@ -12,6 +12,10 @@
  ******************************************************************************/
 package org.jtrfp.trcl.obj;
 
+/**
+ * Receives position changes without an event object. Called on the moving thread with the mover's lock held,
+ * so implementations must be brief and must not block.
+ */
 public interface PositionListener {
-    public void positionChanged(PositionListenable objectWithPosition, double [] oldPos, double [] newPos);
+    public void positionChanged(PositionListenable objectWithPosition, double x, double y, double z);
 }
@@ -17,7 +17,7 @@ import java.util.Arrays;
 
 import org.jtrfp.trcl.beh.Behavior;
 import org.jtrfp.trcl.beh.Cloakable;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.beh.DamageableBehavior;
 import org.jtrfp.trcl.beh.DamageableBehavior.SupplyNotNeededException;
 import org.jtrfp.trcl.beh.FacingObject;
@@ -55,7 +55,12 @@ public class PowerupObject extends WorldObject{
 		powerupSound=tr.getResourceManager().soundTextures.get("POWER-1.WAV");
 		}//end constructor
 
-	private class PowerupBehavior extends Behavior implements CollisionBehavior{
+	private class PowerupBehavior extends Behavior implements CollisionCandidateFilter{
+		@Override
+		public boolean isCollisionCandidate(WorldObject other){
+			return other instanceof Player;
+		}
+
 		@Override
 		public void proposeCollision(WorldObject other){
 			if(TRFactory.twosComplementDistance(other.getPosition(), getPosition())<CollisionManager.SHIP_COLLISION_DISTANCE)
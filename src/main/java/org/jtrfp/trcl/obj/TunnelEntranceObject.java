@@ -18,7 +18,7 @@ import java.beans.PropertyChangeListener;
 
 import org.jtrfp.trcl.Tunnel;
 import org.jtrfp.trcl.beh.Behavior;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFactory.TR;
@@ -69,7 +69,12 @@ public class TunnelEntranceObject extends BillboardSprite {
 	}	catch(Exception e){e.printStackTrace();}
     }//end constructor
     
-    public class TunnelEntranceBehavior extends Behavior implements CollisionBehavior{
+    public class TunnelEntranceBehavior extends Behavior implements CollisionCandidateFilter{
+	@Override
+	public boolean isCollisionCandidate(WorldObject other) {
+	    return false;
+	}
+
 	@Override
 	public void proposeCollision(WorldObject other) {}
 	}//end TunnelEntranceBehavior
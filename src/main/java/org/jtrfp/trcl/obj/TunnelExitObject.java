@@ -23,7 +23,7 @@ import org.jtrfp.trcl.World;
 import org.jtrfp.trcl.beh.Behavior;
 import org.jtrfp.trcl.beh.CollidesWithTerrain;
 import org.jtrfp.trcl.beh.CollidesWithTunnelWalls;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.beh.DamageableBehavior;
 import org.jtrfp.trcl.beh.LoopingPositionBehavior;
 import org.jtrfp.trcl.beh.NAVTargetableBehavior;
@@ -95,8 +95,13 @@ public class TunnelExitObject extends PortalEntrance {
     }//end constructor
 
     private class TunnelExitBehavior extends Behavior implements
-	    CollisionBehavior, NAVTargetableBehavior {
+	    CollisionCandidateFilter, NAVTargetableBehavior {
 	private boolean navTargeted=false;
+	@Override
+	public boolean isCollisionCandidate(WorldObject other) {
+	    return other instanceof Player;
+	}
+
 	@Override
 	public void proposeCollision(WorldObject other) {
 	    final TR tr = getTr();
@@ -129,6 +134,7 @@ public class TunnelExitObject extends PortalEntrance {
 			other.setPosition(teo.getPortalExit().getControlledPosition());
 			other.setHeadingArray(teo.getPortalExit().getControlledHeading());
 			other.setTopArray(teo.getPortalExit().getControlledTop());
+			other.snapSimulationState();
 			other.notifyPositionChange();
 		    World.relevanceExecutor.submit(new Runnable(){
 			@Override
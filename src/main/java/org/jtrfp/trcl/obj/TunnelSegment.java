@@ -17,7 +17,7 @@ import org.jtrfp.trcl.Controller;
 import org.jtrfp.trcl.RenderMode;
 import org.jtrfp.trcl.Triangle;
 import org.jtrfp.trcl.beh.Behavior;
-import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFactory.TR;
 import org.jtrfp.trcl.file.TNLFile.Segment;
@@ -50,7 +50,12 @@ public class TunnelSegment extends WorldObject {
     }
 
     private static class TunnelSegmentBehavior extends Behavior implements
-	    CollisionBehavior {
+	    CollisionCandidateFilter {
+
+	@Override
+	public boolean isCollisionCandidate(WorldObject other) {
+	    return false;
+	}
 
 	@Override
 	public void proposeCollision(WorldObject other) {//DUMMY
@@ -21,36 +21,35 @@ import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.jtrfp.trcl.MatrixWindow;
 import org.jtrfp.trcl.ObjectDefinitionWindow;
 import org.jtrfp.trcl.PrimitiveList;
 import org.jtrfp.trcl.SpacePartitioningGrid;
+import org.jtrfp.trcl.TransformTable;
 import org.jtrfp.trcl.Submitter;
 import org.jtrfp.trcl.WeakPropertyChangeSupport;
 import org.jtrfp.trcl.beh.Behavior;
 import org.jtrfp.trcl.beh.BehaviorNotFoundException;
 import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.ThreadSafeLocalBehavior;
 import org.jtrfp.trcl.coll.CollectionActionDispatcher;
 import org.jtrfp.trcl.coll.PropertyListenable;
 import org.jtrfp.trcl.core.Features;
 import org.jtrfp.trcl.core.NotReadyException;
+import org.jtrfp.trcl.core.ThreadManager;
 import org.jtrfp.trcl.core.TRFactory;
 import org.jtrfp.trcl.core.TRFactory.TR;
 import org.jtrfp.trcl.ext.tr.GPUFactory.GPUFeature;
 import org.jtrfp.trcl.gpu.GL33Model;
 import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gpu.Renderer;
-import org.jtrfp.trcl.math.Mat4x4;
-import org.jtrfp.trcl.math.Vect3D;
-import org.jtrfp.trcl.math.Vect3D.ZeroNormException;
 import org.jtrfp.trcl.mem.VEC4Address;
 import org.jtrfp.trcl.tools.Util;
 
 import lombok.AllArgsConstructor;
 
-public class WorldObject implements PositionedRenderable, PropertyListenable, Rotatable {
+public class WorldObject implements PositionedRenderable, PositionListenable, PropertyListenable, Rotatable {
     public static final String HEADING       = "heading";
     public static final String HEADING_ARRAY = "headingArray";
     public static final String TOP           = "top";
@@ -64,9 +63,11 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
     private double[] 	top 	= new double[] { 0, 1, 0 }, oldTop    = new double[] {Double.NEGATIVE_INFINITY,Double.NEGATIVE_INFINITY,Double.NEGATIVE_INFINITY};
     protected volatile double[] 
 	    position = new double[3], 
-	    positionAfterLoop = new double[3],
+	    interpolatedPosition = new double[3],
 	    oldPosition = new double[]{Double.NEGATIVE_INFINITY,Double.NEGATIVE_INFINITY,Double.NEGATIVE_INFINITY};
-    private boolean loopedBefore = false;
+    private final double [] simulatedPositionBefore = new double[3];
+    private long            simulatedStateStep      = ThreadManager.NO_INTERPOLATION_STEP;
+    private boolean interpolatedLastFrame = false;
     protected double[]  modelOffset= new double[3];
     private final double[]positionWithOffset 
     				= new double[3];
@@ -90,17 +91,11 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
     //private boolean                     objectDefsInitialized = false;
     private boolean                     inGrid = false;
 
-    protected final double[] aX 	= new double[3];
-    protected final double[] aY 	= new double[3];
-    protected final double[] aZ 	= new double[3];
-    protected final double[] rotTransM 	= new double[16];
-    protected final double[] camM 	= new double[16];
-    protected final double[] rMd 	= new double[16];
-    protected final double[] tMd 	= new double[16];
-    protected 	    double[] cMd 	= new double[16];
     private boolean respondToTick	= true;
     private double scale                = 1.;
     private final ReentrantLock         lock = new ReentrantLock();
+    private volatile Thread             notificationDeferringThread;
+    private boolean                     positionNotificationPending, headingNotificationPending, topNotificationPending;
     private String debugName            = "[unnamed]";
     
     //Cache
@@ -118,6 +113,8 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
     private final AtomicReference<ObjectDefinitionWindow> objectDefinitionWindow = new AtomicReference<>();
     
     protected final WeakPropertyChangeSupport pcs = new WeakPropertyChangeSupport(new PropertyChangeSupport(this));
+    private static final PositionListenerReference [] NO_POSITION_LISTENERS = new PositionListenerReference[0];
+    private volatile PositionListenerReference [] positionListeners = NO_POSITION_LISTENERS;
 
     private final CleaningAction cleaningAction;
     //private TRFutureTask<Void> objectDefinitionsFuture;
@@ -134,8 +131,11 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	public void run() {
 	    System.out.println("WorldObject cleaning action...");
 	    //final TR tr = getTr();
-	    if(matrixID!=null)
-		gpu.get().matrixWindow.get().freeLater(matrixID.get());
+	    final Integer id = matrixID.get();
+	    if(id!=null){
+		gpu.get().getTransformTable().release(id);
+		gpu.get().matrixWindow.get().freeLater(id);
+	    }
 	    if(transparentTriangleObjectDefinitions!=null)
 		for(int def:transparentTriangleObjectDefinitions.get())
 		    objectDefinitionWindow.get().freeLater(def);
@@ -159,14 +159,6 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
     };
     
     public WorldObject(){
-	// Matrix constants setup
-	rMd[15] = 1;
-
-	tMd[0] = 1;
-	tMd[5] = 1;
-	tMd[10] = 1;
-	tMd[15] = 1;
-	
 	cleaningAction = new CleaningAction(matrixID, gpu, transparentTriangleObjectDefinitions, triangleObjectDefinitions, objectDefinitionWindow);
 	Util.CLEANER.register(this, cleaningAction);
 	//Keep because of race condition of multiple threads grabbing multiple IDs; 
@@ -185,7 +177,16 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	    collisionBehaviors[i].proposeCollision(other);
     }// end proposeCollision(...)
 
-    
+    /**
+     * @return The currently enabled collision behaviors. The array is replaced rather than modified
+     * when behaviors are added, enabled or disabled.
+     * @since Oct 18, 2026
+     */
+    CollisionBehavior [] getCollisionBehaviors() {
+	return collisionBehaviors;
+    }
+
+
     public boolean isCollideable(){
 	return collisionBehaviors.length!=0;
     }
@@ -299,6 +300,63 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	//}//end sync(tickBehaviors)
     }// end tick(...)
     
+    /**
+     * Ticks only this object's {@link ThreadSafeLocalBehavior}s. May be called concurrently with
+     * other objects' ticks. Together with {@link #tickWorldMutating(long)} this is equivalent to {@link #tick(long)},
+     * whose behavior order is unspecified.
+     * @param time
+     * @since Oct 18, 2026
+     */
+    public void tickLocal(long time) {
+	if(!respondToTick)return;
+	final Behavior [] tickBehaviors = this.tickBehaviors;
+	//Listeners may reach other objects; hold their notifications until tickWorldMutating
+	notificationDeferringThread = Thread.currentThread();
+	try{
+	    for (int i = 0; i < tickBehaviors.length && isActive(); i++)
+		if(tickBehaviors[i] instanceof ThreadSafeLocalBehavior)
+		    tickBehaviors[i].proposeTick(time);
+	}finally{notificationDeferringThread = null;}
+    }// end tickLocal(...)
+    
+    /**
+     * Ticks all of this object's behaviors which are not {@link ThreadSafeLocalBehavior}s. Must be
+     * called serially with respect to all other world state. Position, heading and top notifications
+     * held back during {@link #tickLocal(long)} are fired first.
+     * @param time
+     * @since Oct 18, 2026
+     */
+    public void tickWorldMutating(long time) {
+	fireDeferredNotifications();
+	if(!respondToTick)return;
+	final Behavior [] tickBehaviors = this.tickBehaviors;
+	for (int i = 0; i < tickBehaviors.length && isActive(); i++)
+	    if(!(tickBehaviors[i] instanceof ThreadSafeLocalBehavior))
+		tickBehaviors[i].proposeTick(time);
+    }// end tickWorldMutating(...)
+    
+    private boolean isDeferringNotifications(){
+	return notificationDeferringThread == Thread.currentThread();
+    }
+    
+    private void fireDeferredNotifications(){
+	lock.lock();
+	try{
+	    if(positionNotificationPending){
+		positionNotificationPending = false;
+		firePositionChange();
+	    }
+	    if(headingNotificationPending){
+		headingNotificationPending = false;
+		pcs.firePropertyChange(HEADING, oldHeading, new Vector3D(heading));
+	    }
+	    if(topNotificationPending){
+		topNotificationPending = false;
+		pcs.firePropertyChange(TOP, oldTop, new Vector3D(top));
+	    }
+	}finally{lock.unlock();}
+    }//end fireDeferredNotifications()
+    
     private final int [] emptyIntArray = new int[0];
     
     public void setModel(GL33Model m) {
@@ -451,125 +509,99 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	if(!lock.tryLock())
 	    throw new NotReadyException();
 	try{
-	    //initializeObjectDefinitions();
-	    System.arraycopy(position, 0, positionAfterLoop, 0, 3);
-	    attemptLoop(renderer);
-	    if(needToRecalcMatrix){
+	    final TransformTable transforms = renderer.getTransformTable();
+	    getInterpolatedPosition(renderer.getInterpolationAlpha(), renderer.getInterpolationStep(), interpolatedPosition);
+	    final boolean interpolating = 
+		    interpolatedPosition[0] != position[0] || 
+		    interpolatedPosition[1] != position[1] || 
+		    interpolatedPosition[2] != position[2];
+	    if(interpolating || interpolatedLastFrame)
+		needToRecalcMatrix = true;
+	    interpolatedLastFrame = interpolating;
+	    final int matrixID = getMatrixID();
+	    if(needToRecalcMatrix || !transforms.touch(matrixID)){
 		needToRecalcMatrix=recalcMatrixWithEachFrame();
-		recalculateTransRotMBuffer(mwContext);
+		prepareTransform();
+		stageTransform(transforms, matrixID);
 	    }
 	    if(model!=null)getModelRealtime().proposeAnimationUpdate();
 	}finally{lock.unlock();}
     }//end updateStateToGPU()
     
+    /**
+     * Called just before this object's transform is staged for a matrix rebuild, to bring heading, top or
+     * position up to date.
+     * @since Oct 18, 2026
+     */
+    protected void prepareTransform(){}
+    
+    private void stageTransform(TransformTable transforms, int matrixID){
+	byte flags = 0;
+	if(isVisible() && isActive())
+	    flags |= TransformTable.FLAG_VISIBLE;
+	if(translate())
+	    flags |= TransformTable.FLAG_TRANSLATE;
+	if(supportsLoop())
+	    flags |= TransformTable.FLAG_LOOP;
+	transforms.stage(matrixID, interpolatedPosition, heading, top, modelOffset, getScale(), flags);
+    }//end stageTransform(...)
+    
     public boolean supportsLoop(){
 	return true;
     }
     
-    protected void attemptLoop(Renderer renderer){
-	if (supportsLoop()) {
-	    boolean change = false;
-	    final Vector3D camPos = renderer.getCamera().getCameraPosition();
-	    final double [] delta = new double[]{
-		    positionAfterLoop[0] - camPos.getX(), 
-		    positionAfterLoop[1] - camPos.getY(), 
-		    positionAfterLoop[2] - camPos.getZ()};
-	    if (delta[0] > TRFactory.mapWidth / 2.) {
-		positionAfterLoop[0] -= TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    } else if (delta[0] < -TRFactory.mapWidth / 2.) {
-		positionAfterLoop[0] += TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    }
-	    if (delta[1] > TRFactory.mapWidth / 2.) {
-		positionAfterLoop[1] -= TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    } else if (delta[1] < -TRFactory.mapWidth / 2.) {
-		positionAfterLoop[1] += TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    }
-	    if (delta[2] > TRFactory.mapWidth / 2.) {
-		positionAfterLoop[2] -= TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    } else if (delta[2] < -TRFactory.mapWidth / 2.) {
-		positionAfterLoop[2] += TRFactory.mapWidth;
-		change = true;
-		needToRecalcMatrix=true;
-	    }
-	    if(change){
-		needToRecalcMatrix = true;
-		loopedBefore = true;
-	    }else{
-		if(loopedBefore)
-		    needToRecalcMatrix = true;
-		loopedBefore = false;
-	    }
-	}//end if(LOOP)
-    }//end attemptLoop()
-
-    protected void recalculateTransRotMBuffer(MatrixWindow matrixWindow) {
-	try {
-	    if(!isVisible() || !isActive()){
-		matrixWindow.matrix.set(getMatrixID(), invisibleMatrixArray);
-		return;
-	    }
-	    Vect3D.normalize(heading, aZ);
-	    Vect3D.normalize(top,aY);
-	    Vect3D.cross(top, aZ, aX);
-	    
-	    recalculateRotBuffer();
-	    if (translate()) {
-		recalculateTransBuffer();
-		Mat4x4.mul(tMd, rMd, rotTransM);
-	    } else {
-		System.arraycopy(rMd, 0, rotTransM, 0, 16);
-	    }
-	    matrixWindow.
-	     setTransposed(rotTransM, getMatrixID(), scratchMatrixArray);//New version
-	} catch (MathArithmeticException e) {e.printStackTrace();}// Don't crash.
-	  catch (ZeroNormException e) {e.printStackTrace();}
-    }// end recalculateTransRotMBuffer()
+    /**
+     * Records the current position as the state preceding the given fixed simulation step,
+     * to be interpolated from when rendering.
+     * @param step The simulation step about to be simulated.
+     * @since Oct 18, 2026
+     */
+    public void captureSimulationState(long step){
+	System.arraycopy(position, 0, simulatedPositionBefore, 0, 3);
+	simulatedStateStep = step;
+    }
     
-    protected void recalculateRotBuffer(){
-	//Scale
-	Vect3D.scalarMultiply(aX, getScale(), aX);
-	Vect3D.scalarMultiply(aY, getScale(), aY);
-	Vect3D.scalarMultiply(aZ, getScale(), aZ);
-
-	rMd[0] = aX[0];
-	rMd[1] = aY[0];
-	rMd[2] = aZ[0];
-
-	rMd[4] = aX[1];
-	rMd[5] = aY[1];
-	rMd[6] = aZ[1];
-
-	rMd[8] = aX[2];
-	rMd[9] = aY[2];
-	rMd[10] = aZ[2];
-    }//end recalculateRotBuffer
+    /**
+     * Discards the captured interpolation state so that this object is drawn at its current position
+     * until the next capture. Call after moving it discontinuously, i.e. on spawn or teleport.
+     * @since Oct 18, 2026
+     */
+    public void snapSimulationState(){
+	simulatedStateStep = ThreadManager.NO_INTERPOLATION_STEP;
+    }
+    
+    /**
+     * @return true if this object has no interpolation state for the current simulation step, i.e. it was
+     * snapped or has not been captured yet.
+     * @since Oct 18, 2026
+     */
+    public boolean isSimulationStateSnapped(){
+	return simulatedStateStep == ThreadManager.NO_INTERPOLATION_STEP;
+    }
     
-    protected void recalculateTransBuffer(){
-	if(isVisible() && isActive()){
-	    tMd[3] = positionAfterLoop[0]+modelOffset[0];
-	    tMd[7] = positionAfterLoop[1]+modelOffset[1];
-	    tMd[11]= positionAfterLoop[2]+modelOffset[2];
+    /**
+     * Interpolates between the position captured before the most recent simulation step and the current position,
+     * taking the shortest path across the world's rollover boundary. Objects whose state was not captured during
+     * the given step, such as those which just spawned, teleported or came into view, are not interpolated.
+     * @param alpha Fraction of a step elapsed since the most recent step, [0,1]
+     * @param step The most recent simulation step, as sampled along with alpha.
+     * @param dest Array into which to write the result.
+     * @return dest
+     * @since Oct 18, 2026
+     */
+    public double [] getInterpolatedPosition(double alpha, long step, double [] dest){
+	final double [] position = this.position;
+	if(alpha >= 1 || step != simulatedStateStep){
+	    System.arraycopy(position, 0, dest, 0, 3);
+	    return dest;
+	}
+	for(int i = 0; i < 3; i++){
+	    final double delta = TRFactory.deltaRollover(position[i] - simulatedPositionBefore[i]);
+	    dest[i] = position[i] - delta * (1. - alpha);
 	}
-    }//end recalculateTransBuffer()
+	return dest;
+    }//end getInterpolatedPosition(...)
     
-    protected final double [] scratchMatrixArray = new double[16];
-    protected final double [] invisibleMatrixArray = new double[] {
-	    Double.NaN,Double.NaN,Double.NaN,Double.NaN,
-	    Double.NaN,Double.NaN,Double.NaN,Double.NaN,
-	    Double.NaN,Double.NaN,Double.NaN,Double.NaN,
-	    Double.NaN,Double.NaN,Double.NaN,Double.NaN
-    };
-
     protected boolean translate() {
 	return true;
     }
@@ -620,13 +652,48 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	try{
 	    if(position[0]==Double.NaN)
 		throw new RuntimeException("Invalid position.");
-	    pcs.firePropertyChange(POSITION, oldPosition, position);
 	    needToRecalcMatrix=true;
-	    updateOldPosition();
+	    if(isDeferringNotifications())
+		positionNotificationPending = true;
+	    else
+		firePositionChange();
 	}finally{lock.unlock();}
 	return this;
     }//end notifyPositionChange()
     
+    private void firePositionChange(){
+	final PositionListenerReference [] positionListeners = this.positionListeners;
+	if(positionListeners.length != 0){
+	    final double x = position[0], y = position[1], z = position[2];
+	    boolean stale = false;
+	    for(PositionListenerReference reference:positionListeners){
+		final PositionListener listener = reference.get();
+		if(listener != null)
+		    listener.positionChanged(this, x, y, z);
+		else
+		    stale = true;
+	    }
+	    if(stale)
+		removeStalePositionListeners();
+	}
+	if(pcs.hasListeners(POSITION))//Spare the event when nobody's listening
+	    pcs.firePropertyChange(POSITION, oldPosition, position);
+	updateOldPosition();
+    }//end firePositionChange()
+    
+    private void removeStalePositionListeners(){
+	lock.lock();
+	try{
+	    final PositionListenerReference [] oldListeners = positionListeners;
+	    final PositionListenerReference [] newListeners = new PositionListenerReference[oldListeners.length];
+	    int numLive = 0;
+	    for(PositionListenerReference reference:oldListeners)
+		if(reference.get() != null)
+		    newListeners[numLive++] = reference;
+	    positionListeners = numLive == 0?NO_POSITION_LISTENERS:Arrays.copyOf(newListeners, numLive);
+	}finally{lock.unlock();}
+    }//end removeStalePositionListeners()
+    
     private void updateOldPosition(){
 	System.arraycopy(position, 0, oldPosition, 0, 3);
     }
@@ -647,11 +714,15 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	    throw new IllegalArgumentException("Cannot apply zero-norm vector to heading.");
 	lock.lock();
 	try{
-	    System.arraycopy(heading, 0, oldHeading, 0, 3);
+	    if(!headingNotificationPending)
+		System.arraycopy(heading, 0, oldHeading, 0, 3);
 	    heading[0] = nHeading.getX();
 	    heading[1] = nHeading.getY();
 	    heading[2] = nHeading.getZ();
-	    pcs.firePropertyChange(HEADING, oldHeading, nHeading);
+	    if(isDeferringNotifications())
+		headingNotificationPending = true;
+	    else
+		pcs.firePropertyChange(HEADING, oldHeading, nHeading);
 	    needToRecalcMatrix=true;
 	}finally{lock.unlock();}
     }
@@ -678,11 +749,15 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	    throw new IllegalArgumentException("Cannot apply zero-norm vector to top.");
 	lock.lock();
 	try{
-	    System.arraycopy(top, 0, oldTop, 0, 3);
+	    if(!topNotificationPending)
+		System.arraycopy(top, 0, oldTop, 0, 3);
 	    top[0] = nTop.getX();
 	    top[1] = nTop.getY();
 	    top[2] = nTop.getZ();
-	    pcs.firePropertyChange(TOP, oldTop, nTop);
+	    if(isDeferringNotifications())
+		topNotificationPending = true;
+	    else
+		pcs.firePropertyChange(TOP, oldTop, nTop);
 	    needToRecalcMatrix=true;
 	}finally{lock.unlock();}
     }//end setTop(...)
@@ -766,6 +841,8 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	final boolean oldState = this.active;
 	if(this.active!=active)
 	    needToRecalcMatrix=true;
+	if(!oldState && active)//Reused objects must not be interpolated from wherever they were last
+	    snapSimulationState();
 	if(!this.active && active && isVisible()){
 	    this.active=true;
 	}
@@ -1015,6 +1092,50 @@ public class WorldObject implements PositionedRenderable, PropertyListenable, Ro
 	pcs.removePropertyChangeListener(propertyName, listener);
     }
 
+    /**
+     * Adds a listener notified of each position change with the new coordinates, without an event object.
+     * Like property change listeners, position listeners are held weakly; the caller must keep the listener
+     * reachable for as long as it wants to be notified. Collected listeners are dropped on the next notification.
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void addPositionListener(PositionListener listenerToAdd) {
+	if(listenerToAdd == null)
+	    throw new NullPointerException("Listener intolerably null.");
+	lock.lock();
+	try{
+	    final PositionListenerReference [] oldListeners = positionListeners;
+	    final PositionListenerReference [] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+	    newListeners[oldListeners.length] = new PositionListenerReference(listenerToAdd);
+	    positionListeners = newListeners;
+	}finally{lock.unlock();}
+    }//end addPositionListener(...)
+
+    /**
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void removePositionListener(PositionListener listenerToRemove) {
+	lock.lock();
+	try{
+	    final PositionListenerReference [] oldListeners = positionListeners;
+	    for(int i = 0; i < oldListeners.length; i++)
+		if(oldListeners[i].get() == listenerToRemove){
+		    final PositionListenerReference [] newListeners = new PositionListenerReference[oldListeners.length - 1];
+		    System.arraycopy(oldListeners, 0, newListeners, 0, i);
+		    System.arraycopy(oldListeners, i + 1, newListeners, i, newListeners.length - i);
+		    positionListeners = newListeners.length == 0?NO_POSITION_LISTENERS:newListeners;
+		    return;
+		}
+	}finally{lock.unlock();}
+    }//end removePositionListener(...)
+    
+    private static final class PositionListenerReference extends WeakReference<PositionListener> {
+	PositionListenerReference(PositionListener referent){
+	    super(referent);
+	}
+    }//end PositionListenerReference
+
     public boolean hasBehavior(Class<? extends Behavior> behaviorClass) {
 	try{probeForBehavior(behaviorClass);}
 	catch(BehaviorNotFoundException e){return false;}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.pool;
+
+/**
+ * Word-at-a-time search for runs of set bits in a bitset, shared by the bitmap index pools.
+ * A run in progress is packed into a long as (start &lt;&lt; 32 | length) so that it can be carried
+ * from one word to the next without allocation.
+ * @author Chuck Ritola
+ *
+ */
+
+final class BitRuns {
+    static final long NO_RUN = 0;
+
+    private BitRuns(){}
+
+    /**
+     * Continues a run of set bits through one 64-bit word, bit 0 being the lowest index.
+     * Costs O(log length) per word rather than a pass per bit.
+     * @param bits The word, with free positions set.
+     * @param wordIndex Index of the word within the bitset.
+     * @param run The run carried over from the previous word, or {@link #NO_RUN}.
+     * @param length The desired run length.
+     * @return A run of at least <tt>length</tt> if one was completed in this word, else the run
+     * of set bits at the top of this word to be carried into the next.
+     * @since Oct 18, 2026
+     */
+    static long accumulate(long bits, int wordIndex, long run, int length){
+	if(bits == -1L)//Whole word free
+	    return length(run) == 0?pack(wordIndex << 6, 64):pack(start(run), length(run) + 64);
+	if(bits == 0)
+	    return NO_RUN;
+	if(length(run) > 0){//Carried run continues through the low bits
+	    final int low = Long.numberOfTrailingZeros(~bits);
+	    if(length(run) + low >= length)
+		return pack(start(run), length(run) + low);
+	}
+	if(length <= 64){//Run wholly within this word
+	    final long starts = runStarts(bits, length);
+	    if(starts != 0)
+		return pack((wordIndex << 6) + Long.numberOfTrailingZeros(starts), length);
+	}
+	final int high = Long.numberOfLeadingZeros(~bits);
+	return high == 0?NO_RUN:pack((wordIndex << 6) + 64 - high, high);
+    }//end accumulate(...)
+
+    /**
+     * @return Word with bit i set iff bits i through i+length-1 of <tt>bits</tt> are all set.
+     */
+    static long runStarts(long bits, int length){
+	int have = 1;
+	while(have < length && bits != 0){
+	    final int shift = Math.min(have, length - have);
+	    bits &= bits >>> shift;
+	    have += shift;
+	}
+	return bits;
+    }//end runStarts(...)
+
+    static long pack(int start, int length){
+	return ((long)start << 32) | (length & 0xFFFFFFFFL);
+    }
+
+    static int start(long run){
+	return (int)(run >>> 32);
+    }
+
+    static int length(long run){
+	return (int)run;
+    }
+}//end BitRuns
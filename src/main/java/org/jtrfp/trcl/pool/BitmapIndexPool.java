@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.pool;
+
+import java.beans.PropertyChangeSupport;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Drop-in {@link IndexPool} backed by a two-level bitset instead of a pair of boxed priority queues.
+ * One bit per index below the high-water mark records whether it has been freed; a summary word
+ * records which of those words have any free bits, so pop and free are O(1) amortized and allocate
+ * nothing. Freed indices are reused lowest-first, as with {@link IndexPool}.
+ * {@link #popConsecutive(int)} reuses free runs, found word-at-a-time, before extending the pool.<br><br>
+ * Unlike {@link IndexPool}, {@link #getFreeIndices()} and {@link #getUsedIndices()} return snapshots.
+ * See {@link ConcurrentIndexBitmap} for a lock-free counterpart.
+ * @author Chuck Ritola
+ *
+ */
+
+public class BitmapIndexPool extends IndexPool {
+    private long [] freeBits = new long[1];
+    private long [] summary  = new long[1];
+    private int     summaryHint;//No free bits in summary words below this
+    private int     waiters;
+    private volatile int highWater, numFree, maxCapacity;
+    private volatile int hardLimit = Integer.MAX_VALUE;
+    private volatile GrowthBehavior growthBehavior = new GrowthBehavior(){
+	@Override
+	public int grow(int previousMaxCapacity){
+	    return previousMaxCapacity == 0?1:previousMaxCapacity*2;
+	}
+	@Override
+	public int shrink(int minDesiredCapacity){
+	    return minDesiredCapacity;
+	}};//Default is to double each time, and shrink to exact minimum.
+
+    public BitmapIndexPool(){
+	super(false);
+    }
+
+    @Override
+    public synchronized int pop(){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	while(numFree == 0 && highWater >= hardLimit){
+	    waiters++;
+	    try{wait();}
+	    catch(InterruptedException e){
+		e.printStackTrace();
+		return -1;
+	    }finally{waiters--;}
+	}//end while(exhausted)
+	final int result = innerPop();
+	fireCountChanges(oldUsed, oldFree);
+	return result;
+    }//end pop()
+
+    @Override
+    public synchronized int popOrException() throws OutOfIndicesException{
+	if(numFree == 0 && highWater >= hardLimit)
+	    throw new OutOfIndicesException();
+	return pop();
+    }
+
+    private int innerPop(){
+	if(numFree > 0)
+	    return popFree();
+	ensureMaxCapacity(highWater + 1);
+	return highWater++;
+    }//end innerPop()
+
+    @Override
+    public synchronized int popFreeBelow(int limit){
+	if(numFree == 0)
+	    return -1;
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	final int result = popFree();
+	if(result >= limit){
+	    innerFree(result);
+	    return -1;
+	}
+	fireCountChanges(oldUsed, oldFree);
+	return result;
+    }//end popFreeBelow(...)
+
+    private int popFree(){
+	int s = summaryHint;
+	while(summary[s] == 0)
+	    s++;
+	summaryHint = s;
+	final int w    = (s << 6) + Long.numberOfTrailingZeros(summary[s]);
+	final long word = freeBits[w];
+	freeBits[w] = word & (word - 1);
+	if(freeBits[w] == 0)
+	    summary[s] &= ~(1L << w);
+	numFree--;
+	return (w << 6) + Long.numberOfTrailingZeros(word);
+    }//end popFree()
+
+    private void ensureMaxCapacity(int minCapacity){
+	while(maxCapacity < minCapacity){
+	    final int origMaxCapacity = maxCapacity;
+	    maxCapacity = growthBehavior.grow(maxCapacity);
+	    if(maxCapacity <= origMaxCapacity)
+		throw new RuntimeException("GrowthBehavior will not grow past "+origMaxCapacity);
+	}
+	final int numWords = (minCapacity + 63) >>> 6;
+	if(numWords > freeBits.length){
+	    freeBits = Arrays.copyOf(freeBits, Math.max(numWords, freeBits.length * 2));
+	    summary  = Arrays.copyOf(summary, (freeBits.length + 63) >>> 6);
+	}
+    }//end ensureMaxCapacity(...)
+
+    /**
+     * Pops up to <tt>count</tt> indices into <tt>dest</tt> without boxing.
+     * @return Number of indices popped; less than <tt>count</tt> only if the hard limit was reached.
+     * @since Oct 18, 2026
+     */
+    public synchronized int pop(int [] dest, int offset, int count){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	int i = 0;
+	for(; i < count && numFree > 0; i++)
+	    dest[offset + i] = popFree();
+	final int fresh = Math.min(count - i, hardLimit - highWater);
+	if(fresh > 0){
+	    ensureMaxCapacity(highWater + fresh);
+	    for(int n = 0; n < fresh; n++)
+		dest[offset + i++] = highWater++;
+	}
+	fireCountChanges(oldUsed, oldFree);
+	return i;
+    }//end pop(...)
+
+    @Override
+    public synchronized int pop(Collection<Integer> dest, int count){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	for(; count > 0 && numFree > 0; count--)
+	    dest.add(popFree());
+	if(count > 0 && highWater + count <= hardLimit){
+	    ensureMaxCapacity(highWater + count);
+	    for(; count > 0; count--)
+		dest.add(highWater++);
+	}
+	fireCountChanges(oldUsed, oldFree);
+	return count;
+    }//end pop(...)
+
+    @Override
+    public synchronized void popOrException(Collection<Integer> dest, int count) throws OutOfIndicesException{
+	if(count > numFree && highWater + (count - numFree) > hardLimit)
+	    throw new OutOfIndicesException();
+	pop(dest, count);
+    }
+
+    /**
+     * Pops a run of consecutive indices, reusing the lowest free run if one is long enough,
+     * else extending the pool, absorbing any free run at its end.
+     * @return The first index of the run, or -1 if the hard limit would be exceeded.
+     */
+    @Override
+    public synchronized int popConsecutive(int numNewItems){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	final int numWords = (highWater + 63) >>> 6;
+	long run = BitRuns.NO_RUN;
+	for(int w = 0; w < numWords; w++){
+	    long bits = freeBits[w];
+	    if(w == numWords - 1 && (highWater & 63) != 0)
+		bits |= -1L << (highWater & 63);//Positions past the high-water mark are available too
+	    run = BitRuns.accumulate(bits, w, run, numNewItems);
+	    if(BitRuns.length(run) >= numNewItems)
+		break;
+	}
+	final int start = BitRuns.length(run) > 0?BitRuns.start(run):highWater;
+	final int end   = start + numNewItems;
+	if(end > hardLimit)
+	    return -1;
+	clearFree(start, Math.min(end, highWater));
+	if(end > highWater){
+	    ensureMaxCapacity(end);
+	    highWater = end;
+	}
+	fireCountChanges(oldUsed, oldFree);
+	return start;
+    }//end popConsecutive(...)
+
+    private void clearFree(int from, int to){
+	for(int i = from; i < to;){
+	    final int w = i >>> 6, bit = i & 63;
+	    final int n = Math.min(64 - bit, to - i);
+	    final long mask = (n == 64?-1L:((1L << n) - 1)) << bit;
+	    numFree -= Long.bitCount(freeBits[w] & mask);
+	    freeBits[w] &= ~mask;
+	    if(freeBits[w] == 0)
+		summary[w >>> 6] &= ~(1L << w);
+	    i += n;
+	}
+    }//end clearFree(...)
+
+    @Override
+    public synchronized int free(int index){
+	if(index < 0)
+	    throw new IllegalArgumentException("Index is intolerably negative: "+index);
+	if(isFree(index))
+	    throw new IllegalArgumentException("Double-release of resources: "+index);
+	if(index >= highWater)
+	    throw new IllegalArgumentException("Cannot free an index which is not in use: "+index);
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	innerFree(index);
+	fireCountChanges(oldUsed, oldFree);
+	return index;
+    }//end free(...)
+
+    private void innerFree(int index){
+	final int w = index >>> 6, s = w >>> 6;
+	freeBits[w] |= 1L << index;
+	summary[s]  |= 1L << w;
+	if(s < summaryHint)
+	    summaryHint = s;
+	numFree++;
+    }//end innerFree(...)
+
+    /**
+     * Frees the in-use indices among those specified, skipping any which are not in use.
+     */
+    @Override
+    public synchronized void free(Collection<Integer> indicesToFree){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	for(int index:indicesToFree)
+	    if(isUsed(index))
+		innerFree(index);
+	fireCountChanges(oldUsed, oldFree);
+    }//end free(...)
+
+    /**
+     * Frees the in-use indices among those specified, skipping any which are not in use.
+     * @since Oct 18, 2026
+     */
+    public synchronized void free(int [] indicesToFree, int offset, int count){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	for(int i = offset; i < offset + count; i++)
+	    if(isUsed(indicesToFree[i]))
+		innerFree(indicesToFree[i]);
+	fireCountChanges(oldUsed, oldFree);
+    }//end free(...)
+
+    @Override
+    public synchronized void freeAll(){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	final int numWords = (highWater + 63) >>> 6;
+	for(int w = 0; w < numWords; w++){
+	    final long mask = (w == numWords - 1 && (highWater & 63) != 0)?(1L << (highWater & 63)) - 1:-1L;
+	    numFree += Long.bitCount(mask & ~freeBits[w]);
+	    freeBits[w] |= mask;
+	    summary[w >>> 6] |= 1L << w;
+	}
+	summaryHint = 0;
+	fireCountChanges(oldUsed, oldFree);
+    }//end freeAll()
+
+    @Override
+    public synchronized int compact(){
+	final int oldUsed = getNumUsedIndices(), oldFree = numFree;
+	final int greatestUsed = getGreatestUsedIndex();
+	final int removalTally  = highWater - (greatestUsed + 1);
+	clearFree(greatestUsed + 1, highWater);
+	highWater   = greatestUsed + 1;
+	maxCapacity = growthBehavior.shrink(highWater);
+	fireCountChanges(oldUsed, oldFree);
+	return removalTally;
+    }//end compact()
+
+    private int getGreatestUsedIndex(){
+	for(int w = ((highWater + 63) >>> 6) - 1; w >= 0; w--){
+	    long used = ~freeBits[w];
+	    if(w == (highWater - 1) >>> 6 && (highWater & 63) != 0)
+		used &= (1L << (highWater & 63)) - 1;
+	    if(used != 0)
+		return (w << 6) + 63 - Long.numberOfLeadingZeros(used);
+	}
+	return -1;
+    }//end getGreatestUsedIndex()
+
+    private boolean isFree(int index){
+	return index < highWater && (freeBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public synchronized boolean isUsed(int index){
+	return index >= 0 && index < highWater && !isFree(index);
+    }
+
+    private void fireCountChanges(int oldUsed, int oldFree){
+	final PropertyChangeSupport pcs = getPropertyChangeSupport();
+	if(oldFree != numFree && pcs.hasListeners(NUM_UNUSED_INDICES))
+	    pcs.firePropertyChange(NUM_UNUSED_INDICES, oldFree, numFree);
+	final int numUsed = getNumUsedIndices();
+	if(oldUsed != numUsed && pcs.hasListeners(NUM_USED_INDICES))
+	    pcs.firePropertyChange(NUM_USED_INDICES, oldUsed, numUsed);
+	if(waiters > 0 && numFree > 0)
+	    notifyAll();
+    }//end fireCountChanges(...)
+
+    /**
+     * @return A snapshot of the free indices below the high-water mark.
+     */
+    @Override
+    public synchronized PriorityBlockingQueue<Integer> getFreeIndices(){
+	final PriorityBlockingQueue<Integer> result = new PriorityBlockingQueue<Integer>(Math.max(1, numFree));
+	for(int i = 0; i < highWater; i++)
+	    if(isFree(i))
+		result.add(i);
+	return result;
+    }//end getFreeIndices()
+
+    /**
+     * @return A snapshot of the used indices.
+     */
+    @Override
+    public synchronized PriorityBlockingQueue<Integer> getUsedIndices(){
+	final PriorityBlockingQueue<Integer> result = new PriorityBlockingQueue<Integer>(Math.max(1, getNumUsedIndices()));
+	for(int i = 0; i < highWater; i++)
+	    if(!isFree(i))
+		result.add(i);
+	return result;
+    }//end getUsedIndices()
+
+    @Override
+    public void setGrowthBehavior(GrowthBehavior gb){
+	growthBehavior = gb;
+    }
+
+    @Override
+    public int getMaxCapacity(){
+	return maxCapacity;
+    }
+
+    @Override
+    public int getHardLimit(){
+	return hardLimit;
+    }
+
+    @Override
+    public BitmapIndexPool setHardLimit(int hardLimit){
+	this.hardLimit = hardLimit;
+	return this;
+    }
+
+    @Override
+    public int getNumUnusedIndices(){
+	return numFree;
+    }
+
+    @Override
+    public int getNumUsedIndices(){
+	return highWater - numFree;
+    }
+}//end BitmapIndexPool
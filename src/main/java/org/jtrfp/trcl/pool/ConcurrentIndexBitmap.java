@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.pool;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jtrfp.trcl.pool.IndexPool.GrowthBehavior;
+
+/**
+ * Lock-free pool of int indices backed by a segmented bitset, one bit per index, set when in use.
+ * Popping and freeing are single compare-and-set operations on a 64-bit word; only growth and
+ * shrinking take this object's monitor. Segments are only ever appended so readers never observe
+ * a reallocated bitset.<br><br>
+ * Pops favor low indices: the search starts at a hint word which frees pull downward, but under
+ * contention the lowest free index is not guaranteed. Growth and shrinking follow an
+ * {@link IndexPool.GrowthBehavior} and the hard limit, as with {@link IndexPool}.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class ConcurrentIndexBitmap {
+    private static final int WORDS_PER_SEGMENT_LOG2 = 6, WORDS_PER_SEGMENT = 1 << WORDS_PER_SEGMENT_LOG2;
+    private static final int BITS_PER_SEGMENT = WORDS_PER_SEGMENT * 64;
+    private static final long FULL = -1L;
+    private volatile AtomicLongArray [] segments = new AtomicLongArray[0];
+    private volatile int capacity = 0;
+    private final AtomicInteger numUsed    = new AtomicInteger();
+    private final AtomicInteger searchHint = new AtomicInteger();//In words
+    private volatile GrowthBehavior growthBehavior = new GrowthBehavior(){
+	@Override
+	public int grow(int previousMaxCapacity){
+	    return previousMaxCapacity == 0?1:previousMaxCapacity*2;
+	}
+	@Override
+	public int shrink(int minDesiredCapacity){
+	    return minDesiredCapacity;
+	}};
+    private volatile int hardLimit = Integer.MAX_VALUE;
+
+    /**
+     * Claims a free index, growing if none is available.
+     * @return The claimed index, or -1 if the hard limit has been reached.
+     * @since Oct 18, 2026
+     */
+    public int pop(){
+	while(true){
+	    final int result = tryPop();
+	    if(result != -1)
+		return result;
+	    if(!grow())
+		return -1;
+	}
+    }//end pop()
+
+    /**
+     * Claims up to <tt>count</tt> free indices, growing as needed, writing them to <tt>dest</tt>.
+     * Whole words are claimed per compare-and-set so a batch costs roughly one atomic operation per 64 indices.
+     * @return Number of indices claimed; less than <tt>count</tt> only if the hard limit has been reached.
+     * @since Oct 18, 2026
+     */
+    public int pop(int [] dest, int offset, int count){
+	int claimed = 0;
+	while(claimed < count){
+	    final int n = tryPop(dest, offset + claimed, count - claimed);
+	    claimed += n;
+	    if(n == 0 && !grow())
+		break;
+	}
+	return claimed;
+    }//end pop(...)
+
+    /**
+     * Claims a free index without growing.
+     * @return The claimed index, or -1 if none is free within the current capacity.
+     * @since Oct 18, 2026
+     */
+    public int tryPop(){
+	final int capacity = this.capacity;
+	final AtomicLongArray [] segments = this.segments;
+	final int numWords = (capacity + 63) >>> 6;
+	if(numWords == 0)
+	    return -1;
+	int start = searchHint.get();
+	if(start >= numWords)
+	    start = 0;
+	for(int n = 0; n < numWords; n++){
+	    int w = start + n;
+	    if(w >= numWords)
+		w -= numWords;
+	    final AtomicLongArray segment = segments[w >>> WORDS_PER_SEGMENT_LOG2];
+	    final int wordIndex = w & (WORDS_PER_SEGMENT - 1);
+	    long word;
+	    while((word = segment.get(wordIndex)) != FULL){
+		final int bit   = Long.numberOfTrailingZeros(~word);
+		final int index = (w << 6) + bit;
+		if(index >= capacity)
+		    break;
+		if(segment.compareAndSet(wordIndex, word, word | (1L << bit))){
+		    if(index >= this.capacity){//Lost a race with a shrink
+			release(segment, wordIndex, 1L << bit);
+			return -1;
+		    }
+		    numUsed.incrementAndGet();
+		    if(w != start)
+			searchHint.set(w);
+		    return index;
+		}
+	    }//end while(!full)
+	}//end for(words)
+	return -1;
+    }//end tryPop()
+
+    private int tryPop(int [] dest, int offset, int count){
+	final int capacity = this.capacity;
+	final AtomicLongArray [] segments = this.segments;
+	final int numWords = (capacity + 63) >>> 6;
+	if(numWords == 0)
+	    return 0;
+	int claimed = 0;
+	int start = searchHint.get();
+	if(start >= numWords)
+	    start = 0;
+	for(int n = 0; n < numWords && claimed < count; n++){
+	    int w = start + n;
+	    if(w >= numWords)
+		w -= numWords;
+	    final AtomicLongArray segment = segments[w >>> WORDS_PER_SEGMENT_LOG2];
+	    final int wordIndex = w & (WORDS_PER_SEGMENT - 1);
+	    long word;
+	    while(claimed < count && (word = segment.get(wordIndex)) != FULL){
+		long free  = ~word & validBits(w, capacity);
+		long claim = 0;
+		for(int c = claimed; c < count && free != 0; c++){
+		    final long lowest = free & -free;
+		    claim |= lowest;
+		    free  ^= lowest;
+		}
+		if(claim == 0)
+		    break;
+		if(segment.compareAndSet(wordIndex, word, word | claim)){
+		    if(((w + 1) << 6) > this.capacity && (claim & ~validBits(w, this.capacity)) != 0){//Lost a race with a shrink
+			release(segment, wordIndex, claim);
+			numUsed.addAndGet(claimed);//Keep those claimed from earlier words
+			return claimed;
+		    }
+		    final int base = w << 6;
+		    while(claim != 0){
+			dest[offset + claimed++] = base + Long.numberOfTrailingZeros(claim);
+			claim &= claim - 1;
+		    }
+		    searchHint.set(w);
+		}
+	    }//end while(!full)
+	}//end for(words)
+	numUsed.addAndGet(claimed);
+	return claimed;
+    }//end tryPop(...)
+
+    private static long validBits(int word, int capacity){
+	final int remaining = capacity - (word << 6);
+	return remaining >= 64?FULL:(1L << remaining) - 1;
+    }
+
+    private static void release(AtomicLongArray segment, int wordIndex, long mask){
+	long word;
+	do word = segment.get(wordIndex);
+	while(!segment.compareAndSet(wordIndex, word, word & ~mask));
+    }
+
+    /**
+     * Claims a run of consecutive free indices, found word-at-a-time, growing if no run is long enough.
+     * Each word of the run is claimed by compare-and-set; if another thread takes part of the run first,
+     * the words already claimed are released and the search restarts.
+     * @return The first index of the run, or -1 if the hard limit has been reached.
+     * @since Oct 18, 2026
+     */
+    public int popConsecutive(int length){
+	if(length == 1)
+	    return pop();
+	while(true){
+	    final int capacity = this.capacity;
+	    final AtomicLongArray [] segments = this.segments;
+	    final int numWords = (capacity + 63) >>> 6;
+	    long run = BitRuns.NO_RUN;
+	    for(int w = 0; w < numWords && BitRuns.length(run) < length; w++)
+		run = BitRuns.accumulate(~word(segments, w) & validBits(w, capacity), w, run, length);
+	    if(BitRuns.length(run) < length){
+		if(!growFor(capacity, capacity + length))
+		    return -1;
+		continue;
+	    }
+	    final int start = BitRuns.start(run), end = start + length;
+	    if(claimRange(segments, start, end)){
+		if(end > this.capacity){//Lost a race with a shrink
+		    releaseRange(segments, start, end);
+		    continue;
+		}
+		numUsed.addAndGet(length);
+		return start;
+	    }
+	}//end while(true)
+    }//end popConsecutive(...)
+
+    private static long word(AtomicLongArray [] segments, int w){
+	return segments[w >>> WORDS_PER_SEGMENT_LOG2].get(w & (WORDS_PER_SEGMENT - 1));
+    }
+
+    private static long rangeMask(int w, int from, int to){
+	final int lo = Math.max(from, w << 6) - (w << 6), hi = Math.min(to, (w + 1) << 6) - (w << 6);
+	return (hi - lo == 64?FULL:((1L << (hi - lo)) - 1)) << lo;
+    }
+
+    private static boolean claimRange(AtomicLongArray [] segments, int from, int to){
+	for(int w = from >>> 6; w <= (to - 1) >>> 6; w++){
+	    final AtomicLongArray segment = segments[w >>> WORDS_PER_SEGMENT_LOG2];
+	    final int wordIndex = w & (WORDS_PER_SEGMENT - 1);
+	    final long mask = rangeMask(w, from, to);
+	    long word;
+	    do{
+		word = segment.get(wordIndex);
+		if((word & mask) != 0){
+		    releaseRange(segments, from, Math.max(from, w << 6));
+		    return false;
+		}
+	    }while(!segment.compareAndSet(wordIndex, word, word | mask));
+	}//end for(words)
+	return true;
+    }//end claimRange(...)
+
+    private static void releaseRange(AtomicLongArray [] segments, int from, int to){
+	for(int w = from >>> 6; from < to && w <= (to - 1) >>> 6; w++)
+	    release(segments[w >>> WORDS_PER_SEGMENT_LOG2], w & (WORDS_PER_SEGMENT - 1), rangeMask(w, from, to));
+    }
+
+    /**
+     * Grows until the capacity is at least <tt>minCapacity</tt> or the hard limit is reached,
+     * unless another thread changed the capacity since it was observed.
+     * @return false if the hard limit had already been reached, else true.
+     */
+    private synchronized boolean growFor(int observedCapacity, int minCapacity){
+	int capacity = this.capacity;
+	if(capacity != observedCapacity)
+	    return true;
+	if(capacity >= hardLimit)
+	    return false;
+	while(capacity < minCapacity && capacity < hardLimit){
+	    final int newCapacity = Math.min(hardLimit, growthBehavior.grow(capacity));
+	    if(newCapacity <= capacity)
+		throw new IllegalStateException("GrowthBehavior failed to grow past "+capacity);
+	    capacity = newCapacity;
+	}
+	ensureSegments(capacity);
+	this.capacity = capacity;
+	return true;
+    }//end growFor(...)
+
+    /**
+     * Returns the specified index to the pool.
+     * @throws IllegalArgumentException if the index is negative or not in use.
+     * @since Oct 18, 2026
+     */
+    public int free(int index){
+	if(!tryFree(index))
+	    throw new IllegalArgumentException("Cannot free an index which is not in use: "+index);
+	return index;
+    }//end free(...)
+
+    /**
+     * Returns the specified index to the pool if it is in use.
+     * @return true if the index was in use and is now free, else false.
+     * @since Oct 18, 2026
+     */
+    public boolean tryFree(int index){
+	if(index < 0)
+	    return false;
+	final AtomicLongArray [] segments = this.segments;
+	final int w = index >>> 6;
+	if((w >>> WORDS_PER_SEGMENT_LOG2) >= segments.length)
+	    return false;
+	final AtomicLongArray segment = segments[w >>> WORDS_PER_SEGMENT_LOG2];
+	final int wordIndex = w & (WORDS_PER_SEGMENT - 1);
+	final long mask = 1L << index;
+	long word;
+	do{
+	    word = segment.get(wordIndex);
+	    if((word & mask) == 0)
+		return false;
+	}while(!segment.compareAndSet(wordIndex, word, word & ~mask));
+	numUsed.decrementAndGet();
+	int hint;
+	while(w < (hint = searchHint.get()) && !searchHint.compareAndSet(hint, w));
+	return true;
+    }//end tryFree(...)
+
+    /**
+     * Frees <tt>count</tt> indices from <tt>src</tt>, skipping any which are not in use.
+     * @return Number of indices actually freed.
+     * @since Oct 18, 2026
+     */
+    public int free(int [] src, int offset, int count){
+	int result = 0;
+	for(int i = offset; i < offset + count; i++)
+	    if(tryFree(src[i]))
+		result++;
+	return result;
+    }//end free(...)
+
+    public boolean isUsed(int index){
+	final AtomicLongArray [] segments = this.segments;
+	final int w = index >>> 6;
+	if(index < 0 || (w >>> WORDS_PER_SEGMENT_LOG2) >= segments.length)
+	    return false;
+	return (segments[w >>> WORDS_PER_SEGMENT_LOG2].get(w & (WORDS_PER_SEGMENT - 1)) & (1L << index)) != 0;
+    }
+
+    /**
+     * Grows per the GrowthBehavior unless another thread already made room.
+     * @return false if the hard limit has been reached, else true.
+     */
+    private synchronized boolean grow(){
+	final int capacity = this.capacity;
+	if(numUsed.get() < capacity)
+	    return true;//Something was freed or grown in the meantime; retry.
+	if(capacity >= hardLimit)
+	    return false;
+	final int newCapacity = Math.min(hardLimit, growthBehavior.grow(capacity));
+	if(newCapacity <= capacity)
+	    throw new IllegalStateException("GrowthBehavior failed to grow past "+capacity);
+	ensureSegments(newCapacity);
+	this.capacity = newCapacity;
+	return true;
+    }//end grow()
+
+    private void ensureSegments(int newCapacity){
+	final int numSegments = (newCapacity + BITS_PER_SEGMENT - 1) / BITS_PER_SEGMENT;
+	final AtomicLongArray [] oldSegments = segments;
+	if(numSegments <= oldSegments.length)
+	    return;
+	final AtomicLongArray [] newSegments = Arrays.copyOf(oldSegments, numSegments);
+	for(int i = oldSegments.length; i < numSegments; i++)
+	    newSegments[i] = new AtomicLongArray(WORDS_PER_SEGMENT);
+	segments = newSegments;
+    }//end ensureSegments(...)
+
+    /**
+     * Discards trailing free capacity past the highest used index, per the GrowthBehavior's shrink().
+     * This is not defragmentation.
+     * @return Number of indices removed from capacity.
+     * @since Oct 18, 2026
+     */
+    public synchronized int compact(){
+	final int oldCapacity = capacity;
+	final int target = getHighestUsedIndex() + 1;
+	if(target >= oldCapacity)
+	    return 0;
+	capacity = target;//Publish first so that no new pop lands past the target
+	if(getHighestUsedIndex() >= target){//A pop raced past the target before it was published
+	    capacity = oldCapacity;
+	    return 0;
+	}
+	final int newCapacity = Math.max(target, Math.min(oldCapacity, growthBehavior.shrink(target)));
+	capacity = newCapacity;
+	return oldCapacity - newCapacity;
+    }//end compact()
+
+    /**
+     * @return The highest index currently in use, or -1 if none.
+     * @since Oct 18, 2026
+     */
+    public int getHighestUsedIndex(){
+	final AtomicLongArray [] segments = this.segments;
+	for(int w = segments.length * WORDS_PER_SEGMENT - 1; w >= 0; w--){
+	    final long word = segments[w >>> WORDS_PER_SEGMENT_LOG2].get(w & (WORDS_PER_SEGMENT - 1));
+	    if(word != 0)
+		return (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+	}
+	return -1;
+    }//end getHighestUsedIndex()
+
+    public int getCapacity(){
+	return capacity;
+    }
+
+    public int getNumUsed(){
+	return numUsed.get();
+    }
+
+    public int getNumFree(){
+	return Math.max(0, capacity - numUsed.get());
+    }
+
+    public GrowthBehavior getGrowthBehavior(){
+	return growthBehavior;
+    }
+
+    public ConcurrentIndexBitmap setGrowthBehavior(GrowthBehavior growthBehavior){
+	this.growthBehavior = growthBehavior;
+	return this;
+    }
+
+    public int getHardLimit(){
+	return hardLimit;
+    }
+
+    public ConcurrentIndexBitmap setHardLimit(int hardLimit){
+	this.hardLimit = hardLimit;
+	return this;
+    }
+}//end ConcurrentIndexBitmap
@@ -27,9 +27,9 @@ public class IndexPool{
         	                       NUM_USED_INDICES   = "numUsedIndices";
     
 	private final PriorityBlockingQueue<Integer>
-	                                freeIndices     = new PriorityBlockingQueue<Integer>();
+	                                freeIndices;
 	private final PriorityBlockingQueue<Integer>
-                                        usedIndices     = new PriorityBlockingQueue<Integer>();
+                                        usedIndices;
 	private volatile int 		maxCapacity	= 0;
 	private volatile int 		highestIndex	= -1;
 	private volatile int            numUnusedIndices= 0;
@@ -42,9 +42,21 @@ public class IndexPool{
 	    };//Default is to double each time, and shrink to exact minimum.
 	private int hardLimit=Integer.MAX_VALUE;//Basically no hard limit by default
 	private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
-	private final ArrayList<Integer> workList = new ArrayList<Integer>();
+	private final ArrayList<Integer> workList;
 	
 	public IndexPool(){
+	    this(true);
+	}
+	
+	/**
+	 * @param trackIndices false to skip allocating this pool's index queues, for subclasses which keep
+	 * their own index state and override every public method touching it.
+	 * @since Oct 18, 2026
+	 */
+	protected IndexPool(boolean trackIndices){
+	    freeIndices = trackIndices?new PriorityBlockingQueue<Integer>():null;
+	    usedIndices = trackIndices?new PriorityBlockingQueue<Integer>():null;
+	    workList    = trackIndices?new ArrayList<Integer>():null;
 	}
 	
 	private void updateNumUnusedIndices(){
@@ -256,6 +268,23 @@ public class IndexPool{
 	    return freeIndices;
 	}
 	
+	/**
+	 * Pops the lowest free index if it is below the specified limit. Never grows the pool.
+	 * @param limit Exclusive upper bound on the returned index.
+	 * @return The popped index, or -1 if no free index is below the limit.
+	 * @since Oct 18, 2026
+	 */
+	public synchronized int popFreeBelow(int limit){
+	    final Integer lowest = freeIndices.peek();
+	    if(lowest == null || lowest >= limit)
+		return -1;
+	    freeIndices.poll();
+	    usedIndices.add(lowest);
+	    updateNumUnusedIndices();
+	    updateNumUsedIndices();
+	    return lowest;
+	}//end popFreeBelow(...)
+	
 	public PriorityBlockingQueue<Integer> getUsedIndices(){
 	    return usedIndices;
 	}
@@ -390,6 +419,13 @@ public class IndexPool{
 		PropertyChangeListener listener) {
 	    pcs.removePropertyChangeListener(propertyName, listener);
 	}
+	/**
+	 * For subclasses which maintain their own index counts and fire their own change events.
+	 * @since Oct 18, 2026
+	 */
+	protected final PropertyChangeSupport getPropertyChangeSupport() {
+	    return pcs;
+	}
 	/**
 	 * @return the numUnusedIndices
 	 */
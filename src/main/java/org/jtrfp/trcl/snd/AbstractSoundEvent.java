@@ -16,6 +16,8 @@
 
 package org.jtrfp.trcl.snd;
 
+import java.util.Collection;
+
 import org.jtrfp.trcl.core.TRFactory.TR;
 
 public abstract class AbstractSoundEvent implements SoundEvent {
@@ -76,6 +78,12 @@ public abstract class AbstractSoundEvent implements SoundEvent {
 	public TR getTR() {
 	    return tr;
 	}
+	
+	@Override
+	public void mix(SoftwareMixer mixer, Collection<SoundEvent> events, double bufferStartTimeSeconds){
+	    for(SoundEvent event:events)
+		event.mix(mixer, bufferStartTimeSeconds);
+	}//end mix(...)
     }//end Factory
 
     public boolean isActive(){
@@ -107,4 +115,8 @@ public abstract class AbstractSoundEvent implements SoundEvent {
 	return destroyed;
     }
     
+    public double getPriority(){
+	return 0;
+    }
+    
 }//end AbstractPlaybackEvent
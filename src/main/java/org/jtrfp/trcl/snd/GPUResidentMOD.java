@@ -191,4 +191,16 @@ public class GPUResidentMOD {//TODO: This class needs optimizing
     public double getSongLengthInRealtimeSeconds() {
 	return songLengthInSeconds;
     }
+
+    /**
+     * @return Bytes of texture memory held by this MOD's samples.
+     * @since Oct 18, 2026
+     */
+    public long getSizeInBytes(){
+	long result = 0;
+	for(SoundTexture sample : samples)
+	    if(sample != null)
+		result += (long)sample.getNumRows() * SoundTexture.ROW_LENGTH_SAMPLES * Float.BYTES;
+	return result;
+    }
 }//end MusicPlayer
@@ -55,6 +55,15 @@ public class LoopingSoundEvent extends AbstractSoundEvent implements RelevantEve
 */
     @Override
     public void apply(GL3 gl, final double bufferStartTimeSeconds) {// Non-blocking.
+	scheduleLoops(bufferStartTimeSeconds);
+    }//end apply()
+    
+    @Override
+    public void mix(SoftwareMixer mixer, double bufferStartTimeSeconds) {
+	scheduleLoops(bufferStartTimeSeconds);
+    }
+    
+    private void scheduleLoops(final double bufferStartTimeSeconds) {
 	if(lastApply!=null)
 	    if(!lastApply.isDone())
 		return;
@@ -82,7 +91,7 @@ public class LoopingSoundEvent extends AbstractSoundEvent implements RelevantEve
 		//return null;
 	     //}//end call()
 	    //});//end submit()
-    }//end apply()
+    }//end scheduleLoops()
     
     public static class Factory extends AbstractSoundEvent.Factory{
 
@@ -61,6 +61,15 @@ public class MusicPlaybackEvent extends AbstractSoundEvent implements RelevantEv
 
     @Override
     public void apply(GL3 gl, final double bufferStartTimeSeconds) {// Non-blocking.
+	scheduleSong(bufferStartTimeSeconds);
+    }//end apply()
+    
+    @Override
+    public void mix(SoftwareMixer mixer, double bufferStartTimeSeconds) {
+	scheduleSong(bufferStartTimeSeconds);
+    }
+    
+    private void scheduleSong(final double bufferStartTimeSeconds) {
 	if(lastApply!=null)
 	    if(!lastApply.isDone())
 		return;
@@ -77,7 +86,7 @@ public class MusicPlaybackEvent extends AbstractSoundEvent implements RelevantEv
 		return null;
 	     }//end call()
 	    });//end submit()
-    }//end apply()
+    }//end scheduleSong()
     
     public static class Factory extends AbstractSoundEvent.Factory{
 	private double modStereoWidth;
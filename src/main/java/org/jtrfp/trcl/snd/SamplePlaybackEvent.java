@@ -108,6 +108,21 @@ public class SamplePlaybackEvent extends AbstractSoundEvent {
 	gl.glDrawArrays(GL3.GL_LINE_STRIP, 0, lengthInSegments+1);
     }//end apply(...)
     
+    @Override
+    public void mix(SoftwareMixer mixer, double bufferStartTimeSeconds) {
+	final SamplePlaybackEvent.Factory origin = (SamplePlaybackEvent.Factory)getOrigin();
+	final double factoryVolume = origin.getVolume();
+	if( factoryVolume < getLowVolumeThreshold() )
+	    return;
+	final SoundTexture texture = getSoundTexture();
+	final float [] samples = texture.getSamples();
+	if( samples == null )
+	    return;//Still being read back from the GPU
+	mixer.mix(samples, SoundTexture.ROW_LENGTH_SAMPLES / texture.getLengthPerRowSeconds(),
+		getStartRealtimeSeconds(), getEndRealtimeSeconds(), getPlaybackRatio(),
+		getPan()[0]*factoryVolume, getPan()[1]*factoryVolume);
+    }//end mix(...)
+    
     public static class Factory extends AbstractSoundEvent.Factory{
 	private GLVertexShader   soundVertexShader;
 	private GLFragmentShader soundFragmentShader;//1 fragment = 1 frame
@@ -310,6 +325,15 @@ public class SamplePlaybackEvent extends AbstractSoundEvent {
 	}
     }//end Factory
 
+    /**
+     * @return The louder channel's volume.
+     */
+    @Override
+    public double getPriority() {
+	final double [] pan = getPan();
+	return Math.max(Math.abs(pan[0]), Math.abs(pan[1])) * ((Factory)getOrigin()).getVolume();
+    }
+
     /**
      * @return the playbackRatio
      */
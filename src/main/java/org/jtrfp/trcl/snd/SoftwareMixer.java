@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import java.util.Arrays;
+
+/**
+ * Mixes sample voices into an interleaved stereo float buffer on the CPU, as the sound shaders do on the GPU:
+ * each voice is resampled by its playback ratio, scaled by its left and right pan, and summed. Unlike the GPU
+ * a voice stops exactly at its end time rather than at the end of the buffer it ends in.<br><br>
+ * Not thread-safe; used by the sound thread only.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class SoftwareMixer {
+    private float [] buffer = new float[0];
+    private int      numFrames;
+    private double   frameRate, bufferStartTimeSeconds;
+    private boolean  linearFiltering = false;
+    private long     voicesMixed;
+
+    /**
+     * Clears the buffer for a new period.
+     * @param numFrames Stereo frames in this period.
+     * @param frameRate Output frames per second.
+     * @param bufferStartTimeSeconds Realtime of the period's first frame.
+     * @since Oct 18, 2026
+     */
+    public void begin(int numFrames, double frameRate, double bufferStartTimeSeconds){
+	if(buffer.length < numFrames * 2)
+	    buffer = new float[numFrames * 2];
+	else
+	    Arrays.fill(buffer, 0, numFrames * 2, 0f);
+	this.numFrames              = numFrames;
+	this.frameRate              = frameRate;
+	this.bufferStartTimeSeconds = bufferStartTimeSeconds;
+    }//end begin(...)
+
+    /**
+     * Adds one voice to the period begun by {@link #begin(int, double, double)}. Does nothing if it doesn't overlap it.
+     * @param samples Mono samples in [-1,1].
+     * @param sampleRate Samples per second at a playback ratio of one.
+     * @param startTimeSeconds Realtime of the voice's first sample.
+     * @param endTimeSeconds Realtime after which the voice is cut, if before its last sample.
+     * @param playbackRatio Speed at which the samples are read; 2 is an octave up.
+     * @since Oct 18, 2026
+     */
+    public void mix(float [] samples, double sampleRate, double startTimeSeconds, double endTimeSeconds,
+	    double playbackRatio, double panLeft, double panRight){
+	final double samplesPerSecond = sampleRate * playbackRatio;
+	if(samples.length == 0 || samplesPerSecond <= 0)
+	    return;
+	final double voiceEndSeconds = Math.min(endTimeSeconds, startTimeSeconds + samples.length / samplesPerSecond);
+	final int firstFrame = (int)Math.max(0, Math.ceil((startTimeSeconds - bufferStartTimeSeconds) * frameRate));
+	final int endFrame   = (int)Math.min(numFrames, Math.ceil((voiceEndSeconds - bufferStartTimeSeconds) * frameRate));
+	if(firstFrame >= endFrame)
+	    return;
+	final double samplesPerFrame = samplesPerSecond / frameRate;
+	final float  left = (float)panLeft, right = (float)panRight;
+	final int    lastSample = samples.length - 1;
+	final float [] buffer = this.buffer;
+	double position = (bufferStartTimeSeconds + firstFrame / frameRate - startTimeSeconds) * samplesPerSecond;
+	if(linearFiltering){
+	    //Frames whose both neighbors are in range, less one for rounding, without per-frame clamping
+	    final int interiorEnd = (int)Math.min(endFrame, firstFrame + Math.max(0, Math.ceil((lastSample - position) / samplesPerFrame) - 1));
+	    int frame = firstFrame;
+	    for(; frame < interiorEnd; frame++){
+		final int index = (int)position;
+		final float sample = samples[index] + (samples[index + 1] - samples[index]) * (float)(position - index);
+		buffer[frame * 2]     += sample * left;
+		buffer[frame * 2 + 1] += sample * right;
+		position += samplesPerFrame;
+	    }
+	    for(; frame < endFrame; frame++){
+		final int index = Math.min((int)position, lastSample);
+		final float fraction = (float)(position - index);
+		final float sample = index < lastSample?
+			samples[index] + (samples[index + 1] - samples[index]) * fraction:samples[lastSample];
+		buffer[frame * 2]     += sample * left;
+		buffer[frame * 2 + 1] += sample * right;
+		position += samplesPerFrame;
+	    }
+	} else {
+	    for(int frame = firstFrame; frame < endFrame; frame++){
+		final float sample = samples[Math.min((int)position, lastSample)];
+		buffer[frame * 2]     += sample * left;
+		buffer[frame * 2 + 1] += sample * right;
+		position += samplesPerFrame;
+	    }
+	}//end (nearest)
+	voicesMixed++;
+    }//end mix(...)
+
+    /**
+     * @return Interleaved left,right samples; only the first {@link #getNumFrames()}*2 belong to the current period.
+     * @since Oct 18, 2026
+     */
+    public float [] getBuffer(){
+	return buffer;
+    }
+
+    public int getNumFrames(){
+	return numFrames;
+    }
+
+    public double getBufferStartTimeSeconds(){
+	return bufferStartTimeSeconds;
+    }
+
+    public boolean isLinearFiltering(){
+	return linearFiltering;
+    }
+
+    public void setLinearFiltering(boolean linearFiltering){
+	this.linearFiltering = linearFiltering;
+    }
+
+    /**
+     * @return Voices which contributed to any period so far.
+     * @since Oct 18, 2026
+     */
+    public long getVoicesMixed(){
+	return voicesMixed;
+    }
+}//end SoftwareMixer
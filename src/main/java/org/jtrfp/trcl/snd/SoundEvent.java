@@ -27,6 +27,7 @@ public interface SoundEvent {
     public double getEndRealtimeSeconds();
     public double getDurationRealtimeSeconds();
     public void apply(GL3 gl, double bufferStartTimeSeconds);
+    public void mix(SoftwareMixer mixer, double bufferStartTimeSeconds);
     public Factory getOrigin();
     public boolean isActive();
     public void activate();
@@ -34,9 +35,15 @@ public interface SoundEvent {
     public SoundEvent getParent();
     public void destroy();
     public boolean isDestroyed();
+    /**
+     * @return How much this event is worth keeping when voices run out; the quietest is stolen first.
+     * @since Oct 18, 2026
+     */
+    public double getPriority();
     
     public interface Factory{
 	public void apply(GL3 gl, Collection<SoundEvent> events, double bufferStartTimeSeconds);
+	public void mix(SoftwareMixer mixer, Collection<SoundEvent> events, double bufferStartTimeSeconds);
 	public TR getTR();
     }//end Factory
 }//end PlaybackEvent
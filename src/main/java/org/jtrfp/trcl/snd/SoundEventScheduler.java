@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jtrfp.trcl.obj.RelevantEverywhere;
+
+/**
+ * Tracks which sound events play in each buffer. Any thread may submit or cancel events through lock-free
+ * inboxes; the sound thread drains them in {@link #update(double, double)}, which moves events from a heap
+ * ordered by start time into per-factory active lists kept from one buffer to the next.<br><br>
+ * At most {@link #getMaxVoices()} sound effects play at once. Events which are {@link RelevantEverywhere}, or
+ * whose parent chain leads to one such as the notes of a MOD or the segments of a loop, are not sound effects:
+ * they neither count toward the limit nor are stolen. Past the limit, a new sound effect steals the quietest
+ * voice, the oldest among equals, if the new one is at least as loud; otherwise it is dropped. Stolen events are destroyed.
+ * @author Chuck Ritola
+ *
+ */
+
+public final class SoundEventScheduler {
+    public static final int DEFAULT_MAX_VOICES = 64;
+    private static final Comparator<SoundEvent> START_TIME_ORDER = new Comparator<SoundEvent>(){
+	@Override
+	public int compare(SoundEvent first, SoundEvent second) {
+	    return Double.compare(first.getStartRealtimeSeconds(), second.getStartRealtimeSeconds());
+	}};
+    private final ConcurrentLinkedQueue<SoundEvent> submissions   = new ConcurrentLinkedQueue<SoundEvent>();
+    private final ConcurrentLinkedQueue<SoundEvent> cancellations = new ConcurrentLinkedQueue<SoundEvent>();
+    //Sound thread only
+    private final PriorityQueue<SoundEvent> pending = new PriorityQueue<SoundEvent>(64, START_TIME_ORDER);
+    private final HashMap<SoundEvent.Factory, FactoryVoices> voicesByFactory = new HashMap<SoundEvent.Factory, FactoryVoices>();
+    private final ArrayList<FactoryVoices> factoryVoices = new ArrayList<FactoryVoices>();
+    private int numVoices;
+
+    private volatile int  maxVoices = DEFAULT_MAX_VOICES;
+    private volatile long voicesStolen, voicesDropped;
+
+    private static final class FactoryVoices {
+	private final SoundEvent.Factory    factory;
+	private final ArrayList<SoundEvent> active  = new ArrayList<SoundEvent>();
+	private final ArrayList<SoundEvent> playing = new ArrayList<SoundEvent>();
+
+	FactoryVoices(SoundEvent.Factory factory){
+	    this.factory = factory;
+	}
+    }//end FactoryVoices
+
+    /**
+     * Queues an event for the next {@link #update(double, double)}. Lock-free; callable from any thread.
+     * @since Oct 18, 2026
+     */
+    public void submit(SoundEvent event){
+	submissions.add(event);
+    }
+
+    /**
+     * Removes an event, pending or playing, at the next {@link #update(double, double)}. Lock-free; callable from any thread.
+     * @since Oct 18, 2026
+     */
+    public void cancel(SoundEvent event){
+	cancellations.add(event);
+    }
+
+    /**
+     * Drains the inboxes, retires finished events and starts those beginning within the window. Sound thread only.
+     * @param bufferStartTimeSeconds Realtime of the buffer about to be rendered.
+     * @param windowSeconds Length of that buffer.
+     * @since Oct 18, 2026
+     */
+    public void update(double bufferStartTimeSeconds, double windowSeconds){
+	SoundEvent event;
+	while((event = submissions.poll()) != null){
+	    if(event instanceof RelevantEverywhere)
+		addActive(event);
+	    else
+		pending.add(event);
+	}
+	while((event = cancellations.poll()) != null)
+	    if(!removeActive(event))
+		pending.remove(event);
+	retireFinished(bufferStartTimeSeconds);
+	final double windowEndSeconds = bufferStartTimeSeconds + windowSeconds;
+	while(!pending.isEmpty() && pending.peek().getStartRealtimeSeconds() < windowEndSeconds){
+	    event = pending.poll();
+	    if(!event.isDestroyed() && event.getEndRealtimeSeconds() > bufferStartTimeSeconds)
+		admit(event);
+	}
+	for(FactoryVoices voices : factoryVoices){
+	    final ArrayList<SoundEvent> playing = voices.playing;
+	    playing.clear();
+	    for(SoundEvent active : voices.active)
+		if(active.isActive())
+		    playing.add(active);
+	}
+    }//end update(...)
+
+    private void retireFinished(double bufferStartTimeSeconds){
+	for(FactoryVoices voices : factoryVoices){
+	    final ArrayList<SoundEvent> active = voices.active;
+	    int kept = 0;
+	    for(int i = 0; i < active.size(); i++){
+		final SoundEvent event = active.get(i);
+		final boolean everywhere = event instanceof RelevantEverywhere;
+		if(event.isDestroyed() || (!everywhere && event.getEndRealtimeSeconds() < bufferStartTimeSeconds)){
+		    if(isVoice(event))
+			numVoices--;
+		} else
+		    active.set(kept++, event);
+	    }//end for(active)
+	    truncate(active, kept);
+	}//end for(factoryVoices)
+    }//end retireFinished(...)
+
+    private static void truncate(ArrayList<SoundEvent> list, int size){
+	for(int i = list.size() - 1; i >= size; i--)
+	    list.remove(i);
+    }
+
+    /**
+     * @return True if the event is a sound effect, counted toward and subject to the voice limit.
+     * @since Oct 18, 2026
+     */
+    private static boolean isVoice(SoundEvent event){
+	for(SoundEvent ancestor = event; ancestor != null; ancestor = ancestor.getParent())
+	    if(ancestor instanceof RelevantEverywhere)
+		return false;
+	return true;
+    }//end isVoice(...)
+
+    private void admit(SoundEvent event){
+	if(numVoices >= maxVoices && isVoice(event)){
+	    FactoryVoices victimVoices = null;
+	    int victimIndex = -1;
+	    SoundEvent victim = null;
+	    for(FactoryVoices voices : factoryVoices){
+		final ArrayList<SoundEvent> active = voices.active;
+		for(int i = 0; i < active.size(); i++){
+		    final SoundEvent candidate = active.get(i);
+		    if(!isVoice(candidate))
+			continue;
+		    if(victim == null || candidate.getPriority() < victim.getPriority() ||
+			    (candidate.getPriority() == victim.getPriority() &&
+			     candidate.getStartRealtimeSeconds() < victim.getStartRealtimeSeconds())){
+			victim       = candidate;
+			victimVoices = voices;
+			victimIndex  = i;
+		    }
+		}//end for(active)
+	    }//end for(factoryVoices)
+	    if(victim == null || victim.getPriority() > event.getPriority()){
+		voicesDropped++;
+		return;
+	    }
+	    final ArrayList<SoundEvent> active = victimVoices.active;
+	    active.set(victimIndex, active.get(active.size() - 1));//Order doesn't matter to mixing
+	    active.remove(active.size() - 1);
+	    victim.deactivate();
+	    victim.destroy();//Its owner must not bring it back, nor wait on it
+	    numVoices--;
+	    voicesStolen++;
+	}//end if(full)
+	addActive(event);
+    }//end admit(...)
+
+    private void addActive(SoundEvent event){
+	final SoundEvent.Factory factory = event.getOrigin();
+	FactoryVoices voices = voicesByFactory.get(factory);
+	if(voices == null){
+	    voicesByFactory.put(factory, voices = new FactoryVoices(factory));
+	    factoryVoices.add(voices);
+	}
+	voices.active.add(event);
+	if(isVoice(event))
+	    numVoices++;
+    }//end addActive(...)
+
+    private boolean removeActive(SoundEvent event){
+	final FactoryVoices voices = voicesByFactory.get(event.getOrigin());
+	if(voices == null || !voices.active.remove(event))
+	    return false;
+	if(isVoice(event))
+	    numVoices--;
+	return true;
+    }//end removeActive(...)
+
+    /**
+     * @return The number of factories which have had active events, for iterating with {@link #getPlaying(int)}.
+     * @since Oct 18, 2026
+     */
+    public int getNumFactories(){
+	return factoryVoices.size();
+    }
+
+    public SoundEvent.Factory getFactory(int index){
+	return factoryVoices.get(index).factory;
+    }
+
+    /**
+     * @return The factory's active events which aren't deactivated, as of the last update. Sound thread only.
+     * @since Oct 18, 2026
+     */
+    public List<SoundEvent> getPlaying(int index){
+	return factoryVoices.get(index).playing;
+    }
+
+    /**
+     * @return Active events which count toward the voice limit, as of the last update. Sound thread only.
+     * @since Oct 18, 2026
+     */
+    public int getNumVoices(){
+	return numVoices;
+    }
+
+    /**
+     * @return Events waiting for their start time, as of the last update. Sound thread only.
+     * @since Oct 18, 2026
+     */
+    public int getNumPending(){
+	return pending.size();
+    }
+
+    public int getMaxVoices(){
+	return maxVoices;
+    }
+
+    public void setMaxVoices(int maxVoices){
+	if(maxVoices < 1)
+	    throw new IllegalArgumentException("maxVoices must be at least one. Got "+maxVoices);
+	this.maxVoices = maxVoices;
+    }
+
+    public long getVoicesStolen(){
+	return voicesStolen;
+    }
+
+    public long getVoicesDropped(){
+	return voicesDropped;
+    }
+}//end SoundEventScheduler
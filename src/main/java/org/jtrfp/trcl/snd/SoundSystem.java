@@ -20,12 +20,12 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.sound.sampled.AudioFormat;
@@ -43,14 +43,12 @@ import org.jtrfp.trcl.core.TRFactory.TR;
 import org.jtrfp.trcl.gpu.GLTexture;
 import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gui.GLExecutable;
-import org.jtrfp.trcl.obj.RelevantEverywhere;
 import org.jtrfp.trcl.pool.ObjectFactory;
-import org.jtrfp.trcl.snd.SoundSystemKernel.AddToActiveEvents;
-import org.jtrfp.trcl.snd.SoundSystemKernel.AddToPendingEvents;
-import org.jtrfp.trcl.snd.SoundSystemKernel.RemoveFromEvents;
 import org.jtrfp.trcl.snd.SoundSystemKernel.SetAudioOutputConfig;
 import org.jtrfp.trcl.snd.SoundSystemKernel.SetBufferLag;
 import org.jtrfp.trcl.snd.SoundSystemKernel.SetBufferSizeFrames;
+import org.jtrfp.trcl.snd.SoundSystemKernel.SetLinearFiltering;
+import org.jtrfp.trcl.snd.SoundSystemKernel.SetSoftwareMixing;
 import org.jtrfp.trcl.tools.Util;
 
 import com.jogamp.opengl.GL2ES2;
@@ -65,6 +63,8 @@ public class SoundSystem {
     public static final String
            LINEAR_FILTERING   = "linearFiltering",
            BUFFER_LAG         = "bufferLag",
+           SOFTWARE_MIXING    = "softwareMixing",
+           MAX_VOICES         = "maxVoices",
            MOD_STEREO_WIDTH   = "modStereoWidth",
            FORMAT_BY_NAME     = "formatByName",
            OUTPUT_BY_NAME     = "outputByName",
@@ -95,7 +95,7 @@ public class SoundSystem {
     private TRConfiguration trConfiguration;
     private boolean         initialized = false;
     private GPU             gpu;
-    private boolean         bufferLag=true, linearFiltering=false;
+    private boolean         bufferLag=true, linearFiltering=false, softwareMixing=false;
     private double          modStereoWidth = .3;
     private final CollectionActionDispatcher<String> audioDriverNames = new CollectionActionDispatcher<String>(new HashSet<String>());
     private final SoundSystemKernel soundSystemKernel = new SoundSystemKernel();
@@ -429,7 +429,13 @@ public class SoundSystem {
 	final double quantizedSizeSeconds = (double)quantizedSize / (double)localSampleRate;
 	final double lengthPerRowSeconds
 	     = quantizedSizeSeconds / (double)numRows;
-	tr.getThreadManager().submitToThreadPool(new Callable<Void>(){
+	final float [] linearSamples;//For software mixing; read back from the texture in the background otherwise
+	if(isSoftwareMixing()){
+	    linearSamples = new float[lengthInSamples];
+	    samples.duplicate().get(linearSamples);
+	}else
+	    linearSamples = null;
+	final Future<Void> upload = tr.getThreadManager().submitToThreadPool(new Callable<Void>(){
 	    @Override
 	    public Void call() throws Exception {
 		    final FloatBuffer fb = FloatBuffer.allocate(quantizedSize);
@@ -477,6 +483,8 @@ public class SoundSystem {
 		return null;
 	    }});
 	return new SoundTexture(){
+	    private volatile float [] cachedSamples = linearSamples;
+	    
 	    @Override
 	    public double getLengthInRealtimeSeconds() {
 		return lengthInSeconds;
@@ -496,21 +504,64 @@ public class SoundSystem {
 	    public double getLengthPerRowSeconds() {
 		return lengthPerRowSeconds;
 	    }
+
+	    private final AtomicBoolean readBackRequested = new AtomicBoolean(linearSamples != null);
+	    
+	    @Override
+	    public float[] getSamples() {
+		final float [] result = cachedSamples;
+		if(result == null && readBackRequested.compareAndSet(false, true))
+		    tr.getThreadManager().submitToThreadPool(new Callable<Void>(){
+			@Override
+			public Void call() throws Exception {
+			    cachedSamples = readBackSamples(texture, upload, numRows, lengthInSamples);
+			    return null;
+			}});
+		return result;
+	    }
 	};//end new SoundTexture()
     }//end newSoundTexture
     
+    /**
+     * Recovers a sound texture's samples in playback order for a texture created while software mixing was off.
+     * Blocks until the upload and a GL read finish, so it is run from the thread pool and never from the sound thread.
+     * @since Oct 18, 2026
+     */
+    private float [] readBackSamples(final GLTexture texture, Future<Void> upload, int numRows, int lengthInSamples){
+	final FloatBuffer texels = FloatBuffer.allocate(numRows * SoundTexture.ROW_LENGTH_SAMPLES);
+	try{
+	    upload.get();
+	    gpu.getGlExecutor().submitToGL(new GLExecutable<Void,GL3>(){
+		@Override
+		public Void execute(GL3 gl) throws Exception {
+		    getGpu().defaultTIU();
+		    texture.bind(gl);
+		    gl.glGetTexImage(texture.getBindingTarget(), 0, GL2ES2.GL_RED, GL2ES2.GL_FLOAT, texels);
+		    getGpu().defaultTexture();
+		    return null;
+		}}).get();
+	}catch(Exception e){throw new RuntimeException(e);}
+	final float [] result = new float[lengthInSamples];
+	for(int i = 0; i < lengthInSamples; i++){
+	    final int row    = i / SoundTexture.ROW_LENGTH_SAMPLES;
+	    final int column = i % SoundTexture.ROW_LENGTH_SAMPLES;
+	    final boolean reverse = row % 2 == 1;//Rows alternate direction, see newSoundTexture(...)
+	    result[i] = texels.get(row * SoundTexture.ROW_LENGTH_SAMPLES + (reverse?SoundTexture.ROW_LENGTH_SAMPLES - 1 - column:column));
+	}
+	return result;
+    }//end readBackSamples(...)
+    
     private int getFilteringParm(){
 	return isLinearFiltering()?GL2ES2.GL_LINEAR:GL2ES2.GL_NEAREST;
     }
     
+    /**
+     * Lock-free; the event is picked up by the sound thread at its next buffer.
+     * @param evt
+     * @since Oct 18, 2026
+     */
     public void enqueuePlaybackEvent(SoundEvent evt){
-	    if(evt instanceof RelevantEverywhere)
-		synchronized(soundThreadExecutor){
-		    soundThreadExecutor.execute(new AddToActiveEvents(Collections.singleton(evt), soundSystemKernel));
-		}//end sync(queue)
-	    else synchronized(soundThreadExecutor){
-		soundThreadExecutor.execute(new AddToPendingEvents(Collections.singleton(evt), soundSystemKernel));
-		}//end sync(queue)
+	soundSystemKernel.getEventScheduler().submit(evt);
     }//end enqueuePlaybackEvent
     
     public double getBufferSizeSeconds() {
@@ -539,10 +590,23 @@ public class SoundSystem {
     }
 
     public void dequeueSoundEvent(SoundEvent event) {
-	synchronized(soundThreadExecutor){
-	    soundThreadExecutor.execute(new RemoveFromEvents(Collections.singleton(event), soundSystemKernel));
-	}//end sync()
+	soundSystemKernel.getEventScheduler().cancel(event);
     }//end dequeueSoundEvent(...)
+    
+    public Integer getMaxVoices() {
+	return soundSystemKernel.getEventScheduler().getMaxVoices();
+    }
+    
+    /**
+     * @param maxVoices Sound effects which may play at once before the quietest is stolen by a new one. Music notes
+     *                  and loop segments don't count.
+     * @since Oct 18, 2026
+     */
+    public void setMaxVoices(Integer maxVoices) {
+	final Integer oldValue = getMaxVoices();
+	soundSystemKernel.getEventScheduler().setMaxVoices(maxVoices);
+	pcs.firePropertyChange(MAX_VOICES, oldValue, maxVoices);
+    }
 
     public double getSamplesPerMilli() {
 	return ((double)getActiveFormat().getFrameRate())/1000.;
@@ -767,8 +831,28 @@ public class SoundSystem {
     public void setLinearFiltering(Boolean linearFiltering) {
 	final Boolean oldValue = this.linearFiltering;
         this.linearFiltering = linearFiltering;
+        synchronized( soundThreadExecutor ) {
+            soundThreadExecutor.execute(new SetLinearFiltering(linearFiltering,soundSystemKernel), SoundSystem.LINEAR_FILTERING);
+        }
         pcs.firePropertyChange(LINEAR_FILTERING, oldValue, linearFiltering);
     }
+    
+    public Boolean isSoftwareMixing() {
+        return softwareMixing;
+    }
+
+    /**
+     * @param softwareMixing True to mix on the sound thread's CPU instead of the GPU. Takes effect at the next buffer.
+     * @since Oct 18, 2026
+     */
+    public void setSoftwareMixing(Boolean softwareMixing) {
+	final Boolean oldValue = this.softwareMixing;
+        this.softwareMixing = softwareMixing;
+        synchronized( soundThreadExecutor ) {
+            soundThreadExecutor.execute(new SetSoftwareMixing(softwareMixing,soundSystemKernel), SoundSystem.SOFTWARE_MIXING);
+        }
+        pcs.firePropertyChange(SOFTWARE_MIXING, oldValue, softwareMixing);
+    }
 
     public Double getModStereoWidth() {
         return modStereoWidth;
@@ -861,6 +945,7 @@ public class SoundSystem {
 	result.setDeviceByName(oPath[2].toString());
 	result.setPortByName(oPath[3].toString());
 	result.setFormatByName(oPath[4].toString());
+	result.setSoftwareMixing(isSoftwareMixing());
 	return result;
     }//end getOutputConfig()
     
@@ -870,6 +955,7 @@ public class SoundSystem {
 	    path.add(0,root);
 	    root.add(path.get(1));
 	    setOutputConfigNode(path.get(path.size()-1));
+	    setSoftwareMixing(config.isSoftwareMixing());
     }//end setOutputConfig()
 
     private DefaultMutableTreeNode getDefaultConfigNode() {
@@ -16,12 +16,7 @@ package org.jtrfp.trcl.snd;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.TreeSet;
+import java.util.List;
 
 import javax.sound.sampled.AudioFormat;
 
@@ -33,8 +28,6 @@ import org.jtrfp.trcl.gpu.GLTexture.PixelReadDataType;
 import org.jtrfp.trcl.gpu.GLTexture.PixelReadOrder;
 import org.jtrfp.trcl.gpu.GPU;
 import org.jtrfp.trcl.gui.GLExecutable;
-import org.jtrfp.trcl.obj.RelevantEverywhere;
-import org.jtrfp.trcl.snd.SoundEvent.Factory;
 
 import com.jogamp.opengl.GL3;
 
@@ -42,6 +35,8 @@ public class SoundSystemKernel {
     private GPU gpu;
     private ThreadManager threadManager;
     private final DynamicCompressor compressor = new DynamicCompressor();
+    private final SoftwareMixer softwareMixer = new SoftwareMixer();
+    private boolean softwareMixing = false;
     private ByteBuffer renderFloatBytes;
     private GLFrameBuffer playbackFrameBuffer;
     private GLTexture playbackTexture;
@@ -52,65 +47,8 @@ public class SoundSystemKernel {
     private AudioDevice activeDevice = null;
     private AudioOutput activeOutput;
     
-    private final HashMap<SoundEvent.Factory,ArrayList<SoundEvent>> eventMap 
-        = new HashMap<SoundEvent.Factory,ArrayList<SoundEvent>>();
     private KeyedExecutor<Object> keyedExecutor;
-    private final ArrayList<SoundEvent> activeEvents = new ArrayList<SoundEvent>();
-    private final TreeSet<SoundEvent> pendingEvents = new TreeSet<SoundEvent>(new Comparator<SoundEvent>(){
-	@Override
-	public int compare(SoundEvent first, SoundEvent second) {
-	    final double result = 88200. * (first.getStartRealtimeSeconds()-second.getStartRealtimeSeconds());
-	    if(result==0)return first.hashCode()-second.hashCode();
-	    else if(result>0)return 1;
-	    else return -1;
-	}//end compare()
-    });
-    
-    public static class AddToActiveEvents implements Runnable {
-	private final Collection<SoundEvent> events;
-	private final SoundSystemKernel target;
-
-	public AddToActiveEvents(Collection<SoundEvent> event, SoundSystemKernel kernel){
-	    this.events  = event;
-	    this.target = kernel;
-	}//end constructor(...)
-
-	@Override
-	public void run() {
-	    target.activeEvents.addAll(events);
-	}
-    }//end AddToActiveEvent
-    
-    public static class AddToPendingEvents implements Runnable {
-	private final Collection<SoundEvent> events;
-	private final SoundSystemKernel      target;
-
-	public AddToPendingEvents(Collection<SoundEvent> event, SoundSystemKernel kernel){
-	    this.events  = event;
-	    this.target = kernel;
-	}//end constructor(...)
-
-	@Override
-	public void run() {
-	    target.pendingEvents.addAll(events);
-	}
-    }//end AddToPendingEvents
-    
-    public static class RemoveFromEvents implements Runnable {
-	private final Collection<SoundEvent> events;
-	private final SoundSystemKernel      target;
-
-	public RemoveFromEvents(Collection<SoundEvent> event, SoundSystemKernel kernel){
-	    this.events  = event;
-	    this.target = kernel;
-	}//end constructor(...)
-
-	@Override
-	public void run() {
-	    target.activeEvents .removeAll(events);
-	    target.pendingEvents.removeAll(events);
-	}
-    }//end AddToActiveEvent
+    private final SoundEventScheduler eventScheduler = new SoundEventScheduler();
     
     public static class SetBufferSizeFrames implements Runnable {
 	private final int newValue;
@@ -160,6 +98,36 @@ public class SoundSystemKernel {
 	}
     }//end SetBufferLag
     
+    public static class SetSoftwareMixing implements Runnable {
+	private final boolean newValue;
+	private final SoundSystemKernel target;
+
+	public SetSoftwareMixing(boolean newValue, SoundSystemKernel kernel){
+	    this.newValue = newValue;
+	    this.target = kernel;
+	}//end constructor(...)
+
+	@Override
+	public void run() {
+	    target.setSoftwareMixing(newValue);
+	}
+    }//end SetSoftwareMixing
+    
+    public static class SetLinearFiltering implements Runnable {
+	private final boolean newValue;
+	private final SoundSystemKernel target;
+
+	public SetLinearFiltering(boolean newValue, SoundSystemKernel kernel){
+	    this.newValue = newValue;
+	    this.target = kernel;
+	}//end constructor(...)
+
+	@Override
+	public void run() {
+	    target.softwareMixer.setLinearFiltering(newValue);
+	}
+    }//end SetLinearFiltering
+    
     public static class SetActiveDriver implements Runnable {
 	private final AudioDriver newValue;
 	private final SoundSystemKernel target;
@@ -259,18 +227,22 @@ public class SoundSystemKernel {
 	
 	renderPrep(bufferTimeCounter);
 	final ByteBuffer renderFloatBytes     = getRenderFloatBytes();
-	final GLFrameBuffer renderFrameBuffer = getPlaybackFrameBuffer();
-	final GLTexture renderTexture         = getPlaybackTexture();
 	
-	try {gpu.getGlExecutor().submitToGL(new GLExecutable<Void, GL3>() {
-	    @Override
-	    public Void execute(GL3 gl) throws Exception {
-		renderFloatBytes.clear();
-		render(getGpu(), gl, renderFloatBytes, renderFrameBuffer, renderTexture, bufferTimeCounter);
-		return null;
-	    }
-	}).get(); }
-	catch(Exception e) {e.printStackTrace();}
+	if(isSoftwareMixing())
+	    mix(renderFloatBytes, bufferTimeCounter);
+	else {
+	    final GLFrameBuffer renderFrameBuffer = getPlaybackFrameBuffer();
+	    final GLTexture renderTexture         = getPlaybackTexture();
+	    try {gpu.getGlExecutor().submitToGL(new GLExecutable<Void, GL3>() {
+		@Override
+		public Void execute(GL3 gl) throws Exception {
+		    renderFloatBytes.clear();
+		    render(getGpu(), gl, renderFloatBytes, renderFrameBuffer, renderTexture, bufferTimeCounter);
+		    return null;
+		}
+	    }).get(); }
+	    catch(Exception e) {e.printStackTrace();}
+	}//end (GPU mixing)
 	//sBuf.clear();
 	final FloatBuffer fBuf = renderFloatBytes.asFloatBuffer();
 	fBuf.clear();
@@ -285,8 +257,7 @@ public class SoundSystemKernel {
     }//end execute
 
     private void renderPrep(double bufferTimeCounter){
-	cleanActiveEvents(bufferTimeCounter);
-	pickupActiveEvents(bufferTimeCounter, getBufferSizeFrames()/getFormat().getFrameRate());
+	getEventScheduler().update(bufferTimeCounter, getBufferSizeFrames()/getFormat().getFrameRate());
     }//end renderPrep()
     
     private void render(GPU gpu, GL3 gl, ByteBuffer audioByteBuffer, GLFrameBuffer renderFrameBuffer, GLTexture renderTexture, double bufferTimeCounter) {
@@ -302,19 +273,12 @@ public class SoundSystemKernel {
 	    renderFrameBuffer.bindToDraw();
 	    gl.glViewport(0, 0, getBufferSizeFrames(), 1);
 	    gl.glClear(GL3.GL_COLOR_BUFFER_BIT);
-	    for (SoundEvent ev : activeEvents) {// TODO: Replace with Factory calls
-		if (ev.isActive()) {
-		    final SoundEvent.Factory factory = ev.getOrigin();
-		    if (!eventMap.containsKey(factory))
-			eventMap.put(factory, new ArrayList<SoundEvent>());
-		    eventMap.get(factory).add(ev);
-		}// end if(active)
-	    }// end for(events)
-	    for(Factory factory:eventMap.keySet()){
-		final ArrayList<SoundEvent> events = eventMap.get(factory);
-		factory.apply(gl, events, bufferTimeCounter);
-		events.clear();
-	    }//end for(keySet)
+	    final SoundEventScheduler scheduler = getEventScheduler();
+	    for(int i = 0; i < scheduler.getNumFactories(); i++){
+		final List<SoundEvent> events = scheduler.getPlaying(i);
+		if(!events.isEmpty())
+		    scheduler.getFactory(i).apply(gl, events, bufferTimeCounter);
+	    }//end for(factories)
 
 	    if(!isBufferLag())
 		readGLAudioBuffer(gpu,audioByteBuffer,renderTexture);
@@ -327,6 +291,23 @@ public class SoundSystemKernel {
 	    gpu.defaultViewport();
     }// end render()
     
+    /**
+     * Mixes the active events on this thread, without a GL round trip, into the bytes which feed the compressor.
+     * @since Oct 18, 2026
+     */
+    private void mix(ByteBuffer audioByteBuffer, double bufferTimeCounter) {
+	final int numFrames = getBufferSizeFrames();
+	softwareMixer.begin(numFrames, getFormat().getFrameRate(), bufferTimeCounter);
+	final SoundEventScheduler scheduler = getEventScheduler();
+	for(int i = 0; i < scheduler.getNumFactories(); i++){
+	    final List<SoundEvent> events = scheduler.getPlaying(i);
+	    if(!events.isEmpty())
+		scheduler.getFactory(i).mix(softwareMixer, events, bufferTimeCounter);
+	}//end for(factories)
+	audioByteBuffer.clear();
+	audioByteBuffer.asFloatBuffer().put(softwareMixer.getBuffer(), 0, numFrames * 2);
+    }//end mix(...)
+    
     private void readGLAudioBuffer(GPU gpu, ByteBuffer audioByteBuffer, GLTexture renderTexture){
 	// Read and export previous results to sound card.
 	final GL3 gl = gpu.getGl();
@@ -336,35 +317,6 @@ public class SoundSystemKernel {
     }//end readGLAudioBuffer(...)
     
 
-    private void pickupActiveEvents(double bufferTimeCounter, double windowSizeInSeconds){
-	final double playbackTimeSeconds = bufferTimeCounter;
-	final Iterator<SoundEvent> eI = pendingEvents.iterator();
-	while(eI.hasNext()){
-	    final SoundEvent event = eI.next();
-	    if(event.isDestroyed())
-		eI.remove();
-	    else if(event.getStartRealtimeSeconds()<playbackTimeSeconds+windowSizeInSeconds && event.getEndRealtimeSeconds()>playbackTimeSeconds){
-		activeEvents.add(event);
-		eI.remove();
-	    }//end if(in range)
-	    if(event.getStartRealtimeSeconds()>playbackTimeSeconds+windowSizeInSeconds)
-		return;//Everything after this point is out of range.
-	}//end hashNext(...)
-    }//end pickupActiveEvents()
-    
-    private void cleanActiveEvents(double bufferTimeCounter){
-	final double currentTimeSeconds = bufferTimeCounter;
-	final Iterator<SoundEvent> eI = activeEvents.iterator();
-	while(eI.hasNext()){
-	    final SoundEvent event = eI.next();
-	    if(event.isDestroyed())
-		eI.remove();
-	    else if(event.getEndRealtimeSeconds()<currentTimeSeconds && 
-		    !(event instanceof RelevantEverywhere))
-		eI.remove();
-	}//end while(hasNext)
-    }//end cleanActiveEvents()
-
     public ThreadManager getThreadManager() {
         return threadManager;
     }
@@ -549,6 +501,14 @@ public class SoundSystemKernel {
         this.bufferLag = bufferLag;
     }
 
+    protected boolean isSoftwareMixing() {
+        return softwareMixing;
+    }
+
+    protected void setSoftwareMixing(boolean softwareMixing) {
+        this.softwareMixing = softwareMixing;
+    }
+
     protected AudioFormat getFormat() {
         return format;
     }
@@ -570,6 +530,14 @@ public class SoundSystemKernel {
         activeDriver.setBufferSizeFrames(getBufferSizeFrames());
     }
 
+    /**
+     * @return Where events are submitted, from any thread, to be played.
+     * @since Oct 18, 2026
+     */
+    SoundEventScheduler getEventScheduler() {
+	return eventScheduler;
+    }
+
     void setKeyedExecutor(KeyedExecutor<Object> runnableQueue) {
 	keyedExecutor = runnableQueue;
     }
@@ -13,8 +13,17 @@
 
 package org.jtrfp.trcl.snd;
 
+/**
+ * Selects the audio driver, device, port and format, and whether sound is mixed in software.
+ * <br><br>
+ * Known limitation: software mixing only moves the mixing itself off the GPU. Sound textures and the playback
+ * factories are still created through GL, so a GL context is required either way.
+ * @author Chuck Ritola
+ *
+ */
 public class SoundSystemOutputConfig {
     private String driverByName, deviceByName, portByName, formatByName;
+    private boolean softwareMixing;
 
     public String getDriverByName() {
 	return driverByName;
@@ -48,6 +57,14 @@ public class SoundSystemOutputConfig {
 	this.formatByName = formatByName;
     }
     
+    public boolean isSoftwareMixing() {
+	return softwareMixing;
+    }
+
+    public void setSoftwareMixing(boolean softwareMixing) {
+	this.softwareMixing = softwareMixing;
+    }
+    
     @Override
     public boolean equals(Object other){
 	if( other instanceof SoundSystemOutputConfig ) {
@@ -55,7 +72,8 @@ public class SoundSystemOutputConfig {
 	    return  getDriverByName().equals(otherConf.getDriverByName()) &&
 		    getDeviceByName().equals(otherConf.getDeviceByName()) &&
 		    getPortByName()  .equals(otherConf.getPortByName())   &&
-		    getFormatByName().equals(otherConf.getFormatByName());
+		    getFormatByName().equals(otherConf.getFormatByName()) &&
+		    isSoftwareMixing() == otherConf.isSoftwareMixing();
 	}//end if(instanceof)
 	return false;
     }//end equals()
@@ -34,5 +34,15 @@ public interface SoundTexture {
     int getNumRows();
 
     double getLengthPerRowSeconds();
+    
+    /**
+     * The samples in playback order, before their rows are laid out in the texture. Only kept on the heap for
+     * textures created while software mixing is on; otherwise the first call starts reading them back from the GPU
+     * in the background and returns null.
+     * @return Mono samples in [-1,1] at ROW_LENGTH_SAMPLES / getLengthPerRowSeconds() samples per second,
+     * or null if they aren't on the heap yet.
+     * @since Oct 18, 2026
+     */
+    float [] getSamples();
 
 }//end SoundTexture
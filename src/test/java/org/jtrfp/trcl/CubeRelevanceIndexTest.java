@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.junit.Test;
+
+import com.ochafik.util.listenable.Pair;
+
+public class CubeRelevanceIndexTest {
+    /** Same test as the Camera's VisibilityPredicate. */
+    private static boolean isRelevant(CubeCoordinate cube, CubeCoordinate center, int radius, int worldWidth){
+	if(cube.equals(CubeCoordinate.RELEVANT_EVERYWHERE))
+	    return true;
+	return Math.sqrt(
+		Math.pow(rollover(cube.getX()-center.getX(), worldWidth),2)+
+		Math.pow(rollover(cube.getZ()-center.getZ(), worldWidth),2)) < radius;
+    }
+
+    private static double rollover(double distance, int worldWidth){
+	distance = Math.abs(distance);
+	final double rolloverPoint = worldWidth/2.;
+	if(distance>rolloverPoint)
+	    distance = worldWidth - distance;
+	return distance;
+    }
+
+    private static List<Pair<CubeCoordinate,String>> populate(CubeRelevanceIndex<String> subject, int worldWidth){
+	final List<Pair<CubeCoordinate,String>> result = new ArrayList<Pair<CubeCoordinate,String>>();
+	for(int x = 0; x <= worldWidth; x++)//Includes the far edge, which wraps onto the near edge
+	    for(int z = 0; z <= worldWidth; z++)
+		result.add(new Pair<CubeCoordinate,String>(new CubeCoordinate(x,x%2,z), x+","+z));
+	result.add(new Pair<CubeCoordinate,String>(new CubeCoordinate(-3,0,worldWidth+2), "outside"));
+	result.add(new Pair<CubeCoordinate,String>(CubeCoordinate.RELEVANT_EVERYWHERE, "everywhere"));
+	subject.addAll(result);
+	return result;
+    }//end populate(...)
+
+    private static void checkRandomWalk(int worldWidth, int radius){
+	final CubeRelevanceIndex<String> subject = new CubeRelevanceIndex<String>(worldWidth);
+	final List<Pair<CubeCoordinate,String>> pairs = populate(subject, worldWidth);
+	final Random random = new Random(worldWidth * 31 + radius);
+	CubeCoordinate center = new CubeCoordinate(worldWidth/2, 0, worldWidth/2);
+	final Set<Pair<CubeCoordinate,String>> relevant = new HashSet<Pair<CubeCoordinate,String>>();
+	for(Pair<CubeCoordinate,String> pair:pairs)
+	    if(isRelevant(pair.getKey(), center, radius, worldWidth))
+		relevant.add(pair);
+	for(int step = 0; step < 500; step++){
+	    final CubeCoordinate next = random.nextInt(10) == 0?
+		    new CubeCoordinate(random.nextInt(worldWidth+1), 0, random.nextInt(worldWidth+1)):
+		    new CubeCoordinate(Math.floorMod(center.getX()+random.nextInt(3)-1, worldWidth+1), 0,
+			    Math.floorMod(center.getZ()+random.nextInt(3)-1, worldWidth+1));
+	    final List<Pair<CubeCoordinate,String>> candidates = new ArrayList<Pair<CubeCoordinate,String>>();
+	    assertTrue(subject.gatherTransitionCandidates(center, next, radius, candidates));
+	    for(Pair<CubeCoordinate,String> candidate:candidates)
+		if(isRelevant(candidate.getKey(), next, radius, worldWidth))
+		    relevant.add(candidate);
+		else
+		    relevant.remove(candidate);
+	    center = next;
+	    for(Pair<CubeCoordinate,String> pair:pairs)
+		assertEquals(pair+" at center "+center, isRelevant(pair.getKey(), center, radius, worldWidth), relevant.contains(pair));
+	}//end for(steps)
+    }//end checkRandomWalk(...)
+
+    @Test
+    public void testIncrementalMatchesFullEvaluation() {
+	checkRandomWalk(16, 4);
+	checkRandomWalk(15, 7);
+	checkRandomWalk(33, 1);
+	checkRandomWalk(40, 0);
+    }
+
+    @Test
+    public void testSingleCubeMoveTouchesOnlyTheRing() {
+	final int worldWidth = 64, radius = 10;
+	final CubeRelevanceIndex<String> subject = new CubeRelevanceIndex<String>(worldWidth);
+	for(int x = 0; x < worldWidth; x++)
+	    for(int z = 0; z < worldWidth; z++)
+		subject.add(new Pair<CubeCoordinate,String>(new CubeCoordinate(x,0,z), x+","+z));
+	final List<Pair<CubeCoordinate,String>> candidates = new ArrayList<Pair<CubeCoordinate,String>>();
+	assertTrue(subject.gatherTransitionCandidates(new CubeCoordinate(20,0,20), new CubeCoordinate(21,0,20), radius, candidates));
+	//Two arcs of one disk diameter each
+	assertEquals(2 * (2 * radius - 1), candidates.size());
+	candidates.clear();
+	assertTrue(subject.gatherTransitionCandidates(new CubeCoordinate(20,0,20), new CubeCoordinate(20,0,20), radius, candidates));
+	assertTrue(candidates.isEmpty());
+    }//end testSingleCubeMoveTouchesOnlyTheRing()
+
+    @Test
+    public void testFallsBackWhenRingIsAmbiguous() {
+	final CubeRelevanceIndex<String> subject = new CubeRelevanceIndex<String>(16);
+	final List<Pair<CubeCoordinate,String>> candidates = new ArrayList<Pair<CubeCoordinate,String>>();
+	assertFalse(subject.gatherTransitionCandidates(new CubeCoordinate(0,0,0), new CubeCoordinate(1,0,0), 8, candidates));
+	assertFalse(subject.gatherTransitionCandidates(new CubeCoordinate(-1,0,0), new CubeCoordinate(0,0,0), 2, candidates));
+	assertTrue(candidates.isEmpty());
+    }//end testFallsBackWhenRingIsAmbiguous()
+}//end CubeRelevanceIndexTest
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.beans.PropertyChangeEvent;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jtrfp.trcl.coll.PropertyBasedTagger;
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.jtrfp.trcl.obj.Positionable;
+import org.jtrfp.trcl.obj.WorldObject;
+
+import com.ochafik.util.listenable.Adapter;
+import com.ochafik.util.listenable.Pair;
+
+/**
+ * Standalone harness which moves many objects every tick while a grid tags them by cube, and reports the bytes
+ * allocated per moved object per tick, on the moving thread and on the relevance thread. Compares the former
+ * path, a POSITION property event per move through a {@link PropertyBasedTagger} which hops every event to the
+ * relevance thread, against the {@link CubeTagger}'s PositionListener fast path.
+ * Not a unit test; run its main() directly. Requires a JVM exposing per-thread allocation counters.
+ * Optional args: [numObjects [ticks [cubesPerSecondSpeed]]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class PositionNotificationBenchmark {
+    private static final int WARMUP_TICKS = 50;
+    private static final double TICKS_PER_SECOND = 60;
+
+    //As SpacePartitioningGrid quantized property events before the fast path
+    private static final Adapter<PropertyChangeEvent,CubeCoordinate> legacyQuantizer = new Adapter<PropertyChangeEvent,CubeCoordinate>(){
+	@Override
+	public CubeCoordinate adapt(PropertyChangeEvent evt) {
+	    final double [] newPos = (double[])evt.getNewValue();
+	    final int granularity = World.CUBE_GRANULARITY;
+	    return new CubeCoordinate((int)(newPos[0]/granularity), (int)(newPos[1]/granularity), (int)(newPos[2]/granularity));
+	}};
+
+    private static interface TaggerFactory {
+	Collection<Positionable> newTagger(Collection<Pair<CubeCoordinate,Positionable>> delegate, ExecutorService executor);
+    }
+
+    public static void main(String [] args) throws Exception {
+	final int    numObjects = args.length > 0?Integer.parseInt(args[0]):5000;
+	final int    ticks      = args.length > 1?Integer.parseInt(args[1]):300;
+	final double speed      = args.length > 2?Double.parseDouble(args[2]):2;
+	System.out.println("objects="+numObjects+" ticks="+ticks+" speed="+speed+" cubes/s");
+	System.out.println("mode\tmover bytes/move\trelevance bytes/move\tretags/tick\tms/tick");
+	for(int pass = 0; pass < 2; pass++){//First pass is warmup
+	    run("propertyEvents", pass > 0, numObjects, ticks, speed, new TaggerFactory(){
+		@Override
+		public Collection<Positionable> newTagger(Collection<Pair<CubeCoordinate,Positionable>> delegate, ExecutorService executor) {
+		    return new PropertyBasedTagger<Positionable,CubeCoordinate,CubeCoordinate>(delegate, legacyQuantizer, Positionable.POSITION, executor);
+		}});
+	    run("positionListener", pass > 0, numObjects, ticks, speed, new TaggerFactory(){
+		@Override
+		public Collection<Positionable> newTagger(Collection<Pair<CubeCoordinate,Positionable>> delegate, ExecutorService executor) {
+		    return new CubeTagger(delegate, executor);
+		}});
+	}
+	System.exit(0);
+    }//end main(...)
+
+    private static void run(String mode, boolean print, int numObjects, int ticks, double speed, TaggerFactory factory) throws Exception {
+	final long [] relevanceThreadID = new long[1];
+	final ThreadPoolExecutor relevanceExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory(){
+	    @Override
+	    public Thread newThread(Runnable r) {
+		final Thread result = new Thread(r, "relevance");
+		relevanceThreadID[0] = result.getId();
+		return result;
+	    }});
+	final HashSet<Pair<CubeCoordinate,Positionable>> tagged = new HashSet<Pair<CubeCoordinate,Positionable>>();
+	final Collection<Positionable> tagger = factory.newTagger(new CountingSet(tagged), relevanceExecutor);
+	final Random random = new Random(numObjects);
+	final WorldObject [] objects = new WorldObject[numObjects];
+	final double [][] velocities = new double[numObjects][3];
+	final double unitsPerTick = speed * World.CUBE_GRANULARITY / TICKS_PER_SECOND;
+	for(int i = 0; i < numObjects; i++){
+	    objects[i] = new WorldObject();
+	    objects[i].setPosition(random.nextDouble()*World.CUBE_GRANULARITY*32, random.nextDouble()*World.CUBE_GRANULARITY*4, random.nextDouble()*World.CUBE_GRANULARITY*32);
+	    for(int a = 0; a < 3; a++)
+		velocities[i][a] = (random.nextDouble()-.5) * 2 * unitsPerTick;
+	}
+	relevanceExecutor.submit(new Runnable(){
+	    @Override
+	    public void run() {
+		for(WorldObject object:objects)
+		    tagger.add(object);
+	    }}).get();
+	final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+	final long moverThreadID = Thread.currentThread().getId();
+	long moverBytes = 0, relevanceBytes = 0, elapsed = 0;
+	final int retagsBefore = CountingSet.retags;
+	for(int tick = 0; tick < WARMUP_TICKS + ticks; tick++){
+	    if(tick == WARMUP_TICKS)
+		CountingSet.retags = retagsBefore;
+	    final long moverStart = threads.getThreadAllocatedBytes(moverThreadID);
+	    final long relevanceStart = threads.getThreadAllocatedBytes(relevanceThreadID[0]);
+	    final long start = System.nanoTime();
+	    for(int i = 0; i < numObjects; i++){
+		final double [] position = objects[i].getPosition(), velocity = velocities[i];
+		position[0] += velocity[0];
+		position[1] += velocity[1];
+		position[2] += velocity[2];
+		objects[i].notifyPositionChange();
+	    }
+	    relevanceExecutor.submit(new Runnable(){//Barrier
+		@Override
+		public void run() {}}).get();
+	    if(tick >= WARMUP_TICKS){
+		elapsed += System.nanoTime() - start;
+		moverBytes     += threads.getThreadAllocatedBytes(moverThreadID) - moverStart;
+		relevanceBytes += threads.getThreadAllocatedBytes(relevanceThreadID[0]) - relevanceStart;
+	    }
+	}//end for(ticks)
+	relevanceExecutor.shutdown();
+	final double moves = (double)numObjects * ticks;
+	if(print)
+	    System.out.println(mode+"\t"+String.format("%.1f", moverBytes/moves)+"\t"+String.format("%.1f", relevanceBytes/moves)+"\t"+
+		    String.format("%.1f", (CountingSet.retags - retagsBefore)/(double)ticks)+"\t"+String.format("%.3f", elapsed/1000000./ticks));
+	CountingSet.retags = 0;
+    }//end run(...)
+
+    private static final class CountingSet extends java.util.AbstractCollection<Pair<CubeCoordinate,Positionable>> {
+	static volatile int retags;
+	private final HashSet<Pair<CubeCoordinate,Positionable>> delegate;
+
+	CountingSet(HashSet<Pair<CubeCoordinate,Positionable>> delegate){
+	    this.delegate = delegate;
+	}
+
+	@Override
+	public boolean add(Pair<CubeCoordinate,Positionable> pair){
+	    return delegate.add(pair);
+	}
+
+	@Override
+	public boolean remove(Object pair){
+	    retags++;//Each re-tag removes its old pair once
+	    return delegate.remove(pair);
+	}
+
+	@Override
+	public java.util.Iterator<Pair<CubeCoordinate,Positionable>> iterator(){
+	    return delegate.iterator();
+	}
+
+	@Override
+	public int size(){
+	    return delegate.size();
+	}
+    }//end CountingSet
+}//end PositionNotificationBenchmark
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.awt.Point;
+import java.io.File;
+import java.util.ArrayList;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Standalone timing harness for the terrain sampling part of a level load. Compares the former per-square sampling
+ * which TerrainSystem did for ground and ceiling, a cold {@link TerrainBake} grid pass, and mapping the bake back
+ * from its cache file. Model building is not included, as it needs a GPU. Not a unit test; run its main() directly.
+ * Optional args: [side [runs]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class TerrainBakeBenchmark {
+    private static final double GRID_SQUARE_SIZE = 1024;
+    private static final double HEIGHT_SCALE     = 65536;
+    private static volatile double sink;
+
+    private static interface Mode {
+	double load(AltitudeMap altitude, int side) throws Exception;
+    }
+
+    public static void main(String [] args) throws Exception {
+	final int side = args.length > 0?Integer.parseInt(args[0]):256;
+	final int runs = args.length > 1?Integer.parseInt(args[1]):10;
+	final AltitudeMap altitude = TerrainBakeTest.newAltitudeMap(side, side, GRID_SQUARE_SIZE, HEIGHT_SCALE);
+	final File cacheFile = File.createTempFile("TerrainBakeBenchmark", ".bake");
+	cacheFile.deleteOnExit();
+	System.out.println("side="+side+" runs="+runs);
+	System.out.println("mode\tms/load");
+	run("perSquare", altitude, side, runs, new Mode(){
+	    @Override
+	    public double load(AltitudeMap altitude, int side) {
+		return samplePerSquare(altitude, new NormalMap(altitude), side);
+	    }});
+	run("coldBake", altitude, side, runs, new Mode(){
+	    @Override
+	    public double load(AltitudeMap altitude, int side) throws Exception {
+		final TerrainBake bake = TerrainBake.bake(altitude, GRID_SQUARE_SIZE, side, side, false, new ArrayList<Point>(), 1);
+		bake.write(cacheFile);
+		return readAll(bake, side);
+	    }});
+	run("cachedMap", altitude, side, runs, new Mode(){
+	    @Override
+	    public double load(AltitudeMap altitude, int side) throws Exception {
+		return readAll(TerrainBake.map(cacheFile, 1), side);
+	    }});
+	System.out.println("cacheBytes="+cacheFile.length());
+    }//end main(...)
+
+    private static void run(String name, AltitudeMap altitude, int side, int runs, Mode mode) throws Exception {
+	sink += mode.load(altitude, side);//Warmup
+	long elapsed = 0;
+	for(int i = 0; i < runs; i++){
+	    final long start = System.nanoTime();
+	    sink += mode.load(altitude, side);
+	    elapsed += System.nanoTime() - start;
+	}
+	System.out.println(name+"\t"+String.format("%.2f", elapsed / 1000000. / runs));
+    }//end run(...)
+
+    /** The samples TerrainSystem took per square, for ground then ceiling, before baking. */
+    private static double samplePerSquare(AltitudeMap altitude, NormalMap normalMap, int side){
+	double result = 0;
+	for(int cZ = 0; cZ < side; cZ++)
+	    for(int cX = 0; cX < side; cX++){
+		final double xPos = cX * GRID_SQUARE_SIZE, zPos = cZ * GRID_SQUARE_SIZE;
+		final double xNext = xPos + GRID_SQUARE_SIZE, zNext = zPos + GRID_SQUARE_SIZE;
+		result += altitude.heightAt(xPos, zPos) + altitude.heightAt(xNext, zPos)
+			+ altitude.heightAt(xNext, zNext) + altitude.heightAt(xPos, zNext);
+		result += new Vector3D(xPos, 0, zNext).getX();//The corner vectors
+		result += normalMap.normalAt(xPos, zPos).getY() + normalMap.normalAt(xNext, zPos).getY()
+			+ normalMap.normalAt(xNext, zNext).getY() + normalMap.normalAt(xPos, zNext).getY();
+		//Ceiling
+		result += altitude.heightAt(xPos, zPos) + altitude.heightAt(xNext, zPos)
+			+ altitude.heightAt(xNext, zNext) + altitude.heightAt(xPos, zNext);
+		result += normalMap.normalAt(xPos, zPos).getY();
+	    }
+	return result;
+    }//end samplePerSquare(...)
+
+    /** What TerrainSystem reads back from a bake for ground and ceiling. */
+    private static double readAll(TerrainBake bake, int side){
+	double result = 0;
+	for(int cZ = 0; cZ < side; cZ++)
+	    for(int cX = 0; cX < side; cX++){
+		result += bake.heightAt(cX, cZ) + bake.heightAt(cX + 1, cZ)
+			+ bake.heightAt(cX + 1, cZ + 1) + bake.heightAt(cX, cZ + 1);
+		result += bake.normalAt(cX, cZ).getY() + bake.normalAt(cX + 1, cZ).getY()
+			+ bake.normalAt(cX + 1, cZ + 1).getY() + bake.normalAt(cX, cZ + 1).getY();
+		result += bake.heightAt(cX, cZ) + bake.heightAt(cX + 1, cZ)
+			+ bake.heightAt(cX + 1, cZ + 1) + bake.heightAt(cX, cZ + 1);
+	    }
+	return result;
+    }//end readAll(...)
+}//end TerrainBakeBenchmark
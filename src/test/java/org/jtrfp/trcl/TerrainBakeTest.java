@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.awt.Point;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Test;
+
+public class TerrainBakeTest {
+    private static final int    SIDE = 32;
+    private static final double GRID_SQUARE_SIZE = 64;
+
+    /** As the level's RAW is wrapped: wrapping cells, interpolated and scaled to world units. */
+    static AltitudeMap newAltitudeMap(final int side, long seed, double gridSquareSize, double heightScale){
+	final Random random = new Random(seed);
+	final byte [] cells = new byte[side * side];
+	random.nextBytes(cells);
+	final AltitudeMap raw = new AltitudeMap(){
+	    @Override
+	    public double heightAt(double x, double z) {
+		final int ix = Math.floorMod((int)Math.floor(x), side), iz = Math.floorMod((int)Math.floor(z), side);
+		return (cells[ix + iz * side] & 0xFF) / 255.;
+	    }
+
+	    @Override
+	    public double getWidth() {
+		return side;
+	    }
+
+	    @Override
+	    public double getHeight() {
+		return side;
+	    }};
+	return new ScalingAltitudeMap(new InterpolatingAltitudeMap(raw), new Vector3D(gridSquareSize, heightScale, gridSquareSize));
+    }//end newAltitudeMap(...)
+
+    private static void assertVectorEquals(Vector3D expected, Vector3D actual, double delta){
+	assertEquals(expected.getX(), actual.getX(), delta);
+	assertEquals(expected.getY(), actual.getY(), delta);
+	assertEquals(expected.getZ(), actual.getZ(), delta);
+    }
+
+    @Test
+    public void testBakeMatchesPerSquareSampling() {
+	final AltitudeMap altitude = newAltitudeMap(SIDE, 1, GRID_SQUARE_SIZE, 1000);
+	final NormalMap normalMap = new NormalMap(altitude);
+	final TerrainBake bake = TerrainBake.bake(altitude, GRID_SQUARE_SIZE, SIDE, SIDE, true,
+		Arrays.asList(new Point(3,4), new Point(SIDE+5,0)), 0);
+	for(int z = 0; z < SIDE; z++)
+	    for(int x = 0; x < SIDE; x++){
+		assertEquals(altitude.heightAt((x+1)*GRID_SQUARE_SIZE, (z+1)*GRID_SQUARE_SIZE), bake.heightAt(x+1, z+1), .001);
+		assertVectorEquals(normalMap.normalAt(x*GRID_SQUARE_SIZE, z*GRID_SQUARE_SIZE), bake.normalAt(x, z), 1E-5);
+		assertVectorEquals(normalMap.normalAt((x+.5)*GRID_SQUARE_SIZE, (z+.5)*GRID_SQUARE_SIZE), bake.squareNormalAt(x, z), 1E-5);
+	    }
+	assertEquals(1, bake.getNumPortals());//Outside the grid is ignored
+	assertEquals(new Point(3,4), bake.getPortalSquare(0));
+	final double centroidY = (bake.heightAt(3,4)+bake.heightAt(4,4)+bake.heightAt(4,5)+bake.heightAt(3,5))/4;
+	assertVectorEquals(new Vector3D(3.5*GRID_SQUARE_SIZE, centroidY, 4.5*GRID_SQUARE_SIZE), bake.getPortalCentroid(0), .001);
+	assertEquals(1, bake.getPortalHeading(0).getNorm(), 1E-5);
+    }//end testBakeMatchesPerSquareSampling()
+
+    @Test
+    public void testWriteThenMap() throws Exception {
+	final File file = File.createTempFile("TerrainBakeTest", ".bake");
+	try{
+	    final AltitudeMap altitude = newAltitudeMap(SIDE, 2, GRID_SQUARE_SIZE, 1000);
+	    final TerrainBake baked = TerrainBake.bake(altitude, GRID_SQUARE_SIZE, SIDE, SIDE, false,
+		    Arrays.asList(new Point(9,1), new Point(2,7)), 1234);
+	    baked.write(file);
+	    assertNull(TerrainBake.map(file, 4321));
+	    final TerrainBake mapped = TerrainBake.map(file, 1234);
+	    assertNotNull(mapped);
+	    assertEquals(SIDE, mapped.getWidth());
+	    assertEquals(false, mapped.isFlatShading());
+	    for(int z = 0; z <= SIDE; z++)
+		for(int x = 0; x <= SIDE; x++){
+		    assertEquals(baked.heightAt(x, z), mapped.heightAt(x, z), 0);
+		    assertEquals(baked.normalAt(x, z), mapped.normalAt(x, z));
+		}
+	    assertEquals(2, mapped.getNumPortals());
+	    assertEquals(new Point(9,1), mapped.getPortalSquare(0));//Ordered by z
+	    assertEquals(new Point(2,7), mapped.getPortalSquare(1));
+	    assertEquals(baked.getPortalTop(1), mapped.getPortalTop(1));
+	    assertNull(TerrainBake.map(new File(file.getPath()+".absent"), 1234));
+	}finally{file.delete();}
+    }//end testWriteThenMap()
+}//end TerrainBakeTest
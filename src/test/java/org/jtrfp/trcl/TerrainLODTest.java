@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class TerrainLODTest {
+    private static final int    SIDE = 32, CHUNK = 16;
+    private static final double GRID_SQUARE_SIZE = 64;
+
+    private static TerrainChunkMesher newMesher(){
+	final AltitudeMap altitude = TerrainBakeTest.newAltitudeMap(SIDE, 3, GRID_SQUARE_SIZE, 1000);
+	final TerrainBake bake = TerrainBake.bake(altitude, GRID_SQUARE_SIZE, SIDE, SIDE, false, new ArrayList<Point>(), 0);
+	return new TerrainChunkMesher(bake, GRID_SQUARE_SIZE, CHUNK);
+    }
+
+    /** Every corner on the chunk's border, as "x,z,y". */
+    private static TreeSet<String> borderVertices(TerrainChunkMesher.Mesh mesh, double min, double max){
+	final TreeSet<String> result = new TreeSet<String>();
+	final double [] positions = mesh.getPositions();
+	for(int p = 0; p < mesh.getNumTriangles() * 9; p += 3){
+	    final double x = positions[p], z = positions[p + 2];
+	    if(x == min || x == max || z == min || z == max)
+		result.add(x+","+z+","+positions[p + 1]);
+	}
+	return result;
+    }//end borderVertices(...)
+
+    @Test
+    public void testLevelsStitchAndFaceUp() {
+	final TerrainChunkMesher mesher = newMesher();
+	assertEquals(5, mesher.getNumLevels());
+	final int gX = CHUNK, gZ = CHUNK;
+	final double min = gX * GRID_SQUARE_SIZE, max = (gX + CHUNK) * GRID_SQUARE_SIZE;
+	final TreeSet<String> fullBorder = borderVertices(mesher.mesh(gX, gZ, 0), min, max);
+	assertEquals(CHUNK * 4, fullBorder.size());
+	for(int level = 0; level < mesher.getNumLevels(); level++){
+	    final TerrainChunkMesher.Mesh mesh = mesher.mesh(gX, gZ, level);
+	    assertEquals(mesher.countTriangles(level), mesh.getNumTriangles());
+	    assertEquals("Level "+level, fullBorder, borderVertices(mesh, min, max));
+	    final double [] p = mesh.getPositions();
+	    for(int t = 0; t < mesh.getNumTriangles(); t++){
+		final int i = t * 9;
+		final double aX = p[i + 3] - p[i], aZ = p[i + 5] - p[i + 2];
+		final double bX = p[i + 6] - p[i], bZ = p[i + 8] - p[i + 2];
+		assertTrue("Level "+level+" triangle "+t, aZ * bX - aX * bZ > 0);//Cross product's y
+	    }
+	}//end for(levels)
+	assertEquals(512, mesher.countTriangles(0));
+	assertEquals(216, mesher.countTriangles(1));
+	assertEquals(104, mesher.countTriangles(2));
+    }//end testLevelsStitchAndFaceUp()
+
+    @Test
+    public void testSelectionHysteresisAndWrap() {
+	final double width = 1000;
+	final TerrainLOD lod = new TerrainLOD(new double[]{100, 200}, .1, width);
+	assertEquals(0, lod.selectLevel(0, 2, 105));
+	assertEquals(1, lod.selectLevel(0, 2, 115));
+	assertEquals(1, lod.selectLevel(1, 2, 95));
+	assertEquals(0, lod.selectLevel(1, 2, 85));
+	assertEquals(2, lod.selectLevel(0, 2, 500));
+	assertEquals(1, lod.selectLevel(0, 1, 500));
+	final int near = lod.addChunk(50, 50, new int[]{512, 216, 104});
+	final int far = lod.addChunk(500, 50, new int[]{512, 216, 104});
+	final int pinned = lod.addChunk(500, 500, new int[]{512});
+	assertEquals(512 * 3, lod.getTrianglesSelected());
+	assertEquals(1, lod.update(50, 50, null));
+	assertEquals(0, lod.getLevel(near));
+	assertEquals(2, lod.getLevel(far));
+	assertEquals(0, lod.getLevel(pinned));
+	assertEquals(512 + 104 + 512, lod.getTrianglesSelected());
+	//Across the wrap, the far chunk is 100 away from x=-400+1000=600
+	assertEquals(100, lod.distanceTo(far, -400, 50), 1E-9);
+	final int [] changedTo = new int[]{-1, -1, -1};
+	lod.update(-450, 50, new TerrainLOD.LevelChangeListener(){
+	    @Override
+	    public void levelChanged(int chunkIndex, int previousLevel, int newLevel) {
+		assertEquals(changedTo[chunkIndex] == -1?(chunkIndex == far?2:0):changedTo[chunkIndex], previousLevel);
+		changedTo[chunkIndex] = newLevel;
+	    }});
+	assertEquals(2, changedTo[near]);//500 away now
+	assertEquals(0, changedTo[far]);
+	assertEquals(-1, changedTo[pinned]);
+	assertEquals(2, lod.getLevelChangesLastUpdate());
+	assertEquals(3, lod.getLevelChangesTotal());
+	assertEquals(104 + 512 + 512, lod.getTrianglesSelected());
+    }//end testSelectionHysteresisAndWrap()
+}//end TerrainLODTest
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.jtrfp.trcl.core.TRFactory;
+import org.jtrfp.trcl.math.Mat4x4;
+import org.jtrfp.trcl.math.Vect3D;
+
+/**
+ * Standalone timing harness for rebuilding the model matrices of many moving objects each frame. Compares the former
+ * per-object path, which WorldObject ran one object at a time with its own lock, loop check and scratch arrays,
+ * against the {@link TransformTable}'s batched pass, serially and split across the common ForkJoinPool.
+ * Matrices are written into unflushed MatrixWindow contexts, as no GPU is present. Not a unit test; run its main() directly.
+ * Optional args: [numObjects [frames]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class TransformTableBenchmark {
+    private static final int WARMUP_FRAMES = 10;
+    //Contexts can't be flushed without a GPU; keep them reachable so they aren't reported as unflushed
+    private static final ArrayList<MatrixWindow> retainedContexts = new ArrayList<MatrixWindow>();
+
+    /** The former per-object path, as it was in WorldObject. */
+    private static final class PerObjectTransform {
+	final double [] position = new double[3], positionAfterLoop = new double[3], modelOffset = new double[3];
+	final double [] heading = new double[3], top = new double[3];
+	final double [] aX = new double[3], aY = new double[3], aZ = new double[3];
+	final double [] rMd = new double[16], tMd = new double[16], rotTransM = new double[16], scratch = new double[16];
+	final ReentrantLock lock = new ReentrantLock();
+	final int matrixID;
+	final double scale = 1;
+
+	PerObjectTransform(int matrixID){
+	    this.matrixID = matrixID;
+	    rMd[15] = 1;
+	    tMd[0] = tMd[5] = tMd[10] = tMd[15] = 1;
+	}
+
+	void update(double [] cameraPosition, MatrixWindow dest){
+	    if(!lock.tryLock())
+		return;
+	    try{
+		System.arraycopy(position, 0, positionAfterLoop, 0, 3);
+		final Vector3D camPos = new Vector3D(cameraPosition);
+		final double [] delta = new double[]{
+			positionAfterLoop[0] - camPos.getX(),
+			positionAfterLoop[1] - camPos.getY(),
+			positionAfterLoop[2] - camPos.getZ()};
+		for(int i = 0; i < 3; i++)
+		    if(delta[i] > TRFactory.mapWidth / 2.)
+			positionAfterLoop[i] -= TRFactory.mapWidth;
+		    else if(delta[i] < -TRFactory.mapWidth / 2.)
+			positionAfterLoop[i] += TRFactory.mapWidth;
+		Vect3D.normalize(heading, aZ);
+		Vect3D.normalize(top, aY);
+		Vect3D.cross(top, aZ, aX);
+		Vect3D.scalarMultiply(aX, scale, aX);
+		Vect3D.scalarMultiply(aY, scale, aY);
+		Vect3D.scalarMultiply(aZ, scale, aZ);
+		rMd[0] = aX[0]; rMd[1] = aY[0]; rMd[2] = aZ[0];
+		rMd[4] = aX[1]; rMd[5] = aY[1]; rMd[6] = aZ[1];
+		rMd[8] = aX[2]; rMd[9] = aY[2]; rMd[10]= aZ[2];
+		tMd[3] = positionAfterLoop[0] + modelOffset[0];
+		tMd[7] = positionAfterLoop[1] + modelOffset[1];
+		tMd[11]= positionAfterLoop[2] + modelOffset[2];
+		Mat4x4.mul(tMd, rMd, rotTransM);
+		dest.setTransposed(rotTransM, matrixID, scratch);
+	    }finally{lock.unlock();}
+	}//end update(...)
+    }//end PerObjectTransform
+
+    private static interface Mode {
+	void frame(PerObjectTransform [] objects, double [] cameraPosition);
+    }
+
+    public static void main(String [] args){
+	final int numObjects = args.length > 0?Integer.parseInt(args[0]):10000;
+	final int frames     = args.length > 1?Integer.parseInt(args[1]):20;
+	System.out.println("objects="+numObjects+" frames="+frames+" parallelism="+ForkJoinPool.commonPool().getParallelism());
+	System.out.println("mode\tms/frame\tmatrices/frame");
+	final MatrixWindow rootWindow = new MatrixWindow();
+	run("perObject", numObjects, frames, new Mode(){
+	    final MatrixWindow context = newContext(rootWindow);
+	    @Override
+	    public void frame(PerObjectTransform [] objects, double [] cameraPosition){
+		for(PerObjectTransform object:objects)
+		    object.update(cameraPosition, context);
+	    }});
+	final TransformTable serialTable = new TransformTable(TRFactory.mapWidth);
+	run("tableSerial", numObjects, frames, new Mode(){
+	    final MatrixWindow context = newContext(rootWindow);
+	    @Override
+	    public void frame(PerObjectTransform [] objects, double [] cameraPosition){
+		stageAll(serialTable, objects);
+		serialTable.rebuild(cameraPosition[0], cameraPosition[1], cameraPosition[2], context);
+	    }});
+	final TransformTable parallelTable = new TransformTable(TRFactory.mapWidth);
+	run("tableParallel", numObjects, frames, new Mode(){
+	    final ArrayList<MatrixWindow> rangeContexts = new ArrayList<MatrixWindow>();
+	    final ForkJoinPool pool = ForkJoinPool.commonPool();
+	    @Override
+	    public void frame(final PerObjectTransform [] objects, final double [] cameraPosition){
+		stageAll(parallelTable, objects);
+		//Same split as TransformTable.rebuild(...,ForkJoinPool), less the flush which needs a GPU
+		final int numRows = parallelTable.getNumRows();
+		final int numRanges = Math.max(1, Math.min(pool.getParallelism(), numRows / 1024));
+		while(rangeContexts.size() < numRanges)
+		    rangeContexts.add(newContext(rootWindow));
+		final ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for(int r = 0; r < numRanges; r++){
+		    final int from = numRows * r / numRanges, to = numRows * (r + 1) / numRanges;
+		    final MatrixWindow rangeContext = rangeContexts.get(r);
+		    tasks.add(pool.submit(new Runnable(){
+			@Override
+			public void run() {
+			    parallelTable.rebuild(cameraPosition[0], cameraPosition[1], cameraPosition[2], from, to, rangeContext);
+			}}));
+		}
+		for(ForkJoinTask<?> task:tasks)
+		    task.join();
+	    }});
+	System.exit(0);//Reap the freeing service
+    }//end main(...)
+
+    private static MatrixWindow newContext(MatrixWindow rootWindow){
+	final MatrixWindow result = (MatrixWindow)rootWindow.newContextWindow();
+	retainedContexts.add(result);
+	return result;
+    }
+
+    private static void stageAll(TransformTable table, PerObjectTransform [] objects){
+	table.beginFrame();
+	for(PerObjectTransform object:objects)
+	    table.stage(object.matrixID, object.position, object.heading, object.top, object.modelOffset, object.scale,
+		    (byte)(TransformTable.FLAG_VISIBLE | TransformTable.FLAG_TRANSLATE | TransformTable.FLAG_LOOP));
+    }
+
+    private static void run(String name, int numObjects, int frames, Mode mode){
+	final Random random = new Random(numObjects);
+	final PerObjectTransform [] objects = new PerObjectTransform[numObjects];
+	for(int i = 0; i < numObjects; i++){
+	    final PerObjectTransform object = objects[i] = new PerObjectTransform(i);
+	    for(int a = 0; a < 3; a++){
+		object.position[a] = random.nextDouble() * TRFactory.mapWidth;
+		object.heading [a] = random.nextDouble() - .5;
+		object.top     [a] = random.nextDouble() - .5;
+	    }
+	}
+	final double [] cameraPosition = new double[]{TRFactory.mapWidth / 2, 0, TRFactory.mapWidth / 2};
+	long elapsed = 0;
+	for(int frame = 0; frame < WARMUP_FRAMES + frames; frame++){
+	    for(PerObjectTransform object:objects)//Everything moves
+		object.position[0] = (object.position[0] + 100) % TRFactory.mapWidth;
+	    cameraPosition[2] = (cameraPosition[2] + 1000) % TRFactory.mapWidth;
+	    final long start = System.nanoTime();
+	    mode.frame(objects, cameraPosition);
+	    if(frame >= WARMUP_FRAMES)
+		elapsed += System.nanoTime() - start;
+	}
+	System.out.println(name+"\t"+String.format("%.3f", elapsed / 1000000. / frames)+"\t"+numObjects);
+    }//end run(...)
+}//end TransformTableBenchmark
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TransformTableTest {
+    private static final double [] ORIGIN = new double[]{0,0,0},
+	                           HEADING= new double[]{0,0,1},
+	                           TOP    = new double[]{0,1,0};
+
+    private static TransformTable stagedTable(int matrixID){
+	final TransformTable result = new TransformTable(1000);
+	result.beginFrame();
+	result.stage(matrixID, ORIGIN, HEADING, TOP, ORIGIN, 1, (byte)(TransformTable.FLAG_VISIBLE | TransformTable.FLAG_LOOP));
+	return result;
+    }
+
+    @Test
+    public void testNeverStagedCannotBeTouched() {
+	final TransformTable table = stagedTable(3);
+	assertFalse(table.touch(2));
+	assertFalse(table.touch(4));
+    }
+
+    @Test
+    public void testStagedRowIsTouchedOncePerFrame() {
+	final TransformTable table = stagedTable(3);
+	table.beginFrame();
+	assertTrue(table.touch(3));
+	assertTrue(table.touch(3));
+	assertEquals(1, table.getNumRows());
+    }
+
+    @Test
+    public void testReleasedRowMustBeStagedAgain() {
+	final TransformTable table = stagedTable(3);
+	table.release(3);
+	assertTrue(table.touch(3));//Not in effect until the next frame
+	table.beginFrame();
+	assertFalse(table.touch(3));
+	assertEquals(0, table.getNumRows());
+    }
+}//end TransformTableTest
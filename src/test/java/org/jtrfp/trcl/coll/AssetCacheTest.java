@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.coll;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.Cleaner;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jtrfp.trcl.coll.AssetCache.Statistics;
+import org.junit.Test;
+
+public class AssetCacheTest {
+    private static final AssetCache.Weigher<String,byte[]> LENGTH = new AssetCache.Weigher<String,byte[]>(){
+	@Override
+	public long weigh(String key, byte[] value) {
+	    return value.length;
+	}};
+
+    @Test
+    public void testEvictsLeastRecentlyUsedPastBudget() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 300, LENGTH);
+	subject.put("a", new byte[100]);
+	subject.put("b", new byte[100]);
+	subject.put("c", new byte[100]);
+	subject.get("a");//b is now least-recently used
+	subject.put("d", new byte[100]);
+	assertTrue(subject.containsKey("a"));
+	assertFalse(subject.containsKey("b"));
+	assertTrue(subject.containsKey("c"));
+	assertTrue(subject.containsKey("d"));
+	final Statistics stats = subject.getStatistics();
+	assertEquals(1, stats.getEvictions());
+	assertEquals(100, stats.getEvictedBytes());
+	assertEquals(300, stats.getSizeInBytes());
+	assertEquals(1, stats.getHits());
+    }//end testEvictsLeastRecentlyUsedPastBudget()
+
+    @Test
+    public void testKeepsNewestEntryLargerThanBudget() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 100, LENGTH);
+	subject.put("a", new byte[50]);
+	subject.put("huge", new byte[500]);
+	assertFalse(subject.containsKey("a"));
+	assertTrue(subject.containsKey("huge"));
+	assertEquals(500, subject.getStatistics().getSizeInBytes());
+    }
+
+    @Test
+    public void testReplacingKeyReweighs() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 1000, null);
+	subject.put("a", new byte[1], 400);
+	subject.put("a", new byte[1], 100);
+	assertEquals(100, subject.getStatistics().getSizeInBytes());
+	assertEquals(1, subject.size());
+	subject.remove("a");
+	assertEquals(0, subject.getStatistics().getSizeInBytes());
+    }
+
+    @Test
+    public void testCountsHitsMissesAndLoads() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 1000, LENGTH);
+	assertNull(subject.get("a"));
+	subject.put("a", new byte[10]);
+	subject.recordLoad(2000000);
+	subject.get("a");
+	subject.get("a");
+	final Statistics stats = subject.getStatistics();
+	assertEquals(2, stats.getHits());
+	assertEquals(1, stats.getMisses());
+	assertEquals(1, stats.getLoads());
+	assertEquals(2000000, stats.getLoadNanos());
+	assertEquals(2./3., stats.getHitRatio(), .0001);
+    }//end testCountsHitsMissesAndLoads()
+
+    @Test
+    public void testRecoversEvictedValueStillInUse() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 100, LENGTH).setTrackingEvicted(true);
+	final byte [] inUse = new byte[100];
+	subject.put("a", inUse);
+	subject.put("b", new byte[100]);
+	assertFalse(subject.containsKey("a"));
+	assertEquals(100, subject.getStatistics().getReachableEvictedBytes());
+	assertSame(inUse, subject.get("a"));
+	final Statistics stats = subject.getStatistics();
+	assertEquals(1, stats.getRecoveries());
+	assertEquals(0, stats.getMisses());
+	assertTrue(subject.containsKey("a"));
+	assertFalse(subject.containsKey("b"));//Made room for the recovered value
+	assertEquals(100, stats.getReachableEvictedBytes());//Now b's
+    }//end testRecoversEvictedValueStillInUse()
+
+    @Test
+    public void testCountsUnreachableOnceEvictedValueIsCollected() throws Exception {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 1000, LENGTH).setTrackingEvicted(true);
+	subject.put("a", new byte[1000]);
+	subject.put("b", new byte[1000]);
+	for(int attempt = 0; attempt < 100 && subject.getStatistics().getUnreachable() == 0; attempt++){
+	    System.gc();
+	    Thread.sleep(10);
+	}
+	final Statistics stats = subject.getStatistics();
+	assertEquals(1, stats.getUnreachable());
+	assertEquals(1000, stats.getUnreachableBytes());
+	assertEquals(0, stats.getReachableEvictedBytes());
+	assertNull(subject.get("a"));
+	assertEquals(1, subject.getStatistics().getMisses());
+    }//end testCountsUnreachableOnceEvictedValueIsCollected()
+
+    /** Puts a value whose cleanup reports freeing only part of it, the rest being still shared elsewhere. */
+    private static void putPartlyShared(final AssetCache<String,byte[]> subject, Cleaner cleaner, String key){
+	final byte [] value = new byte[1000];
+	cleaner.register(value, new Runnable(){
+	    @Override
+	    public void run() {
+		subject.recordFreed(600);
+	    }});
+	subject.put(key, value);
+    }//end putPartlyShared(...)
+
+    @Test
+    public void testCountsBytesFreedByCleanup() throws Exception {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 1000, LENGTH).setTrackingEvicted(true);
+	putPartlyShared(subject, Cleaner.create(), "a");
+	subject.put("b", new byte[1000]);
+	assertEquals(0, subject.getStatistics().getFreedBytes());
+	Statistics stats = subject.getStatistics();
+	for(int attempt = 0; attempt < 100 && (stats.getFreedBytes() == 0 || stats.getUnreachable() == 0); attempt++){
+	    System.gc();
+	    Thread.sleep(10);
+	    stats = subject.getStatistics();
+	}
+	assertEquals(1000, stats.getUnreachableBytes());
+	assertEquals(600, stats.getFreedBytes());
+    }//end testCountsBytesFreedByCleanup()
+
+    @Test
+    public void testMapViewsSnapshotEntries() {
+	final AssetCache<String,byte[]> subject = new AssetCache<String,byte[]>("test", 300, LENGTH);
+	final byte [] a = new byte[100], b = new byte[100];
+	subject.put("a", a);
+	subject.put("b", b);
+	assertTrue(subject.containsValue(a));
+	assertFalse(subject.containsValue(new byte[100]));
+	assertEquals(2, subject.values().size());
+	assertTrue(subject.values().contains(b));
+	final HashMap<String,byte[]> copy = new HashMap<String,byte[]>();
+	for(Map.Entry<String,byte[]> entry : subject.entrySet())
+	    copy.put(entry.getKey(), entry.getValue());
+	assertSame(a, copy.get("a"));
+	assertSame(b, copy.get("b"));
+	assertEquals(2, copy.size());
+	subject.remove("a");
+	assertFalse(subject.containsValue(a));
+	assertEquals(1, subject.entrySet().size());
+    }//end testMapViewsSnapshotEntries()
+}//end AssetCacheTest
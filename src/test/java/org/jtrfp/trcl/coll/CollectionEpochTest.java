@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.coll;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+public class CollectionEpochTest {
+    private static final class QueueingExecutor implements Executor {
+	final List<Runnable> tasks = new ArrayList<Runnable>();
+
+	@Override
+	public void execute(Runnable command) {
+	    tasks.add(command);
+	}
+
+	void runAll(){
+	    for(Runnable task:tasks)
+		task.run();
+	    tasks.clear();
+	}
+    }//end QueueingExecutor
+
+    @Test
+    public void testEpochPostsOneNetTask() {
+	final QueueingExecutor executor = new QueueingExecutor();
+	final List<String> target = new ArrayList<String>(Arrays.asList("stale"));
+	final CollectionThreadDecoupler<String> subject = new CollectionThreadDecoupler<String>(target, executor);
+	CollectionEpoch.begin();
+	try{
+	    subject.add("a");
+	    subject.addAll(Arrays.asList("b", "c"));
+	    subject.remove("b");//Cancels the add
+	    subject.remove("stale");
+	    assertTrue(executor.tasks.isEmpty());
+	}finally{CollectionEpoch.end();}
+	assertFalse(CollectionEpoch.isOpen());
+	assertEquals(1, executor.tasks.size());
+	executor.runAll();
+	assertEquals(Arrays.asList("a", "c"), target);
+    }//end testEpochPostsOneNetTask()
+
+    @Test
+    public void testFullyCancelledEpochPostsNothing() {
+	final QueueingExecutor executor = new QueueingExecutor();
+	final CollectionThreadDecoupler<String> subject = new CollectionThreadDecoupler<String>(new ArrayList<String>(), executor);
+	CollectionEpoch.begin();
+	subject.addAll(Arrays.asList("a", "b"));
+	subject.removeAll(Arrays.asList("a", "b"));
+	CollectionEpoch.end();
+	assertTrue(executor.tasks.isEmpty());
+    }//end testFullyCancelledEpochPostsNothing()
+
+    @Test
+    public void testNestedEpochsDeliverAtOutermostEnd() {
+	final QueueingExecutor executor = new QueueingExecutor();
+	final CollectionThreadDecoupler<String> subject = new CollectionThreadDecoupler<String>(new ArrayList<String>(), executor);
+	CollectionEpoch.begin();
+	CollectionEpoch.begin();
+	subject.add("a");
+	CollectionEpoch.end();
+	assertTrue(executor.tasks.isEmpty());
+	subject.add("b");
+	CollectionEpoch.end();
+	assertEquals(1, executor.tasks.size());
+    }//end testNestedEpochsDeliverAtOutermostEnd()
+
+    @Test
+    public void testUnbatchedActionsKeepOrder() throws Exception {
+	final QueueingExecutor executor = new QueueingExecutor();
+	final List<String> target = new ArrayList<String>();
+	final CollectionThreadDecoupler<String> subject = new CollectionThreadDecoupler<String>(target, executor);
+	CollectionEpoch.begin();
+	subject.add("a");
+	//Another thread, outside the epoch, must not overtake the pending add
+	final Thread other = new Thread(){
+	    @Override
+	    public void run(){
+		subject.remove("a");
+	    }};
+	other.start();
+	other.join();
+	CollectionEpoch.end();
+	assertEquals(2, executor.tasks.size());
+	executor.runAll();
+	assertTrue(target.isEmpty());
+    }//end testUnbatchedActionsKeepOrder()
+}//end CollectionEpochTest
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.coll;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LongIntHashMapTest {
+    private LongIntHashMap subject;
+
+    @Before
+    public void setUp() throws Exception {
+	subject = new LongIntHashMap(4);
+    }
+
+    @Test
+    public void testPutGet() {
+	assertEquals(LongIntHashMap.NO_VALUE, subject.put(5L, 1));
+	assertEquals(1, subject.get(5L));
+	assertEquals(1, subject.put(5L, 2));
+	assertEquals(2, subject.get(5L));
+	assertEquals(LongIntHashMap.NO_VALUE, subject.get(6L));
+	assertEquals(1, subject.size());
+    }
+
+    @Test
+    public void testGrowth() {
+	for(int i = 0; i < 10000; i++)
+	    subject.put(i * 31L - 5000, i);
+	assertEquals(10000, subject.size());
+	for(int i = 0; i < 10000; i++)
+	    assertEquals(i, subject.get(i * 31L - 5000));
+    }
+
+    @Test
+    public void testClearRetainsCapacity() {
+	for(int i = 0; i < 100; i++)
+	    subject.put(i, i);
+	final int capacity = subject.getCapacity();
+	subject.clear();
+	assertTrue(subject.isEmpty());
+	for(int i = 0; i < 100; i++)
+	    assertFalse(subject.containsKey(i));
+	for(int i = 0; i < 100; i++)
+	    subject.put(i, i + 1);
+	assertEquals(capacity, subject.getCapacity());
+	assertEquals(51, subject.get(50));
+    }
+
+    @Test
+    public void testPackedCubeCoordinatesDistinct() {
+	for(int x = -2; x <= 2; x++)
+	    for(int y = -2; y <= 2; y++)
+		for(int z = -2; z <= 2; z++)
+		    assertEquals(LongIntHashMap.NO_VALUE, subject.put(CubeCoordinate.pack(x, y, z), 0));
+	assertEquals(125, subject.size());
+	assertEquals(new CubeCoordinate(-1,2,-2).pack(), CubeCoordinate.pack(-1, 2, -2));
+    }
+}//end LongIntHashMapTest
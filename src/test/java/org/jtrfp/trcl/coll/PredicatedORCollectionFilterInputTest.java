@@ -66,5 +66,17 @@ public class PredicatedORCollectionFilterInputTest extends PredicatedORCollectio
 	assertTrue (input.contains(Color.blue));
 	assertFalse(input.contains(Color.black));
     }
+    
+    @Test
+    public void testDuplicateAddLeavesDelegateConsistent(){
+	subject.add(new PrimaryColorPredicate());
+	final int delegateSize = delegate.size();
+	assertFalse(input.add(Color.red));
+	assertFalse(input.add(Color.pink));
+	assertEquals(5, input.size());
+	assertEquals(delegateSize, delegate.size());
+	input.remove(Color.red);
+	assertFalse(delegate.contains(Color.red));
+    }
 
 }//end PredicatedORListActionFilterInputTest
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.coll;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.collections4.Predicate;
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.jtrfp.trcl.obj.Positionable;
+import org.jtrfp.trcl.obj.WorldObject;
+
+import com.ochafik.util.CollectionAdapter;
+import com.ochafik.util.listenable.Pair;
+
+/**
+ * Standalone harness which sweeps a camera's center cube across a populated level through the same dispatcher
+ * graph the Camera and Renderer build, counting tasks posted across the render list thread hop and elements
+ * delivered to the render lists, with and without a {@link CollectionEpoch} around each re-evaluation.
+ * Not a unit test; run its main() directly.
+ * Optional args: [numObjects [levelWidthCubes [relevanceRadiusCubes]]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class RelevanceEpochBenchmark {
+    private static final int NUM_RENDER_LISTS = 2;//Opaque and transparent, as in the Renderer
+
+    private static final class CountingSet extends HashSet<Positionable> {
+	private static final long serialVersionUID = 1L;
+	final AtomicLong elementsTouched;
+
+	CountingSet(AtomicLong elementsTouched){
+	    this.elementsTouched = elementsTouched;
+	}
+
+	@Override
+	public boolean add(Positionable element){
+	    elementsTouched.incrementAndGet();
+	    return super.add(element);
+	}
+
+	@Override
+	public boolean remove(Object element){
+	    elementsTouched.incrementAndGet();
+	    return super.remove(element);
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> elements){
+	    boolean result = false;
+	    for(Object element:elements)
+		result |= remove(element);
+	    return result;
+	}
+    }//end CountingSet
+
+    public static void main(String [] args) throws Exception {
+	final int numObjects   = args.length > 0?Integer.parseInt(args[0]):20000;
+	final int widthCubes   = args.length > 1?Integer.parseInt(args[1]):32;
+	final int radiusCubes  = args.length > 2?Integer.parseInt(args[2]):5;
+	System.out.println("objects="+numObjects+" level="+widthCubes+"x"+widthCubes+" cubes radius="+radiusCubes);
+	System.out.println("mode\ttasks posted\telements touched\tms");
+	for(int pass = 0; pass < 2; pass++){//First pass is warmup
+	    final boolean print = pass > 0;
+	    run(false, numObjects, widthCubes, radiusCubes, print);
+	    run(true,  numObjects, widthCubes, radiusCubes, print);
+	}
+    }//end main(...)
+
+    private static void run(boolean epochs, int numObjects, int widthCubes, final int radiusCubes, boolean print) throws Exception {
+	final AtomicLong tasksPosted = new AtomicLong(), elementsTouched = new AtomicLong();
+	final ThreadPoolExecutor renderListExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>()){
+	    @Override
+	    protected void beforeExecute(Thread thread, Runnable task){
+		tasksPosted.incrementAndGet();
+	    }};
+	// Camera side
+	final int [] center = new int[2];
+	final CollectionActionDispatcher<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> relevancePairs =
+		new CollectionActionDispatcher<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(new HashSet<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>());
+	final PredicatedORCollectionActionFilter<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>> visibilityFilter =
+		new PredicatedORCollectionActionFilter<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(relevancePairs);
+	visibilityFilter.add(new Predicate<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(){
+	    @Override
+	    public boolean evaluate(Pair<CubeCoordinate, CollectionActionDispatcher<Positionable>> object) {
+		final double dX = object.getKey().getX()-center[0], dZ = object.getKey().getZ()-center[1];
+		return Math.sqrt(dX*dX+dZ*dZ) < radiusCubes;
+	    }});
+	final CachedAdapter<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>,CollectionActionDispatcher<Positionable>> strippingAdapter =
+		new CachedAdapter<Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>,CollectionActionDispatcher<Positionable>>(){
+	    @Override
+	    protected CollectionActionDispatcher<Positionable> _adapt(Pair<CubeCoordinate, CollectionActionDispatcher<Positionable>> value){
+		return value.getValue();
+	    }
+
+	    @Override
+	    protected Pair<CubeCoordinate, CollectionActionDispatcher<Positionable>> _reAdapt(CollectionActionDispatcher<Positionable> value){
+		throw new UnsupportedOperationException();
+	    }};
+	final CollectionActionDispatcher<CollectionActionDispatcher<Positionable>> relevanceCollections =
+		new CollectionActionDispatcher<CollectionActionDispatcher<Positionable>>(new HashSet<CollectionActionDispatcher<Positionable>>());
+	relevancePairs.addTarget(new CollectionAdapter<CollectionActionDispatcher<Positionable>,Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>>(relevanceCollections, strippingAdapter.inverse()), true);
+	final CollectionActionDispatcher<Positionable> flatRelevanceCollection = new CollectionActionDispatcher<Positionable>(new HashSet<Positionable>());
+	relevanceCollections.addTarget(new CollectionActionUnpacker<Positionable>(flatRelevanceCollection), true);
+	// Renderer side
+	final DecoupledCollectionActionDispatcher<Positionable> relevantPositioned =
+		new DecoupledCollectionActionDispatcher<Positionable>(new HashSet<Positionable>(), renderListExecutor);
+	for(int i = 0; i < NUM_RENDER_LISTS; i++)
+	    relevantPositioned.addTarget(new CountingSet(elementsTouched), true);
+	flatRelevanceCollection.addTarget(relevantPositioned, true);
+	// Level
+	final Random random = new Random(numObjects);
+	@SuppressWarnings("unchecked")
+	final CollectionActionDispatcher<Positionable> [] cubes = new CollectionActionDispatcher[widthCubes*widthCubes];
+	for(int i = 0; i < cubes.length; i++)
+	    cubes[i] = new CollectionActionDispatcher<Positionable>(new HashSet<Positionable>());
+	for(int i = 0; i < numObjects; i++)
+	    cubes[random.nextInt(cubes.length)].add(new WorldObject());
+	for(int i = 0; i < cubes.length; i++)
+	    visibilityFilter.input.add(new Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>(new CubeCoordinate(i%widthCubes,0,i/widthCubes),cubes[i]));
+	waitFor(renderListExecutor);
+	tasksPosted.set(0);
+	elementsTouched.set(0);
+	// Sweep diagonally across the level, one cube boundary at a time
+	final long start = System.nanoTime();
+	for(int step = 0; step < widthCubes; step++){
+	    center[0] = step;
+	    center[1] = step;
+	    if(epochs)
+		CollectionEpoch.begin();
+	    try{visibilityFilter.reEvaluatePredicates();}
+	    finally{
+		if(epochs)
+		    CollectionEpoch.end();
+	    }
+	}//end for(steps)
+	waitFor(renderListExecutor);
+	final double millis = (System.nanoTime()-start)/1000000.;
+	renderListExecutor.shutdown();
+	if(print)//Less one for the barrier task
+	    System.out.println((epochs?"epoch":"per-cube")+"\t"+(tasksPosted.get()-1)+"\t"+elementsTouched.get()+"\t"+millis);
+    }//end run(...)
+
+    private static void waitFor(ThreadPoolExecutor executor) throws Exception {
+	executor.submit(new Runnable(){
+	    @Override
+	    public void run() {}}).get();
+    }
+}//end RelevanceEpochBenchmark
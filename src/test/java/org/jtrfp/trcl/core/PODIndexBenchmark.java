@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.core;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.jtrfp.jtrfp.internal.tex.TexDataLoader;
+import org.jtrfp.jtrfp.pod.IPodData;
+import org.jtrfp.jtrfp.pod.IPodFileEntry;
+import org.jtrfp.jtrfp.pod.PodFile;
+import org.jtrfp.trcl.coll.CollectionActionDispatcher;
+import org.jtrfp.trcl.file.DEFFile;
+import org.jtrfp.trcl.file.DEFFile.EnemyDefinition;
+import org.jtrfp.trcl.file.LVLFile;
+
+/**
+ * Standalone timing harness for {@link PODIndex}. Resolves and reads every asset a level references: its LVL,
+ * the DATA files the LVL names, its palette, the RAWs of its texture list and the BINs of its enemy definitions.
+ * Compares the former search of each POD's findEntry() with a buffered stream copy against the index's lookup and
+ * a pass over the mapped slice. Reports microseconds per pass for lookups and for reads.
+ * Not a unit test; run its main() directly.<br><br>
+ * Args: [levelFile podFile ...], i.e. LEVEL1.LVL FURY3.POD. Without args, synthetic POD1 archives and names are used.
+ * @author Chuck Ritola
+ *
+ */
+
+public class PODIndexBenchmark {
+    private static final int PASSES = 20;
+    private static volatile long sink;
+
+    private static interface Scheme {
+	Object lookup(String name) throws Exception;
+	long read(Object entry) throws Exception;
+    }
+
+    public static void main(String [] args) throws Exception {
+	final List<String> podPaths = new ArrayList<String>();
+	final List<String> assets;
+	if(args.length > 1){
+	    podPaths.addAll(Arrays.asList(args).subList(1, args.length));
+	    assets = levelAssets(args[0], newIndex(podPaths));
+	} else
+	    assets = synthesize(podPaths, 4, 1500, 600);
+	final List<IPodData> pods = new ArrayList<IPodData>();
+	for(String podPath : podPaths)
+	    pods.add(new PodFile(new File(podPath)).getData());
+	final PODIndex index = newIndex(podPaths);
+	System.out.println("pods="+podPaths.size()+" assets="+assets.size()+" passes="+PASSES);
+	System.out.println("scheme\tlookupUs/pass\treadUs/pass");
+	for(int run = 0; run < 3; run++){//The first runs are warmup
+	    measure("findEntry", assets, new Scheme(){
+		@Override
+		public Object lookup(String name) throws Exception {
+		    for(IPodData pod : pods){
+			final IPodFileEntry entry = pod.findEntry(name);
+			if(entry != null)
+			    return entry;
+		    }
+		    return null;
+		}
+
+		@Override
+		public long read(Object entry) throws Exception {
+		    final InputStream is = new BufferedInputStream(((IPodFileEntry)entry).getInputStreamFromPod());
+		    final byte [] buffer = new byte[8192];
+		    long sum = 0;
+		    try{
+			int read;
+			while((read = is.read(buffer)) != -1)
+			    for(int i = 0; i < read; i++)
+				sum += buffer[i];
+		    }finally{is.close();}
+		    return sum;
+		}});
+	    measure("podIndex", assets, new Scheme(){
+		@Override
+		public Object lookup(String name) throws Exception {
+		    return index.find(name);
+		}
+
+		@Override
+		public long read(Object entry) throws Exception {
+		    final ByteBuffer bytes = ((PODIndex.Entry)entry).getByteBuffer();
+		    final int length = bytes.remaining();
+		    long sum = 0;
+		    for(int i = 0; i < length; i++)
+			sum += bytes.get(i);
+		    return sum;
+		}});
+	}//end for(runs)
+    }//end main(...)
+
+    private static void measure(String name, List<String> assets, Scheme scheme) throws Exception {
+	long lookupNanos = 0, readNanos = 0;
+	for(int pass = 0; pass < PASSES; pass++)
+	    for(String asset : assets){
+		final long start = System.nanoTime();
+		final Object entry = scheme.lookup(asset);
+		final long found = System.nanoTime();
+		sink += scheme.read(entry);
+		readNanos   += System.nanoTime() - found;
+		lookupNanos += found - start;
+	    }
+	System.out.println(name+"\t"+String.format("%.1f", lookupNanos / 1000. / PASSES)
+		+"\t"+String.format("%.1f", readNanos / 1000. / PASSES));
+    }//end measure(...)
+
+    private static PODIndex newIndex(final List<String> podPaths){
+	final CollectionActionDispatcher<String> collection = new CollectionActionDispatcher<String>(new ArrayList<String>(podPaths));
+	return new PODIndex(new PODRegistry(){
+	    @Override
+	    public CollectionActionDispatcher<String> getPodCollection() {
+		return collection;
+	    }
+
+	    @Override
+	    public IPodData getPodData(String path) {
+		try{return new PodFile(new File(path)).getData();}
+		catch(Exception e){throw new UnsupportedOperationException(e);}
+	    }});
+    }//end newIndex(...)
+
+    /** Names of the level's assets which exist in the PODs, each once. */
+    private static List<String> levelAssets(String levelFile, PODIndex index) throws Exception {
+	final LinkedHashSet<String> names = new LinkedHashSet<String>();
+	names.add("LEVELS\\"+levelFile);
+	final LVLFile lvl = new LVLFile(index.find("LEVELS\\"+levelFile).getInputStream());
+	for(String data : new String[]{lvl.getHeightMapOrTunnelFile(), lvl.getTexturePlacementFile(), lvl.getLevelTextureListFile(),
+		lvl.getPowerupPlacementFile(), lvl.getNavigationFile(), lvl.getEnemyDefinitionAndPlacementFile(), lvl.getTunnelDefinitionFile()})
+	    names.add("DATA\\"+data);
+	names.add("ART\\"+lvl.getGlobalPaletteFile());
+	for(String texture : TexDataLoader.load(index.find("DATA\\"+lvl.getLevelTextureListFile()).getInputStream()).getTextureNames())
+	    names.add("ART\\"+texture);
+	final DEFFile def = new DEFFile(index.find("DATA\\"+lvl.getEnemyDefinitionAndPlacementFile()).getInputStream());
+	for(EnemyDefinition enemy : def.getEnemyDefinitions()){
+	    names.add("MODELS\\"+enemy.getComplexModelFile());
+	    names.add("MODELS\\"+enemy.getSimpleModel());
+	}
+	final List<String> result = new ArrayList<String>();
+	for(String name : names)
+	    if(index.find(name) != null)
+		result.add(name);
+	return result;
+    }//end levelAssets(...)
+
+    /** Writes POD1 archives of random 1-64KB entries, whose names partly overlap, and picks names to load. */
+    private static List<String> synthesize(List<String> podPaths, int numPODs, int entriesPerPOD, int numAssets) throws Exception {
+	final Random random = new Random(1);
+	final char [] content = new char[65536];
+	Arrays.fill(content, 'x');
+	for(int p = 0; p < numPODs; p++){
+	    final String [] names = new String[entriesPerPOD], contents = new String[entriesPerPOD];
+	    for(int e = 0; e < entriesPerPOD; e++){
+		names[e]    = "ART\\R"+(p * entriesPerPOD / 2 + e)+".RAW";//Each POD overrides half of the next
+		contents[e] = new String(content, 0, 1024 + random.nextInt(content.length - 1024));
+	    }
+	    final File pod = PODIndexTest.newPOD1(names, contents);
+	    pod.deleteOnExit();
+	    podPaths.add(pod.getPath());
+	}//end for(pods)
+	final List<String> result = new ArrayList<String>();
+	for(int a = 0; a < numAssets; a++)
+	    result.add("ART\\R"+random.nextInt((numPODs + 1) * entriesPerPOD / 2)+".RAW");
+	return result;
+    }//end synthesize(...)
+}//end PODIndexBenchmark
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import org.jtrfp.jtrfp.pod.IPodData;
+import org.jtrfp.trcl.coll.CollectionActionDispatcher;
+import org.junit.Test;
+
+public class PODIndexTest {
+
+    private static final class TestRegistry implements PODRegistry {
+	private final CollectionActionDispatcher<String> pods = new CollectionActionDispatcher<String>(new ArrayList<String>());
+
+	@Override
+	public CollectionActionDispatcher<String> getPodCollection() {
+	    return pods;
+	}
+
+	@Override
+	public IPodData getPodData(String path) {
+	    throw new UnsupportedOperationException("Only POD1 archives are expected: "+path);
+	}
+    }//end TestRegistry
+
+    /** Writes a POD1 archive: entry count, comment, name/length/offset directory, then each entry's bytes. */
+    static File newPOD1(String [] names, String [] contents) throws Exception {
+	final File file = File.createTempFile("PODIndexTest", ".POD");
+	int dataSize = 0;
+	for(String content : contents)
+	    dataSize += content.length();
+	final int directoryEnd = 4 + 80 + names.length * 40;
+	final ByteBuffer pod = ByteBuffer.allocate(directoryEnd + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+	pod.putInt(names.length);
+	pod.put("PODIndexTest".getBytes(StandardCharsets.ISO_8859_1));
+	int offset = directoryEnd;
+	for(int i = 0; i < names.length; i++){
+	    pod.position(4 + 80 + i * 40);
+	    pod.put(names[i].getBytes(StandardCharsets.ISO_8859_1));
+	    pod.position(4 + 80 + i * 40 + 32);
+	    pod.putInt(contents[i].length());
+	    pod.putInt(offset);
+	    pod.position(offset);
+	    pod.put(contents[i].getBytes(StandardCharsets.ISO_8859_1));
+	    offset += contents[i].length();
+	}
+	final FileOutputStream os = new FileOutputStream(file);
+	try{os.write(pod.array());}
+	finally{os.close();}
+	return file;
+    }//end newPOD1(...)
+
+    private static String read(ByteBuffer buffer){
+	final byte [] bytes = new byte[buffer.remaining()];
+	buffer.get(bytes);
+	return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testFirstPODWinsAndSlicesAreViews() throws Exception {
+	final File first  = newPOD1(new String[]{"ART\\A.RAW", "DATA\\SHARED.DEF"}, new String[]{"aaaa", "first"});
+	final File second = newPOD1(new String[]{"DATA\\SHARED.DEF", "DATA\\B.TNL"},  new String[]{"second", "bb"});
+	try{
+	    final TestRegistry registry = new TestRegistry();
+	    registry.getPodCollection().add(first.getPath());
+	    registry.getPodCollection().add(second.getPath());
+	    final PODIndex index = new PODIndex(registry);
+	    assertEquals(3, index.size());
+	    assertEquals("first", read(index.getByteBuffer("data\\shared.def")));
+	    assertEquals("bb",    read(index.getByteBuffer("DATA\\B.TNL")));
+	    final PODIndex.Entry entry = index.find("ART\\A.RAW");
+	    assertEquals(first.getPath(), entry.getPODPath());
+	    assertEquals(4 + 80 + 2 * 40, entry.getOffset());
+	    assertEquals(4, entry.getLength());
+	    final ByteBuffer view = entry.getByteBuffer();
+	    assertTrue(view.isReadOnly());
+	    assertEquals(ByteOrder.LITTLE_ENDIAN, view.order());
+	    assertEquals(0x61616161, view.getInt(0));
+	    final InputStream is = entry.getInputStream();
+	    assertEquals('a', is.read());
+	    assertEquals(3, is.available());
+	    assertNull(index.find("ART\\MISSING.RAW"));
+	    assertEquals(1, index.getRebuilds());
+	}finally{
+	    first.delete();
+	    second.delete();
+	}
+    }//end testFirstPODWinsAndSlicesAreViews()
+
+    @Test
+    public void testRebuildsWhenRegistryChanges() throws Exception {
+	final File first  = newPOD1(new String[]{"DATA\\SHARED.DEF"}, new String[]{"first"});
+	final File second = newPOD1(new String[]{"DATA\\SHARED.DEF"}, new String[]{"second"});
+	try{
+	    final TestRegistry registry = new TestRegistry();
+	    registry.getPodCollection().add(first.getPath());
+	    final PODIndex index = new PODIndex(registry);
+	    assertEquals("first", read(index.getByteBuffer("DATA\\SHARED.DEF")));
+	    registry.getPodCollection().add(second.getPath());
+	    assertEquals("first", read(index.getByteBuffer("DATA\\SHARED.DEF")));
+	    assertEquals(2, index.getRebuilds());
+	    registry.getPodCollection().remove(first.getPath());
+	    assertEquals("second", read(index.getByteBuffer("DATA\\SHARED.DEF")));
+	    index.dispose();
+	    registry.getPodCollection().clear();
+	    assertEquals("second", read(index.getByteBuffer("DATA\\SHARED.DEF")));
+	    assertEquals(3, index.getRebuilds());
+	}finally{
+	    first.delete();
+	    second.delete();
+	}
+    }//end testRebuildsWhenRegistryChanges()
+
+    @Test
+    public void testRejectsOtherFormats() {
+	final ByteBuffer pod2 = ByteBuffer.allocate(4096);
+	pod2.put("POD2".getBytes(StandardCharsets.ISO_8859_1));
+	assertFalse(PODIndex.isPOD1(pod2));
+	final ByteBuffer outOfBounds = ByteBuffer.allocate(4 + 80 + 40).order(ByteOrder.LITTLE_ENDIAN);
+	outOfBounds.putInt(0, 1);
+	outOfBounds.putInt(4 + 80 + 32, 10);
+	outOfBounds.putInt(4 + 80 + 36, 4 + 80 + 40);
+	assertFalse(PODIndex.isPOD1(outOfBounds));
+	outOfBounds.putInt(4 + 80 + 32, 0);
+	assertTrue(PODIndex.isPOD1(outOfBounds));
+    }//end testRejectsOtherFormats()
+}//end PODIndexTest
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SimulationClockTest {
+    private static final long MS = 1000000L;
+
+    @Test
+    public void testStepsFollowRealTime() {
+	final SimulationClock subject = new SimulationClock(60, 8, 0);
+	assertEquals(0, subject.advance(0));
+	assertEquals(0, subject.advance(10 * MS));
+	assertEquals(1, subject.advance(20 * MS));
+	assertEquals(1, subject.advance(40 * MS));
+	assertEquals(3, subject.advance(90 * MS));
+    }
+
+    @Test
+    public void testCatchUpIsCapped() {
+	final SimulationClock subject = new SimulationClock(100, 4, 0);
+	subject.advance(0);
+	assertEquals(4, subject.advance(1000 * MS));
+	//Backlog dropped
+	assertEquals(0, subject.advance(1005 * MS));
+	assertEquals(1, subject.advance(1010 * MS));
+    }
+
+    @Test
+    public void testSimulatedTimeIndependentOfJitter() {
+	final SimulationClock smooth  = new SimulationClock(120, 8, 1000);
+	final SimulationClock jittery = new SimulationClock(120, 8, 1000);
+	final Random random = new Random(1);
+	long smoothNow = 0, jitteryNow = 0;
+	smooth.advance(0);
+	jittery.advance(0);
+	while(smooth.getStepCount() < 500){
+	    smoothNow += 8333333;
+	    final int steps = smooth.advance(smoothNow);
+	    for(int i = 0; i < steps; i++)
+		smooth.step();
+	}
+	while(jittery.getStepCount() < 500){
+	    jitteryNow += random.nextInt(20) * MS;
+	    final int steps = (int)Math.min(jittery.advance(jitteryNow), 500 - jittery.getStepCount());
+	    for(int i = 0; i < steps; i++)
+		jittery.step();
+	}
+	assertEquals(smooth.getSimulatedTimeMillis(), jittery.getSimulatedTimeMillis());
+	assertEquals(smooth.getLastStepMillis(), jittery.getLastStepMillis());
+    }
+
+    @Test
+    public void testInterpolationAlpha() {
+	final SimulationClock subject = new SimulationClock(50, 8, 0);
+	subject.advance(0);
+	assertEquals(0., subject.getInterpolationAlpha(0), 0);
+	assertEquals(.5, subject.getInterpolationAlpha(10 * MS), .0001);
+	assertEquals(1, subject.advance(30 * MS));
+	assertEquals(.75, subject.getInterpolationAlpha(35 * MS), .0001);
+	assertEquals(1., subject.getInterpolationAlpha(500 * MS), 0);
+    }
+}//end SimulationClockTest
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jtrfp.trcl.core.TaskGraph.Node;
+import org.jtrfp.trcl.core.TaskGraph.Stage;
+import org.jtrfp.trcl.core.TaskGraph.Task;
+import org.junit.Test;
+
+public class TaskGraphTest {
+
+    private static Task record(final List<String> log, final String name, final long sleepMillis){
+	return new Task(){
+	    @Override
+	    public void run() throws Exception {
+		Thread.sleep(sleepMillis);
+		log.add(name);
+	    }};
+    }
+
+    @Test
+    public void testDependenciesOrderAndCriticalPath() throws Exception {
+	final ExecutorService executor = Executors.newFixedThreadPool(4);
+	try{
+	    final List<String> log = Collections.synchronizedList(new ArrayList<String>());
+	    final TaskGraph graph = new TaskGraph("test");
+	    final Node parse   = graph.add("parse",   Stage.PARSE,   record(log, "parse", 10));
+	    final Node slow    = graph.add("slow",    Stage.BUILD,   record(log, "slow", 80), parse);
+	    final Node fast    = graph.add("fast",    Stage.BUILD,   record(log, "fast", 5), parse);
+	    final Node other   = graph.add("other",   Stage.PARSE,   record(log, "other", 20));
+	    final Node install = graph.add("install", Stage.INSTALL, record(log, "install", 1), slow, fast, other);
+	    graph.execute(executor);
+	    assertEquals(5, log.size());
+	    assertEquals("install", log.get(4));
+	    assertTrue(log.indexOf("parse") < log.indexOf("slow"));
+	    assertTrue(log.indexOf("parse") < log.indexOf("fast"));
+	    assertEquals(Arrays.asList(parse, slow, install), graph.getCriticalPath());
+	    assertTrue(install.getStartNanos() >= slow.getStartNanos() + slow.getDurationNanos());
+	    assertTrue(graph.getElapsedNanos() < TimeUnit.MILLISECONDS.toNanos(10 + 80 + 5 + 20 + 1));//Siblings overlapped
+	}finally{executor.shutdown();}
+    }//end testDependenciesOrderAndCriticalPath()
+
+    @Test
+    public void testIndependentNodesRunConcurrently() throws Exception {
+	final ExecutorService executor = Executors.newFixedThreadPool(3);
+	try{
+	    final CountDownLatch allStarted = new CountDownLatch(3);
+	    final TaskGraph graph = new TaskGraph("test");
+	    for(int i = 0; i < 3; i++)
+		graph.add("tunnel."+i, Stage.BUILD, new Task(){
+		    @Override
+		    public void run() throws Exception {
+			allStarted.countDown();
+			if(!allStarted.await(5, TimeUnit.SECONDS))
+			    throw new IllegalStateException("Siblings didn't run concurrently.");
+		    }});
+	    graph.execute(executor);
+	}finally{executor.shutdown();}
+    }//end testIndependentNodesRunConcurrently()
+
+    @Test
+    public void testFailureSkipsDependents() throws Exception {
+	final ExecutorService executor = Executors.newFixedThreadPool(2);
+	try{
+	    final List<String> log = Collections.synchronizedList(new ArrayList<String>());
+	    final TaskGraph graph = new TaskGraph("test");
+	    final Node broken = graph.add("broken", Stage.PARSE, new Task(){
+		@Override
+		public void run() throws Exception {
+		    throw new IllegalStateException("Corrupt file");
+		}});
+	    final Node dependent  = graph.add("dependent",  Stage.BUILD,   record(log, "dependent", 0), broken);
+	    final Node transitive = graph.add("transitive", Stage.INSTALL, record(log, "transitive", 0), dependent);
+	    final Node unrelated  = graph.add("unrelated",  Stage.BUILD,   record(log, "unrelated", 0));
+	    try{
+		graph.execute(executor);
+		fail("Expected the failure to be rethrown.");
+	    }catch(ExecutionException e){
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	    }
+	    assertEquals(Arrays.asList("unrelated"), log);
+	    assertTrue(dependent.isSkipped());
+	    assertTrue(transitive.isSkipped());
+	    assertFalse(unrelated.isSkipped());
+	    assertEquals(-1, transitive.getDurationNanos());
+	}finally{executor.shutdown();}
+    }//end testFailureSkipsDependents()
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testRejectsForeignDependency() {
+	final Task nothing = new Task(){
+	    @Override
+	    public void run() {}
+	};
+	final Node foreign = new TaskGraph("other").add("foreign", Stage.PARSE, nothing);
+	new TaskGraph("test").add("node", Stage.BUILD, nothing, foreign);
+    }
+}//end TaskGraphTest
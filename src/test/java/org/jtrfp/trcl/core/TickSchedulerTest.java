@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jtrfp.trcl.beh.Behavior;
+import org.jtrfp.trcl.beh.Bobbing;
+import org.jtrfp.trcl.beh.MatchPosition;
+import org.jtrfp.trcl.beh.SteadilyRotating;
+import org.jtrfp.trcl.beh.ThreadSafeLocalBehavior;
+import org.jtrfp.trcl.obj.DEFObject;
+import org.jtrfp.trcl.obj.PositionListenable;
+import org.jtrfp.trcl.obj.PositionListener;
+import org.jtrfp.trcl.obj.WorldObject;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class TickSchedulerTest {
+    private static final int NUM_OBJECTS = 5000, NUM_TICKS = 30;
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static final class DriftsLocally extends Behavior implements ThreadSafeLocalBehavior {
+	private final double rate;
+	DriftsLocally(double rate){
+	    this.rate = rate;
+	}
+	@Override
+	protected void tick(long tickTimeInMillis){
+	    final WorldObject parent = getParent();
+	    parent.getPosition()[0] += rate;
+	    parent.notifyPositionChange();
+	}
+    }//end DriftsLocally
+
+    /**
+     * World-mutating stand-in: appends to a shared, unsynchronized log.
+     */
+    private static final class LogsTicks extends Behavior {
+	private final List<WorldObject> log;
+	private final Thread expectedThread;
+	LogsTicks(List<WorldObject> log, Thread expectedThread){
+	    this.log            = log;
+	    this.expectedThread = expectedThread;
+	}
+	@Override
+	protected void tick(long tickTimeInMillis){
+	    assertSame(expectedThread, Thread.currentThread());
+	    log.add(getParent());
+	}
+    }//end LogsTicks
+
+    private static List<DEFObject> populate(List<WorldObject> log){
+	final List<DEFObject> result = new ArrayList<DEFObject>(NUM_OBJECTS);
+	for(int i = 0; i < NUM_OBJECTS; i++){
+	    final DEFObject def = new DEFObject();
+	    def.setPosition(new double[]{i, 0, -i});
+	    def.addBehavior(new SteadilyRotating().setRotationPeriodMillis(1000 + i).setRotationPhase(i));
+	    def.addBehavior(new Bobbing().setPhase(i * .01));
+	    def.addBehavior(new DriftsLocally(i % 7));
+	    def.addBehavior(new LogsTicks(log, Thread.currentThread()));
+	    result.add(def);
+	}
+	return result;
+    }//end populate(...)
+
+    @Test
+    public void testParallelMatchesSerial() {
+	final List<WorldObject> serialLog = new ArrayList<WorldObject>(), parallelLog = new ArrayList<WorldObject>();
+	final List<DEFObject> serialObjects   = populate(serialLog);
+	final List<DEFObject> parallelObjects = populate(parallelLog);
+	final TickScheduler serial   = new TickScheduler(POOL);
+	final TickScheduler parallel = new TickScheduler(POOL);
+	parallel.setParallel(true);
+	for(int t = 0; t < NUM_TICKS; t++){
+	    serial  .tick(serialObjects,   t * 16L);
+	    parallel.tick(parallelObjects, t * 16L);
+	}
+	assertEquals(NUM_TICKS, parallel.getTickCount());
+	assertEquals(NUM_OBJECTS * NUM_TICKS, parallelLog.size());
+	for(int t = 0; t < NUM_TICKS; t++)
+	    for(int i = 0; i < NUM_OBJECTS; i++)
+		assertSame(parallelObjects.get(i), parallelLog.get(t * NUM_OBJECTS + i));
+	for(int i = 0; i < NUM_OBJECTS; i++){
+	    assertArrayEquals(serialObjects.get(i).getPosition(), parallelObjects.get(i).getPosition(), 0);
+	    assertArrayEquals(serialObjects.get(i).getHeadingArray(), parallelObjects.get(i).getHeadingArray(), 0);
+	}
+	assertTrue(parallel.getMeanLocalPhaseMillis() > 0);
+	assertTrue(parallel.getMeanCommitPhaseMillis() > 0);
+	assertEquals(0, serial.getMeanLocalPhaseMillis(), 1E-3);
+    }//end testParallelMatchesSerial()
+
+    @Test
+    public void testCrossObjectListenersRunInCommitPhase() {
+	final Thread testThread = Thread.currentThread();
+	final List<DEFObject> leaders = new ArrayList<DEFObject>(NUM_OBJECTS);
+	final List<WorldObject> followers = new ArrayList<WorldObject>(NUM_OBJECTS);
+	final int [] followerNotifications = new int[1];
+	final PositionListener followerListener = new PositionListener(){
+	    @Override
+	    public void positionChanged(PositionListenable source, double x, double y, double z) {
+		assertSame(testThread, Thread.currentThread());
+		followerNotifications[0]++;//Unsynchronized on purpose
+	    }};
+	for(int i = 0; i < NUM_OBJECTS; i++){
+	    final DEFObject leader = new DEFObject();
+	    leader.addBehavior(new DriftsLocally(1 + i % 7));
+	    final WorldObject follower = new WorldObject();
+	    follower.addBehavior(new MatchPosition().setTarget(leader));
+	    follower.addPositionListener(followerListener);
+	    leaders.add(leader);
+	    followers.add(follower);
+	}
+	final TickScheduler subject = new TickScheduler(POOL);
+	subject.setParallel(true);
+	for(int t = 0; t < NUM_TICKS; t++)
+	    subject.tick(leaders, t * 16L);
+	assertEquals(NUM_OBJECTS * NUM_TICKS, followerNotifications[0]);
+	for(int i = 0; i < NUM_OBJECTS; i++)
+	    assertArrayEquals(leaders.get(i).getPosition(), followers.get(i).getPosition(), 0);
+    }//end testCrossObjectListenersRunInCommitPhase()
+
+    @AfterClass
+    public static void afterClass() {
+	POOL.shutdown();
+    }
+}//end TickSchedulerTest
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jtrfp.jtrfp.pod.IPodFileEntry;
+import org.jtrfp.jtrfp.pod.PodFile;
+
+/**
+ * Standalone timing harness for {@link BINFileReader}. Parses every BIN model and animation control with the
+ * jfdt-bound {@link BINFile} beans and with the hand-written reader, and reports microseconds per pass and MB/s.
+ * Not a unit test; run its main() directly.<br><br>
+ * Args: [podFile ...], i.e. FURY3.POD. Without args, synthetic BINs are used.
+ * @author Chuck Ritola
+ *
+ */
+
+public class BINFileReaderBenchmark {
+    private static final int PASSES = 20;
+    private static volatile long sink;
+
+    private static interface Scheme {
+	Object parse(byte [] bin) throws Exception;
+    }
+
+    public static void main(String [] args) throws Exception {
+	final List<byte[]> bins = new ArrayList<byte[]>();
+	if(args.length > 0){
+	    for(String podPath : args)
+		for(IPodFileEntry entry : new PodFile(new File(podPath)).getData().getEntries())
+		    if(entry.getPath().toUpperCase(Locale.ROOT).endsWith(".BIN"))
+			bins.add(readFully(entry.getInputStreamFromPod()));
+	} else
+	    for(int i = 0; i < 400; i++)
+		bins.add(i % 20 == 0?
+			BINFileReaderTest.newAnimationControlBIN("FRAME0.BIN", "FRAME1.BIN", "FRAME2.BIN", "FRAME3.BIN"):
+			BINFileReaderTest.newModelBIN(8 + i % 200, 4 + i % 300));
+	long totalBytes = 0;
+	for(byte [] bin : bins)
+	    totalBytes += bin.length;
+	System.out.println("bins="+bins.size()+" bytes="+totalBytes+" passes="+PASSES);
+	System.out.println("scheme\tus/pass\tMB/s");
+	for(int run = 0; run < 3; run++){//The first runs are warmup
+	    measure("jfdt", bins, totalBytes, new Scheme(){
+		@Override
+		public Object parse(byte [] bin) throws Exception {
+		    if(BINFileReader.isAnimationControl(ByteBuffer.wrap(bin)))
+			return new BINFile.AnimationControl(new ByteArrayInputStream(bin));
+		    return new BINFile.Model(new ByteArrayInputStream(bin));
+		}});
+	    measure("reader", bins, totalBytes, new Scheme(){
+		@Override
+		public Object parse(byte [] bin) throws Exception {
+		    final ByteBuffer buffer = ByteBuffer.wrap(bin);
+		    if(BINFileReader.isAnimationControl(buffer))
+			return BINFileReader.readAnimationControl(buffer);
+		    return BINFileReader.readModel(buffer);
+		}});
+	}//end for(runs)
+    }//end main(...)
+
+    private static void measure(String name, List<byte[]> bins, long totalBytes, Scheme scheme) throws Exception {
+	final long start = System.nanoTime();
+	for(int pass = 0; pass < PASSES; pass++)
+	    for(byte [] bin : bins)
+		sink += scheme.parse(bin).hashCode();
+	final long elapsed = System.nanoTime() - start;
+	System.out.println(name+"\t"+String.format("%.1f", elapsed / 1000. / PASSES)
+		+"\t"+String.format("%.1f", (totalBytes * PASSES / 1048576.) / (elapsed / 1E9)));
+    }//end measure(...)
+
+    private static byte [] readFully(InputStream is) throws Exception {
+	final ByteArrayOutputStream result = new ByteArrayOutputStream();
+	final byte [] buffer = new byte[8192];
+	try{
+	    int read;
+	    while((read = is.read(buffer)) != -1)
+		result.write(buffer, 0, read);
+	}finally{is.close();}
+	return result.toByteArray();
+    }//end readFully(...)
+}//end BINFileReaderBenchmark
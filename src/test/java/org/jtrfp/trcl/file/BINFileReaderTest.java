@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jtrfp.jfdt.UnrecognizedFormatException;
+import org.jtrfp.jtrfp.bin.IBinData;
+import org.jtrfp.trcl.file.BINFile.AnimationControl;
+import org.jtrfp.trcl.file.BINFile.Model;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.EOFBlock;
+import org.jtrfp.trcl.file.BINFile.Model.DataBlock.TextureBlock;
+import org.junit.Test;
+
+/**
+ * Golden tests: {@link BINFileReader} must produce the same beans as the jfdt parser for the same bytes.
+ */
+public class BINFileReaderTest {
+
+    private static final class BINWriter {
+	private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+	BINWriter tag(int id){
+	    buffer.put((byte)0).put((byte)0).put((byte)0).put((byte)id);
+	    return this;
+	}
+
+	BINWriter ints(int ... values){
+	    for(int value : values)
+		buffer.putInt(value);
+	    return this;
+	}
+
+	BINWriter string(String value, int length){
+	    final byte [] bytes = Arrays.copyOf(value.getBytes(StandardCharsets.ISO_8859_1), length);
+	    buffer.put(bytes);
+	    return this;
+	}
+
+	byte [] toByteArray(){
+	    return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+    }//end BINWriter
+
+    /** A model with every kind of data block the parsers recognize, followed by EOF and trailing junk. */
+    static byte [] newModelBIN(int numVertices, int numFaces){
+	final BINWriter w = new BINWriter();
+	w.tag(IBinData.ID_MODEL).ints(0x20, 7, 0, numVertices);
+	for(int i = 0; i < numVertices; i++)
+	    w.ints(i * 3, -i * 5, i * 7 + 1);
+	w.tag(0x0D).ints(0).string("HULL.RAW", 16);
+	w.tag(0x0A).ints(0x04030201);
+	w.tag(0x12).ints(0x7F7F7F7F);
+	w.tag(0x0C).ints(1, 2, 3, 4, 5, 6);
+	w.tag(0x17).ints(-1, 2);
+	w.tag(0x04).ints(0, 2, 0, 0, 0xFF00, 0xFF00);
+	w.tag(0x1F).ints(0, 3, 5, 6, 0xFFFFFFFE);
+	w.tag(0x1D).ints(1, 2, 3, 0x8000, 4, 5).string("FRAME0.RAW", 32).string("FRAME1.RAW", 32);
+	w.tag(0x02).ints(9, 1, 0, 0x10, 0x20);
+	for(int i = 0; i < 20; i++)
+	    w.ints(i);
+	w.tag(0x03).ints(0, 2, 1, 2, 3, -4, -5, -6);
+	w.tag(0x16).ints(3, 0, numVertices - 1);
+	final int [] uvTags   = new int[]{0x0E, 0x11, 0x18, 0x22, 0x29, 0x33, 0x34};
+	final int [] noUVTags = new int[]{0x05, 0x06, 0x0F, 0x19};
+	for(int f = 0; f < numFaces; f++){
+	    final int uvTag = uvTags[f % uvTags.length];
+	    w.tag(uvTag).ints(4, f, -f, 1 << 16, f % 2 == 0?0:0x80000000);
+	    for(int v = 0; v < 4; v++)
+		w.ints((f + v) % numVertices, v * 0x3FC000, (3 - v) * 0x3FC000);
+	    final int noUVTag = noUVTags[f % noUVTags.length];
+	    w.tag(noUVTag).ints(3, 0, 1 << 16, 0, 0);
+	    for(int v = 0; v < 3; v++)
+		w.ints((f + v) % numVertices);
+	}//end for(faces)
+	w.tag(0x00);
+	w.ints(0xDEADBEEF);//Past EOF; ignored
+	return w.toByteArray();
+    }//end newModelBIN(...)
+
+    static byte [] newAnimationControlBIN(String ... frames){
+	final BINWriter w = new BINWriter();
+	w.tag(IBinData.ID_ANIMATION_CONTROL).ints(0, frames.length, 0x4000, 1, 2);
+	for(String frame : frames)
+	    w.string(frame, 16);
+	return w.toByteArray();
+    }
+
+    /** Walks bean properties and lists, so that two bean graphs may be compared as text. */
+    static String describe(Object bean) throws Exception {
+	final StringBuilder sb = new StringBuilder();
+	describe(bean, sb);
+	return sb.toString();
+    }
+
+    private static void describe(Object value, StringBuilder sb) throws Exception {
+	if(value == null)
+	    sb.append("null");
+	else if(value instanceof List){
+	    sb.append('[');
+	    for(Object element : (List<?>)value){
+		describe(element, sb);
+		sb.append(',');
+	    }
+	    sb.append(']');
+	}else if(value instanceof byte[])
+	    sb.append(Arrays.toString((byte[])value));
+	else if(value instanceof int[])
+	    sb.append(Arrays.toString((int[])value));
+	else if(value instanceof Number || value instanceof String || value instanceof Boolean)
+	    sb.append(value);
+	else{
+	    sb.append(value.getClass().getSimpleName()).append('{');
+	    for(PropertyDescriptor pd : Introspector.getBeanInfo(value.getClass(), Object.class).getPropertyDescriptors()){
+		final Method getter = pd.getReadMethod();
+		if(getter == null)
+		    continue;
+		sb.append(pd.getName()).append('=');
+		describe(getter.invoke(value), sb);
+		sb.append(';');
+	    }
+	    sb.append('}');
+	}
+    }//end describe(...)
+
+    @Test
+    public void testModelMatchesJfdt() throws Exception {
+	final byte [] bin = newModelBIN(12, 22);
+	final Model expected = new Model(new ByteArrayInputStream(bin));
+	final Model actual   = BINFileReader.readModel(ByteBuffer.wrap(bin));
+	assertEquals(describe(expected), describe(actual));
+	assertTrue(actual.getDataBlocks().get(actual.getDataBlocks().size() - 1) instanceof EOFBlock);
+	assertEquals("HULL.RAW", ((TextureBlock)actual.getDataBlocks().get(0)).getTextureFileName());
+    }//end testModelMatchesJfdt()
+
+    @Test
+    public void testAnimationControlMatchesJfdt() throws Exception {
+	final byte [] bin = newAnimationControlBIN("FRAME0.BIN", "FRAME1.BIN", "LONGNAME1234.BIN");
+	final AnimationControl expected = new AnimationControl(new ByteArrayInputStream(bin));
+	final AnimationControl actual   = BINFileReader.readAnimationControl(ByteBuffer.wrap(bin));
+	assertEquals(describe(expected), describe(actual));
+	assertEquals(Arrays.asList("FRAME0.BIN", "FRAME1.BIN", "LONGNAME1234.BIN"), actual.getBinFiles());
+	assertTrue(BINFileReader.isAnimationControl(ByteBuffer.wrap(bin)));
+	assertFalse(BINFileReader.isAnimationControl(ByteBuffer.wrap(newModelBIN(3, 1))));
+    }//end testAnimationControlMatchesJfdt()
+
+    @Test
+    public void testUnrecognizedBlockEndsModel() throws Exception {
+	final byte [] bin = newModelBIN(3, 1);
+	final int eofTag = bin.length - 8;
+	bin[eofTag + 3] = 0x7E;//Unknown block in place of EOF
+	final Model expected = new Model(new ByteArrayInputStream(bin));
+	final Model actual   = BINFileReader.readModel(ByteBuffer.wrap(bin));
+	assertEquals(describe(expected), describe(actual));
+	assertFalse(actual.getDataBlocks().get(actual.getDataBlocks().size() - 1) instanceof EOFBlock);
+    }//end testUnrecognizedBlockEndsModel()
+
+    @Test(expected=UnrecognizedFormatException.class)
+    public void testRejectsAnimationControlAsModel() throws Exception {
+	BINFileReader.readModel(ByteBuffer.wrap(newAnimationControlBIN("A.BIN")));
+    }
+}//end BINFileReaderTest
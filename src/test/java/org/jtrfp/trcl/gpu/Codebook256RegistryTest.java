@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.gpu;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jtrfp.trcl.pool.IndexPool;
+import org.junit.Test;
+
+public class Codebook256RegistryTest {
+    private static final int BLOCK_BYTES = 256 * 64;
+
+    private static final class RecordingBackend implements Codebook256Registry.Backend {
+	final IndexPool pool = new IndexPool();
+	final List<Integer> uploads = Collections.synchronizedList(new ArrayList<Integer>()),
+	    frees = Collections.synchronizedList(new ArrayList<Integer>());
+
+	@Override
+	public int allocate() {
+	    return pool.pop();
+	}
+
+	@Override
+	public void upload(int blockID, byte[] rgba, byte[] esTuTv) {
+	    uploads.add(blockID);
+	}
+
+	@Override
+	public void free(int blockID) {
+	    frees.add(blockID);
+	    pool.free(blockID);
+	}
+    }//end RecordingBackend
+
+    private static byte [] block(int fill){
+	final byte [] result = new byte[BLOCK_BYTES];
+	Arrays.fill(result, (byte)fill);
+	return result;
+    }
+
+    @Test
+    public void testIdenticalBlocksShared() {
+	final RecordingBackend backend = new RecordingBackend();
+	final Codebook256Registry subject = new Codebook256Registry(backend);
+	final int a = subject.acquire(block(1), block(0));
+	final int b = subject.acquire(block(1), block(0));
+	final int c = subject.acquire(block(2), block(0));
+	final int d = subject.acquire(block(1), block(3));
+	assertEquals(a, b);
+	assertTrue(a != c && a != d && c != d);
+	assertEquals(4, subject.getNumRequested());
+	assertEquals(3, subject.getNumAllocated());
+	assertEquals(3, backend.uploads.size());
+	assertEquals(2, subject.getReferenceCount(a));
+    }//end testIdenticalBlocksShared()
+
+    @Test
+    public void testFreedOnlyWhenUnreferenced() {
+	final RecordingBackend backend = new RecordingBackend();
+	final Codebook256Registry subject = new Codebook256Registry(backend);
+	final int a = subject.acquire(block(7), block(7));
+	subject.acquire(block(7), block(7));
+	assertEquals(Codebook256Registry.Release.SHARED, subject.release(a));
+	assertTrue(backend.frees.isEmpty());
+	assertEquals(1, subject.getNumResident());
+	assertEquals(Codebook256Registry.Release.FREED, subject.release(a));
+	assertEquals(1, backend.frees.size());
+	assertEquals(0, subject.getNumResident());
+	//Contents are forgotten once released
+	subject.acquire(block(7), block(7));
+	assertEquals(2, subject.getNumAllocated());
+    }//end testFreedOnlyWhenUnreferenced()
+
+    @Test
+    public void testUnregisteredBlocksLeftToCaller() {
+	final RecordingBackend backend = new RecordingBackend();
+	final Codebook256Registry subject = new Codebook256Registry(backend);
+	final int unregistered = backend.allocate();
+	assertEquals(Codebook256Registry.Release.UNREGISTERED, subject.release(unregistered));
+	assertTrue(backend.frees.isEmpty());
+    }//end testUnregisteredBlocksLeftToCaller()
+
+    @Test
+    public void testConcurrentAcquireRelease() throws Exception {
+	final RecordingBackend backend = new RecordingBackend();
+	final Codebook256Registry subject = new Codebook256Registry(backend);
+	final Thread [] threads = new Thread[4];
+	for(int t = 0; t < threads.length; t++){
+	    threads[t] = new Thread(){
+		@Override
+		public void run(){
+		    for(int i = 0; i < 2000; i++){
+			final int id = subject.acquire(block(i % 5), block(0));
+			subject.release(id);
+		    }
+		}};
+	    threads[t].start();
+	}
+	for(Thread thread : threads)
+	    thread.join();
+	assertEquals(0, subject.getNumResident());
+	assertEquals(backend.uploads.size(), backend.frees.size());
+    }//end testConcurrentAcquireRelease()
+}//end Codebook256RegistryTest
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.img.vq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.jtrfp.trcl.gpu.CompressedVQTextureFactory;
+import org.jtrfp.trcl.gpu.VQCodebookManager;
+import org.junit.Test;
+
+public class VQCompressorTest {
+    private static final String [] TEXTURE_SET = new String[]{
+	"/fallbackTexture.png",
+	"/testTexture.png",
+	"/bumpy.png",
+	"/ProgramIcon.png",
+	"/TrclLogo.png",
+	"/StarsA.png"
+    };
+    private static final double MIN_PSNR = 30;
+
+    private static BufferedImage load(String resource) throws Exception {
+	try(InputStream is = VQCompressorTest.class.getResourceAsStream(resource)){
+	    return ImageIO.read(is);
+	}
+    }//end load(...)
+
+    private static RasterizedBlockVectorList tilesOf(BufferedImage image){
+	return new RasterizedBlockVectorList(new VectorListRasterizer(new BufferedImageRGBA8888VL(image),
+		new int[]{image.getWidth(),image.getHeight()}), 4);
+    }
+
+    private static int numSegments(int diameterInCodes){
+	final int diameterInSubtextures = CompressedVQTextureFactory.getDiameterInSubtextures(diameterInCodes);
+	return diameterInSubtextures * diameterInSubtextures * CompressedVQTextureFactory.SEGMENTS_PER_SUBTEXTURE;
+    }
+
+    private static VQCompressor.Result compress(VQCompressor subject, BufferedImage image){
+	final RasterizedBlockVectorList tiles = tilesOf(image);
+	final int diameterInCodes = tiles.getDimensions()[0];
+	return subject.compress(tiles, null, CompressedVQTextureFactory.getSegmentOfTile(diameterInCodes), numSegments(diameterInCodes));
+    }
+
+    @Test
+    public void testLosslessAtFullBudget() throws Exception {
+	final VQCompressor subject = new VQCompressor();
+	subject.setMinPSNR(Double.POSITIVE_INFINITY);
+	subject.setNearDuplicateBits(0);
+	final BufferedImage image = load("/testTexture.png");
+	final VQCompressor.Result result = compress(subject, image);
+	assertEquals(Double.POSITIVE_INFINITY, result.getPSNR(), 0);
+	assertEquals(result.getNumUsedSegments(), result.getNumBlocks());
+	//Decode a tile and compare against the source
+	final RasterizedBlockVectorList tiles = tilesOf(image);
+	final int width = tiles.getDimensions()[0];
+	final int [] segments = CompressedVQTextureFactory.getSegmentOfTile(width);
+	for(int tile = 0; tile < tiles.getNumVectors(); tile += 37){
+	    final byte [] block = result.getRGBABlock(result.getBlockOfSegment(segments[tile]));
+	    final int code = result.getCodeOfTile(tile);
+	    for(int c = 0; c < 64; c++)
+		assertEquals((int)(tiles.componentAt(new int[]{tile % width, tile / width}, c) * 255.),
+			block[code * 64 + c] & 0xFF);
+	}
+    }//end testLosslessAtFullBudget()
+
+    @Test
+    public void testNearDuplicatesMerged() {
+	final int side = 64;
+	final Random random = new Random(1);
+	final double [] data = new double[side * side * 4];
+	for(int i = 0; i < data.length; i++)
+	    data[i] = (128 + random.nextInt(3)) / 255.;
+	final VectorListND noisy = new RasterizedBlockVectorList(new VectorListRasterizer(new VectorList(){
+	    @Override
+	    public int getNumVectors() {
+		return side * side;
+	    }
+	    @Override
+	    public int getNumComponentsPerVector() {
+		return 4;
+	    }
+	    @Override
+	    public double componentAt(int vectorIndex, int componentIndex) {
+		return data[vectorIndex * 4 + componentIndex];
+	    }
+	    @Override
+	    public void setComponentAt(int vectorIndex, int componentIndex, double value) {
+		throw new UnsupportedOperationException();
+	    }}, new int[]{side,side}), 4);
+	final VQCompressor subject = new VQCompressor();
+	final VQCompressor.Result result = subject.compress(noisy, null, CompressedVQTextureFactory.getSegmentOfTile(side / 4), numSegments(side / 4));
+	assertEquals(1, result.getNumUniqueTiles());
+	assertEquals(1, result.getNumBlocks());
+	assertTrue(result.getPSNR() > 45);
+    }//end testNearDuplicatesMerged()
+
+    @Test
+    public void testDeterministic() throws Exception {
+	final BufferedImage image = load("/bumpy.png");
+	final VQCompressor.Result a = compress(new VQCompressor(), image);
+	final VQCompressor.Result b = compress(new VQCompressor(), image);
+	assertEquals(a.getNumBlocks(), b.getNumBlocks());
+	assertEquals(a.getPSNR(), b.getPSNR(), 0);
+	for(int block = 0; block < a.getNumBlocks(); block++)
+	    assertArrayEquals(a.getRGBABlock(block), b.getRGBABlock(block));
+    }//end testDeterministic()
+
+    /**
+     * Compares codebook blocks used by the compressor against the six per subtexture which
+     * UncompressedVQTextureFactory allocates, over the bundled texture set.
+     */
+    @Test
+    public void testCodebookBlocksSaved() throws Exception {
+	final VQCompressor subject = new VQCompressor();
+	subject.setMinPSNR(MIN_PSNR);
+	int uncompressedBlocks = 0, compressedBlocks = 0;
+	for(String resource : TEXTURE_SET){
+	    final BufferedImage image = load(resource);
+	    final long start = System.nanoTime();
+	    final VQCompressor.Result result = compress(subject, image);
+	    final long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+	    final int diameterInCodes = image.getWidth() / 4;
+	    final int uncompressed = numSegments(diameterInCodes);
+	    System.out.println(String.format("%-22s %4dx%-4d blocks %3d -> %3d  unique tiles %5d/%5d  PSNR %6.2f dB  %5d ms",
+		    resource, image.getWidth(), image.getHeight(), uncompressed, result.getNumBlocks(),
+		    result.getNumUniqueTiles(), diameterInCodes * diameterInCodes, result.getPSNR(), elapsedMillis));
+	    assertTrue(resource, result.getPSNR() >= MIN_PSNR || result.getNumBlocks() == result.getNumUsedSegments());
+	    assertTrue(resource, result.getNumBlocks() <= uncompressed);
+	    uncompressedBlocks += uncompressed;
+	    compressedBlocks   += result.getNumBlocks();
+	}//end for(textures)
+	final double pagesBefore = uncompressedBlocks / (double)VQCodebookManager.CODE256_PER_PAGE, pagesAfter = compressedBlocks / (double)VQCodebookManager.CODE256_PER_PAGE;
+	System.out.println(String.format("Codebook blocks %d -> %d, pages %.2f -> %.2f", uncompressedBlocks, compressedBlocks, pagesBefore, pagesAfter));
+	assertTrue(compressedBlocks * 2 <= uncompressedBlocks);
+    }//end testCodebookBlocksSaved()
+}//end VQCompressorTest
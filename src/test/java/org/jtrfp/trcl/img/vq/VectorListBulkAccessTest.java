@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.img.vq;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.jtrfp.trcl.file.RAWFile;
+import org.junit.Test;
+
+public class VectorListBulkAccessTest {
+    private static final int SIDE = 64;
+
+    static Color [] randomPalette(Random random){
+	final Color [] result = new Color[256];
+	for(int i = 0; i < result.length; i++)
+	    result[i] = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256));
+	return result;
+    }
+
+    static VectorListND palettedRaster(int side, Random random) throws Exception {
+	final byte [] indices = new byte[side * side];
+	random.nextBytes(indices);
+	final RAWFile raw = new RAWFile(new ByteArrayInputStream(indices));
+	return new VectorListRasterizer(new PalettedVectorList(new RAWVectorList(raw),
+		new ColorPaletteVectorList(randomPalette(random))), new int[]{side,side});
+    }
+
+    private static VectorListND imageRaster(int side, Random random){
+	final BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB);
+	for(int y = 0; y < side; y++)
+	    for(int x = 0; x < side; x++)
+		image.setRGB(x, y, random.nextInt());
+	return new VectorListRasterizer(new BufferedImageRGBA8888VL(image), new int[]{side,side});
+    }
+
+    /**
+     * Compares every full row and one partial row of each line against componentAt.
+     */
+    private static void assertRowsMatch(VectorListND subject){
+	final int width = subject.getDimensions()[0], height = subject.getDimensions()[1];
+	final int numComponents = subject.getNumComponentsPerVector();
+	final double [] row = new double[width * numComponents + 1];
+	final int [] coord = new int[2];
+	for(int y = 0; y < height; y++){
+	    coord[0] = 0;
+	    coord[1] = y;
+	    subject.getRow(coord, width, row, 1);
+	    for(int x = 0; x < width; x++){
+		coord[0] = x;
+		for(int c = 0; c < numComponents; c++)
+		    assertEquals(subject.componentAt(coord, c), row[1 + x * numComponents + c], 0);
+	    }
+	    if(width < 3)
+		continue;
+	    coord[0] = 1;
+	    subject.getRow(coord, width - 2, row, 0);
+	    for(int x = 1; x < width - 1; x++){
+		coord[0] = x;
+		for(int c = 0; c < numComponents; c++)
+		    assertEquals(subject.componentAt(coord, c), row[(x - 1) * numComponents + c], 0);
+	    }
+	}//end for(y)
+    }//end assertRowsMatch(...)
+
+    private static void assertComponentsMatch(VectorList subject, int first, int count){
+	final int numComponents = subject.getNumComponentsPerVector();
+	final double [] dest = new double[count * numComponents];
+	subject.getComponents(first, count, dest, 0);
+	for(int v = 0; v < count; v++)
+	    for(int c = 0; c < numComponents; c++)
+		assertEquals(subject.componentAt(first + v, c), dest[v * numComponents + c], 0);
+    }//end assertComponentsMatch(...)
+
+    @Test
+    public void testTextureChainMatchesScalar() throws Exception {
+	final Random random = new Random(1);
+	final VectorListND paletted = palettedRaster(SIDE, random), image = imageRaster(SIDE, random);
+	assertRowsMatch(paletted);
+	assertRowsMatch(image);
+	assertRowsMatch(new RasterizedBlockVectorList(paletted, 4));
+	assertRowsMatch(new RasterizedBlockVectorList(image, 4));
+    }//end testTextureChainMatchesScalar()
+
+    @Test
+    public void testMIPScalingMatchesScalar() throws Exception {
+	final Random random = new Random(2);
+	final VectorListND rgba = palettedRaster(SIDE, random), esTuTv = imageRaster(SIDE, random);
+	assertRowsMatch(new MIPScalingVectorListND(rgba, rgba, esTuTv));
+	assertRowsMatch(new MIPScalingVectorListND(esTuTv, rgba, null));
+	final VectorListND mip = new CachingVectorListND(new MIPScalingVectorListND(rgba, rgba, esTuTv));
+	mip.componentAt(new int[]{5,3}, 0);//Leave a gap in the cache
+	assertRowsMatch(new RasterizedBlockVectorList(mip, 4));
+    }//end testMIPScalingMatchesScalar()
+
+    @Test
+    public void testCompositeMatchesScalar() throws Exception {
+	final Random random = new Random(3);
+	final VectorListND source = imageRaster(SIDE, random);
+	final CompositeVectorListND composite = new CompositeVectorListND();
+	composite.setDimensions(new int[]{SIDE,SIDE});
+	final int half = SIDE / 2;
+	for(int y = 0; y < 2; y++)
+	    for(int x = 0; x < 2; x++)
+		composite.getSubLists().add(new SubVectorList(source, new int[]{x * half, y * half}, new int[]{half,half}));
+	assertRowsMatch(composite);
+    }//end testCompositeMatchesScalar()
+
+    @Test
+    public void testFlatListsMatchScalar(){
+	final Random random = new Random(4);
+	final byte [] bytes = new byte[SIDE * SIDE * 4];
+	random.nextBytes(bytes);
+	final VectorList flat = new ByteBufferVectorList(ByteBuffer.wrap(bytes));
+	assertComponentsMatch(flat, 3, 100);
+	assertComponentsMatch(new RGBA8888VectorList(flat), 3, 100);
+	assertComponentsMatch(new ConstantVectorList(.5, 100, 3), 7, 20);
+	assertComponentsMatch(new CodebookTileTableVL(new int[]{0, 4096, 512}), 200, 300);
+	final CachingVectorList caching = new CachingVectorList(new RGBA8888VectorList(flat));
+	caching.componentAt(10, 0);
+	caching.componentAt(12, 0);
+	assertComponentsMatch(caching, 5, 50);
+	assertComponentsMatch(caching, 0, SIDE * SIDE);
+    }//end testFlatListsMatchScalar()
+}//end VectorListBulkAccessTest
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.img.vq;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Standalone timing harness for the RAW-to-codebook chain (RAW indices, palette, rasterizer, optional MIP level,
+ * 4x4 tiling, byte conversion) read per component through componentAt versus per row through getRow.
+ * Not a unit test; run its main() directly.
+ * Optional args: [sideLength] [iterations]
+ * @author Chuck Ritola
+ *
+ */
+
+public class VectorListBulkBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String [] args) throws Exception {
+	final int side       = args.length > 0?Integer.parseInt(args[0]):256;
+	final int iterations = args.length > 1?Integer.parseInt(args[1]):20;
+	System.out.println("side="+side+" iterations="+iterations);
+	System.out.println("chain\tscalar ms/texture\tbulk ms/texture\tspeedup");
+	for(int round = 0; round <= WARMUP_ROUNDS; round++){
+	    final boolean report = round == WARMUP_ROUNDS;
+	    final VectorListND raster = VectorListBulkAccessTest.palettedRaster(side, new Random(round));
+	    measure("RAW", report, new RasterizedBlockVectorList(raster, 4), iterations);
+	    measure("RAW+MIP", report, new RasterizedBlockVectorList(new MIPScalingVectorListND(raster, raster, null), 4), iterations);
+	}
+    }//end main(...)
+
+    private static void measure(String name, boolean report, VectorListND tiles, int iterations){
+	final byte [] scalar = new byte[tiles.getNumVectors() * tiles.getNumComponentsPerVector()];
+	final byte [] bulk   = new byte[scalar.length];
+	long start = System.nanoTime();
+	for(int i = 0; i < iterations; i++)
+	    readScalar(tiles, scalar);
+	final double scalarMillis = (System.nanoTime() - start) / (iterations * 1000000.);
+	start = System.nanoTime();
+	for(int i = 0; i < iterations; i++)
+	    readBulk(tiles, bulk);
+	final double bulkMillis = (System.nanoTime() - start) / (iterations * 1000000.);
+	if(!Arrays.equals(scalar, bulk))
+	    throw new IllegalStateException(name+": bulk read differs from scalar read.");
+	if(report)
+	    System.out.println(String.format("%s\t%.2f\t%.2f\t%.2fx", name, scalarMillis, bulkMillis, scalarMillis / bulkMillis));
+    }//end measure(...)
+
+    private static void readScalar(VectorListND tiles, byte [] dest){
+	final int width = tiles.getDimensions()[0], height = tiles.getDimensions()[1];
+	final int numComponents = tiles.getNumComponentsPerVector();
+	final int [] coord = new int[2];
+	int index = 0;
+	for(int y = 0; y < height; y++)
+	    for(int x = 0; x < width; x++){
+		coord[0] = x;
+		coord[1] = y;
+		for(int c = 0; c < numComponents; c++)
+		    dest[index++] = (byte)(tiles.componentAt(coord, c) * 255.);
+	    }
+    }//end readScalar(...)
+
+    private static void readBulk(VectorListND tiles, byte [] dest){
+	final int width = tiles.getDimensions()[0], height = tiles.getDimensions()[1];
+	final double [] row = new double[width * tiles.getNumComponentsPerVector()];
+	final int [] coord = new int[2];
+	int index = 0;
+	for(int y = 0; y < height; y++){
+	    coord[1] = y;
+	    tiles.getRow(coord, width, row, 0);
+	    for(double component : row)
+		dest[index++] = (byte)(component * 255.);
+	}
+    }//end readBulk(...)
+}//end VectorListBulkBenchmark
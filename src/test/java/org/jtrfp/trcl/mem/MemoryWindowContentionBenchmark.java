@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.mem;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.jtrfp.trcl.pool.IndexPool;
+
+/**
+ * Standalone timing harness for object allocation under contention: many threads spawning and
+ * freeing objects across several MemoryWindows. Compares the former arrangement, a synchronized
+ * {@link IndexPool} per window guarded by one global lock, against the per-window lock-free
+ * allocation now in {@link MemoryWindow}, both one object at a time and in int[] batches.
+ * Not a unit test; run its main() directly.
+ * Optional args: [numThreads] [numWindows] [opsPerThread]
+ * @author Chuck Ritola
+ *
+ */
+
+public class MemoryWindowContentionBenchmark {
+    private static final int MAX_BATCH = 32, WARMUP_ROUNDS = 2;
+
+    private static final class BenchmarkWindow extends MemoryWindow {}
+
+    private static interface Allocator {
+	void spawnAndFree(int window, Random random, int [] scratch);
+    }
+
+    public static void main(String [] args) throws Exception {
+	final int numThreads   = args.length > 0?Integer.parseInt(args[0]):Runtime.getRuntime().availableProcessors()*2;
+	final int numWindows   = args.length > 1?Integer.parseInt(args[1]):4;
+	final int opsPerThread = args.length > 2?Integer.parseInt(args[2]):200000;
+	System.out.println("threads="+numThreads+" windows="+numWindows+" ops/thread="+opsPerThread);
+	System.out.println("mode\tMops/s");
+	for(int round = 0; round <= WARMUP_ROUNDS; round++){
+	    final boolean report = round == WARMUP_ROUNDS;
+	    final IndexPool [] pools = new IndexPool[numWindows];
+	    for(int i = 0; i < numWindows; i++)
+		pools[i] = new IndexPool();
+	    run("globalLock", report, numThreads, numWindows, opsPerThread, new Allocator(){
+		@Override
+		public void spawnAndFree(int window, Random random, int [] scratch){
+		    final int count = 1 + random.nextInt(MAX_BATCH);
+		    for(int i = 0; i < count; i++)
+			synchronized(MemoryWindow.class){scratch[i] = pools[window].pop();}
+		    for(int i = 0; i < count; i++)
+			synchronized(MemoryWindow.class){pools[window].free(scratch[i]);}
+		}});
+	    final MemoryWindow [] windows = newWindows(numWindows);
+	    run("perWindow", report, numThreads, numWindows, opsPerThread, new Allocator(){
+		@Override
+		public void spawnAndFree(int window, Random random, int [] scratch){
+		    final int count = 1 + random.nextInt(MAX_BATCH);
+		    for(int i = 0; i < count; i++)
+			scratch[i] = windows[window].create();
+		    for(int i = 0; i < count; i++)
+			windows[window].free(scratch[i]);
+		}});
+	    final MemoryWindow [] batchWindows = newWindows(numWindows);
+	    run("perWindowBatch", report, numThreads, numWindows, opsPerThread, new Allocator(){
+		@Override
+		public void spawnAndFree(int window, Random random, int [] scratch){
+		    final int count = 1 + random.nextInt(MAX_BATCH);
+		    batchWindows[window].free(batchWindows[window].create(count));
+		}});
+	}//end for(rounds)
+	System.exit(0);//Reap the freeing service
+    }//end main(...)
+
+    private static MemoryWindow [] newWindows(int numWindows){
+	final MemoryWindow [] result = new MemoryWindow[numWindows];
+	for(int i = 0; i < numWindows; i++)
+	    result[i] = new BenchmarkWindow();
+	return result;
+    }
+
+    private static void run(String mode, boolean report, int numThreads, final int numWindows, final int opsPerThread, final Allocator allocator) throws InterruptedException{
+	final CountDownLatch start = new CountDownLatch(1), done = new CountDownLatch(numThreads);
+	final long [] opsCompleted = new long[numThreads];
+	final ArrayList<Thread> threads = new ArrayList<Thread>();
+	for(int t = 0; t < numThreads; t++){
+	    final int threadIndex = t;
+	    final Thread thread = new Thread(){
+		@Override
+		public void run(){
+		    final Random random  = new Random(threadIndex);
+		    final int [] scratch = new int[MAX_BATCH];
+		    try{
+			start.await();
+			for(int op = 0; op < opsPerThread; op++)
+			    allocator.spawnAndFree(random.nextInt(numWindows), random, scratch);
+			opsCompleted[threadIndex] = opsPerThread;
+		    }catch(InterruptedException e){e.printStackTrace();}
+		    done.countDown();
+		}};
+	    threads.add(thread);
+	    thread.start();
+	}
+	final long startNanos = System.nanoTime();
+	start.countDown();
+	done.await();
+	final long elapsed = System.nanoTime() - startNanos;
+	long total = 0;
+	for(long ops:opsCompleted)
+	    total += ops;
+	if(report)
+	    System.out.println(mode+"\t"+String.format("%.3f", total * 1000. / elapsed));
+    }//end run(...)
+}//end MemoryWindowContentionBenchmark
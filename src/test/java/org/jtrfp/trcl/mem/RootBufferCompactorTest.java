@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.mem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jtrfp.trcl.pool.BitmapIndexPool;
+import org.jtrfp.trcl.pool.IndexPool;
+import org.junit.Test;
+
+public class RootBufferCompactorTest {
+    private static final int NUM_PAGES = 16;
+
+    private static ByteBuffer newMemory(){
+	return ByteBuffer.allocate(NUM_PAGES * PagedByteBuffer.PAGE_SIZE_BYTES);
+    }
+
+    private static IndexPool newPool(){
+	final IndexPool result = new BitmapIndexPool();
+	final ArrayList<Integer> all = new ArrayList<Integer>();
+	result.pop(all, NUM_PAGES);
+	result.free(all);//Leaves a high-water mark of NUM_PAGES, all free
+	return result;
+    }
+
+    private static void fillPage(ByteBuffer memory, int physicalPage, byte value){
+	for(int i = 0; i < PagedByteBuffer.PAGE_SIZE_BYTES; i++)
+	    memory.put(physicalPage * PagedByteBuffer.PAGE_SIZE_BYTES + i, value);
+    }
+
+    /** Allocates the pages 0..NUM_PAGES-1 and frees the given ones, returning the remainder in order. */
+    private static List<Integer> fragment(IndexPool pool, Integer ... toFree){
+	final ArrayList<Integer> pages = new ArrayList<Integer>();
+	for(int i = 0; i < NUM_PAGES; i++)
+	    pages.add(pool.pop());
+	pool.free(Arrays.asList(toFree));
+	pages.removeAll(Arrays.asList(toFree));
+	return pages;
+    }
+
+    @Test
+    public void testHighPagesMoveLowPreservingContents() {
+	final IndexPool pool = newPool();
+	final ByteBuffer memory = newMemory();
+	final List<Integer> held = fragment(pool, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+	final PageTable table = new PageTable(new ArrayList<Integer>(held));//Pages 13 through 15
+	for(int logical = 0; logical < 3; logical++)
+	    fillPage(memory, table.getPhysicalPages()[logical], (byte)(logical + 1));
+	final AtomicInteger notifications = new AtomicInteger();
+	final PageRelocationListener listener = new PageRelocationListener(){
+	    @Override
+	    public void pagesRelocated(long generation) {
+		notifications.incrementAndGet();
+		table.acknowledgeRelocation(this, generation);
+	    }};
+	table.addRelocationListener(listener);
+	final double before = RootBufferCompactor.getFragmentation(pool);
+	final RootBufferCompactor subject = new RootBufferCompactor(pool);
+	final BitSet stale = new BitSet();
+	assertEquals(3, subject.step(Arrays.asList(table), memory, stale, 8));
+	assertEquals(1, notifications.get());
+	final int [] physical = table.getPhysicalPages();
+	assertEquals(2, physical[0]);//Page 15 is moved first, into page 0
+	assertEquals(1, physical[1]);
+	assertEquals(0, physical[2]);
+	assertEquals(3, stale.cardinality());
+	assertEquals(3, stale.nextClearBit(0));
+	for(int logical = 0; logical < 3; logical++)
+	    for(int i = 0; i < PagedByteBuffer.PAGE_SIZE_BYTES; i++)
+		assertEquals((byte)(logical + 1), memory.get(table.physicalIndex(logical * PagedByteBuffer.PAGE_SIZE_BYTES + i)));
+	//Old pages return to the pool on the next step
+	assertEquals(3, subject.getNumPendingFrees());
+	subject.step(Arrays.asList(table), memory, stale, 0);
+	assertEquals(0, subject.getNumPendingFrees());
+	pool.compact();
+	assertTrue(before > 0.5);
+	assertEquals(0, RootBufferCompactor.getFragmentation(pool), 0);
+    }//end testHighPagesMoveLowPreservingContents()
+
+    @Test
+    public void testNonRelocatableTablesStayPut() {
+	final IndexPool pool = newPool();
+	final List<Integer> held = fragment(pool, 0, 1, 2, 3);
+	final PageTable table = new PageTable(new ArrayList<Integer>(held));
+	final int [] before = table.getPhysicalPages().clone();
+	final RootBufferCompactor subject = new RootBufferCompactor(pool);
+	assertEquals(0, subject.step(Arrays.asList(table), newMemory(), new BitSet(), 8));
+	assertTrue(Arrays.equals(before, table.getPhysicalPages()));
+	assertEquals(4, pool.getNumUnusedIndices());
+    }//end testNonRelocatableTablesStayPut()
+
+    @Test
+    public void testOldPagesHeldUntilEveryListenerAcknowledges() {
+	final IndexPool pool = newPool();
+	final List<Integer> held = fragment(pool, 0);
+	final PageTable table = new PageTable(new ArrayList<Integer>(held.subList(held.size() - 1, held.size())));
+	final long [] generations = new long[2];
+	final PageRelocationListener first = new PageRelocationListener(){
+	    @Override
+	    public void pagesRelocated(long generation) {
+		generations[0] = generation;
+	    }};
+	final PageRelocationListener second = new PageRelocationListener(){
+	    @Override
+	    public void pagesRelocated(long generation) {
+		generations[1] = generation;
+	    }};
+	table.addRelocationListener(first);
+	table.addRelocationListener(second);
+	final RootBufferCompactor subject = new RootBufferCompactor(pool);
+	assertEquals(1, subject.step(Arrays.asList(table), newMemory(), new BitSet(), 8));
+	assertEquals(0, table.getPhysicalPages()[0]);
+	//The old page may still be read by a renderer holding the previous page table
+	assertEquals(0, pool.getNumUnusedIndices());
+	table.acknowledgeRelocation(first, generations[0]);
+	assertEquals(0, subject.step(Arrays.asList(table), newMemory(), new BitSet(), 8));
+	assertEquals(1, subject.getNumPendingFrees());
+	table.acknowledgeRelocation(second, generations[1]);
+	subject.step(Arrays.asList(table), newMemory(), new BitSet(), 0);
+	assertEquals(0, subject.getNumPendingFrees());
+	assertEquals(1, pool.getNumUnusedIndices());
+    }//end testOldPagesHeldUntilEveryListenerAcknowledges()
+}//end RootBufferCompactorTest
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.mem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class StalePageBitmapTest {
+
+    @Test
+    public void testDrainClears() {
+	final StalePageBitmap subject = new StalePageBitmap();
+	subject.set(0);
+	subject.set(63);
+	subject.set(64);
+	subject.set(64);
+	subject.set(10000);//Past the first segment
+	final BitSet drained = new BitSet();
+	assertEquals(4, subject.drainTo(drained));
+	assertEquals(4, drained.cardinality());
+	assertTrue(drained.get(0) && drained.get(63) && drained.get(64) && drained.get(10000));
+	drained.clear();
+	assertEquals(0, subject.drainTo(drained));
+	assertTrue(drained.isEmpty());
+    }//end testDrainClears()
+
+    @Test
+    public void testNoPagesLostWhileGrowingAndDraining() throws Exception {
+	final StalePageBitmap subject = new StalePageBitmap();
+	final int numThreads = 4, pagesPerThread = 20000;
+	final Thread [] threads = new Thread[numThreads];
+	for(int t = 0; t < numThreads; t++){
+	    final int first = t;
+	    threads[t] = new Thread(){
+		@Override
+		public void run(){
+		    for(int page = first; page < pagesPerThread * numThreads; page += numThreads)
+			subject.set(page);
+		}};
+	    threads[t].start();
+	}
+	final BitSet drained = new BitSet();
+	int total = 0;
+	for(Thread thread : threads){
+	    total += subject.drainTo(drained);
+	    thread.join();
+	}
+	total += subject.drainTo(drained);
+	assertEquals(pagesPerThread * numThreads, drained.cardinality());
+	assertEquals(pagesPerThread * numThreads, total);
+    }//end testNoPagesLostWhileGrowingAndDraining()
+}//end StalePageBitmapTest
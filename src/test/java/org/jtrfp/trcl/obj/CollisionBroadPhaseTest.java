@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.obj;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.beh.Behavior;
+import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
+import org.jtrfp.trcl.coll.CollectionActionDispatcher;
+import org.jtrfp.trcl.core.CubeCoordinate;
+import org.junit.Test;
+
+import com.ochafik.util.listenable.Pair;
+
+public class CollisionBroadPhaseTest {
+    private static final int NUM_OBJECTS = 1500, CUBES_XZ = 6, CUBES_Y = 2;
+
+    /**
+     * Recorded layout: cube index, collideability and filtering for each object, plus an 'everywhere' cube.
+     */
+    private static final class Layout {
+	final int [] cubeOfObject = new int[NUM_OBJECTS];
+	final boolean [] collideable = new boolean[NUM_OBJECTS], filtered = new boolean[NUM_OBJECTS];
+
+	Layout(long seed){
+	    final Random random = new Random(seed);
+	    final int numCubes = CUBES_XZ * CUBES_XZ * CUBES_Y + 1;
+	    for(int i = 0; i < NUM_OBJECTS; i++){
+		cubeOfObject[i] = random.nextInt(numCubes);
+		collideable[i]  = random.nextInt(3) == 0;
+		filtered[i]     = random.nextBoolean();
+	    }
+	}//end constructor
+    }//end Layout
+
+    private static final class RecordingCollisionBehavior extends Behavior implements CollisionBehavior {
+	private final List<Long> events;
+	private final IdentityHashMap<WorldObject,Integer> ids;
+	private final boolean mutating;
+
+	RecordingCollisionBehavior(List<Long> events, IdentityHashMap<WorldObject,Integer> ids, boolean mutating){
+	    this.events   = events;
+	    this.ids      = ids;
+	    this.mutating = mutating;
+	}
+
+	@Override
+	public void proposeCollision(WorldObject other) {
+	    final long self = ids.get(getParent()), that = ids.get(other);
+	    events.add(self * NUM_OBJECTS + that);
+	    if(mutating && (self * 31 + that) % 97 == 0)//Mutate state so that ordering matters
+		other.setActive(false);
+	    if(mutating && (self * 31 + that) % 89 == 0)//Invalidate the other's narrow phase results
+		other.addBehavior(new RecordingCollisionBehavior(events, ids, false));
+	}
+    }//end RecordingCollisionBehavior
+
+    private static final class FilteredCollisionBehavior extends Behavior implements CollisionCandidateFilter {
+	private final RecordingCollisionBehavior delegate;
+	private final IdentityHashMap<WorldObject,Integer> ids;
+
+	FilteredCollisionBehavior(List<Long> events, IdentityHashMap<WorldObject,Integer> ids, boolean mutating){
+	    this.delegate = new RecordingCollisionBehavior(events, ids, mutating);
+	    this.ids      = ids;
+	}
+
+	@Override
+	public boolean isCollisionCandidate(WorldObject other) {
+	    return ids.get(other) % 3 == 0;
+	}
+
+	@Override
+	public void proposeCollision(WorldObject other) {
+	    if(isCollisionCandidate(other)){
+		delegate.setParent(getParent());
+		delegate.proposeCollision(other);
+	    }
+	}
+    }//end FilteredCollisionBehavior
+
+    private static List<Long> replay(Layout layout, boolean legacy, boolean mutating){
+	return replay(layout, legacy, false, mutating);
+    }
+
+    private static List<Long> replay(Layout layout, boolean legacy, boolean parallel, boolean mutating){
+	final List<Long> events = new ArrayList<Long>();
+	final IdentityHashMap<WorldObject,Integer> ids = new IdentityHashMap<WorldObject,Integer>();
+	final List<CollectionActionDispatcher<Positionable>> cubes = new ArrayList<CollectionActionDispatcher<Positionable>>();
+	final CollisionManager subject = new CollisionManager(null);
+	for(int x = 0; x < CUBES_XZ; x++)
+	    for(int y = 0; y < CUBES_Y; y++)
+		for(int z = 0; z < CUBES_XZ; z++)
+		    cubes.add(newCube(subject, new CubeCoordinate(x,y,z)));
+	cubes.add(newCube(subject, World.RELEVANT_EVERYWHERE));
+	for(int i = 0; i < NUM_OBJECTS; i++){
+	    final WorldObject wo = new WorldObject();
+	    ids.put(wo, i);
+	    if(layout.collideable[i])
+		wo.addBehavior(layout.filtered[i]?
+			new FilteredCollisionBehavior(events, ids, mutating):
+			new RecordingCollisionBehavior(events, ids, mutating));
+	    cubes.get(layout.cubeOfObject[i]).add(wo);
+	}
+	subject.setLegacyBroadPhase(legacy);
+	subject.setParallelNarrowPhase(parallel);
+	subject.performCollisionTests(new Object());
+	return events;
+    }//end replay(...)
+
+    private static CollectionActionDispatcher<Positionable> newCube(CollisionManager subject, CubeCoordinate coordinate){
+	final CollectionActionDispatcher<Positionable> result = new CollectionActionDispatcher<Positionable>(new ArrayList<Positionable>());
+	subject.getInputRelevancePairCollection().add(new Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>(coordinate,result));
+	return result;
+    }
+
+    @Test
+    public void testProposesSamePairsAsLegacySweep() {
+	for(long seed = 0; seed < 3; seed++){
+	    final Layout layout = new Layout(seed);
+	    final List<Long> legacy = replay(layout, true,  false);
+	    final List<Long> broad  = replay(layout, false, false);
+	    assertFalse(broad.isEmpty());
+	    //Legacy visits cubes in HashMap order, so only the multiset of proposals is comparable
+	    Collections.sort(legacy);
+	    Collections.sort(broad);
+	    assertEquals(legacy, broad);
+	}
+    }//end testProposesSamePairsAsLegacySweep()
+
+    @Test
+    public void testSweepIsDeterministic() {
+	for(long seed = 0; seed < 3; seed++){
+	    final Layout layout = new Layout(seed);
+	    final List<Long> first = replay(layout, false, true);
+	    assertFalse(first.isEmpty());
+	    assertEquals(first, replay(layout, false, true));
+	}
+    }//end testSweepIsDeterministic()
+
+    @Test
+    public void testParallelNarrowPhaseMatchesSerialCallbackOrder() {
+	for(long seed = 0; seed < 3; seed++){
+	    final Layout layout = new Layout(seed);
+	    final List<Long> serial   = replay(layout, false, false, true);
+	    assertFalse(serial.isEmpty());
+	    assertEquals(serial, replay(layout, false, true, true));
+	}
+    }//end testParallelNarrowPhaseMatchesSerialCallbackOrder()
+}//end CollisionBroadPhaseTest
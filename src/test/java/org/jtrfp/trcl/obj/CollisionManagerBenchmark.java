@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.obj;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.beh.Behavior;
+import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.CollisionCandidateFilter;
+import org.jtrfp.trcl.coll.CollectionActionDispatcher;
+import org.jtrfp.trcl.core.CubeCoordinate;
+
+import com.ochafik.util.listenable.Pair;
+
+/**
+ * Standalone timing harness comparing the legacy HashMap all-pairs collision sweep against the
+ * {@link CollisionBroadPhase}, serial and with the parallel narrow phase. Half of the colliders filter
+ * by type, as most game collision behaviors only react to the player, DEFs or tunnel segments.
+ * Not a unit test; run its main() directly.
+ * Optional args: [numObjects...]
+ * @author Chuck Ritola
+ *
+ */
+
+public class CollisionManagerBenchmark {
+    private static final int    CUBES_XZ            = 9, CUBES_Y = 2;
+    private static final double COLLIDEABLE_FRACTION = .25, TARGET_FRACTION = .1;
+    private static final int    WARMUP_TICKS = 20, MEASURED_TICKS = 50;
+
+    private static final class CountingCollisionBehavior extends Behavior implements CollisionBehavior {
+	long count;
+	@Override
+	public void proposeCollision(WorldObject other) {
+	    count++;
+	}
+    }//end CountingCollisionBehavior
+
+    private static final class Target extends WorldObject {}
+
+    private static final class FilteredCountingCollisionBehavior extends Behavior implements CollisionCandidateFilter {
+	long count;
+	@Override
+	public boolean isCollisionCandidate(WorldObject other) {
+	    return other instanceof Target;
+	}
+
+	@Override
+	public void proposeCollision(WorldObject other) {
+	    if(other instanceof Target)
+		count++;
+	}
+    }//end FilteredCountingCollisionBehavior
+
+    public static void main(String [] args) throws Exception {
+	final int [] sizes;
+	if(args.length == 0)
+	    sizes = new int[]{1000,5000,20000};
+	else{
+	    sizes = new int[args.length];
+	    for(int i = 0; i < args.length; i++)
+		sizes[i] = Integer.parseInt(args[i]);
+	}
+	System.out.println("objects\tlegacy ms/tick\tbroadPhase ms/tick\tparallel ms/tick\tspeedup\tparallel speedup");
+	for(int size:sizes)
+	    runSize(size);
+	World.relevanceExecutor.shutdown();
+    }//end main(...)
+
+    private static void runSize(int numObjects){
+	final CollisionManager subject = new CollisionManager(null);
+	final Object lock = new Object();
+	final Random random = new Random(numObjects);
+	final ArrayList<CollectionActionDispatcher<Positionable>> cubes = new ArrayList<>();
+	for(int x = 0; x < CUBES_XZ; x++)
+	    for(int y = 0; y < CUBES_Y; y++)
+		for(int z = 0; z < CUBES_XZ; z++){
+		    final CollectionActionDispatcher<Positionable> cube = new CollectionActionDispatcher<Positionable>(new ArrayList<Positionable>());
+		    cubes.add(cube);
+		    subject.getInputRelevancePairCollection().add(new Pair<CubeCoordinate,CollectionActionDispatcher<Positionable>>(new CubeCoordinate(x,y,z),cube));
+		}
+	for(int i = 0; i < numObjects; i++){
+	    final WorldObject wo = random.nextDouble() < TARGET_FRACTION?new Target():new WorldObject();
+	    if(random.nextDouble() < COLLIDEABLE_FRACTION)
+		wo.addBehavior(random.nextBoolean()?new CountingCollisionBehavior():new FilteredCountingCollisionBehavior());
+	    cubes.get(random.nextInt(cubes.size())).add(wo);
+	}
+	subject.setLegacyBroadPhase(true);
+	final double legacy = timeTicks(subject, lock);
+	subject.setLegacyBroadPhase(false);
+	final double broad  = timeTicks(subject, lock);
+	subject.setParallelNarrowPhase(true);
+	final double parallel = timeTicks(subject, lock);
+	System.out.println(numObjects+"\t"+legacy+"\t"+broad+"\t"+parallel+"\t"+(legacy/broad)+"\t"+(broad/parallel));
+    }//end runSize(...)
+
+    private static double timeTicks(CollisionManager subject, Object lock){
+	for(int i = 0; i < WARMUP_TICKS; i++)
+	    subject.performCollisionTests(lock);
+	final long start = System.nanoTime();
+	for(int i = 0; i < MEASURED_TICKS; i++)
+	    subject.performCollisionTests(lock);
+	return (System.nanoTime() - start) / (MEASURED_TICKS * 1000000.);
+    }//end timeTicks(...)
+}//end CollisionManagerBenchmark
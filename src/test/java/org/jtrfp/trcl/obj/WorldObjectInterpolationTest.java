@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.obj;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public class WorldObjectInterpolationTest {
+    private static final double EPSILON = 1E-9;
+
+    private static WorldObject movedDuringStep(long step){
+	final WorldObject result = new WorldObject();
+	result.setPosition(100, 0, 0);
+	result.captureSimulationState(step);
+	result.setPosition(200, 0, 0);
+	return result;
+    }
+
+    @Test
+    public void testInterpolatesWithinCapturedStep() {
+	final WorldObject subject = movedDuringStep(5);
+	assertArrayEquals(new double[]{150,0,0}, subject.getInterpolatedPosition(.5, 5, new double[3]), EPSILON);
+    }
+
+    @Test
+    public void testStaleCaptureIsNotInterpolated() {
+	final WorldObject subject = movedDuringStep(5);
+	assertArrayEquals(new double[]{200,0,0}, subject.getInterpolatedPosition(.5, 6, new double[3]), EPSILON);
+    }
+
+    @Test
+    public void testNeverCapturedIsNotInterpolated() {
+	final WorldObject subject = new WorldObject();
+	subject.setPosition(200, 0, 0);
+	assertArrayEquals(new double[]{200,0,0}, subject.getInterpolatedPosition(.5, 0, new double[3]), EPSILON);
+    }
+
+    @Test
+    public void testTeleportSnaps() {
+	final WorldObject subject = movedDuringStep(5);
+	subject.snapSimulationState();
+	assertArrayEquals(new double[]{200,0,0}, subject.getInterpolatedPosition(.5, 5, new double[3]), EPSILON);
+    }
+
+    @Test
+    public void testReactivationSnaps() {
+	final WorldObject subject = movedDuringStep(5);
+	subject.setActive(false);
+	subject.setActive(true);
+	assertArrayEquals(new double[]{200,0,0}, subject.getInterpolatedPosition(.5, 5, new double[3]), EPSILON);
+    }
+}//end WorldObjectInterpolationTest
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.pool;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+
+/**
+ * Runs the {@link IndexPoolTest} suite against {@link BitmapIndexPool}, plus its own additions.
+ */
+public class BitmapIndexPoolTest extends IndexPoolTest {
+
+    @Override
+    protected IndexPool newSubject() {
+	return new BitmapIndexPool();
+    }
+
+    /**
+     * BitmapIndexPool's used indices are a snapshot, so take it after popping.
+     */
+    @Override
+    public void testGetUsedIndices(){
+	final IndexPool subject = newSubject();
+	subject.pop();
+	final ArrayList<Integer> dest = new ArrayList<Integer>();
+	subject.pop(dest, 2);
+	final Queue<Integer> indices = subject.getUsedIndices();
+	assertEquals(3,indices.size());
+	Iterator<Integer> it = indices.iterator();
+	assertEquals(0, (int)it.next());
+	assertEquals(1, (int)it.next());
+	assertEquals(2, (int)it.next());
+	assertEquals(1, (int)dest.get(0));
+	assertEquals(2, (int)dest.get(1));
+    }//end testGetUsedIndices()
+
+    public void testPopConsecutiveReusesFreeRun(){
+	final BitmapIndexPool subject = new BitmapIndexPool();
+	for(int i = 0; i < 200; i++)
+	    subject.pop();
+	for(int i = 60; i < 140; i++)
+	    subject.free(i);
+	subject.free(10);
+	assertEquals(60, subject.popConsecutive(70));
+	assertEquals(11, subject.getNumUnusedIndices());
+	assertEquals(130, subject.popConsecutive(10));
+	assertEquals(200, subject.popConsecutive(5));
+	assertEquals(10, subject.pop());
+	assertEquals(205, subject.getNumUsedIndices());
+    }
+
+    public void testPopConsecutiveAbsorbsTrailingFreeRun(){
+	final BitmapIndexPool subject = new BitmapIndexPool();
+	for(int i = 0; i < 100; i++)
+	    subject.pop();
+	for(int i = 90; i < 100; i++)
+	    subject.free(i);
+	assertEquals(90, subject.popConsecutive(20));
+	assertEquals(110, subject.getNumUsedIndices());
+	assertEquals(0, subject.getNumUnusedIndices());
+    }
+
+    public void testPrimitiveBatch(){
+	final BitmapIndexPool subject = new BitmapIndexPool();
+	subject.setHardLimit(100);
+	final int [] indices = new int[128];
+	assertEquals(100, subject.pop(indices, 0, 128));
+	for(int i = 0; i < 100; i++)
+	    assertEquals(i, indices[i]);
+	subject.free(indices, 50, 10);
+	assertEquals(10, subject.pop(indices, 0, 128));
+	assertEquals(50, indices[0]);
+    }
+
+    public void testPopWaitsAtHardLimit() throws Exception{
+	final BitmapIndexPool subject = new BitmapIndexPool();
+	subject.setHardLimit(2);
+	subject.pop();
+	subject.pop();
+	final Thread freer = new Thread(){
+	    @Override
+	    public void run(){
+		try{Thread.sleep(50);}catch(InterruptedException e){}
+		subject.free(1);
+	    }};
+	freer.start();
+	assertEquals(1, subject.pop());
+	freer.join();
+    }
+}//end BitmapIndexPoolTest
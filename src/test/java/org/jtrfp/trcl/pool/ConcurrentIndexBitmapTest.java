@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+package org.jtrfp.trcl.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+public class ConcurrentIndexBitmapTest {
+
+    @Test
+    public void testPopLowestFirst() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	for(int i = 0; i < 500; i++)
+	    assertEquals(i, subject.pop());
+	subject.free(130);
+	subject.free(7);
+	assertEquals(7, subject.pop());
+	assertEquals(130, subject.pop());
+	assertEquals(500, subject.getNumUsed());
+    }
+
+    @Test
+    public void testBatchPopAndFree() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	final int [] indices = new int[300];
+	assertEquals(300, subject.pop(indices, 0, 300));
+	for(int i = 0; i < 300; i++)
+	    assertEquals(i, indices[i]);
+	assertEquals(300, subject.free(indices, 0, 300));
+	assertEquals(0, subject.free(indices, 0, 300));
+	assertEquals(0, subject.getNumUsed());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testDoubleFree() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	subject.free(subject.pop());
+	subject.free(0);
+    }
+
+    @Test
+    public void testHardLimit() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap().setHardLimit(100);
+	for(int i = 0; i < 100; i++)
+	    assertEquals(i, subject.pop());
+	assertEquals(-1, subject.pop());
+	assertEquals(100, subject.getCapacity());
+	subject.free(42);
+	assertEquals(42, subject.pop());
+    }
+
+    @Test
+    public void testCompact() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	for(int i = 0; i < 1000; i++)
+	    subject.pop();
+	for(int i = 10; i < 1000; i++)
+	    subject.free(i);
+	assertEquals(1024 - 10, subject.compact());
+	assertEquals(10, subject.getCapacity());
+	assertEquals(10, subject.pop());
+    }
+
+    @Test
+    public void testPopConsecutive() {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	assertEquals(0, subject.popConsecutive(4));
+	assertEquals(4, subject.popConsecutive(4));
+	for(int i = 0; i < 192; i++)
+	    subject.pop();
+	for(int i = 40; i < 150; i++)
+	    subject.free(i);
+	assertEquals(40, subject.popConsecutive(100));
+	assertEquals(140, subject.popConsecutive(10));
+	assertEquals(100 + 10 + 90, subject.getNumUsed());
+	assertTrue(subject.popConsecutive(70) >= 200);
+    }
+
+    @Test
+    public void testConcurrentPopFreeNeverDuplicates() throws Exception {
+	final ConcurrentIndexBitmap subject = new ConcurrentIndexBitmap();
+	final AtomicIntegerArray owners = new AtomicIntegerArray(1 << 16);
+	final List<Thread> threads = new ArrayList<Thread>();
+	final List<Throwable> errors = new ArrayList<Throwable>();
+	for(int t = 0; t < 8; t++){
+	    final int id = t + 1;
+	    threads.add(new Thread(){
+		@Override
+		public void run(){
+		    try{
+			final Random random = new Random(id);
+			final int [] held = new int[64];
+			for(int iteration = 0; iteration < 2000; iteration++){
+			    final int count = 1 + random.nextInt(held.length);
+			    assertEquals(count, subject.pop(held, 0, count));
+			    for(int i = 0; i < count; i++)
+				assertTrue(owners.compareAndSet(held[i], 0, id));
+			    for(int i = 0; i < count; i++)
+				assertTrue(owners.compareAndSet(held[i], id, 0));
+			    assertEquals(count, subject.free(held, 0, count));
+			}
+		    }catch(Throwable e){synchronized(errors){errors.add(e);}}
+		}});
+	}
+	for(Thread t:threads)
+	    t.start();
+	for(Thread t:threads)
+	    t.join();
+	assertTrue(errors.toString(), errors.isEmpty());
+	assertEquals(0, subject.getNumUsed());
+	assertFalse(subject.isUsed(0));
+    }//end testConcurrentPopFreeNeverDuplicates()
+}//end ConcurrentIndexBitmapTest
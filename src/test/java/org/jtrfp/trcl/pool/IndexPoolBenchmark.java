@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.pool;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Standalone timing harness comparing {@link IndexPool}, {@link BitmapIndexPool} and
+ * {@link ConcurrentIndexBitmap} on random pop/free churn, batched pops and popConsecutive,
+ * single-threaded and contended. Not a unit test; run its main() directly.
+ * Optional args: [liveIndices] [operations] [threads]
+ * @author Chuck Ritola
+ *
+ */
+
+public class IndexPoolBenchmark {
+    private static final int WARMUP_ROUNDS = 3, BATCH = 16;
+
+    private static interface Subject {
+	int  pop();
+	void free(int index);
+	void popBatch(int [] dest, ArrayList<Integer> boxedDest);
+	void freeBatch(int [] src, ArrayList<Integer> boxedSrc);
+	int  popConsecutive(int length);
+    }
+
+    private static Subject wrap(final IndexPool pool){
+	return new Subject(){
+	    @Override public int pop(){return pool.pop();}
+	    @Override public void free(int index){pool.free(index);}
+	    @Override public void popBatch(int [] dest, ArrayList<Integer> boxedDest){
+		boxedDest.clear();
+		pool.pop(boxedDest, dest.length);
+	    }
+	    @Override public void freeBatch(int [] src, ArrayList<Integer> boxedSrc){pool.free(boxedSrc);}
+	    @Override public int popConsecutive(int length){return pool.popConsecutive(length);}
+	};
+    }
+
+    private static Subject wrap(final BitmapIndexPool pool){
+	return new Subject(){
+	    @Override public int pop(){return pool.pop();}
+	    @Override public void free(int index){pool.free(index);}
+	    @Override public void popBatch(int [] dest, ArrayList<Integer> boxedDest){pool.pop(dest, 0, dest.length);}
+	    @Override public void freeBatch(int [] src, ArrayList<Integer> boxedSrc){pool.free(src, 0, src.length);}
+	    @Override public int popConsecutive(int length){return pool.popConsecutive(length);}
+	};
+    }
+
+    private static Subject wrap(final ConcurrentIndexBitmap pool){
+	return new Subject(){
+	    @Override public int pop(){return pool.pop();}
+	    @Override public void free(int index){pool.free(index);}
+	    @Override public void popBatch(int [] dest, ArrayList<Integer> boxedDest){pool.pop(dest, 0, dest.length);}
+	    @Override public void freeBatch(int [] src, ArrayList<Integer> boxedSrc){pool.free(src, 0, src.length);}
+	    @Override public int popConsecutive(int length){return pool.popConsecutive(length);}
+	};
+    }
+
+    public static void main(String [] args) throws Exception {
+	final int live       = args.length > 0?Integer.parseInt(args[0]):20000;
+	final int operations = args.length > 1?Integer.parseInt(args[1]):2000000;
+	final int threads    = args.length > 2?Integer.parseInt(args[2]):Runtime.getRuntime().availableProcessors();
+	System.out.println("live="+live+" operations="+operations+" threads="+threads);
+	System.out.println("implementation\tchurn ns/op\tbatch ns/index\tconsecutive ns/op\tcontended ns/op");
+	for(int round = 0; round <= WARMUP_ROUNDS; round++){
+	    final boolean report = round == WARMUP_ROUNDS;
+	    measure("IndexPool", report, live, operations, threads, new Factory(){
+		@Override public Subject newSubject(){return wrap(new IndexPool());}});
+	    measure("BitmapIndexPool", report, live, operations, threads, new Factory(){
+		@Override public Subject newSubject(){return wrap(new BitmapIndexPool());}});
+	    measure("ConcurrentIndexBitmap", report, live, operations, threads, new Factory(){
+		@Override public Subject newSubject(){return wrap(new ConcurrentIndexBitmap());}});
+	}
+    }//end main(...)
+
+    private static interface Factory {
+	Subject newSubject();
+    }
+
+    private static void measure(String name, boolean report, int live, int operations, int threads, Factory factory) throws InterruptedException{
+	final double churn       = churn(factory.newSubject(), live, operations);
+	final double batch       = batch(factory.newSubject(), operations / BATCH);
+	final double consecutive = consecutive(factory.newSubject(), live, live / 16);
+	final double contended   = contended(factory.newSubject(), threads, operations / threads);
+	if(report)
+	    System.out.println(name+"\t"+format(churn)+"\t"+format(batch)+"\t"+format(consecutive)+"\t"+format(contended));
+    }//end measure(...)
+
+    private static String format(double value){
+	return String.format("%.1f", value);
+    }
+
+    /**
+     * Fill to <tt>live</tt> then repeatedly free a random live index and pop a replacement.
+     */
+    private static double churn(Subject subject, int live, int operations){
+	final int [] held = new int[live];
+	for(int i = 0; i < live; i++)
+	    held[i] = subject.pop();
+	final Random random = new Random(1);
+	final long start = System.nanoTime();
+	for(int op = 0; op < operations; op++){
+	    final int slot = random.nextInt(live);
+	    subject.free(held[slot]);
+	    held[slot] = subject.pop();
+	}
+	return (System.nanoTime() - start) / (double)(operations * 2);
+    }//end churn(...)
+
+    private static double batch(Subject subject, int rounds){
+	final int [] indices = new int[BATCH];
+	final ArrayList<Integer> boxed = new ArrayList<Integer>(BATCH);
+	final long start = System.nanoTime();
+	for(int round = 0; round < rounds; round++){
+	    subject.popBatch(indices, boxed);
+	    subject.freeBatch(indices, boxed);
+	}
+	return (System.nanoTime() - start) / (double)(rounds * BATCH * 2);
+    }//end batch(...)
+
+    /**
+     * Fragment the pool, then pop runs of 1 to 32. IndexPool always bumps its high-water mark;
+     * the bitmap pools first search the fragmented region for a long enough run.
+     */
+    private static double consecutive(Subject subject, int live, int operations){
+	for(int i = 0; i < live; i++)
+	    subject.pop();
+	for(int i = 0; i < live; i += 3)
+	    subject.free(i);
+	final Random random = new Random(2);
+	final long start = System.nanoTime();
+	for(int op = 0; op < operations; op++)
+	    subject.popConsecutive(1 + random.nextInt(32));
+	return (System.nanoTime() - start) / (double)operations;
+    }//end consecutive(...)
+
+    private static double contended(final Subject subject, int threads, final int operationsPerThread) throws InterruptedException{
+	final ArrayList<Thread> workers = new ArrayList<Thread>();
+	for(int t = 0; t < threads; t++)
+	    workers.add(new Thread(){
+		@Override
+		public void run(){
+		    final int [] held = new int[BATCH];
+		    for(int op = 0; op < operationsPerThread; op += BATCH){
+			for(int i = 0; i < BATCH; i++)
+			    held[i] = subject.pop();
+			for(int i = 0; i < BATCH; i++)
+			    subject.free(held[i]);
+		    }
+		}});
+	final long start = System.nanoTime();
+	for(Thread worker:workers)
+	    worker.start();
+	for(Thread worker:workers)
+	    worker.join();
+	return (System.nanoTime() - start) / (double)(threads * operationsPerThread * 2);
+    }//end contended(...)
+}//end IndexPoolBenchmark
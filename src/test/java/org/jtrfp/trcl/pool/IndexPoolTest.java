@@ -27,14 +27,21 @@ import org.junit.Test;
 
 public class IndexPoolTest extends TestCase {
 
+    /**
+     * Overridden to run these tests against alternative implementations.
+     */
+    protected IndexPool newSubject() {
+	return new IndexPool();
+    }
+
     public void testPop() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	for(int i=0; i<500; i++)
 	    assertEquals(i, subject.pop());
     }
 
     public void testPopOrException() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	subject.setHardLimit(500);
 	for(int i=0; i<500; i++)
 	    assertEquals(i, subject.pop());
@@ -45,7 +52,7 @@ public class IndexPoolTest extends TestCase {
     }
 
     public void testPopCollectionOfIntegerInt() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	final ArrayList<Integer>dest = new ArrayList<Integer>();
 	subject.pop(dest, 512);
 	for(int i=0; i<512; i++)
@@ -54,7 +61,7 @@ public class IndexPoolTest extends TestCase {
     }
 
     public void testFree() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	for(int i=0; i<500; i++)
 	    assertEquals(i, subject.pop());
 	for(int i=0; i<250; i++)
@@ -65,7 +72,7 @@ public class IndexPoolTest extends TestCase {
     }
 
     public void testSetGrowthBehavior() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	assertEquals(0, subject.getMaxCapacity());
 	subject.setGrowthBehavior(new GrowthBehavior(){
 	    @Override
@@ -83,13 +90,13 @@ public class IndexPoolTest extends TestCase {
     }
 
     public void testPopConsecutive() {
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	assertEquals(0, subject.popConsecutive(4));
 	assertEquals(4, subject.popConsecutive(4));
     }
 
     public void testGetMaxCapacity() {
-	final IndexPool subject =  new IndexPool();
+	final IndexPool subject =  newSubject();
 	for(int i=0; i<60; i++)
 	    subject.pop();
 	//With default power-of-2 growth.
@@ -97,13 +104,13 @@ public class IndexPoolTest extends TestCase {
     }
 
     public void testGetHardLimit() {
-	final IndexPool subject=  new IndexPool();
+	final IndexPool subject=  newSubject();
 	subject.setHardLimit(5);
 	assertEquals(5,subject.getHardLimit());
     }
     
     public void testFreeCollectionOfIntegersInt(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	final ArrayList<Integer>dest = new ArrayList<Integer>();
 	subject.pop(dest, 512);
 	subject.free(dest);
@@ -111,7 +118,7 @@ public class IndexPoolTest extends TestCase {
     }
     
     public void testGetUsedIndices(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	Queue<Integer> indices = subject.getUsedIndices();
 	subject.pop();
 	final ArrayList<Integer> dest = new ArrayList<Integer>();
@@ -128,7 +135,7 @@ public class IndexPoolTest extends TestCase {
     }//end testGetUsedIndices()
     
     public void testCompact(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	subject.pop();
 	subject.pop();
 	subject.pop();
@@ -172,7 +179,7 @@ public class IndexPoolTest extends TestCase {
     }
     
     public void testGetNumUnusedIndices(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	assertEquals(0,subject.getNumUnusedIndices());
 	subject.pop();
 	assertEquals(0,subject.getNumUnusedIndices());
@@ -183,7 +190,7 @@ public class IndexPoolTest extends TestCase {
     }
     
     public void testGetNumUsedIndices(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	assertEquals(0,subject.getNumUsedIndices());
 	subject.pop();
 	assertEquals(1,subject.getNumUsedIndices());
@@ -193,7 +200,7 @@ public class IndexPoolTest extends TestCase {
     
     @Test
     public void testNumUsedIndicesPropertyChange(){
-	final IndexPool         subject = new IndexPool();
+	final IndexPool         subject = newSubject();
 	final PropertyChangeQueue queue = new PropertyChangeQueue();
 	subject.addPropertyChangeListener(IndexPool.NUM_USED_INDICES,queue);
 	assertEquals(0,queue.size());
@@ -207,7 +214,7 @@ public class IndexPoolTest extends TestCase {
     
     @Test
     public void testNumUnusedIndicesPropertyChange(){
-	final IndexPool         subject = new IndexPool();
+	final IndexPool         subject = newSubject();
 	final PropertyChangeQueue queue = new PropertyChangeQueue();
 	subject.addPropertyChangeListener(IndexPool.NUM_UNUSED_INDICES,queue);
 	subject.pop();
@@ -245,7 +252,7 @@ public class IndexPoolTest extends TestCase {
     
     @Test
     public void testChangingState(){
-	final IndexPool subject = new IndexPool();
+	final IndexPool subject = newSubject();
 	final int NUM_ITERATIONS = 50;
 	final ArrayList<Integer> indices = new ArrayList<Integer>();
 	for(int iteration=0; iteration<NUM_ITERATIONS; iteration++){
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import java.util.Random;
+
+/**
+ * Standalone timing harness for {@link SoftwareMixer}. Mixes a number of voices, each a second-long sample at
+ * a random offset, ratio and pan, into 4096-frame periods at 44.1kHz, and reports voices mixed per millisecond
+ * and the time per period against the period's own length. Not a unit test; run its main() directly.
+ * Optional args: [voices [periods]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class SoftwareMixerBenchmark {
+    private static final int    NUM_FRAMES = 4096;
+    private static final double FRAME_RATE = 44100, SAMPLE_RATE = 22050;
+    private static volatile float sink;
+
+    public static void main(String [] args){
+	final int voices  = args.length > 0?Integer.parseInt(args[0]):64;
+	final int periods = args.length > 1?Integer.parseInt(args[1]):2000;
+	final Random random = new Random(1);
+	final float [] samples = new float[(int)SAMPLE_RATE];
+	for(int i = 0; i < samples.length; i++)
+	    samples[i] = random.nextFloat() * 2 - 1;
+	final double [] starts = new double[voices], ratios = new double[voices], pans = new double[voices];
+	for(int v = 0; v < voices; v++){
+	    starts[v] = -random.nextDouble() * .5;//Each spans every period at the mixing positions below
+	    ratios[v] = .5 + random.nextDouble();
+	    pans  [v] = random.nextDouble();
+	}
+	final double periodSeconds = NUM_FRAMES / FRAME_RATE;
+	System.out.println("voices="+voices+" periods="+periods+" periodMs="+String.format("%.2f", periodSeconds * 1000));
+	System.out.println("filtering\tvoices/ms\tms/period");
+	for(boolean linear : new boolean[]{false, true}){
+	    final SoftwareMixer mixer = new SoftwareMixer();
+	    mixer.setLinearFiltering(linear);
+	    run(mixer, samples, starts, ratios, pans, periods / 4);//Warmup
+	    final long before = mixer.getVoicesMixed(), start = System.nanoTime();
+	    run(mixer, samples, starts, ratios, pans, periods);
+	    final double elapsedMs = (System.nanoTime() - start) / 1000000.;
+	    System.out.println((linear?"linear":"nearest")+"\t"+String.format("%.1f", (mixer.getVoicesMixed() - before) / elapsedMs)
+		    +"\t"+String.format("%.4f", elapsedMs / periods));
+	}
+    }//end main(...)
+
+    private static void run(SoftwareMixer mixer, float [] samples, double [] starts, double [] ratios, double [] pans, int periods){
+	for(int p = 0; p < periods; p++){
+	    mixer.begin(NUM_FRAMES, FRAME_RATE, 0);
+	    for(int v = 0; v < starts.length; v++)
+		mixer.mix(samples, SAMPLE_RATE, starts[v], Double.POSITIVE_INFINITY, ratios[v], pans[v], 1 - pans[v]);
+	    sink += mixer.getBuffer()[p % (NUM_FRAMES * 2)];
+	}
+    }//end run(...)
+}//end SoftwareMixerBenchmark
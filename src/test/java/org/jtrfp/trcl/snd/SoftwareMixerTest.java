@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SoftwareMixerTest {
+    //Powers of two so that every time in these tests is exact
+    private static final double FRAME_RATE = 1024, SAMPLE_RATE = 512;
+    private static final int    NUM_FRAMES = 256;
+
+    private static float [] ramp(int length){
+	final float [] result = new float[length];
+	for(int i = 0; i < length; i++)
+	    result[i] = (float)i / length;
+	return result;
+    }
+
+    /** Sample-and-hold, evaluated independently at each frame's time, as the GPU's nearest filtering does. */
+    private static void addReference(float [] reference, double bufferStart, float [] samples,
+	    double start, double end, double ratio, double left, double right){
+	for(int frame = 0; frame < NUM_FRAMES; frame++){
+	    final double time = bufferStart + frame / FRAME_RATE;
+	    final int index = (int)Math.floor((time - start) * SAMPLE_RATE * ratio);
+	    if(time < start || time >= end || index >= samples.length)
+		continue;
+	    reference[frame * 2]     += samples[index] * left;
+	    reference[frame * 2 + 1] += samples[index] * right;
+	}
+    }//end addReference(...)
+
+    private static void assertBufferEquals(float [] expected, SoftwareMixer mixer){
+	for(int i = 0; i < NUM_FRAMES * 2; i++)
+	    assertEquals("Sample "+i, expected[i], mixer.getBuffer()[i], 1E-6);
+    }
+
+    @Test
+    public void testMatchesReference() {
+	final double bufferStart = 10;
+	final SoftwareMixer mixer = new SoftwareMixer();
+	final float [] reference = new float[NUM_FRAMES * 2];
+	final float [] first = ramp(100), second = ramp(64);
+	mixer.begin(NUM_FRAMES, FRAME_RATE, bufferStart);
+	//Began before this buffer
+	mixer.mix(first, SAMPLE_RATE, bufferStart - 32 / FRAME_RATE, 100, 1, .5, .25);
+	addReference(reference, bufferStart, first, bufferStart - 32 / FRAME_RATE, 100, 1, .5, .25);
+	//An octave up, cut at its end time before its last sample
+	final double secondStart = bufferStart + 40 / FRAME_RATE, secondEnd = secondStart + 20 / FRAME_RATE;
+	mixer.mix(second, SAMPLE_RATE, secondStart, secondEnd, 2, .125, 1);
+	addReference(reference, bufferStart, second, secondStart, secondEnd, 2, .125, 1);
+	//After this buffer
+	mixer.mix(second, SAMPLE_RATE, bufferStart + 1, 100, 1, 1, 1);
+	assertBufferEquals(reference, mixer);
+	assertEquals(2, mixer.getVoicesMixed());
+	assertEquals(0, mixer.getBuffer()[(NUM_FRAMES - 1) * 2], 0);//The first voice ended at frame 168
+    }//end testMatchesReference()
+
+    @Test
+    public void testBeginClears() {
+	final SoftwareMixer mixer = new SoftwareMixer();
+	mixer.begin(NUM_FRAMES, FRAME_RATE, 0);
+	mixer.mix(ramp(512), SAMPLE_RATE, 0, 100, 1, 1, 1);
+	mixer.begin(NUM_FRAMES, FRAME_RATE, 100);
+	assertBufferEquals(new float[NUM_FRAMES * 2], mixer);
+    }
+
+    @Test
+    public void testLinearFilteringInterpolates() {
+	final SoftwareMixer mixer = new SoftwareMixer();
+	mixer.setLinearFiltering(true);
+	mixer.begin(NUM_FRAMES, FRAME_RATE, 0);
+	mixer.mix(new float[]{0, 1, 0}, SAMPLE_RATE, 0, 100, 1, 1, 1);//Two frames per sample
+	final float [] buffer = mixer.getBuffer();
+	assertEquals(0,  buffer[0], 1E-6);
+	assertEquals(.5, buffer[2], 1E-6);
+	assertEquals(1,  buffer[4], 1E-6);
+	assertEquals(.5, buffer[6], 1E-6);
+	assertEquals(0,  buffer[8], 1E-6);
+	assertEquals(0,  buffer[10], 1E-6);//Holds the last sample
+	assertEquals(0,  buffer[12], 0);//Then ends
+    }//end testLinearFilteringInterpolates()
+}//end SoftwareMixerTest
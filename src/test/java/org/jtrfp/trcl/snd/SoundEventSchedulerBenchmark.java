@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.jtrfp.trcl.snd.SoundEventSchedulerTest.TestEvent;
+
+/**
+ * Standalone timing harness for {@link SoundEventScheduler}. Producer threads concurrently submit thousands of
+ * events spread over the next five seconds, then the sound thread's update runs once per 4096-frame buffer over
+ * them. Compares the former kernel's scheme: a synchronized queue, a TreeSet and active list scanned each buffer,
+ * and a factory map rebuilt each buffer. Reports the producers' ns per submission and the sound thread's ms per buffer.
+ * Not a unit test; run its main() directly. Optional args: [events [producers]]
+ * @author Chuck Ritola
+ *
+ */
+
+public class SoundEventSchedulerBenchmark {
+    private static final double BUFFER_SECONDS = 4096 / 44100.;
+    private static volatile int sink;
+
+    private static interface Scheme {
+	void submit(SoundEvent event);
+	void buffer(double bufferStartTimeSeconds);
+    }
+
+    public static void main(String [] args) throws Exception {
+	final int events    = args.length > 0?Integer.parseInt(args[0]):20000;
+	final int producers = args.length > 1?Integer.parseInt(args[1]):4;
+	System.out.println("events="+events+" producers="+producers);
+	System.out.println("scheme\tnsPerSubmit\tmsPerBuffer");
+	for(int run = 0; run < 3; run++){//The first runs are warmup
+	    measure("scheduler", events, producers, newSchedulerScheme(Integer.MAX_VALUE));
+	    measure("scheduler"+SoundEventScheduler.DEFAULT_MAX_VOICES+"Voices", events, producers, newSchedulerScheme(SoundEventScheduler.DEFAULT_MAX_VOICES));
+	    measure("former", events, producers, new FormerScheme());
+	}
+    }//end main(...)
+
+    private static Scheme newSchedulerScheme(final int maxVoices){
+	return new Scheme(){
+		final SoundEventScheduler scheduler = new SoundEventScheduler();
+		{scheduler.setMaxVoices(maxVoices);}
+		@Override
+		public void submit(SoundEvent event) {
+		    scheduler.submit(event);
+		}
+
+		@Override
+		public void buffer(double bufferStartTimeSeconds) {
+		    scheduler.update(bufferStartTimeSeconds, BUFFER_SECONDS);
+		    for(int i = 0; i < scheduler.getNumFactories(); i++)
+			sink += scheduler.getPlaying(i).size();
+		}};
+    }//end newSchedulerScheme(...)
+
+    private static void measure(String name, final int events, int producers, final Scheme scheme) throws Exception {
+	final ArrayList<Thread> threads = new ArrayList<Thread>();
+	final long [] submitNanos = new long[producers];
+	for(int p = 0; p < producers; p++){
+	    final int producer = p;
+	    final Thread thread = new Thread(){
+		@Override
+		public void run(){
+		    final Random random = new Random(producer);
+		    final int count = events / submitNanos.length;
+		    final ArrayList<SoundEvent> toSubmit = new ArrayList<SoundEvent>(count);
+		    for(int i = 0; i < count; i++)
+			toSubmit.add(new TestEvent(random.nextDouble() * 5, .2 + random.nextDouble(), random.nextDouble()));
+		    final long start = System.nanoTime();
+		    for(SoundEvent event : toSubmit)
+			scheme.submit(event);
+		    submitNanos[producer] = System.nanoTime() - start;
+		}};
+	    threads.add(thread);
+	}
+	for(Thread thread : threads)
+	    thread.start();
+	for(Thread thread : threads)
+	    thread.join();
+	long bufferNanos = 0;
+	int buffers = 0;
+	for(double time = 0; time < 6; time += BUFFER_SECONDS, buffers++){
+	    final long start = System.nanoTime();
+	    scheme.buffer(time);
+	    bufferNanos += System.nanoTime() - start;
+	}
+	long totalSubmitNanos = 0;
+	for(long nanos : submitNanos)
+	    totalSubmitNanos += nanos;
+	System.out.println(name+"\t"+String.format("%.1f", totalSubmitNanos / (double)events)
+		+"\t"+String.format("%.4f", bufferNanos / 1000000. / buffers));
+    }//end measure(...)
+
+    /** The collections and locking SoundSystem and SoundSystemKernel used before the scheduler. */
+    private static final class FormerScheme implements Scheme {
+	private final ArrayList<Runnable> queue = new ArrayList<Runnable>();
+	private final ArrayList<SoundEvent> activeEvents = new ArrayList<SoundEvent>();
+	private final HashMap<SoundEvent.Factory,ArrayList<SoundEvent>> eventMap = new HashMap<SoundEvent.Factory,ArrayList<SoundEvent>>();
+	private final TreeSet<SoundEvent> pendingEvents = new TreeSet<SoundEvent>(new Comparator<SoundEvent>(){
+	    @Override
+	    public int compare(SoundEvent first, SoundEvent second) {
+		final double result = 88200. * (first.getStartRealtimeSeconds()-second.getStartRealtimeSeconds());
+		if(result==0)return first.hashCode()-second.hashCode();
+		else if(result>0)return 1;
+		else return -1;
+	    }});
+
+	@Override
+	public void submit(final SoundEvent event) {
+	    synchronized(queue){
+		queue.add(new Runnable(){
+		    @Override
+		    public void run() {
+			pendingEvents.add(event);
+		    }});
+	    }
+	}//end submit(...)
+
+	@Override
+	public void buffer(double bufferStartTimeSeconds) {
+	    synchronized(queue){
+		for(Runnable runnable : queue)
+		    runnable.run();
+		queue.clear();
+	    }
+	    final Iterator<SoundEvent> aI = activeEvents.iterator();
+	    while(aI.hasNext()){
+		final SoundEvent event = aI.next();
+		if(event.isDestroyed() || event.getEndRealtimeSeconds() < bufferStartTimeSeconds)
+		    aI.remove();
+	    }
+	    final Iterator<SoundEvent> pI = pendingEvents.iterator();
+	    while(pI.hasNext()){
+		final SoundEvent event = pI.next();
+		if(event.isDestroyed())
+		    pI.remove();
+		else if(event.getStartRealtimeSeconds() < bufferStartTimeSeconds + BUFFER_SECONDS && event.getEndRealtimeSeconds() > bufferStartTimeSeconds){
+		    activeEvents.add(event);
+		    pI.remove();
+		}
+		if(event.getStartRealtimeSeconds() > bufferStartTimeSeconds + BUFFER_SECONDS)
+		    break;
+	    }
+	    for(SoundEvent event : activeEvents)
+		if(event.isActive()){
+		    if(!eventMap.containsKey(event.getOrigin()))
+			eventMap.put(event.getOrigin(), new ArrayList<SoundEvent>());
+		    eventMap.get(event.getOrigin()).add(event);
+		}
+	    for(SoundEvent.Factory factory : eventMap.keySet()){
+		sink += eventMap.get(factory).size();
+		eventMap.get(factory).clear();
+	    }
+	}//end buffer(...)
+    }//end FormerScheme
+}//end SoundEventSchedulerBenchmark
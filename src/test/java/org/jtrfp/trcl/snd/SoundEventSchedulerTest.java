@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.snd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import org.jtrfp.trcl.obj.RelevantEverywhere;
+import org.junit.Test;
+
+import com.jogamp.opengl.GL3;
+
+public class SoundEventSchedulerTest {
+    static final AbstractSoundEvent.Factory FACTORY = new AbstractSoundEvent.Factory(null){
+	@Override
+	public void apply(GL3 gl, Collection<SoundEvent> events, double bufferStartTimeSeconds) {}
+    };
+
+    static class TestEvent extends AbstractSoundEvent {
+	private final double priority;
+
+	TestEvent(double startTimeSeconds, double durationSeconds, double priority){
+	    this(startTimeSeconds, durationSeconds, priority, null);
+	}
+
+	TestEvent(double startTimeSeconds, double durationSeconds, double priority, SoundEvent parent){
+	    super(startTimeSeconds, durationSeconds, FACTORY, parent);
+	    this.priority = priority;
+	}
+
+	@Override
+	public void apply(GL3 gl, double bufferStartTimeSeconds) {}
+
+	@Override
+	public void mix(SoftwareMixer mixer, double bufferStartTimeSeconds) {}
+
+	@Override
+	public double getPriority() {
+	    return priority;
+	}
+    }//end TestEvent
+
+    private static class EverywhereEvent extends TestEvent implements RelevantEverywhere {
+	EverywhereEvent(){
+	    super(0, 0, 0);
+	}
+    }
+
+    private static HashSet<SoundEvent> playing(SoundEventScheduler scheduler){
+	final HashSet<SoundEvent> result = new HashSet<SoundEvent>();
+	for(int i = 0; i < scheduler.getNumFactories(); i++)
+	    result.addAll(scheduler.getPlaying(i));
+	return result;
+    }
+
+    private static HashSet<SoundEvent> setOf(SoundEvent ... events){
+	final HashSet<SoundEvent> result = new HashSet<SoundEvent>();
+	for(SoundEvent event : events)
+	    result.add(event);
+	return result;
+    }
+
+    @Test
+    public void testStartsInOrderWithinWindowAndRetires() {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	final TestEvent at1 = new TestEvent(1, .5, 1), at2 = new TestEvent(2, 5, 1), at3 = new TestEvent(3, 5, 1), at10 = new TestEvent(10, 5, 1);
+	scheduler.submit(at3);
+	scheduler.submit(at10);
+	scheduler.submit(at1);
+	scheduler.submit(at2);
+	scheduler.update(0, 2.5);
+	assertEquals(setOf(at1, at2), playing(scheduler));
+	assertEquals(2, scheduler.getNumPending());
+	scheduler.update(2.5, 1);//at1 ended at 1.5
+	assertEquals(setOf(at2, at3), playing(scheduler));
+	assertEquals(2, scheduler.getNumVoices());
+	at2.deactivate();
+	scheduler.update(3.5, 1);
+	assertEquals(setOf(at3), playing(scheduler));
+	assertEquals(2, scheduler.getNumVoices());//Still active, only silenced
+    }//end testStartsInOrderWithinWindowAndRetires()
+
+    @Test
+    public void testExpiredDestroyedAndCancelledNeverPlay() {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	final TestEvent expired = new TestEvent(0, 1, 1), destroyed = new TestEvent(5, 1, 1),
+		cancelledPending = new TestEvent(5, 1, 1), cancelledPlaying = new TestEvent(4, 10, 1);
+	destroyed.destroy();
+	for(SoundEvent event : new SoundEvent[]{expired, destroyed, cancelledPending, cancelledPlaying})
+	    scheduler.submit(event);
+	scheduler.update(4, .5);
+	assertEquals(setOf(cancelledPlaying), playing(scheduler));
+	scheduler.cancel(cancelledPending);
+	scheduler.cancel(cancelledPlaying);
+	scheduler.update(5, 1);
+	assertTrue(playing(scheduler).isEmpty());
+	assertEquals(0, scheduler.getNumPending());
+	assertEquals(0, scheduler.getNumVoices());
+    }//end testExpiredDestroyedAndCancelledNeverPlay()
+
+    @Test
+    public void testVoiceStealing() {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	scheduler.setMaxVoices(2);
+	final EverywhereEvent everywhere = new EverywhereEvent();
+	final TestEvent loud = new TestEvent(0, 10, .5), quiet = new TestEvent(0, 10, .2),
+		louder = new TestEvent(1, 10, .3), quietest = new TestEvent(1, 10, .1);
+	scheduler.submit(everywhere);
+	scheduler.submit(loud);
+	scheduler.submit(quiet);
+	scheduler.update(0, 1);
+	assertEquals(setOf(everywhere, loud, quiet), playing(scheduler));
+	scheduler.submit(louder);
+	scheduler.submit(quietest);
+	scheduler.update(1, 1);
+	assertEquals(setOf(everywhere, loud, louder), playing(scheduler));
+	assertEquals(1, scheduler.getVoicesStolen());
+	assertEquals(1, scheduler.getVoicesDropped());
+	assertEquals(2, scheduler.getNumVoices());
+	final TestEvent newer = new TestEvent(2, 10, .5), newest = new TestEvent(3, 10, .5);
+	scheduler.submit(newer);
+	scheduler.update(2, 1);
+	assertEquals(setOf(everywhere, loud, newer), playing(scheduler));
+	//Equal priority replaces the oldest
+	scheduler.submit(newest);
+	scheduler.update(3, 1);
+	assertEquals(setOf(everywhere, newer, newest), playing(scheduler));
+	assertEquals(3, scheduler.getVoicesStolen());
+    }//end testVoiceStealing()
+
+    @Test
+    public void testStolenVoiceIsDestroyed() {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	scheduler.setMaxVoices(1);
+	final TestEvent quiet = new TestEvent(0, 10, .2), loud = new TestEvent(1, 10, .5);
+	scheduler.submit(quiet);
+	scheduler.update(0, 1);
+	scheduler.submit(loud);
+	scheduler.update(1, 1);
+	assertEquals(setOf(loud), playing(scheduler));
+	assertTrue(quiet.isDestroyed());
+	assertFalse(quiet.isActive());
+	assertFalse(loud.isDestroyed());
+	//Its owner can't bring it back
+	quiet.activate();
+	scheduler.submit(quiet);
+	scheduler.update(2, 1);
+	assertEquals(setOf(loud), playing(scheduler));
+	assertEquals(1, scheduler.getNumVoices());
+    }//end testStolenVoiceIsDestroyed()
+
+    @Test
+    public void testMusicBypassesSaturatedVoiceLimit() {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	scheduler.setMaxVoices(2);
+	final EverywhereEvent song = new EverywhereEvent();
+	final TestEvent effectA = new TestEvent(0, 10, .5), effectB = new TestEvent(0, 10, .5);
+	scheduler.submit(song);
+	scheduler.submit(effectA);
+	scheduler.submit(effectB);
+	scheduler.update(0, 1);
+	assertEquals(2, scheduler.getNumVoices());
+	//Notes are plain events parented to the song, quieter than any effect
+	final TestEvent note1 = new TestEvent(1, .5, 0, song), note2 = new TestEvent(1.5, 1, 0, song);
+	scheduler.submit(note1);
+	scheduler.submit(note2);
+	scheduler.update(1, 1);
+	assertEquals(setOf(song, effectA, effectB, note1, note2), playing(scheduler));
+	assertEquals(2, scheduler.getNumVoices());
+	assertEquals(0, scheduler.getVoicesStolen());
+	assertEquals(0, scheduler.getVoicesDropped());
+	//A new effect can't steal a note either
+	final TestEvent quietEffect = new TestEvent(2, 10, .1);
+	scheduler.submit(quietEffect);
+	scheduler.update(2, 1);
+	assertEquals(setOf(song, effectA, effectB, note2), playing(scheduler));//note1 ended at 1.5
+	assertEquals(1, scheduler.getVoicesDropped());
+	scheduler.update(3, 1);
+	assertEquals(setOf(song, effectA, effectB), playing(scheduler));
+	assertEquals(2, scheduler.getNumVoices());
+    }//end testMusicBypassesSaturatedVoiceLimit()
+
+    @Test
+    public void testConcurrentSubmitters() throws Exception {
+	final SoundEventScheduler scheduler = new SoundEventScheduler();
+	final int threads = 4, perThread = 1000;
+	final List<Thread> submitters = new ArrayList<Thread>();
+	for(int t = 0; t < threads; t++){
+	    final Thread submitter = new Thread(){
+		@Override
+		public void run(){
+		    for(int i = 0; i < perThread; i++)
+			scheduler.submit(new TestEvent(100 + i, 1, 1));
+		}};
+	    submitters.add(submitter);
+	    submitter.start();
+	}
+	for(Thread submitter : submitters)
+	    submitter.join();
+	scheduler.update(0, 1);
+	assertEquals(threads * perThread, scheduler.getNumPending());
+    }//end testConcurrentSubmitters()
+}//end SoundEventSchedulerTest
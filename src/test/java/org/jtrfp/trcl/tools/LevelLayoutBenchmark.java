@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * This file is part of TERMINAL RECALL
+ * Copyright (c) 2026 Chuck Ritola
+ * Part of the jTRFP.org project
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Public License v3.0
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/gpl.html
+ *
+ * Contributors:
+ *     chuck - initial API and implementation
+ ******************************************************************************/
+
+package org.jtrfp.trcl.tools;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jtrfp.jtrfp.pod.IPodData;
+import org.jtrfp.jtrfp.pod.IPodFileEntry;
+import org.jtrfp.jtrfp.pod.PodFile;
+import org.jtrfp.trcl.SpacePartitioningGrid;
+import org.jtrfp.trcl.World;
+import org.jtrfp.trcl.beh.Behavior;
+import org.jtrfp.trcl.beh.Bobbing;
+import org.jtrfp.trcl.beh.CollisionBehavior;
+import org.jtrfp.trcl.beh.ThreadSafeLocalBehavior;
+import org.jtrfp.trcl.core.TRFactory;
+import org.jtrfp.trcl.core.ThreadManager;
+import org.jtrfp.trcl.core.TickScheduler;
+import org.jtrfp.trcl.file.DEFFile;
+import org.jtrfp.trcl.file.DEFFile.EnemyDefinition;
+import org.jtrfp.trcl.file.DEFFile.EnemyDefinition.EnemyLogic;
+import org.jtrfp.trcl.file.DEFFile.EnemyPlacement;
+import org.jtrfp.trcl.file.LVLFile;
+import org.jtrfp.trcl.obj.CollisionManager;
+import org.jtrfp.trcl.obj.DEFObject;
+import org.jtrfp.trcl.obj.WorldObject;
+
+/**
+ * Standalone timing harness for the engine's per-step overhead on a real level's object layout: behavior
+ * scheduling, relevance and collision. Reports ticks/sec, allocation rate and ms/tick for each. Not a unit test;
+ * run its main() directly.
+ * <br><br>
+ * This is not the game loop. No TR, ThreadManager, Mission, terrain, tunnels, rendering or audio is involved.
+ * The level's LVL and DEF files are read straight from the supplied PODs and each enemy placement becomes a
+ * {@link DEFObject} in a {@link SpacePartitioningGrid} feeding a {@link CollisionManager}, as the camera's
+ * relevance pairs would. Real enemy logic needs a live TR, so each object gets stand-in behaviors chosen from its
+ * {@link EnemyLogic}: movement at its thrust speed, bobbing, and a collision counter. The numbers therefore
+ * track engine costs for the level's object count and layout, not the cost of enemy logic or a full frame.
+ * Every cube is relevant, as if the camera could see the whole map.
+ * <br><br>
+ * USAGE: LevelLayoutBenchmark [POD file[,POD file...]] [LVL file, i.e. LEVEL1.LVL] [ticks] [parallel true/false]
+ * @author Chuck Ritola
+ *
+ */
+
+public class LevelLayoutBenchmark {
+    public static final long STEP_MILLIS = 1000 / ThreadManager.GAMEPLAY_FPS;
+    private static final double WORLD_HEIGHT = 16. * TRFactory.mapSquareSize;
+    private final SpacePartitioningGrid<WorldObject> grid = new SpacePartitioningGrid<WorldObject>();
+    private final CollisionManager    collisionManager = new CollisionManager(null);
+    private final TickScheduler       tickScheduler    = new TickScheduler();
+    private final ArrayList<WorldObject> objects       = new ArrayList<WorldObject>();
+    private final Object              gameStateLock    = new Object();
+    private final List<IPodData>      pods             = new ArrayList<IPodData>();
+    private long                      tickTimeMillis   = 0;
+
+    /**
+     * Timings accumulated over a run.
+     */
+    public static final class Result {
+	private int  numObjects, ticks;
+	private long wallNanos, behaviorNanos, relevanceNanos, collisionNanos,
+	             allocatedBytes, gcCount, gcMillis;
+
+	public double getTicksPerSecond() {
+	    return ticks / (wallNanos / 1E9);
+	}
+
+	/**
+	 * @return Bytes allocated per second, across all threads, or a negative value if the JVM does not support measuring it.
+	 */
+	public double getAllocationRate() {
+	    return allocatedBytes < 0?-1:allocatedBytes / (wallNanos / 1E9);
+	}
+
+	private double perTick(long nanos) {
+	    return nanos / (ticks * 1E6);
+	}
+
+	public double getBehaviorMillisPerTick() {
+	    return perTick(behaviorNanos);
+	}
+
+	public double getRelevanceMillisPerTick() {
+	    return perTick(relevanceNanos);
+	}
+
+	public double getCollisionMillisPerTick() {
+	    return perTick(collisionNanos);
+	}
+
+	public int getNumObjects() {
+	    return numObjects;
+	}
+
+	public int getTicks() {
+	    return ticks;
+	}
+
+	public long getGcCount() {
+	    return gcCount;
+	}
+
+	public long getGcMillis() {
+	    return gcMillis;
+	}
+
+	@Override
+	public String toString() {
+	    final StringBuilder sb = new StringBuilder();
+	    sb.append("objects\t\t").append(numObjects).append('\n');
+	    sb.append("ticks\t\t").append(ticks).append('\n');
+	    sb.append(String.format("ticks/sec\t%.1f%n", getTicksPerSecond()));
+	    if(allocatedBytes >= 0)
+		sb.append(String.format("alloc MB/sec\t%.2f%n", getAllocationRate() / (1024*1024)));
+	    else
+		sb.append("alloc MB/sec\tunsupported\n");
+	    sb.append("gc count\t").append(gcCount).append('\n');
+	    sb.append("gc ms\t\t").append(gcMillis).append('\n');
+	    sb.append(String.format("behaviors ms/tick\t%.4f%n", getBehaviorMillisPerTick()));
+	    sb.append(String.format("relevance ms/tick\t%.4f%n", getRelevanceMillisPerTick()));
+	    sb.append(String.format("collision ms/tick\t%.4f%n", getCollisionMillisPerTick()));
+	    return sb.toString();
+	}//end toString()
+    }//end Result
+
+    /**
+     * Stand-in for thrust-driven movement. Moves the parent along its heading at a fixed speed per step, wrapping
+     * at the map edges.
+     */
+    private static final class HeadlessMovement extends Behavior implements ThreadSafeLocalBehavior {
+	private final double unitsPerStep;
+	HeadlessMovement(double unitsPerStep){
+	    this.unitsPerStep = unitsPerStep;
+	}
+	@Override
+	protected void tick(long tickTimeInMillis){
+	    final WorldObject parent   = getParent();
+	    final double [] position   = parent.getPosition();
+	    final double [] heading    = parent.getHeadingArray();
+	    position[0] = wrap(position[0] + heading[0] * unitsPerStep);
+	    position[2] = wrap(position[2] + heading[2] * unitsPerStep);
+	    parent.notifyPositionChange();
+	}//end tick(...)
+
+	private static double wrap(double v){
+	    v %= TRFactory.mapWidth;
+	    return v < 0?v + TRFactory.mapWidth:v;
+	}
+    }//end HeadlessMovement
+
+    /**
+     * Stand-in for collision response; world-mutating so that it is ticked in the commit phase.
+     */
+    private static final class CountsCollisions extends Behavior implements CollisionBehavior {
+	private long count;
+	@Override
+	public void proposeCollision(WorldObject other) {
+	    count++;
+	}
+    }//end CountsCollisions
+
+    public LevelLayoutBenchmark() {
+	grid.getPackedObjectsDispatcher().addTarget(collisionManager.getInputRelevancePairCollection(), true);
+    }
+
+    public void addPOD(File podFile) throws Exception {
+	pods.add(new PodFile(podFile).getData());
+    }
+
+    private InputStream getInputStream(String path) throws Exception {
+	IPodFileEntry entry;
+	for(IPodData pod:pods)
+	    if((entry = pod.findEntry(path)) != null)
+		return entry.getInputStreamFromPod();
+	throw new FileNotFoundException(path);
+    }//end getInputStream(...)
+
+    /**
+     * Places one object per enemy placement of the specified level.
+     * @param lvlFileName Name of the level within LEVELS\, i.e. LEVEL1.LVL
+     * @throws Exception
+     * @since Oct 18, 2026
+     */
+    public void loadLevel(String lvlFileName) throws Exception {
+	final LVLFile lvl;
+	try(InputStream is = getInputStream("LEVELS\\"+lvlFileName)){lvl = new LVLFile(is);}
+	final DEFFile def;
+	try(InputStream is = getInputStream("DATA\\"+lvl.getEnemyDefinitionAndPlacementFile())){def = new DEFFile(is);}
+	final List<EnemyDefinition> defs = def.getEnemyDefinitions();
+	final Random random = new Random(lvlFileName.hashCode());
+	for(EnemyPlacement pl:def.getEnemyPlacements()){
+	    final EnemyDefinition ed = defs.get(pl.getDefIndex());
+	    final DEFObject obj = new DEFObject();
+	    //USING z,x coords as in DEFObjectPlacer
+	    final double [] objPos = obj.getPosition();
+	    objPos[0] = TRFactory.legacy2Modern(pl.getLocationOnMap().getZ());
+	    objPos[1] = (TRFactory.legacy2Modern(pl.getLocationOnMap().getY())/TRFactory.mapWidth)*16.*WORLD_HEIGHT;
+	    objPos[2] = TRFactory.legacy2Modern(pl.getLocationOnMap().getX());
+	    obj.notifyPositionChange();
+	    addStandInBehaviors(obj, ed, random);
+	    objects.add(obj);
+	}//end for(placements)
+	grid.addAll(objects);
+	awaitRelevance();
+	System.out.println("LevelLayoutBenchmark: Placed "+objects.size()+" objects from "+lvlFileName);
+    }//end loadLevel(...)
+
+    private static void addStandInBehaviors(DEFObject obj, EnemyDefinition ed, Random random) {
+	final EnemyLogic logic = ed.getLogic();
+	obj.addBehavior(new CountsCollisions());
+	switch(logic){
+	case bob:
+	case bobAndAttack:
+	case bobAboveSky:
+	    obj.addBehavior(new Bobbing().setPhase(random.nextDouble() * Math.PI * 2));
+	    break;
+	default:
+	    if(ed.getThrustSpeed() > 0){
+		final double theta = random.nextDouble() * Math.PI * 2;
+		obj.setHeadingArray(new double[]{Math.sin(theta), 0, Math.cos(theta)});
+		obj.addBehavior(new HeadlessMovement(ed.getThrustSpeed() * STEP_MILLIS / 1000.));
+	    }
+	}//end switch(logic)
+    }//end addStandInBehaviors(...)
+
+    private static void awaitRelevance() throws Exception {
+	World.relevanceExecutor.submit(()->{}).get();
+    }
+
+    /**
+     * Runs the specified number of gameplay steps back-to-back.
+     * @param ticks
+     * @return Accumulated timings for this run.
+     * @throws Exception
+     * @since Oct 18, 2026
+     */
+    public Result run(int ticks) throws Exception {
+	final Result result = new Result();
+	result.numObjects = objects.size();
+	result.ticks      = ticks;
+	final long allocatedBefore = getTotalAllocatedBytes();
+	final long gcCountBefore = getGcCount(), gcMillisBefore = getGcMillis();
+	final long start = System.nanoTime();
+	for(int i = 0; i < ticks; i++){
+	    tickTimeMillis += STEP_MILLIS;
+	    long t0 = System.nanoTime();
+	    synchronized(gameStateLock){
+		tickScheduler.tick(objects, tickTimeMillis);
+	    }
+	    long t1 = System.nanoTime();
+	    awaitRelevance();
+	    long t2 = System.nanoTime();
+	    collisionManager.performCollisionTests(gameStateLock);
+	    long t3 = System.nanoTime();
+	    result.behaviorNanos  += t1 - t0;
+	    result.relevanceNanos += t2 - t1;
+	    result.collisionNanos += t3 - t2;
+	}//end for(ticks)
+	result.wallNanos = System.nanoTime() - start;
+	final long allocatedAfter = getTotalAllocatedBytes();
+	result.allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0?-1:allocatedAfter - allocatedBefore;
+	result.gcCount  = getGcCount()  - gcCountBefore;
+	result.gcMillis = getGcMillis() - gcMillisBefore;
+	return result;
+    }//end run(...)
+
+    /**
+     * @return Bytes allocated by all live threads so far, or -1 if unsupported.
+     */
+    private static long getTotalAllocatedBytes() {
+	final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+	if(!(bean instanceof com.sun.management.ThreadMXBean))
+	    return -1;
+	final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+	if(!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled())
+	    return -1;
+	long result = 0;
+	for(long allocated:sunBean.getThreadAllocatedBytes(bean.getAllThreadIds()))
+	    if(allocated > 0)
+		result += allocated;
+	return result;
+    }//end getTotalAllocatedBytes()
+
+    private static long getGcCount() {
+	long result = 0;
+	for(GarbageCollectorMXBean bean:ManagementFactory.getGarbageCollectorMXBeans())
+	    result += Math.max(0, bean.getCollectionCount());
+	return result;
+    }
+
+    private static long getGcMillis() {
+	long result = 0;
+	for(GarbageCollectorMXBean bean:ManagementFactory.getGarbageCollectorMXBeans())
+	    result += Math.max(0, bean.getCollectionTime());
+	return result;
+    }
+
+    public TickScheduler getTickScheduler() {
+	return tickScheduler;
+    }
+
+    public CollisionManager getCollisionManager() {
+	return collisionManager;
+    }
+
+    public List<WorldObject> getObjects() {
+	return objects;
+    }
+
+    public static void main(String [] args) throws Exception {
+	if(args.length < 2){
+	    System.err.println("USAGE: LevelLayoutBenchmark [POD file[,POD file...]] [LVL file, i.e. LEVEL1.LVL] [ticks] [parallel true/false]");
+	    System.exit(1);
+	}
+	final LevelLayoutBenchmark sim = new LevelLayoutBenchmark();
+	for(String pod:args[0].split(","))
+	    sim.addPOD(new File(pod));
+	sim.loadLevel(args[1]);
+	final int ticks = args.length > 2?Integer.parseInt(args[2]):3000;
+	final boolean parallel = args.length > 3 && Boolean.parseBoolean(args[3]);
+	sim.getTickScheduler().setParallel(parallel);
+	sim.getCollisionManager().setParallelNarrowPhase(parallel);
+	sim.run(Math.min(ticks, 300));//Warm-up
+	System.out.println(sim.run(ticks));
+	System.exit(0);
+    }//end main(...)
+}//end LevelLayoutBenchmark